@@ -0,0 +1,5 @@
+package com.rally.ai_land.loadbot;
+
+// [부하 봇] 봇 하나의 계정: playerId 는 서버의 user.id (닉네임 조회 기준)
+public record BotAccount(int index, String username, String nickname, long playerId, String accessToken) {
+}
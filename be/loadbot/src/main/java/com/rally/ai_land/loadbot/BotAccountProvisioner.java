@@ -0,0 +1,74 @@
+package com.rally.ai_land.loadbot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+// [부하 봇] 봇 계정 준비: 앱의 REST API 를 그대로 사용 (DB 직접 접근 X)
+// 1. POST /api/v1/users/exist -> 없으면 POST /api/v1/users (회원가입)
+// 2. POST /api/v1/users/login -> accessToken (STOMP CONNECT 의 Authorization 헤더)
+// 3. GET  /api/v1/users       -> userId (P_JOIN/P_MOVE 의 playerId)
+// - 같은 username-prefix 로 다시 실행하면 가입은 건너뛰고 로그인만
+public class BotAccountProvisioner {
+
+    private final LoadBotConfig config;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public BotAccountProvisioner(LoadBotConfig config, ObjectMapper objectMapper) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+    }
+
+    public BotAccount provision(int index) throws IOException, InterruptedException {
+        String username = config.usernamePrefix() + index;
+        String nickname = "bot-" + index;
+
+        JsonNode exists = post("/api/v1/users/exist", Map.of("username", username));
+        if (!exists.path("data").asBoolean()) {
+            post("/api/v1/users", Map.of(
+                    "username", username,
+                    "password", config.password(),
+                    "nickname", nickname,
+                    "email", username + "@loadbot.local"));
+        }
+
+        JsonNode tokens = post("/api/v1/users/login", Map.of(
+                "username", username,
+                "password", config.password()));
+        String accessToken = tokens.path("accessToken").asText();
+
+        JsonNode userInfo = send(HttpRequest.newBuilder(URI.create(config.baseUrl() + "/api/v1/users"))
+                .header("Content-Type", "application/json") // 컨트롤러가 consumes = JSON
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build());
+        long playerId = userInfo.path("data").path("userId").asLong();
+
+        return new BotAccount(index, username, nickname, playerId, accessToken);
+    }
+
+    private JsonNode post(String path, Map<String, String> body) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(config.baseUrl() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build());
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException(request.method() + " " + request.uri().getPath() + " 실패: HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
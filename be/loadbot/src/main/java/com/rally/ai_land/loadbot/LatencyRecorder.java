@@ -0,0 +1,199 @@
+package com.rally.ai_land.loadbot;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// [부하 봇] 브로드캐스트 종단 지연 / 처리량 / 연결 끊김 집계 (봇 전체가 한 JVM 에서 공유)
+// - 보낸 P_MOVE 를 (playerId, x, y) 로 기록 -> 어떤 봇이든 P_SNAP 에서 같은 위치를 받으면 (수신 - 송신) 지연 1건
+//   (시청자 수만큼 기록되므로 팬아웃 전체의 지연 분포, 같은 JVM 이라 nanoTime 을 그대로 비교)
+// - 서버가 합치거나(틱/느린 소비자) 걸러낸(이동 필터) 위치는 아무도 받지 못하고 만료 -> undelivered 로 집계
+// - 초당 수신 프레임은 sampleSecond() 를 1초마다 호출해 타임라인으로 보관
+// - 재연결(--reconnect-every-seconds): 연결 시작 ~ 맵 복귀(P_RESUME 성공 또는 P_Init) 지연, 봇 전체가 받은 P_JOIN/P_LEAVE 수
+public class LatencyRecorder {
+
+    // 이 시간 안에 아무도 받지 못한 이동은 버림
+    private static final long PENDING_EXPIRY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private record MoveKey(long playerId, double x, double y) {
+    }
+
+    private static final class PendingMove {
+        private final long sentAt = System.nanoTime();
+        private volatile boolean delivered;
+    }
+
+    private final Map<MoveKey, PendingMove> pendingMoves = new ConcurrentHashMap<>();
+    private final Histogram latencyMicros = new ConcurrentHistogram(3);
+    private final Histogram rejoinMicros = new ConcurrentHistogram(3);
+
+    private final LongAdder movesSent = new LongAdder();
+    private final LongAdder deliveries = new LongAdder();
+    private final LongAdder undeliveredMoves = new LongAdder();
+    private final LongAdder framesReceived = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder disconnects = new LongAdder();
+    private final LongAdder stompErrors = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+    private final LongAdder resumed = new LongAdder();
+    private final LongAdder resumeRejected = new LongAdder();
+    private final LongAdder membershipFrames = new LongAdder();
+
+    private final List<Long> framesPerSecond = new ArrayList<>();
+    private final AtomicLong lastFrameCount = new AtomicLong();
+    private volatile boolean measuring;
+
+    public void recordSend(long playerId, double x, double y) {
+        pendingMoves.put(new MoveKey(playerId, x, y), new PendingMove());
+        if (measuring) movesSent.increment();
+    }
+
+    // 받은 프레임 1개 (P_SNAP 이면 위치마다 recordReceive 도 호출)
+    public void recordFrame(int bytes) {
+        framesReceived.increment();
+        bytesReceived.add(bytes);
+    }
+
+    public void recordReceive(long playerId, double x, double y) {
+        PendingMove pendingMove = pendingMoves.get(new MoveKey(playerId, x, y));
+        if (pendingMove == null) return;
+
+        pendingMove.delivered = true;
+        if (!measuring) return;
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - pendingMove.sentAt);
+        latencyMicros.recordValue(Math.max(0, micros));
+        deliveries.increment();
+    }
+
+    public void recordDisconnect() {
+        disconnects.increment();
+    }
+
+    public void recordStompError() {
+        stompErrors.increment();
+    }
+
+    // 재연결 시작(startedAt) ~ 맵 복귀, resumed: P_RESUME 로 이어받았는지 (false 면 P_JOIN -> P_Init)
+    public void recordRejoin(long startedAt, boolean resumed) {
+        if (!measuring) return;
+        reconnects.increment();
+        if (resumed) this.resumed.increment();
+        rejoinMicros.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt)));
+    }
+
+    public void recordResumeRejected() {
+        if (measuring) resumeRejected.increment();
+    }
+
+    // 받은 P_JOIN / P_LEAVE 1개 (재연결이 다른 봇들에게 만드는 입장/퇴장 브로드캐스트)
+    public void recordMembershipFrame() {
+        if (measuring) membershipFrames.increment();
+    }
+
+    // 램프업이 끝난 뒤 호출: 이전 집계를 비우고 측정 시작
+    public synchronized void startMeasurement() {
+        latencyMicros.reset();
+        movesSent.reset();
+        deliveries.reset();
+        undeliveredMoves.reset();
+        framesReceived.reset();
+        bytesReceived.reset();
+        disconnects.reset();
+        stompErrors.reset();
+        rejoinMicros.reset();
+        reconnects.reset();
+        resumed.reset();
+        resumeRejected.reset();
+        membershipFrames.reset();
+        framesPerSecond.clear();
+        lastFrameCount.set(0);
+        measuring = true;
+    }
+
+    public void stopMeasurement() {
+        measuring = false;
+    }
+
+    // 1초마다 호출: 초당 수신 프레임 기록 + 만료된 이동 정리
+    public synchronized void sampleSecond() {
+        long frames = framesReceived.sum();
+        if (measuring) framesPerSecond.add(frames - lastFrameCount.getAndSet(frames));
+        expirePendingMoves(System.nanoTime());
+    }
+
+    void expirePendingMoves(long now) {
+        Iterator<PendingMove> iterator = pendingMoves.values().iterator();
+        while (iterator.hasNext()) {
+            PendingMove pendingMove = iterator.next();
+            if (now - pendingMove.sentAt > PENDING_EXPIRY_NANOS) {
+                iterator.remove();
+                if (measuring && !pendingMove.delivered) undeliveredMoves.increment();
+            }
+        }
+    }
+
+    public Histogram latencyMicros() {
+        return latencyMicros;
+    }
+
+    public long movesSent() {
+        return movesSent.sum();
+    }
+
+    // 지연 측정 건수 (이동 1건 x 받은 봇 수)
+    public long deliveries() {
+        return deliveries.sum();
+    }
+
+    public long undeliveredMoves() {
+        return undeliveredMoves.sum();
+    }
+
+    public long framesReceived() {
+        return framesReceived.sum();
+    }
+
+    public long bytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    public long disconnects() {
+        return disconnects.sum();
+    }
+
+    public long stompErrors() {
+        return stompErrors.sum();
+    }
+
+    public Histogram rejoinMicros() {
+        return rejoinMicros;
+    }
+
+    public long reconnects() {
+        return reconnects.sum();
+    }
+
+    public long resumed() {
+        return resumed.sum();
+    }
+
+    public long resumeRejected() {
+        return resumeRejected.sum();
+    }
+
+    public long membershipFrames() {
+        return membershipFrames.sum();
+    }
+
+    public synchronized List<Long> framesPerSecond() {
+        return List.copyOf(framesPerSecond);
+    }
+}
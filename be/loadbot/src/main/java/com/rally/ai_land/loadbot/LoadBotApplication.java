@@ -0,0 +1,141 @@
+package com.rally.ai_land.loadbot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.stomp.WebSocketStompClient;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// [부하 봇] 실시간 경로 부하 테스트 (로컬에서 띄운 앱 대상)
+// 실행 순서
+// 1. 앱 기동: 로컬 Redis + MySQL(dev) 또는 H2 (./gradlew bootRun --args='--spring.profiles.active=dev,loadtest')
+// 2. ./gradlew :loadbot:run --args="--scenario=hot-map --bots=200 --move-hz=10 --duration-seconds=60"
+//    ./gradlew :loadbot:run --args="--scenario=cold-maps --bots=1000 --maps=100"
+//    수신 합치기 비교: --move-hz=60 --metrics-token=... 으로 player.inbound.coalescing-enabled=true/false 각각 실행
+//    -> 보고서의 serverCpuAvg, serverMovesCoalesced 비교
+//    재연결 비교: --reconnect-every-seconds=20 을 --resume=true (player.resume.enabled=true) / --resume=false (서버도 false) 로 각각 실행
+//    -> 보고서의 rejoinP50Ms/rejoinP99Ms, membershipFramesReceived (다른 봇들이 받은 P_JOIN/P_LEAVE) 비교
+// 3. 콘솔 요약 + build/loadbot/report-{scenario}.json
+// 흐름: 계정 준비(REST) -> ramp-up-seconds 동안 고르게 연결/입장 -> 측정 시작 -> duration-seconds 후 P_LEAVE/해제 -> 보고서
+@Slf4j
+public class LoadBotApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadBotConfig config = LoadBotConfig.from(args);
+        ObjectMapper objectMapper = new ObjectMapper();
+        LatencyRecorder recorder = new LatencyRecorder();
+        ServerMetricsProbe serverMetrics = new ServerMetricsProbe(config, objectMapper);
+
+        log.info("[부하 봇] scenario={} transport={} bots={} maps={} nodes={}",
+                config.scenario().label(), config.transport(), config.bots(), config.maps(), config.baseUrls());
+
+        List<BotAccount> accounts = provisionAccounts(config, objectMapper);
+
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(2);
+        heartbeatScheduler.setThreadNamePrefix("loadbot-heartbeat-");
+        heartbeatScheduler.initialize();
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(webSocketClient(config));
+        stompClient.setTaskScheduler(heartbeatScheduler);
+        stompClient.setDefaultHeartbeat(new long[]{10_000, 10_000});
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+
+        ScheduledExecutorService moveScheduler = Executors.newScheduledThreadPool(
+                Runtime.getRuntime().availableProcessors(), runnable -> {
+                    Thread thread = new Thread(runnable, "loadbot-move");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(recorder::sampleSecond, 1, 1, TimeUnit.SECONDS);
+        sampler.scheduleAtFixedRate(serverMetrics::sampleSecond, 1, 1, TimeUnit.SECONDS);
+
+        // 램프업: 연결을 ramp-up-seconds 동안 고르게 분산
+        List<MapBot> bots = new ArrayList<>(accounts.size());
+        List<CompletableFuture<?>> connections = new ArrayList<>(accounts.size());
+        long rampUpGapMicros = TimeUnit.SECONDS.toMicros(config.rampUpSeconds()) / Math.max(1, accounts.size());
+        for (BotAccount account : accounts) {
+            MapBot bot = new MapBot(account, config.scenario().mapIdFor(account.index(), config), config, recorder,
+                    objectMapper, moveScheduler);
+            bots.add(bot);
+            connections.add(bot.connect(stompClient));
+            TimeUnit.MICROSECONDS.sleep(rampUpGapMicros);
+        }
+
+        int connected = 0;
+        int connectFailures = 0;
+        for (CompletableFuture<?> connection : connections) {
+            try {
+                connection.get(10, TimeUnit.SECONDS);
+                connected++;
+            } catch (Exception e) {
+                connectFailures++;
+                log.debug("[부하 봇] 연결 실패", e);
+            }
+        }
+        log.info("[부하 봇] 연결 완료 {} / 실패 {} -> {}초 측정", connected, connectFailures, config.durationSeconds());
+
+        recorder.startMeasurement();
+        serverMetrics.startMeasurement();
+        TimeUnit.SECONDS.sleep(config.durationSeconds());
+        recorder.stopMeasurement();
+        serverMetrics.stopMeasurement();
+
+        bots.forEach(MapBot::leave);
+        TimeUnit.SECONDS.sleep(1); // P_LEAVE / DISCONNECT 전송 대기
+        moveScheduler.shutdownNow();
+        sampler.shutdownNow();
+        stompClient.stop();
+        heartbeatScheduler.shutdown();
+
+        LoadReport report = LoadReport.of(config, connected, connectFailures, recorder, serverMetrics);
+        log.info(report.summary());
+        Path reportPath = Path.of(config.reportFile());
+        report.writeTo(reportPath, objectMapper);
+        log.info("[부하 봇] 보고서: {}", reportPath.toAbsolutePath());
+        System.exit(0); // WebSocket 클라이언트 컨테이너 스레드 정리
+    }
+
+    // 회원가입/로그인은 bcrypt 때문에 느리므로 provision-threads 개로 병렬 처리
+    private static List<BotAccount> provisionAccounts(LoadBotConfig config, ObjectMapper objectMapper) throws Exception {
+        BotAccountProvisioner provisioner = new BotAccountProvisioner(config, objectMapper);
+        ExecutorService executor = Executors.newFixedThreadPool(config.provisionThreads());
+        try {
+            List<Future<BotAccount>> futures = new ArrayList<>(config.bots());
+            for (int i = 0; i < config.bots(); i++) {
+                int index = i;
+                futures.add(executor.submit(() -> provisioner.provision(index)));
+            }
+
+            List<BotAccount> accounts = new ArrayList<>(config.bots());
+            for (Future<BotAccount> future : futures) {
+                accounts.add(future.get());
+            }
+            log.info("[부하 봇] 계정 {}개 준비 완료", accounts.size());
+            return accounts;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static WebSocketClient webSocketClient(LoadBotConfig config) {
+        StandardWebSocketClient standardClient = new StandardWebSocketClient();
+        return config.transport() == LoadBotConfig.Transport.RAW
+                ? standardClient
+                : new SockJsClient(List.of(new WebSocketTransport(standardClient)));
+    }
+}
@@ -0,0 +1,101 @@
+package com.rally.ai_land.loadbot;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// [부하 봇] 실행 옵션: --key=value (없으면 기본값)
+// 예: --scenario=cold-maps --bots=500 --maps=100 --move-hz=10 --duration-seconds=120 --transport=sockjs
+// 여러 노드: --base-urls=http://localhost:8080,http://localhost:8081 (봇을 노드에 번갈아 연결, 계정 생성은 첫 노드)
+// 서버 지표: --metrics-token={ADMIN accessToken} (서버 CPU, 수신 합치기 카운터를 보고서에 포함)
+// 재연결: --reconnect-every-seconds=N (봇마다 N초 간격으로 연결을 끊고 다시 연결), --resume=true|false (P_RESUME 이어받기 / 항상 P_JOIN)
+public record LoadBotConfig(String baseUrl,
+                            List<String> baseUrls,
+                            Transport transport,
+                            Scenario scenario,
+                            int bots,
+                            long firstMapId,
+                            int maps,
+                            double moveHz,
+                            double stepPx,
+                            double mapWidth,
+                            double mapHeight,
+                            int rampUpSeconds,
+                            int durationSeconds,
+                            int provisionThreads,
+                            String usernamePrefix,
+                            String password,
+                            String reportFile,
+                            String metricsToken,
+                            int reconnectEverySeconds,
+                            boolean resume) {
+
+    public enum Transport {
+        RAW,    // /ws-raw (네이티브 WebSocket)
+        SOCKJS  // /ws (SockJS)
+    }
+
+    public static LoadBotConfig from(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션 형식은 --key=value 입니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        Scenario scenario = Scenario.from(options.getOrDefault("scenario", "hot-map"));
+        List<String> baseUrls = Arrays.stream(options.getOrDefault("base-urls",
+                        options.getOrDefault("base-url", "http://localhost:8080")).split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        if (baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("base-url(s) 가 비어 있습니다.");
+        }
+        LoadBotConfig config = new LoadBotConfig(
+                baseUrls.get(0),
+                baseUrls,
+                Transport.valueOf(options.getOrDefault("transport", "raw").toUpperCase()),
+                scenario,
+                Integer.parseInt(options.getOrDefault("bots", "200")),
+                Long.parseLong(options.getOrDefault("first-map-id", "1")),
+                Integer.parseInt(options.getOrDefault("maps", scenario == Scenario.HOT_MAP ? "1" : "50")),
+                Double.parseDouble(options.getOrDefault("move-hz", "10")),
+                Double.parseDouble(options.getOrDefault("step-px", "4")),
+                Double.parseDouble(options.getOrDefault("map-width", "1600")),
+                Double.parseDouble(options.getOrDefault("map-height", "896")),
+                Integer.parseInt(options.getOrDefault("ramp-up-seconds", "10")),
+                Integer.parseInt(options.getOrDefault("duration-seconds", "60")),
+                Integer.parseInt(options.getOrDefault("provision-threads", "8")),
+                options.getOrDefault("username-prefix", "loadbot"),
+                options.getOrDefault("password", "loadbot1234"),
+                options.getOrDefault("report-file", "build/loadbot/report-" + scenario.label() + ".json"),
+                options.get("metrics-token"),
+                Integer.parseInt(options.getOrDefault("reconnect-every-seconds", "0")),
+                Boolean.parseBoolean(options.getOrDefault("resume", "true")));
+
+        if (config.bots() <= 0 || config.maps() <= 0 || config.moveHz() <= 0) {
+            throw new IllegalArgumentException("bots, maps, move-hz 는 0 보다 커야 합니다.");
+        }
+        return config;
+    }
+
+    // STOMP 엔드포인트: raw 는 ws(s)://.../ws-raw, SockJS 는 http(s)://.../ws
+    // 봇 번호로 노드를 번갈아 선택 (같은 맵의 봇이 여러 노드에 나뉘어 노드 간 중계 지연까지 측정)
+    public String stompUrl(int botIndex) {
+        return stompUrlOf(baseUrls.get(Math.floorMod(botIndex, baseUrls.size())));
+    }
+
+    private String stompUrlOf(String url) {
+        return transport == Transport.RAW
+                ? url.replaceFirst("^http", "ws") + "/ws-raw"
+                : url + "/ws";
+    }
+
+    public long moveIntervalMicros() {
+        return (long) (1_000_000 / moveHz);
+    }
+}
@@ -0,0 +1,124 @@
+package com.rally.ai_land.loadbot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// [부하 봇] 실행 결과 (측정 구간 = 램프업 이후 duration-seconds)
+// - 지연(ms): P_MOVE 송신 ~ 다른 봇(또는 본인)의 P_SNAP 수신, 수신 1건마다 1 샘플
+// - 초당 프레임: 봇 전체가 받은 STOMP MESSAGE 프레임 수
+// - 재연결 (--reconnect-every-seconds 가 있을 때): 재연결 수, 이어받기 성공/거절, 맵 복귀 지연(ms), 받은 P_JOIN/P_LEAVE 수
+// - 서버 지표 (--metrics-token 이 있을 때만, 없으면 -1): 노드 CPU 합(process.cpu.usage), 서버가 받은/처리한/합친 P_MOVE
+public record LoadReport(String scenario,
+                         String transport,
+                         int bots,
+                         int maps,
+                         double moveHz,
+                         int durationSeconds,
+                         int connected,
+                         int connectFailures,
+                         long disconnects,
+                         long stompErrors,
+                         long movesSent,
+                         long undeliveredMoves,
+                         long latencySamples,
+                         double latencyP50Ms,
+                         double latencyP90Ms,
+                         double latencyP99Ms,
+                         double latencyP999Ms,
+                         double latencyMaxMs,
+                         long framesReceived,
+                         long bytesReceived,
+                         double framesPerSecondAvg,
+                         long framesPerSecondPeak,
+                         List<Long> framesPerSecondTimeline,
+                         double serverCpuAvg,
+                         double serverCpuMax,
+                         long serverMovesReceived,
+                         long serverMovesForwarded,
+                         long serverMovesCoalesced,
+                         boolean resume,
+                         long reconnects,
+                         long resumed,
+                         long resumeRejected,
+                         double rejoinP50Ms,
+                         double rejoinP99Ms,
+                         double rejoinMaxMs,
+                         long membershipFramesReceived) {
+
+    public static LoadReport of(LoadBotConfig config, int connected, int connectFailures, LatencyRecorder recorder,
+                                ServerMetricsProbe serverMetrics) {
+        Histogram latency = recorder.latencyMicros();
+        Histogram rejoin = recorder.rejoinMicros();
+        List<Long> timeline = recorder.framesPerSecond();
+
+        return new LoadReport(
+                config.scenario().label(),
+                config.transport().name().toLowerCase(),
+                config.bots(),
+                config.maps(),
+                config.moveHz(),
+                config.durationSeconds(),
+                connected,
+                connectFailures,
+                recorder.disconnects(),
+                recorder.stompErrors(),
+                recorder.movesSent(),
+                recorder.undeliveredMoves(),
+                latency.getTotalCount(),
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()),
+                recorder.framesReceived(),
+                recorder.bytesReceived(),
+                timeline.stream().mapToLong(Long::longValue).average().orElse(0),
+                timeline.stream().mapToLong(Long::longValue).max().orElse(0),
+                timeline,
+                serverMetrics.cpuAvg(),
+                serverMetrics.cpuMax(),
+                serverMetrics.moves("received"),
+                serverMetrics.moves("forwarded"),
+                serverMetrics.moves("coalesced"),
+                config.resume(),
+                recorder.reconnects(),
+                recorder.resumed(),
+                recorder.resumeRejected(),
+                millis(rejoin.getValueAtPercentile(50)),
+                millis(rejoin.getValueAtPercentile(99)),
+                millis(rejoin.getMaxValue()),
+                recorder.membershipFrames());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    public String summary() {
+        return String.format("""
+                        [부하 봇 결과] scenario=%s transport=%s bots=%d maps=%d move-hz=%.1f duration=%ds
+                          연결: 성공 %d / 실패 %d, 끊김 %d, STOMP 오류 %d
+                          이동: 송신 %d, 미전달 %d
+                          지연(ms, %d 샘플): p50 %.2f / p90 %.2f / p99 %.2f / p99.9 %.2f / max %.2f
+                          수신: 프레임 %d (평균 %.0f/s, 최대 %d/s), %d bytes
+                          서버: CPU 평균 %.3f / 최대 %.3f, P_MOVE 수신 %d / 처리 %d / 합침 %d
+                          재연결(resume=%s): %d회, 이어받기 %d / 거절 %d, 복귀(ms) p50 %.2f / p99 %.2f / max %.2f, P_JOIN/P_LEAVE 수신 %d""",
+                scenario, transport, bots, maps, moveHz, durationSeconds,
+                connected, connectFailures, disconnects, stompErrors,
+                movesSent, undeliveredMoves,
+                latencySamples, latencyP50Ms, latencyP90Ms, latencyP99Ms, latencyP999Ms, latencyMaxMs,
+                framesReceived, framesPerSecondAvg, framesPerSecondPeak, bytesReceived,
+                serverCpuAvg, serverCpuMax, serverMovesReceived, serverMovesForwarded, serverMovesCoalesced,
+                resume, reconnects, resumed, resumeRejected, rejoinP50Ms, rejoinP99Ms, rejoinMaxMs, membershipFramesReceived);
+    }
+
+    public void writeTo(Path path, ObjectMapper objectMapper) throws IOException {
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), this);
+    }
+}
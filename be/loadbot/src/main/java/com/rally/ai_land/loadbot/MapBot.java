@@ -0,0 +1,291 @@
+package com.rally.ai_land.loadbot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.stomp.ConnectionLostException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.simp.stomp.WebSocketStompClient;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// [부하 봇] 봇 하나 = STOMP 세션 하나
+// - 연결 후 /topic/map/{mapId}, /user/queue/map/{mapId} 구독 -> P_JOIN -> move-hz 주기로 랜덤 워크 P_MOVE
+// - 종료 시 P_LEAVE 후 연결 해제
+// - 수신 프레임은 모두 LatencyRecorder 로 (P_SNAP 위치는 지연 매칭)
+// - P_INST (맵 인스턴스 배정/재배치) 를 받으면 해당 채널로 구독을 옮기고 다시 P_JOIN
+// - --reconnect-every-seconds: 주기적으로 P_LEAVE 없이 연결을 끊고 다시 연결
+//   --resume=true 면 받은 토큰과 마지막 seq 헤더로 P_RESUME (거절되면 P_JOIN), false 면 항상 P_JOIN
+@Slf4j
+public class MapBot extends StompSessionHandlerAdapter implements StompFrameHandler {
+
+    // 1234: 상하좌우 (PlayerPositionUpdateRequest.dir)
+    private static final short[] DIRECTIONS = {1, 2, 3, 4};
+
+    private final BotAccount account;
+    private final long mapId;
+    private final LoadBotConfig config;
+    private final LatencyRecorder recorder;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService moveScheduler;
+
+    private volatile WebSocketStompClient stompClient;
+    private volatile StompSession session;
+    // 맵 인스턴스 채널 (처음에는 mapId)
+    private volatile long channelId;
+    private volatile List<StompSession.Subscription> subscriptions = List.of();
+    private volatile boolean stopping;
+    private ScheduledFuture<?> moveFuture;
+    private ScheduledFuture<?> reconnectFuture;
+
+    // 이어받기: 서버가 준 토큰, 마지막으로 받은 맵 프레임 순번, 재연결 시작 시각 (0 이면 재연결 중 아님)
+    private volatile String resumeToken;
+    private volatile long lastSequence;
+    private volatile long reconnectStartedAt;
+
+    // 서버 스폰 위치에서 시작 (PlayerService.MAP_INIT_X/Y)
+    private double x = 800;
+    private double y = 488;
+    private short d = 2;
+
+    public MapBot(BotAccount account, long mapId, LoadBotConfig config, LatencyRecorder recorder,
+                  ObjectMapper objectMapper, ScheduledExecutorService moveScheduler) {
+        this.account = account;
+        this.mapId = mapId;
+        this.channelId = mapId;
+        this.config = config;
+        this.recorder = recorder;
+        this.objectMapper = objectMapper;
+        this.moveScheduler = moveScheduler;
+    }
+
+    public CompletableFuture<StompSession> connect(WebSocketStompClient stompClient) {
+        this.stompClient = stompClient;
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + account.accessToken());
+        return stompClient.connectAsync(config.stompUrl(account.index()), new WebSocketHttpHeaders(), connectHeaders, this);
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        this.session = session;
+        if (config.resume() && resumeToken != null) {
+            // 끊기기 전 채널에서 이어받기
+            subscribeChannel(channelId);
+            sendResume();
+        } else {
+            subscribeChannel(mapId);
+            sendJoin();
+        }
+
+        // 봇들의 이동/재연결 시점이 한 순간에 몰리지 않도록 시작 지연을 흩뿌림 (재연결 후에는 그대로 이어감)
+        if (moveFuture == null) {
+            long intervalMicros = config.moveIntervalMicros();
+            moveFuture = moveScheduler.scheduleAtFixedRate(this::move,
+                    ThreadLocalRandom.current().nextLong(intervalMicros), intervalMicros, TimeUnit.MICROSECONDS);
+        }
+        if (reconnectFuture == null && config.reconnectEverySeconds() > 0) {
+            long intervalMillis = TimeUnit.SECONDS.toMillis(config.reconnectEverySeconds());
+            reconnectFuture = moveScheduler.scheduleAtFixedRate(this::reconnect,
+                    intervalMillis + ThreadLocalRandom.current().nextLong(intervalMillis), intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 네트워크 전환처럼 P_LEAVE 없이 끊고 바로 다시 연결
+    private void reconnect() {
+        StompSession current = session;
+        if (stopping || current == null || !current.isConnected() || reconnectStartedAt != 0) return;
+
+        reconnectStartedAt = System.nanoTime();
+        subscriptions = List.of();
+        current.disconnect();
+        connect(stompClient).exceptionally(e -> {
+            reconnectStartedAt = 0;
+            recorder.recordStompError();
+            log.debug("[부하 봇] {} 재연결 실패", account.username(), e);
+            return null;
+        });
+    }
+
+    private void finishRejoin(boolean resumed) {
+        long startedAt = reconnectStartedAt;
+        if (startedAt == 0) return;
+        reconnectStartedAt = 0;
+        recorder.recordRejoin(startedAt, resumed);
+    }
+
+    private void subscribeChannel(long channelId) {
+        subscriptions.forEach(StompSession.Subscription::unsubscribe);
+        this.channelId = channelId;
+        subscriptions = List.of(
+                session.subscribe("/topic/map/" + channelId, this),
+                session.subscribe("/user/queue/map/" + channelId, this));
+    }
+
+    private void sendJoin() {
+        Map<String, Object> join = new LinkedHashMap<>();
+        join.put("t", "P_JOIN");
+        join.put("p", account.playerId());
+        join.put("n", account.nickname());
+        send(join);
+    }
+
+    private void sendResume() {
+        Map<String, Object> resume = new LinkedHashMap<>();
+        resume.put("t", "P_RESUME");
+        resume.put("p", account.playerId());
+        resume.put("rt", resumeToken);
+        resume.put("sq", lastSequence);
+        send(resume);
+    }
+
+    // 랜덤 워크: 한 축으로 step-px 만큼, 맵 경계에서는 잘림
+    private void move() {
+        if (stopping || session == null || !session.isConnected()) return;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // 70% 확률로 같은 방향 유지 (실제 이동처럼 직진 위주)
+        if (random.nextDouble() > 0.7) d = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+        switch (d) {
+            case 1 -> y = Math.max(0, y - config.stepPx());
+            case 2 -> y = Math.min(config.mapHeight(), y + config.stepPx());
+            case 3 -> x = Math.max(0, x - config.stepPx());
+            default -> x = Math.min(config.mapWidth(), x + config.stepPx());
+        }
+
+        Map<String, Object> move = new LinkedHashMap<>();
+        move.put("t", "P_MOVE");
+        move.put("p", account.playerId());
+        move.put("x", x);
+        move.put("y", y);
+        move.put("d", d);
+        recorder.recordSend(account.playerId(), x, y);
+        send(move);
+    }
+
+    public void leave() {
+        stopping = true;
+        if (moveFuture != null) moveFuture.cancel(false);
+        if (reconnectFuture != null) reconnectFuture.cancel(false);
+
+        StompSession current = session;
+        if (current == null || !current.isConnected()) return;
+
+        Map<String, Object> leave = new LinkedHashMap<>();
+        leave.put("t", "P_LEAVE");
+        leave.put("p", account.playerId());
+        send(leave);
+        current.disconnect();
+    }
+
+    private void send(Map<String, Object> payload) {
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination("/app/map/" + channelId);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        try {
+            session.send(headers, objectMapper.writeValueAsBytes(payload));
+        } catch (IOException | RuntimeException e) {
+            log.debug("[부하 봇] {} 전송 실패", account.username(), e);
+        }
+    }
+
+    @Override
+    public Type getPayloadType(StompHeaders headers) {
+        return byte[].class;
+    }
+
+    @Override
+    public void handleFrame(StompHeaders headers, Object payload) {
+        // 구독 없는 프레임 = 세션 핸들러로 온 STOMP ERROR (인증 실패 등)
+        if (headers.getSubscription() == null) {
+            recorder.recordStompError();
+            log.warn("[부하 봇] {} STOMP ERROR: {}", account.username(), headers.getFirst("message"));
+            return;
+        }
+
+        byte[] body = (byte[]) payload;
+        recorder.recordFrame(body.length);
+        String sequence = headers.getFirst("seq");
+        if (sequence != null) lastSequence = Math.max(lastSequence, Long.parseLong(sequence));
+
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            String type = root.path("t").asText();
+            if ("P_INST".equals(type)) {
+                // p 가 없으면 채널 전원 (재배치)
+                if (!root.hasNonNull("p") || root.path("p").asLong() == account.playerId()) {
+                    resumeToken = null;
+                    lastSequence = 0;
+                    subscribeChannel(root.path("c").asLong());
+                    sendJoin();
+                }
+                return;
+            }
+            if ("P_RESUME".equals(type)) {
+                if (root.path("r").isBoolean() && !root.path("r").asBoolean()) {
+                    // 유예 만료 등으로 거절: 처음부터 다시 입장 (P_Init 에서 복귀 지연 기록)
+                    recorder.recordResumeRejected();
+                    resumeToken = null;
+                    lastSequence = 0;
+                    subscribeChannel(mapId);
+                    sendJoin();
+                    return;
+                }
+                if (root.hasNonNull("rt")) resumeToken = root.path("rt").asText();
+                if (root.path("r").asBoolean(false)) finishRejoin(true);
+                return;
+            }
+            if ("P_Init".equals(type)) {
+                finishRejoin(false);
+                return;
+            }
+            if ("P_JOIN".equals(type) || "P_LEAVE".equals(type)) {
+                recorder.recordMembershipFrame();
+                return;
+            }
+            if (!"P_SNAP".equals(type)) return;
+            for (JsonNode position : root.path("ps")) {
+                recorder.recordReceive(position.path("playerId").asLong(),
+                        position.path("x").asDouble(),
+                        position.path("y").asDouble());
+            }
+        } catch (IOException e) {
+            log.debug("[부하 봇] {} 프레임 파싱 실패", account.username(), e);
+        }
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                byte[] payload, Throwable exception) {
+        recorder.recordStompError();
+        log.debug("[부하 봇] {} STOMP 처리 오류", account.username(), exception);
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        if (stopping) return;
+        if (exception instanceof ConnectionLostException) {
+            recorder.recordDisconnect();
+            if (moveFuture != null) moveFuture.cancel(false);
+            log.warn("[부하 봇] {} 연결 끊김 (mapId={})", account.username(), mapId);
+        } else {
+            recorder.recordStompError();
+            log.debug("[부하 봇] {} 전송 오류", account.username(), exception);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.rally.ai_land.loadbot;
+
+// [부하 봇] 시나리오: 봇을 어느 맵에 배치할지
+// - HOT_MAP: 모든 봇이 맵 하나에 (맵 틱 / AOI 팬아웃 / 맵 액터 한 개에 부하 집중)
+// - COLD_MAPS: 봇을 maps 개의 맵에 고르게 분산 (맵 수만큼 틱 루프 / 액터 / 스냅샷이 생김)
+public enum Scenario {
+    HOT_MAP("hot-map"),
+    COLD_MAPS("cold-maps");
+
+    private final String label;
+
+    Scenario(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public long mapIdFor(int botIndex, LoadBotConfig config) {
+        return switch (this) {
+            case HOT_MAP -> config.firstMapId();
+            case COLD_MAPS -> config.firstMapId() + (botIndex % config.maps());
+        };
+    }
+
+    public static Scenario from(String label) {
+        for (Scenario scenario : values()) {
+            if (scenario.label.equalsIgnoreCase(label)) return scenario;
+        }
+        throw new IllegalArgumentException("알 수 없는 scenario: " + label + " (hot-map, cold-maps)");
+    }
+}
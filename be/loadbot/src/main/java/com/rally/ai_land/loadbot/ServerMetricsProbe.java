@@ -0,0 +1,126 @@
+package com.rally.ai_land.loadbot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// [부하 봇] 서버 지표 조회 (/actuator/metrics, ADMIN 권한 토큰 필요: --metrics-token)
+// - 측정 구간 동안 1초마다 노드별 process.cpu.usage 를 샘플링 -> 평균/최대 (노드 합, 코어 수로 나누기 전 0~1 비율)
+// - 측정 시작/종료 시점의 player.inbound.moves{result} 차이 -> 구간 동안 받은/처리한/합친 P_MOVE 수
+// - 같은 시나리오를 player.inbound.coalescing-enabled=true/false 로 각각 돌려 CPU 를 비교
+@Slf4j
+public class ServerMetricsProbe {
+
+    private static final List<String> MOVE_RESULTS = List.of("received", "forwarded", "coalesced");
+
+    private final LoadBotConfig config;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    private final Map<String, Double> movesAtStart = new HashMap<>();
+    private final Map<String, Double> movesAtStop = new HashMap<>();
+    private double cpuSum;
+    private double cpuMax;
+    private int cpuSamples;
+    private volatile boolean measuring;
+
+    public ServerMetricsProbe(LoadBotConfig config, ObjectMapper objectMapper) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+    }
+
+    public boolean isEnabled() {
+        return config.metricsToken() != null;
+    }
+
+    public void startMeasurement() {
+        if (!isEnabled()) return;
+        readMoves(movesAtStart);
+        measuring = true;
+    }
+
+    public void stopMeasurement() {
+        if (!isEnabled()) return;
+        measuring = false;
+        readMoves(movesAtStop);
+    }
+
+    // 1초마다 호출 (sampler 스레드)
+    public synchronized void sampleSecond() {
+        if (!measuring) return;
+
+        double cpu = 0;
+        for (String baseUrl : config.baseUrls()) {
+            Double nodeCpu = read(baseUrl, "process.cpu.usage", null);
+            if (nodeCpu == null) return;
+            cpu += nodeCpu;
+        }
+        cpuSum += cpu;
+        cpuMax = Math.max(cpuMax, cpu);
+        cpuSamples++;
+    }
+
+    // 지표를 못 읽었으면 -1
+    public synchronized double cpuAvg() {
+        return cpuSamples == 0 ? -1 : cpuSum / cpuSamples;
+    }
+
+    public synchronized double cpuMax() {
+        return cpuSamples == 0 ? -1 : cpuMax;
+    }
+
+    public long moves(String result) {
+        Double start = movesAtStart.get(result);
+        Double stop = movesAtStop.get(result);
+        return start == null || stop == null ? -1 : (long) (stop - start);
+    }
+
+    private void readMoves(Map<String, Double> target) {
+        for (String result : MOVE_RESULTS) {
+            double total = 0;
+            for (String baseUrl : config.baseUrls()) {
+                Double value = read(baseUrl, "player.inbound.moves", "result:" + result);
+                if (value == null) return;
+                total += value;
+            }
+            target.put(result, total);
+        }
+    }
+
+    // 지표 하나의 첫 측정값 (COUNT 또는 VALUE), 실패하면 null
+    private Double read(String baseUrl, String metric, String tag) {
+        String uri = baseUrl + "/actuator/metrics/" + metric + (tag == null ? "" : "?tag=" + tag);
+        try {
+            HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(URI.create(uri))
+                            .header("Authorization", "Bearer " + config.metricsToken())
+                            .timeout(Duration.ofSeconds(2))
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() / 100 != 2) {
+                log.warn("[부하 봇] 서버 지표 조회 실패: {} HTTP {}", uri, response.statusCode());
+                return null;
+            }
+            JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+            return measurements.isEmpty() ? null : measurements.get(0).path("value").asDouble();
+        } catch (IOException e) {
+            log.warn("[부하 봇] 서버 지표 조회 실패: {}", uri, e);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.rally.ai_land.loadbot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LatencyRecorder 단위 테스트")
+class LatencyRecorderTest {
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    @Test
+    @DisplayName("보낸 위치를 받을 때마다 지연 샘플을 기록해야 한다")
+    void shouldRecordLatencyPerDelivery() {
+        // given
+        recorder.startMeasurement();
+        recorder.recordSend(10L, 804.0, 488.0);
+
+        // when: 두 봇이 같은 P_SNAP 을 받음 + 보내지 않은 위치
+        recorder.recordReceive(10L, 804.0, 488.0);
+        recorder.recordReceive(10L, 804.0, 488.0);
+        recorder.recordReceive(10L, 808.0, 488.0);
+
+        // then
+        assertThat(recorder.movesSent()).isEqualTo(1);
+        assertThat(recorder.deliveries()).isEqualTo(2);
+        assertThat(recorder.latencyMicros().getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("아무도 받지 못하고 만료된 이동만 미전달로 집계해야 한다")
+    void shouldCountOnlyUndeliveredMovesOnExpiry() {
+        // given
+        recorder.startMeasurement();
+        recorder.recordSend(10L, 804.0, 488.0);
+        recorder.recordSend(20L, 100.0, 200.0);
+        recorder.recordReceive(10L, 804.0, 488.0);
+
+        // when
+        recorder.expirePendingMoves(System.nanoTime() + TimeUnit.SECONDS.toNanos(11));
+
+        // then
+        assertThat(recorder.undeliveredMoves()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("측정 시작 전(램프업) 수신은 지연에 포함하지 않아야 한다")
+    void shouldIgnoreSamplesBeforeMeasurement() {
+        // given
+        recorder.recordSend(10L, 804.0, 488.0);
+        recorder.recordReceive(10L, 804.0, 488.0);
+        recorder.recordFrame(120);
+
+        // when
+        recorder.startMeasurement();
+
+        // then
+        assertThat(recorder.latencyMicros().getTotalCount()).isZero();
+        assertThat(recorder.framesReceived()).isZero();
+    }
+}
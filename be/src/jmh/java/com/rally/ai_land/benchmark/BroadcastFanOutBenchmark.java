@@ -0,0 +1,162 @@
+package com.rally.ai_land.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.common.cluster.ClusterMembershipService;
+import com.rally.ai_land.common.websocket.ClusterTopicRelay;
+import com.rally.ai_land.common.websocket.EncodedFrame;
+import com.rally.ai_land.common.websocket.EncodedFrameSender;
+import com.rally.ai_land.common.websocket.MapStreamBuffer;
+import com.rally.ai_land.common.websocket.PlayerStateBinaryMessageConverter;
+import com.rally.ai_land.common.websocket.WireFormatRegistry;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import com.rally.ai_land.domain.player.dto.PlayerSnapshotResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// [직렬화 1회] 브로드캐스트 한 번당 할당량/시간: 구독자 100, 1000 명
+// 실행: ./gradlew jmh -Pjmh.includes=BroadcastFanOutBenchmark (gc 프로파일러 -> gc.alloc.rate.norm = 브로드캐스트 1회 할당 bytes)
+// - 파이프라인: SimpMessagingTemplate -> brokerChannel -> SimpleBrokerMessageHandler -> clientOutboundChannel
+//   -> 세션별 STOMP 인코딩 (StompSubProtocolHandler 가 세션마다 하는 일, 전송은 제외)
+// - 채널은 실행기 없이 동기 실행 (호출 스레드에서 팬아웃까지 측정)
+// - topic*: /topic/map/1 하나를 모든 세션이 구독 (AOI 미사용 P_SNAP)
+// - perSession*: 세션마다 다른 목적지로 같은 프레임 전송 (AOI 시청자별 전송, /user 목적지 해석 이후와 같은 형태)
+//   convertAndSend 는 전송마다 JSON 직렬화, EncodedFrame 은 한 번 인코딩한 배열 공유
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BroadcastFanOutBenchmark {
+
+    private static final String TOPIC = "/topic/map/1";
+    private static final int FRAME_POSITIONS = 20;
+
+    @Param({"100", "1000"})
+    private int subscribers;
+
+    private SimpleBrokerMessageHandler broker;
+    private SimpMessagingTemplate simpMessagingTemplate;
+    private EncodedFrameSender encodedFrameSender;
+    private PlayerSnapshotResponse snapshot;
+    private List<String> sessionDestinations;
+
+    // 세션별 STOMP 인코딩 결과 크기 합 (DCE 방지)
+    private long encodedBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ExecutorSubscribableChannel clientInboundChannel = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+
+        StompEncoder stompEncoder = new StompEncoder();
+        clientOutboundChannel.subscribe(message -> {
+            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+            accessor.updateStompCommandAsServerMessage();
+            encodedBytes += stompEncoder.encode(accessor.getMessageHeaders(), (byte[]) message.getPayload()).length;
+        });
+
+        broker = new SimpleBrokerMessageHandler(clientInboundChannel, clientOutboundChannel, brokerChannel,
+                List.of("/topic", "/queue"));
+        broker.start();
+
+        sessionDestinations = new ArrayList<>(subscribers);
+        for (int i = 0; i < subscribers; i++) {
+            String sessionId = "session-" + i;
+            String sessionDestination = "/queue/map/1-user" + sessionId;
+            subscribe(sessionId, "topic-" + i, TOPIC);
+            subscribe(sessionId, "queue-" + i, sessionDestination);
+            sessionDestinations.add(sessionDestination);
+        }
+
+        // 애플리케이션과 같은 컨버터 구성 (WebSocketConfig)
+        simpMessagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        simpMessagingTemplate.setMessageConverter(new CompositeMessageConverter(List.of(
+                new PlayerStateBinaryMessageConverter(),
+                new StringMessageConverter(),
+                new ByteArrayMessageConverter(),
+                new MappingJackson2MessageConverter())));
+
+        // 클러스터 릴레이, 맵 스트림 버퍼 끔 (단일 노드 팬아웃만 측정)
+        ClusterMembershipService clusterMembershipService =
+                new ClusterMembershipService(null, null, "benchmark", "", 8080, 6000, 2000, 128);
+        MapStreamBuffer mapStreamBuffer = new MapStreamBuffer(new SimpleMeterRegistry(), false, 256);
+        ClusterTopicRelay clusterTopicRelay = new ClusterTopicRelay(simpMessagingTemplate, null, null,
+                new ObjectMapper(), null, new SimpleMeterRegistry(), clusterMembershipService, mapStreamBuffer, false);
+        encodedFrameSender = new EncodedFrameSender(simpMessagingTemplate, new WireFormatRegistry(),
+                new ObjectMapper(), clusterTopicRelay, mapStreamBuffer, new SimpleMeterRegistry());
+
+        List<PlayerPosition> positionList = new ArrayList<>(FRAME_POSITIONS);
+        for (long playerId = 1; playerId <= FRAME_POSITIONS; playerId++) {
+            positionList.add(PlayerPosition.builder()
+                    .playerId(playerId)
+                    .x(100 + playerId * 7.25)
+                    .y(200 + playerId * 3.5)
+                    .d((short) (playerId % 4))
+                    .build());
+        }
+        snapshot = PlayerSnapshotResponse.builder()
+                .type(ActionType.P_SNAP)
+                .playerPositionList(positionList)
+                .build();
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        broker.handleMessage(message);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        broker.stop();
+    }
+
+    @Benchmark
+    public long topicConvertAndSend() {
+        simpMessagingTemplate.convertAndSend(TOPIC, snapshot);
+        return encodedBytes;
+    }
+
+    @Benchmark
+    public long topicEncodedFrame() {
+        encodedFrameSender.sendToTopic(TOPIC, snapshot);
+        return encodedBytes;
+    }
+
+    @Benchmark
+    public long perSessionConvertAndSend() {
+        for (String destination : sessionDestinations) {
+            simpMessagingTemplate.convertAndSend(destination, snapshot);
+        }
+        return encodedBytes;
+    }
+
+    @Benchmark
+    public long perSessionEncodedFrame() {
+        EncodedFrame frame = encodedFrameSender.encode(snapshot);
+        for (String destination : sessionDestinations) {
+            simpMessagingTemplate.send(destination, frame.toMessage(false));
+        }
+        return encodedBytes;
+    }
+}
@@ -0,0 +1,101 @@
+package com.rally.ai_land.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.common.websocket.PlayerStateBinaryCodec;
+import com.rally.ai_land.common.websocket.PlayerStateBinaryMessageConverter;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import com.rally.ai_land.domain.player.dto.PlayerSnapshotResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.sockjs.frame.Jackson2SockJsMessageCodec;
+import org.springframework.web.socket.sockjs.frame.SockJsFrame;
+import org.springframework.web.socket.sockjs.frame.SockJsMessageCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// [raw WebSocket] 세션 하나에 P_SNAP 프레임 하나를 내보낼 때의 CPU/할당/전송 bytes: /ws (SockJS) vs /ws-raw
+// 실행: ./gradlew jmh -Pjmh.includes=EndpointFramingBenchmark (gc 프로파일러 -> gc.alloc.rate.norm = 프레임 1개 할당 bytes)
+// - 프레임 1개 전송 bytes 는 Trial 시작 시 표로 출력 (포맷별로 고정)
+// - sockJsJson: JSON payload -> STOMP 인코딩 -> 문자열 -> SockJS "a[...]" (JSON 문자열 이스케이프) -> UTF-8
+//   (StompSubProtocolHandler 가 SockJS 세션에는 TextMessage(String) 으로, SockJS 세션이 다시 메시지 프레임으로 감싸 전송)
+// - rawJson: JSON payload -> STOMP 인코딩 -> text frame (컨테이너가 String 을 UTF-8 로 다시 인코딩)
+// - rawBinary: 바이너리 payload -> STOMP 인코딩 -> binary frame (변환 없음, /ws-raw + wire-format: binary 에서만 가능)
+// - WebSocket 프레임 헤더(2~10 bytes)와 전송은 제외
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EndpointFramingBenchmark {
+
+    @Param({"20", "100"})
+    private int positions;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StompEncoder stompEncoder = new StompEncoder();
+    private final SockJsMessageCodec sockJsMessageCodec = new Jackson2SockJsMessageCodec();
+
+    private PlayerSnapshotResponse snapshot;
+    private MessageHeaders jsonHeaders;
+    private MessageHeaders binaryHeaders;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        List<PlayerPosition> positionList = new ArrayList<>(positions);
+        for (long playerId = 1; playerId <= positions; playerId++) {
+            positionList.add(PlayerPosition.builder()
+                    .playerId(playerId)
+                    .x(100 + playerId * 7.25)
+                    .y(200 + playerId * 3.5)
+                    .d((short) (playerId % 4))
+                    .build());
+        }
+        snapshot = PlayerSnapshotResponse.builder()
+                .type(ActionType.P_SNAP)
+                .playerPositionList(positionList)
+                .build();
+
+        jsonHeaders = messageHeaders(MimeTypeUtils.APPLICATION_JSON);
+        binaryHeaders = messageHeaders(PlayerStateBinaryMessageConverter.BINARY_MIME_TYPE);
+
+        System.out.printf("%n[frame bytes] positions=%d sockJsJson=%d rawJson=%d rawBinary=%d%n",
+                positions, sockJsJson(), rawJson(), rawBinary());
+    }
+
+    private MessageHeaders messageHeaders(MimeType contentType) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination("/topic/map/1");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId("q7m2k1dn-42");
+        accessor.setContentType(contentType);
+        return accessor.getMessageHeaders();
+    }
+
+    @Benchmark
+    public int sockJsJson() throws JsonProcessingException {
+        byte[] stompFrame = stompEncoder.encode(jsonHeaders, objectMapper.writeValueAsBytes(snapshot));
+        String text = new String(stompFrame, StandardCharsets.UTF_8);
+        return SockJsFrame.messageFrame(sockJsMessageCodec, text).getContentBytes().length;
+    }
+
+    @Benchmark
+    public int rawJson() throws JsonProcessingException {
+        byte[] stompFrame = stompEncoder.encode(jsonHeaders, objectMapper.writeValueAsBytes(snapshot));
+        String text = new String(stompFrame, StandardCharsets.UTF_8);
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public int rawBinary() {
+        byte[] stompFrame = stompEncoder.encode(binaryHeaders, PlayerStateBinaryCodec.encodeResponse(snapshot));
+        return stompFrame.length;
+    }
+}
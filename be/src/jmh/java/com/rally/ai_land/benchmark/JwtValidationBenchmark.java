@@ -0,0 +1,44 @@
+package com.rally.ai_land.benchmark;
+
+import com.rally.ai_land.common.auth.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// [JWT] 검증 비용: JwtFilter(HTTP 요청마다), JwtChannelInterceptor(STOMP CONNECT 마다)
+// 실행: ./gradlew jmh -Pjmh.includes=JwtValidationBenchmark
+// - JwtUtil 은 be/.env 의 JWT_SECRET_KEY, JWT_*_EXPIRES_IN 을 읽으므로 be/.env 가 있어야 함
+// - interceptorPath: JwtChannelInterceptor 와 같은 순서 (isValid -> getUsername -> getRole, 서명 검증 3회)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtValidationBenchmark {
+
+    private String accessToken;
+    private String tamperedToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        accessToken = JwtUtil.createJWT("bench-user", "ROLE_USER", true);
+
+        // 서명 마지막 글자를 바꿔 위조 토큰 생성 (서명 검증 실패 경로)
+        char last = accessToken.charAt(accessToken.length() - 1);
+        tamperedToken = accessToken.substring(0, accessToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+
+    @Benchmark
+    public Boolean validAccessToken() {
+        return JwtUtil.isValid(accessToken, true);
+    }
+
+    @Benchmark
+    public Boolean tamperedAccessToken() {
+        return JwtUtil.isValid(tamperedToken, true);
+    }
+
+    @Benchmark
+    public String interceptorPath() {
+        if (!JwtUtil.isValid(accessToken, true)) return null;
+        return JwtUtil.getUsername(accessToken) + JwtUtil.getRole(accessToken);
+    }
+}
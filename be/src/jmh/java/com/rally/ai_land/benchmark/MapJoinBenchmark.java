@@ -0,0 +1,88 @@
+package com.rally.ai_land.benchmark;
+
+import com.rally.ai_land.domain.player.dto.PlayerJoinSnapshot;
+import com.rally.ai_land.domain.player.service.PlayerPositionStore;
+import com.rally.ai_land.domain.player.service.StateManagerService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// [맵 입장] 단계별 요청(before) vs Lua 스크립트 한 번의 왕복(after): 맵 인원 수별 입장 지연
+// 실행: redis-server 로컬 실행 후 ./gradlew jmh -Pjmh.includes=MapJoinBenchmark
+// - 접속 대상: -Dbench.redis.host (기본 localhost), -Dbench.redis.port (기본 6379), -Dbench.redis.db (기본 15)
+// - 주의: Setup 에서 대상 DB 를 FLUSHDB 하므로 벤치마크 전용 DB 번호를 사용할 것
+// - 입장 플레이어 정보는 미리 넣어두어 MySQL 조회 없이 Redis 비용만 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapJoinBenchmark {
+
+    private static final Long MAP_ID = 1L;
+    private static final String SESSION_ID = "bench-session";
+
+    @Param({"10", "100", "1000"})
+    private int population;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StateManagerService stateManagerService;
+    private Long joinPlayerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("bench.redis.host", "localhost"),
+                Integer.getInteger("bench.redis.port", 6379));
+        configuration.setDatabase(Integer.getInteger("bench.redis.db", 15));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushDb();
+        }
+
+        // 맵 인원 채우기 (+ 입장할 플레이어 정보)
+        for (long playerId = 1; playerId <= population + 1; playerId++) {
+            if (playerId <= population) {
+                redisTemplate.opsForSet().add("map:" + MAP_ID + ":players", String.valueOf(playerId));
+                redisTemplate.opsForHash().putAll("player:" + playerId + ":position",
+                        Map.of("x", String.valueOf(playerId % 1600), "y", String.valueOf(playerId % 896), "d", "2"));
+            }
+            redisTemplate.opsForHash().putAll("player:" + playerId + ":info",
+                    Map.of("mapId", String.valueOf(MAP_ID), "name", "player-" + playerId));
+        }
+        joinPlayerId = (long) population + 1;
+
+        // 닉네임 캐시는 입장 플레이어 정보가 이미 있으므로 사용하지 않음
+        stateManagerService = new StateManagerService(redisTemplate, null, new PlayerPositionStore());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public PlayerJoinSnapshot joinBySteps() {
+        return stateManagerService.joinMapBySteps(SESSION_ID, MAP_ID, joinPlayerId, true);
+    }
+
+    @Benchmark
+    public PlayerJoinSnapshot joinByScript() {
+        return stateManagerService.joinMapByScript(SESSION_ID, MAP_ID, joinPlayerId, true);
+    }
+}
@@ -0,0 +1,80 @@
+package com.rally.ai_land.benchmark;
+
+import com.rally.ai_land.domain.player.dto.PlayerInfo;
+import com.rally.ai_land.domain.player.service.PlayerPositionStore;
+import com.rally.ai_land.domain.player.service.StateManagerService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// [온라인 목록] getPlayersMapOnline (SMEMBERS + N 번 HGETALL 왕복) vs getPlayerMapOnlineByPipelining (SMEMBERS + N 번 HGETALL 한 번의 파이프라인)
+// 실행: redis-server 로컬 실행 후 ./gradlew jmh -Pjmh.includes=MapRosterBenchmark
+// - 접속 대상: -Dbench.redis.host (기본 localhost), -Dbench.redis.port (기본 6379), -Dbench.redis.db (기본 15)
+// - 주의: Setup 에서 대상 DB 를 FLUSHDB 하므로 벤치마크 전용 DB 번호를 사용할 것
+// - StateManagerService 의 "삭제 예정 (성능 테스트 후)" 판단 근거
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapRosterBenchmark {
+
+    private static final Long MAP_ID = 1L;
+
+    @Param({"10", "100", "1000"})
+    private int population;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StateManagerService stateManagerService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("bench.redis.host", "localhost"),
+                Integer.getInteger("bench.redis.port", 6379));
+        configuration.setDatabase(Integer.getInteger("bench.redis.db", 15));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushDb();
+        }
+
+        for (long playerId = 1; playerId <= population; playerId++) {
+            redisTemplate.opsForSet().add("map:" + MAP_ID + ":players", String.valueOf(playerId));
+            redisTemplate.opsForHash().putAll("player:" + playerId + ":info",
+                    Map.of("mapId", String.valueOf(MAP_ID), "name", "player-" + playerId));
+        }
+
+        stateManagerService = new StateManagerService(redisTemplate, null, new PlayerPositionStore());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public List<PlayerInfo> rosterByRoundTrips() {
+        return stateManagerService.getPlayersMapOnline(MAP_ID);
+    }
+
+    @Benchmark
+    public List<PlayerInfo> rosterByPipelining() {
+        return stateManagerService.getPlayerMapOnlineByPipelining(MAP_ID);
+    }
+}
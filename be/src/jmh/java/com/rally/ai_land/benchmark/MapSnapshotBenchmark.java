@@ -0,0 +1,92 @@
+package com.rally.ai_land.benchmark;
+
+import com.rally.ai_land.domain.player.dto.PlayerJoinSnapshot;
+import com.rally.ai_land.domain.player.service.PlayerPositionStore;
+import com.rally.ai_land.domain.player.service.StateManagerService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// [키 레이아웃] 맵 스냅샷 조회 지연: 플레이어 단위 키(SMEMBERS + N HGETALL) vs 맵 단위 키(HGETALL 2개, 한 번의 왕복)
+// 실행: redis-server 로컬 실행 후 ./gradlew jmh -Pjmh.includes=MapSnapshotBenchmark
+// - 접속 대상: -Dbench.redis.host (기본 localhost), -Dbench.redis.port (기본 6379), -Dbench.redis.db (기본 15)
+// - 주의: Setup 에서 대상 DB 를 FLUSHDB 하므로 벤치마크 전용 DB 번호를 사용할 것
+// - 로컬 포지션 테이블은 비워두어 Redis 조회 비용만 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapSnapshotBenchmark {
+
+    private static final Long MAP_ID = 1L;
+
+    @Param({"50", "500", "5000"})
+    private int population;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StateManagerService stateManagerService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("bench.redis.host", "localhost"),
+                Integer.getInteger("bench.redis.port", 6379));
+        configuration.setDatabase(Integer.getInteger("bench.redis.db", 15));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushDb();
+        }
+
+        // 같은 데이터를 두 레이아웃으로 적재
+        Map<String, String> mapPositionFields = new HashMap<>();
+        Map<String, String> mapInfoFields = new HashMap<>();
+        for (long playerId = 1; playerId <= population; playerId++) {
+            String x = String.valueOf((double) (playerId % 1600));
+            String y = String.valueOf((double) (playerId % 896));
+
+            redisTemplate.opsForSet().add("map:" + MAP_ID + ":players", String.valueOf(playerId));
+            redisTemplate.opsForHash().putAll("player:" + playerId + ":position", Map.of("x", x, "y", y, "d", "2"));
+            redisTemplate.opsForHash().putAll("player:" + playerId + ":info",
+                    Map.of("mapId", String.valueOf(MAP_ID), "name", "player-" + playerId));
+
+            mapPositionFields.put(String.valueOf(playerId), x + "," + y + ",2");
+            mapInfoFields.put(String.valueOf(playerId), "player-" + playerId);
+        }
+        redisTemplate.opsForHash().putAll("map:" + MAP_ID + ":pos", mapPositionFields);
+        redisTemplate.opsForHash().putAll("map:" + MAP_ID + ":info", mapInfoFields);
+
+        stateManagerService = new StateManagerService(redisTemplate, null, new PlayerPositionStore());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public PlayerJoinSnapshot snapshotByPlayerKeys() {
+        return stateManagerService.getMapSnapshotByPlayerKeys(MAP_ID);
+    }
+
+    @Benchmark
+    public PlayerJoinSnapshot snapshotByMapKeys() {
+        return stateManagerService.getMapSnapshotByMapKeys(MAP_ID);
+    }
+}
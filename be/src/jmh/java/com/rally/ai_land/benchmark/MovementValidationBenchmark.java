@@ -0,0 +1,86 @@
+package com.rally.ai_land.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.domain.map.service.MapMetadataRegistry;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerPositionUpdateRequest;
+import com.rally.ai_land.domain.player.service.MovementValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+// [이동 검증] P_MOVE 1건당 검증 비용 (목표: 1 µs 미만)
+// 실행: ./gradlew jmh -Pjmh.includes=MovementValidationBenchmark
+// - 맵: classpath 의 map1.tmj (빌드 시 fe/public/maps 에서 복사), 캐시는 임시 디렉터리
+// - players 명이 번갈아 이동: 트랙 조회 + 속도/경계/충돌 검사 + 카운터 증가
+// - validAccepted: 클라이언트 속도(150 px/s)로 100ms 마다 보낸 정상 이동
+// - overSpeedClamped: 허용 거리를 넘는 순간이동 -> 이동 방향으로 잘라냄
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MovementValidationBenchmark {
+
+    private static final Long MAP_ID = 1L;
+    private static final long STEP_NANOS = 100_000_000L;
+
+    @Param({"100"})
+    private int players;
+
+    private MovementValidator movementValidator;
+    private PlayerPositionUpdateRequest[] requests;
+    private long now;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        MapMetadataRegistry mapMetadataRegistry = new MapMetadataRegistry(new ObjectMapper(),
+                "classpath*:maps/*.tmj", Files.createTempDirectory("map-cache").toString());
+        mapMetadataRegistry.load();
+        if (mapMetadataRegistry.find(MAP_ID) == null) {
+            throw new IllegalStateException("map1.tmj 를 찾을 수 없습니다 (processResources 확인)");
+        }
+        movementValidator = new MovementValidator(true, 300, 32, 1000, mapMetadataRegistry, new SimpleMeterRegistry());
+
+        requests = new PlayerPositionUpdateRequest[players];
+        for (int i = 0; i < players; i++) {
+            long playerId = i + 1;
+            movementValidator.reset(MAP_ID, playerId, 800, 488, (short) 2, 0);
+            PlayerPositionUpdateRequest request = new PlayerPositionUpdateRequest();
+            request.setType(ActionType.P_MOVE);
+            request.setPlayerId(playerId);
+            requests[i] = request;
+        }
+    }
+
+    // 한 바퀴 (players 건) 마다 시간을 100ms 진행
+    private PlayerPositionUpdateRequest next() {
+        PlayerPositionUpdateRequest request = requests[cursor];
+        if (++cursor == players) {
+            cursor = 0;
+            now += STEP_NANOS;
+        }
+        return request;
+    }
+
+    @Benchmark
+    public MovementValidator.Verdict validAccepted() {
+        PlayerPositionUpdateRequest request = next();
+        // 좌우 왕복 15 px (150 px/s x 100ms)
+        request.setX(((now / STEP_NANOS) & 1) == 0 ? 800 : 815);
+        request.setY(488);
+        request.setDir((short) 4);
+        return movementValidator.validate(MAP_ID, request, now);
+    }
+
+    @Benchmark
+    public MovementValidator.Verdict overSpeedClamped() {
+        PlayerPositionUpdateRequest request = next();
+        request.setX(((now / STEP_NANOS) & 1) == 0 ? 100 : 1500);
+        request.setY(488);
+        request.setDir((short) 4);
+        return movementValidator.validate(MAP_ID, request, now);
+    }
+}
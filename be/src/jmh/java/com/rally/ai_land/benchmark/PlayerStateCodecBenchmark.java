@@ -0,0 +1,93 @@
+package com.rally.ai_land.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.common.websocket.PlayerStateBinaryCodec;
+import com.rally.ai_land.domain.player.dto.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// [바이너리 프로토콜] JSON vs 바이너리: 프레임 크기(bytes/frame), 인코딩/디코딩 ns/op
+// 실행: ./gradlew jmh -Pjmh.includes=PlayerStateCodecBenchmark
+// 프레임 크기는 Setup 에서 한 번 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlayerStateCodecBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PlayerPositionUpdateRequest moveRequest;
+    private PlayerPositionUpdateResponse moveResponse;
+
+    private byte[] jsonMoveRequest;
+    private byte[] binaryMoveRequest;
+    private byte[] jsonMoveResponse;
+    private byte[] binaryMoveResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        moveRequest = new PlayerPositionUpdateRequest();
+        moveRequest.setType(ActionType.P_MOVE);
+        moveRequest.setPlayerId(12345L);
+        moveRequest.setX(812.37);
+        moveRequest.setY(455.81);
+        moveRequest.setDir((short) 3);
+
+        moveResponse = PlayerPositionUpdateResponse.builder()
+                .type(ActionType.P_MOVE)
+                .playerId(12345L)
+                .x(812.37)
+                .y(455.81)
+                .dir((short) 3)
+                .build();
+
+        jsonMoveRequest = objectMapper.writeValueAsBytes(moveRequest);
+        binaryMoveRequest = PlayerStateBinaryCodec.encodeRequest(moveRequest);
+        jsonMoveResponse = objectMapper.writeValueAsBytes(moveResponse);
+        binaryMoveResponse = PlayerStateBinaryCodec.encodeResponse(moveResponse);
+
+        System.out.printf("%n[bytes/frame] P_MOVE request  json=%d binary=%d%n", jsonMoveRequest.length, binaryMoveRequest.length);
+        System.out.printf("[bytes/frame] P_MOVE response json=%d binary=%d%n", jsonMoveResponse.length, binaryMoveResponse.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncodeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(moveResponse);
+    }
+
+    @Benchmark
+    public byte[] binaryEncodeResponse() {
+        return PlayerStateBinaryCodec.encodeResponse(moveResponse);
+    }
+
+    @Benchmark
+    public PlayerStateRequest jsonDecodeRequest() throws Exception {
+        return objectMapper.readValue(jsonMoveRequest, PlayerStateRequest.class);
+    }
+
+    @Benchmark
+    public PlayerStateRequest binaryDecodeRequest() {
+        return PlayerStateBinaryCodec.decodeRequest(binaryMoveRequest);
+    }
+
+    @Benchmark
+    public byte[] jsonEncodeRequest() throws Exception {
+        return objectMapper.writeValueAsBytes(moveRequest);
+    }
+
+    @Benchmark
+    public byte[] binaryEncodeRequest() {
+        return PlayerStateBinaryCodec.encodeRequest(moveRequest);
+    }
+
+    @Benchmark
+    public PlayerStateResponse jsonDecodeResponse() throws Exception {
+        return objectMapper.readValue(jsonMoveResponse, PlayerStateResponse.class);
+    }
+
+    @Benchmark
+    public PlayerStateResponse binaryDecodeResponse() {
+        return PlayerStateBinaryCodec.decodeResponse(binaryMoveResponse);
+    }
+}
@@ -0,0 +1,85 @@
+package com.rally.ai_land.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import com.rally.ai_land.domain.player.dto.PlayerSnapshotResponse;
+import com.rally.ai_land.domain.player.dto.PlayerStateRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// [JSON 경로] 인바운드 PlayerStateRequest 다형성 역직렬화 ("t" 로 하위 타입 선택) / 아웃바운드 PlayerPosition 직렬화
+// 실행: ./gradlew jmh -Pjmh.includes=PlayerStateJsonBenchmark
+// - decode*: MappingJackson2MessageConverter 처럼 ObjectMapper.readValue 를 매번 호출 vs 미리 만든 ObjectReader
+// - encode*: P_SNAP 의 위치 하나 / 위치 positions 개를 담은 P_SNAP 전체
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlayerStateJsonBenchmark {
+
+    @Param({ActionType.P_JOIN, ActionType.P_MOVE, ActionType.P_LEAVE})
+    private String type;
+
+    @Param({"20"})
+    private int positions;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectReader requestReader = objectMapper.readerFor(PlayerStateRequest.class);
+    private final ObjectWriter positionWriter = objectMapper.writerFor(PlayerPosition.class);
+
+    private byte[] requestJson;
+    private PlayerPosition position;
+    private PlayerSnapshotResponse snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 프론트엔드(useMapWebSocket)가 보내는 형태 그대로
+        String json = switch (type) {
+            case ActionType.P_JOIN -> "{\"t\":\"P_JOIN\",\"p\":12345,\"n\":\"player-12345\"}";
+            case ActionType.P_MOVE -> "{\"t\":\"P_MOVE\",\"p\":12345,\"x\":812.37,\"y\":455.81,\"d\":3}";
+            default -> "{\"t\":\"P_LEAVE\",\"p\":12345}";
+        };
+        requestJson = json.getBytes(StandardCharsets.UTF_8);
+
+        List<PlayerPosition> positionList = new ArrayList<>(positions);
+        for (long playerId = 1; playerId <= positions; playerId++) {
+            positionList.add(PlayerPosition.builder()
+                    .playerId(playerId)
+                    .x(100 + playerId * 7.25)
+                    .y(200 + playerId * 3.5)
+                    .d((short) (playerId % 4))
+                    .build());
+        }
+        position = positionList.get(0);
+        snapshot = PlayerSnapshotResponse.builder()
+                .type(ActionType.P_SNAP)
+                .playerPositionList(positionList)
+                .build();
+    }
+
+    @Benchmark
+    public PlayerStateRequest decodeRequestWithMapper() throws Exception {
+        return objectMapper.readValue(requestJson, PlayerStateRequest.class);
+    }
+
+    @Benchmark
+    public PlayerStateRequest decodeRequestWithReader() throws Exception {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] encodePosition() throws Exception {
+        return positionWriter.writeValueAsBytes(position);
+    }
+
+    @Benchmark
+    public byte[] encodeSnapshot() throws Exception {
+        return objectMapper.writeValueAsBytes(snapshot);
+    }
+}
@@ -0,0 +1,47 @@
+package com.rally.ai_land.benchmark;
+
+import com.rally.ai_land.domain.agent.dto.MessageInput;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// [에이전트 대화] MessageInput.transformToPrompt: 요청마다 PromptTemplate 생성 + 렌더링 비용
+// 실행: ./gradlew jmh -Pjmh.includes=PromptBenchmark
+// - messages: 현재 대화 목록 길이 (AgentService.MAX_CONVERSATION_MESSAGE_LENGTH 전후)
+// - 과거 대화 요약은 약 2KB 고정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromptBenchmark {
+
+    @Param({"1", "10", "30"})
+    private int messages;
+
+    private MessageInput messageInput;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> currentMessageList = new ArrayList<>(messages);
+        for (int i = 0; i < messages; i++) {
+            currentMessageList.add((i % 2 == 0 ? "민수: " : "지은: ") + "오늘 광장에서 열리는 행사에 같이 가볼래? " + i);
+        }
+
+        messageInput = MessageInput.builder()
+                .senderAgentName("민수")
+                .senderAgentBasicInfo("28세, 카페 바리스타, 호기심이 많고 사람을 좋아함")
+                .senderAgentCoreInfo("지난주 지은과 영화 이야기를 나눴고, 지은이 공포 영화를 싫어한다는 것을 기억함")
+                .receiverAgentName("지은")
+                .receiverAgentBasicInfo("26세, 도서관 사서, 조용하지만 대화를 즐김")
+                .conversationHistory("민수와 지은은 최근 세 번 대화했다. ".repeat(60))
+                .currentMessageList(currentMessageList)
+                .build();
+    }
+
+    @Benchmark
+    public Prompt transformToPrompt() {
+        return messageInput.transformToPrompt(false);
+    }
+}
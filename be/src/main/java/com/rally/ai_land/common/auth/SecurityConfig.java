@@ -137,7 +137,10 @@ public class SecurityConfig {
                                                 .hasRole(UserRoleType.USER.name())
                                                 .requestMatchers(HttpMethod.DELETE, "/api/v1/users")
                                                 .hasRole(UserRoleType.USER.name())
-                                                .requestMatchers("/ws/**").permitAll() // WebSocket 해당 설정에서는 permit
+                                                .requestMatchers("/ws/**", "/ws-raw").permitAll() // WebSocket 해당 설정에서는 permit
+                                                .requestMatchers("/actuator/health").permitAll()
+                                                .requestMatchers("/actuator/**")
+                                                .hasRole(UserRoleType.ADMIN.name())
                                                 .anyRequest().authenticated());
 
                 // 예외 처리
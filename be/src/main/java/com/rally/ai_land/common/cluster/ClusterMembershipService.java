@@ -0,0 +1,176 @@
+package com.rally.ai_land.common.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// [클러스터 멤버십] Redis 기반 노드 목록 + 일관된 해시 링
+// - cluster.heartbeat-interval-ms 주기로 cluster:nodes (ZSET, 점수 = 마지막 heartbeat) 갱신, 접속 URL 은 cluster:node-urls
+// - heartbeat 가 cluster.node-ttl-ms 보다 오래된 노드는 스크립트가 정리 -> 살아 있는 노드 목록이 바뀌면 링을 다시 만들고
+//   MembershipChangedEvent 발행 (이전 링, 새 링)
+// - 종료 시 leave() 로 바로 빠짐 (다른 노드는 다음 heartbeat 에서 반영)
+// - Redis 에 닿지 못하면 마지막 링을 그대로 사용
+// - heartbeat 는 전용 스레드에서 (@Scheduled 스레드의 위치 flush, 재배치, 유령 정리가 밀려도 다른 노드 링에서 빠지지 않게)
+//   MembershipChangedEvent 리스너(맵 넘겨주기: 맵 별 Redis 쓰기)는 또 다른 전용 스레드에서 순서대로 실행
+@Component
+@Slf4j
+public class ClusterMembershipService {
+
+    private static final String NODES_KEY = "cluster:nodes";
+    private static final String NODE_URLS_KEY = "cluster:node-urls";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> HEARTBEAT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/cluster-heartbeat.lua"), List.class);
+
+    // 링이 바뀜 (이전 링, 새 링)
+    public record MembershipChangedEvent(ConsistentHashRing previous, ConsistentHashRing current) {
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final String nodeId;
+    private final String publicUrl;
+    private final long nodeTtlMs;
+    private final long heartbeatIntervalMs;
+    private final int virtualNodes;
+    private final ScheduledExecutorService heartbeatExecutor;
+    private final ExecutorService eventExecutor;
+
+    private volatile ConsistentHashRing ring;
+    private volatile boolean left;
+
+    public ClusterMembershipService(RedisTemplate<String, String> redisTemplate,
+                                    ApplicationEventPublisher applicationEventPublisher,
+                                    @Value("${cluster.node-id:}") String nodeId,
+                                    @Value("${cluster.public-url:}") String publicUrl,
+                                    @Value("${server.port:8080}") int serverPort,
+                                    @Value("${cluster.node-ttl-ms:6000}") long nodeTtlMs,
+                                    @Value("${cluster.heartbeat-interval-ms:2000}") long heartbeatIntervalMs,
+                                    @Value("${cluster.virtual-nodes:128}") int virtualNodes) {
+        this.redisTemplate = redisTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.publicUrl = StringUtils.hasText(publicUrl) ? publicUrl : "http://localhost:" + serverPort;
+        this.nodeTtlMs = nodeTtlMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.virtualNodes = virtualNodes;
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-membership-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.eventExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-membership-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 첫 heartbeat 전에는 이 노드 혼자
+        this.ring = new ConsistentHashRing(List.of(this.nodeId), virtualNodes);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getPublicUrl() {
+        return publicUrl;
+    }
+
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    public String ownerOf(long key) {
+        return ring.ownerOf(key);
+    }
+
+    public boolean isLocal(String ownerNodeId) {
+        return nodeId.equals(ownerNodeId);
+    }
+
+    // 노드 접속 URL (모르면 null)
+    public String urlOf(String ownerNodeId) {
+        if (isLocal(ownerNodeId)) return publicUrl;
+        Object url = redisTemplate.opsForHash().get(NODE_URLS_KEY, ownerNodeId);
+        return url == null ? null : String.valueOf(url);
+    }
+
+    @PostConstruct
+    public void start() {
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, 0, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeatExecutor.shutdownNow();
+        eventExecutor.shutdown();
+    }
+
+    // 호출 스레드: cluster-membership-heartbeat
+    public void heartbeat() {
+        if (left) return;
+
+        try {
+            List<?> aliveNodeIds = redisTemplate.execute(HEARTBEAT_SCRIPT, List.of(NODES_KEY, NODE_URLS_KEY),
+                    nodeId, publicUrl, String.valueOf(nodeTtlMs));
+            if (aliveNodeIds == null) return;
+
+            Set<String> nodeIds = new TreeSet<>();
+            aliveNodeIds.forEach(alive -> nodeIds.add(String.valueOf(alive)));
+            nodeIds.add(nodeId);
+            updateRing(nodeIds);
+        } catch (DataAccessException e) {
+            log.warn("[클러스터 멤버십] heartbeat 실패, 마지막 노드 목록을 유지합니다. nodeId: {}", nodeId, e);
+        } catch (RuntimeException e) {
+            // 예외가 밖으로 나가면 scheduleWithFixedDelay 가 이후 실행을 멈춤
+            log.error("[클러스터 멤버십] heartbeat 처리 실패. nodeId: {}", nodeId, e);
+        }
+    }
+
+    // [클러스터 멤버십] 종료: 목록에서 빠지고, 이 노드를 뺀 링 반환 (넘겨줄 맵의 새 소유 노드 계산용)
+    public ConsistentHashRing leave() {
+        left = true;
+        try {
+            redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+            redisTemplate.opsForHash().delete(NODE_URLS_KEY, nodeId);
+        } catch (DataAccessException e) {
+            log.warn("[클러스터 멤버십] 탈퇴 실패 (TTL 후 정리됨). nodeId: {}", nodeId, e);
+        }
+        return ring.without(nodeId, virtualNodes);
+    }
+
+    private void updateRing(Set<String> nodeIds) {
+        ConsistentHashRing previous = ring;
+        if (previous.nodeIds().equals(nodeIds)) return;
+
+        ConsistentHashRing current = new ConsistentHashRing(nodeIds, virtualNodes);
+        ring = current;
+        log.info("[클러스터 멤버십] 노드 목록 변경: {} -> {}", previous.nodeIds(), current.nodeIds());
+        MembershipChangedEvent event = new MembershipChangedEvent(previous, current);
+        eventExecutor.execute(() -> {
+            try {
+                applicationEventPublisher.publishEvent(event);
+            } catch (RuntimeException e) {
+                log.error("[클러스터 멤버십] 노드 목록 변경 처리 실패: {}", current.nodeIds(), e);
+            }
+        });
+    }
+}
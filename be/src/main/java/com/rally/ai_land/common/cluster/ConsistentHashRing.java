@@ -0,0 +1,72 @@
+package com.rally.ai_land.common.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+// [클러스터] 일관된 해시 링 (불변)
+// - 노드마다 가상 노드 virtualNodes 개를 링에 배치, 키는 시계 방향으로 처음 만나는 가상 노드의 노드에 배정
+// - 노드가 추가/제거되면 그 노드 구간의 키만 옮겨짐 (평균 1/N)
+// - 같은 노드 목록이면 어느 노드에서 만들어도 같은 배정 (해시는 JVM 과 무관한 FNV-1a + splitmix64)
+public final class ConsistentHashRing {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final SortedSet<String> nodeIds;
+
+    public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        this.nodeIds = Collections.unmodifiableSortedSet(new TreeSet<>(nodeIds));
+        for (String nodeId : this.nodeIds) {
+            for (int i = 0; i < virtualNodes; i++) {
+                // 해시 충돌 시 이름순으로 앞선 노드 유지 (노드 목록 순서와 무관하게 같은 결과)
+                ring.putIfAbsent(hash(nodeId + "#" + i), nodeId);
+            }
+        }
+    }
+
+    public SortedSet<String> nodeIds() {
+        return nodeIds;
+    }
+
+    public boolean isEmpty() {
+        return ring.isEmpty();
+    }
+
+    // 노드가 없으면 null
+    public String ownerOf(long key) {
+        if (ring.isEmpty()) return null;
+
+        Map.Entry<Long, String> entry = ring.ceilingEntry(mix(key));
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    public ConsistentHashRing without(String nodeId, int virtualNodes) {
+        TreeSet<String> remaining = new TreeSet<>(nodeIds);
+        remaining.remove(nodeId);
+        return new ConsistentHashRing(remaining, virtualNodes);
+    }
+
+    static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    // splitmix64 finalizer: 연속된 mapId 도 링 전체에 고르게 퍼지도록
+    static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,5 +1,6 @@
 package com.rally.ai_land.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -21,4 +22,28 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    // 맵 액터 드레인 작업용 (맵 하나당 동시에 최대 1개 작업만 제출되므로 큐 크기는 맵 수 이상이면 충분)
+    @Bean(name = "mapActorExecutor")
+    public Executor mapActorExecutor(@Value("${player.actor.threads:0}") int threads) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("map-actor-");
+        executor.initialize();
+        return executor;
+    }
+
+    // WebSocket 세션 송신 큐 드레인용 (세션 하나당 동시에 최대 1개 작업, 느린 세션이 전송 중 스레드를 점유하므로 여유 있게)
+    @Bean(name = "webSocketOutboundExecutor")
+    public Executor webSocketOutboundExecutor(@Value("${websocket.outbound.threads:0}") int threads) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors() * 2;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("ws-outbound-");
+        executor.initialize();
+        return executor;
+    }
+}
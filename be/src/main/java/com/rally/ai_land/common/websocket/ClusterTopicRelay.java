@@ -0,0 +1,241 @@
+package com.rally.ai_land.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.common.cluster.ClusterMembershipService;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerStateResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// [클러스터 릴레이] 여러 노드가 같은 맵을 나눠 가질 때 /topic/map/{mapId} 프레임을 Redis pub/sub 으로 중계
+// - 송신: EncodedFrameSender 가 로컬 심플 브로커로 보낸 뒤 이미 인코딩된 JSON 바이트를 map:{mapId}:relay 채널에 PUBLISH
+// - 수신: 이 노드에 해당 맵 세션이 있을 때만 구독 (PlayerSessionRegistry 가 retain/release 로 참조 수 관리)
+//   받은 프레임은 로컬 심플 브로커로 그대로 전달 (재인코딩 없음), 자기 노드가 보낸 프레임은 무시
+// - 받은 프레임도 MapStreamBuffer 에 순번을 붙여 보관 (재연결 이어받기 때 재전송)
+// - 다른 노드 프레임은 RemoteFrameEvent 로도 알림 (P_Init 스냅샷 등 노드 로컬 상태 갱신용)
+//   payload 앞부분의 "t" 만 보고 리스너가 쓰는 타입(P_JOIN, P_LEAVE, P_SNAP, P_NODE)만 역직렬화
+// - 메시지: [nodeId]\n[publishedAt epoch ms]\n[JSON] (nodeId: ClusterMembershipService)
+// - 측정: websocket.relay.messages{mapId, direction=published|received}, websocket.relay.latency{mapId} (PUBLISH ~ 수신, 노드 간 시계 차이 포함)
+//   맵 구독이 끝나면 해당 mapId 측정값 제거
+@Component
+@Slf4j
+public class ClusterTopicRelay {
+
+    public static final String MAP_TOPIC_PREFIX = "/topic/map/";
+    private static final byte SEPARATOR = '\n';
+    private static final byte[] JSON_TYPE_PREFIX = "{\"t\":\"".getBytes(StandardCharsets.UTF_8);
+    // RemoteFrameEvent 리스너가 쓰는 타입 (MapInitSnapshotService: 입장/퇴장/이동, MapOwnershipService: 넘겨주기)
+    private static final Set<String> EVENT_TYPES = Set.of(ActionType.P_JOIN, ActionType.P_LEAVE, ActionType.P_SNAP, ActionType.P_NODE);
+
+    // 다른 노드에서 중계된 맵 프레임 (로컬 전송 후 발행)
+    public record RemoteFrameEvent(Long mapId, PlayerStateResponse response) {
+    }
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final MapStreamBuffer mapStreamBuffer;
+    private final boolean enabled;
+    private final String nodeId;
+    private final byte[] nodeIdBytes;
+
+    private final Map<Long, MapSubscription> subscriptions = new ConcurrentHashMap<>();
+
+    public ClusterTopicRelay(SimpMessagingTemplate simpMessagingTemplate,
+                             RedisTemplate<String, String> redisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer,
+                             ObjectMapper objectMapper,
+                             ApplicationEventPublisher applicationEventPublisher,
+                             MeterRegistry meterRegistry,
+                             ClusterMembershipService clusterMembershipService,
+                             MapStreamBuffer mapStreamBuffer,
+                             @Value("${websocket.relay.enabled:false}") boolean enabled) {
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.mapStreamBuffer = mapStreamBuffer;
+        this.enabled = enabled;
+        this.nodeId = clusterMembershipService.getNodeId();
+        this.nodeIdBytes = this.nodeId.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int subscribedMapCount() {
+        return subscriptions.size();
+    }
+
+    // [클러스터 릴레이] 맵 토픽 프레임 PUBLISH (/topic/map/{mapId} 가 아닌 목적지는 무시)
+    public void publish(String destination, EncodedFrame frame) {
+        if (!enabled || !destination.startsWith(MAP_TOPIC_PREFIX)) return;
+
+        String mapId = destination.substring(MAP_TOPIC_PREFIX.length());
+        byte[] body = encodeEnvelope(frame.json());
+        byte[] channel = channelOf(mapId).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
+        meterRegistry.counter("websocket.relay.messages", "mapId", mapId, "direction", "published").increment();
+    }
+
+    // [클러스터 릴레이] 맵 구독 참조 수 증가 (0 -> 1 이면 SUBSCRIBE)
+    public void retain(Long mapId) {
+        if (!enabled) return;
+
+        subscriptions.compute(mapId, (id, subscription) -> {
+            if (subscription == null) {
+                subscription = new MapSubscription(id);
+                redisMessageListenerContainer.addMessageListener(subscription, subscription.topic);
+                log.debug("[클러스터 릴레이] 구독 시작 - mapId: {}", id);
+            }
+            subscription.references++;
+            return subscription;
+        });
+    }
+
+    // [클러스터 릴레이] 맵 구독 참조 수 감소 (0 이 되면 UNSUBSCRIBE)
+    public void release(Long mapId) {
+        if (!enabled) return;
+
+        subscriptions.computeIfPresent(mapId, (id, subscription) -> {
+            if (--subscription.references > 0) return subscription;
+            redisMessageListenerContainer.removeMessageListener(subscription, subscription.topic);
+            subscription.removeMeters();
+            log.debug("[클러스터 릴레이] 구독 종료 - mapId: {}", id);
+            return null;
+        });
+    }
+
+    private byte[] encodeEnvelope(byte[] json) {
+        byte[] publishedAt = String.valueOf(System.currentTimeMillis()).getBytes(StandardCharsets.US_ASCII);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(nodeIdBytes.length + publishedAt.length + json.length + 2);
+        out.writeBytes(nodeIdBytes);
+        out.write(SEPARATOR);
+        out.writeBytes(publishedAt);
+        out.write(SEPARATOR);
+        out.writeBytes(json);
+        return out.toByteArray();
+    }
+
+    private static String channelOf(Object mapId) {
+        return "map:" + mapId + ":relay";
+    }
+
+    private final class MapSubscription implements MessageListener {
+        private final Long mapId;
+        private final String destination;
+        private final ChannelTopic topic;
+        private final Timer latencyTimer;
+        private final Counter receivedCounter;
+        private int references;
+
+        MapSubscription(Long mapId) {
+            this.mapId = mapId;
+            this.destination = MAP_TOPIC_PREFIX + mapId;
+            this.topic = new ChannelTopic(channelOf(mapId));
+            this.latencyTimer = Timer.builder("websocket.relay.latency")
+                    .tag("mapId", String.valueOf(mapId))
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            this.receivedCounter = meterRegistry.counter("websocket.relay.messages", "mapId", String.valueOf(mapId), "direction", "received");
+        }
+
+        // 채널 id(맵 x 인스턴스)는 끝없이 늘어날 수 있으므로 구독을 끝낸 맵의 mapId 태그 측정값은 제거
+        // (같은 맵을 다시 구독하면 새로 등록)
+        void removeMeters() {
+            meterRegistry.remove(latencyTimer);
+            meterRegistry.remove(receivedCounter);
+            Counter publishedCounter = meterRegistry.find("websocket.relay.messages")
+                    .tags("mapId", String.valueOf(mapId), "direction", "published")
+                    .counter();
+            if (publishedCounter != null) meterRegistry.remove(publishedCounter);
+        }
+
+        // 호출 스레드: RedisMessageListenerContainer 의 리스너 스레드
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            byte[] body = message.getBody();
+            int nodeEnd = indexOf(body, 0);
+            int publishedAtEnd = nodeEnd < 0 ? -1 : indexOf(body, nodeEnd + 1);
+            if (publishedAtEnd < 0) {
+                log.warn("[클러스터 릴레이] 형식이 맞지 않는 메시지 무시 - mapId: {}", mapId);
+                return;
+            }
+            // 자기 노드가 보낸 프레임은 이미 로컬 전송됨
+            if (nodeEnd == nodeIdBytes.length
+                    && Arrays.equals(body, 0, nodeEnd, nodeIdBytes, 0, nodeIdBytes.length)) {
+                return;
+            }
+
+            try {
+                long publishedAt = Long.parseLong(new String(body, nodeEnd + 1, publishedAtEnd - nodeEnd - 1, StandardCharsets.US_ASCII));
+                latencyTimer.record(Math.max(0, System.currentTimeMillis() - publishedAt), TimeUnit.MILLISECONDS);
+            } catch (NumberFormatException e) {
+                // 지연 측정만 건너뛰고 프레임은 전달
+                log.warn("[클러스터 릴레이] 발행 시각 형식 오류 - mapId: {}", mapId);
+            }
+            receivedCounter.increment();
+
+            byte[] json = Arrays.copyOfRange(body, publishedAtEnd + 1, body.length);
+            // [맵 스트림] 다른 노드 프레임도 이 노드 구독자가 받은 맵 스트림의 일부 -> 순번 부여
+            long sequence = mapStreamBuffer.isEnabled() ? mapStreamBuffer.append(mapId, json) : 0;
+            simpMessagingTemplate.send(destination, EncodedFrame.message(json, false, sequence));
+
+            if (!isEventType(json)) return;
+            try {
+                applicationEventPublisher.publishEvent(
+                        new RemoteFrameEvent(mapId, objectMapper.readValue(json, PlayerStateResponse.class)));
+            } catch (Exception e) {
+                log.warn("[클러스터 릴레이] 프레임 해석 실패 - mapId: {}", mapId, e);
+            }
+        }
+
+        // "t" 가 첫 필드가 아니면 (직접 만든 프레임 등) 판별하지 않고 역직렬화
+        private boolean isEventType(byte[] json) {
+            int typeStart = JSON_TYPE_PREFIX.length;
+            if (json.length <= typeStart || !Arrays.equals(json, 0, typeStart, JSON_TYPE_PREFIX, 0, typeStart)) return true;
+
+            for (int i = typeStart; i < json.length; i++) {
+                if (json[i] == '"') return EVENT_TYPES.contains(new String(json, typeStart, i - typeStart, StandardCharsets.US_ASCII));
+            }
+            return true;
+        }
+
+        private int indexOf(byte[] body, int from) {
+            for (int i = from; i < body.length; i++) {
+                if (body[i] == SEPARATOR) return i;
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.rally.ai_land.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// [느린 소비자] 세션별 송신 큐 + 위치 프레임 합치기
+// - sendMessage 는 큐에 넣고 바로 반환, 실제 전송은 webSocketOutboundExecutor 에서 세션당 하나씩 순서대로
+//   (바깥의 ConcurrentWebSocketSessionDecorator 는 전송이 막히지 않으므로 자체 버퍼에 쌓지 않음)
+// - 위치만 담긴 P_SNAP: 큐 끝의 같은 목적지 P_SNAP 에 합치고, 큐에 남아 있는 같은 플레이어의 예전 위치는 제거
+// - 그 외 프레임(P_JOIN, P_LEAVE, P_Init, 채팅 등): 그대로 적재, 앞뒤 위치 프레임이 이 경계를 넘어 합쳐지지 않음
+// - 합친 뒤에도 한도(전송 시간, 대기 bytes)를 넘으면 SESSION_NOT_RELIABLE 로 연결 종료
+//   전송 시간은 새 프레임 적재 때 + 감시 스레드(OutboundConflationDecoratorFactory)가 주기적으로 확인
+//   -> 막힌 전송은 연결 종료로 풀려서 드레인 스레드가 다른 세션 전송으로 돌아감
+@Slf4j
+final class ConflatingWebSocketSession extends WebSocketSessionDecorator {
+
+    // 한 번 드레인에서 보낼 최대 프레임 수 (다른 세션에 스레드를 양보하기 위해)
+    private static final int DRAIN_BATCH_SIZE = 64;
+
+    private final Executor executor;
+    private final ObjectMapper objectMapper;
+    private final Metrics metrics;
+    private final long sendTimeLimitNanos;
+    private final int bufferSizeLimit;
+
+    // 아래 필드는 this 락으로 보호
+    private final Deque<Entry> queue = new ArrayDeque<>();
+    private final Map<PlayerKey, PositionBatch> latestBatchByPlayer = new HashMap<>();
+    private long queuedBytes;
+    private boolean sending;
+    private long sendStartNanos;
+    private boolean closed;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicLong messageIdSequence = new AtomicLong();
+
+    ConflatingWebSocketSession(WebSocketSession delegate, Executor executor, ObjectMapper objectMapper,
+                               Metrics metrics, long sendTimeLimitMs, int bufferSizeLimit) {
+        super(delegate);
+        this.executor = executor;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMs);
+        this.bufferSizeLimit = bufferSizeLimit;
+    }
+
+    record Metrics(Counter frames,
+                   Counter queuedPositions,
+                   Counter conflatedPositions,
+                   DistributionSummary queueDepth,
+                   Counter timeLimitClosed,
+                   Counter bufferLimitClosed) {
+
+        static Metrics of(MeterRegistry meterRegistry) {
+            return new Metrics(
+                    meterRegistry.counter("websocket.outbound.frames"),
+                    meterRegistry.counter("websocket.outbound.positions.queued"),
+                    meterRegistry.counter("websocket.outbound.positions.conflated"),
+                    DistributionSummary.builder("websocket.outbound.queue.depth")
+                            .publishPercentiles(0.5, 0.99)
+                            .register(meterRegistry),
+                    meterRegistry.counter("websocket.outbound.sessions.closed", "reason", "time-limit"),
+                    meterRegistry.counter("websocket.outbound.sessions.closed", "reason", "buffer-limit"));
+        }
+    }
+
+    private sealed interface Entry permits RawEntry, PositionBatch {
+    }
+
+    private record RawEntry(WebSocketMessage<?> message) implements Entry {
+    }
+
+    private record PlayerKey(StompPositionFrames.Route route, Long playerId) {
+    }
+
+    private static final class PositionBatch implements Entry {
+        private final StompPositionFrames.Route route;
+        // 원래 프레임 크기 / 위치 수 (대기 bytes 추정용)
+        private final int bytesPerPosition;
+        private final Map<Long, PlayerPosition> positions = new LinkedHashMap<>();
+        // 합친 프레임 중 가장 큰 seq 헤더 값 (없으면 0)
+        private long sequence;
+
+        PositionBatch(StompPositionFrames.Route route, int bytesPerPosition) {
+            this.route = route;
+            this.bytesPerPosition = bytesPerPosition;
+        }
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        // 밀린 게 없으면 파싱 없이 바로 적재 (대부분의 세션은 여기서 끝)
+        StompPositionFrames.PositionFrame positionFrame = isBacklogged()
+                ? StompPositionFrames.parse(message, objectMapper)
+                : null;
+
+        String limitExceeded;
+        synchronized (this) {
+            if (closed) return;
+
+            metrics.frames().increment();
+            if (positionFrame == null) {
+                queue.addLast(new RawEntry(message));
+                queuedBytes += message.getPayloadLength();
+            } else {
+                offerPositions(positionFrame);
+            }
+            metrics.queueDepth().record(queue.size());
+            limitExceeded = checkLimits();
+        }
+
+        if (limitExceeded != null) {
+            closeForLimit(limitExceeded);
+            return;
+        }
+        schedule();
+    }
+
+    // [느린 소비자] 전송 한 건이 시간 한도를 넘겨 막혀 있으면 연결 종료 후 true (새 프레임이 오지 않는 세션도 종료되도록)
+    // 호출 스레드: websocket-outbound-watchdog
+    boolean closeIfSendTimedOut() {
+        synchronized (this) {
+            if (closed || !sending || System.nanoTime() - sendStartNanos <= sendTimeLimitNanos) return false;
+            metrics.timeLimitClosed().increment();
+        }
+        closeForLimit("time-limit");
+        return true;
+    }
+
+    private synchronized boolean isBacklogged() {
+        return sending || !queue.isEmpty();
+    }
+
+    synchronized int depth() {
+        return queue.size();
+    }
+
+    synchronized long queuedBytes() {
+        return queuedBytes;
+    }
+
+    // 연결 종료 시 남은 프레임 폐기
+    synchronized void discard() {
+        closed = true;
+        queue.clear();
+        latestBatchByPlayer.clear();
+        queuedBytes = 0;
+    }
+
+    // this 락 안에서 호출
+    private void offerPositions(StompPositionFrames.PositionFrame positionFrame) {
+        StompPositionFrames.Route route = positionFrame.route();
+        int bytesPerPosition = Math.max(1, positionFrame.frameBytes() / positionFrame.positionList().size());
+
+        PositionBatch target = queue.peekLast() instanceof PositionBatch tail && tail.route.equals(route)
+                ? tail
+                : null;
+        if (target == null) {
+            target = new PositionBatch(route, bytesPerPosition);
+            queue.addLast(target);
+        }
+        target.sequence = Math.max(target.sequence, positionFrame.sequence());
+
+        for (PlayerPosition position : positionFrame.positionList()) {
+            PlayerKey key = new PlayerKey(route, position.getPlayerId());
+            PositionBatch previous = latestBatchByPlayer.put(key, target);
+            if (previous != null && previous.positions.remove(position.getPlayerId()) != null) {
+                metrics.conflatedPositions().increment();
+                queuedBytes -= previous.bytesPerPosition;
+                // 경계 사이에 남은 위치가 없으면 빈 프레임을 보내지 않도록 제거 (seq 는 뒤의 묶음이 이어받음)
+                if (previous != target && previous.positions.isEmpty()) {
+                    queue.remove(previous);
+                    target.sequence = Math.max(target.sequence, previous.sequence);
+                }
+            }
+            target.positions.put(position.getPlayerId(), position);
+            queuedBytes += target.bytesPerPosition;
+        }
+        metrics.queuedPositions().increment(positionFrame.positionList().size());
+    }
+
+    // this 락 안에서 호출, 한도를 넘었으면 사유 반환
+    private String checkLimits() {
+        if (sending && System.nanoTime() - sendStartNanos > sendTimeLimitNanos) {
+            metrics.timeLimitClosed().increment();
+            return "time-limit";
+        }
+        // 전송 중인 프레임 없이 하나만 대기 중이면 곧 나가므로 한도 검사 제외 (ConcurrentWebSocketSessionDecorator 와 같은 기준)
+        if ((sending || queue.size() > 1) && queuedBytes > bufferSizeLimit) {
+            metrics.bufferLimitClosed().increment();
+            return "buffer-limit";
+        }
+        return null;
+    }
+
+    private void closeForLimit(String reason) {
+        long bytes;
+        int depth;
+        synchronized (this) {
+            bytes = queuedBytes;
+            depth = queue.size();
+        }
+        log.warn("[느린 소비자] 송신 한도 초과로 연결 종료 sessionId={} reason={} queueDepth={} queuedBytes={}",
+                getId(), reason, depth, bytes);
+        discard();
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("[느린 소비자] sessionId={} 종료 실패", getId(), e);
+        }
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int sent = 0; sent < DRAIN_BATCH_SIZE; sent++) {
+                WebSocketMessage<?> message = pollNext();
+                if (message == null) break;
+
+                try {
+                    if (getDelegate().isOpen()) getDelegate().sendMessage(message);
+                } catch (IOException | RuntimeException e) {
+                    log.debug("[느린 소비자] sessionId={} 전송 실패, 남은 프레임 폐기", getId(), e);
+                    discard();
+                } finally {
+                    synchronized (this) {
+                        sending = false;
+                    }
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            // 플래그를 내리는 사이 들어온 프레임이 있으면 다시 예약
+            boolean pending;
+            synchronized (this) {
+                pending = !queue.isEmpty();
+            }
+            if (pending) schedule();
+        }
+    }
+
+    // 큐 맨 앞 프레임을 꺼내 전송 중으로 표시, 위치 묶음은 이 시점에 P_SNAP 프레임으로 조립
+    private WebSocketMessage<?> pollNext() {
+        PositionBatch batch;
+        synchronized (this) {
+            Entry entry = queue.pollFirst();
+            if (entry == null) return null;
+
+            sending = true;
+            sendStartNanos = System.nanoTime();
+            if (entry instanceof RawEntry raw) {
+                queuedBytes -= raw.message().getPayloadLength();
+                return raw.message();
+            }
+
+            batch = (PositionBatch) entry;
+            for (Long playerId : batch.positions.keySet()) {
+                latestBatchByPlayer.remove(new PlayerKey(batch.route, playerId), batch);
+            }
+            queuedBytes -= (long) batch.positions.size() * batch.bytesPerPosition;
+        }
+        // 꺼낸 묶음은 더 이상 수정되지 않으므로 락 밖에서 인코딩
+        return StompPositionFrames.encode(batch.route, batch.positions.values(),
+                getId() + "-c" + messageIdSequence.incrementAndGet(), batch.sequence, objectMapper);
+    }
+}
@@ -0,0 +1,82 @@
+package com.rally.ai_land.common.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.domain.player.dto.PlayerStateResponse;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+// [직렬화 1회] 한 번 인코딩한 응답 프레임을 여러 세션/목적지에 재사용
+// - JSON, 바이너리 바이트는 포맷별로 처음 필요할 때 한 번만 인코딩
+// - 인코딩한 배열은 이후 수정하지 않음 (모든 전송이 같은 배열을 읽기 전용으로 공유)
+// - 메시지 헤더만 전송마다 새로 생성 (SimpMessagingTemplate 이 목적지 헤더를 채우므로)
+public final class EncodedFrame {
+
+    private final PlayerStateResponse response;
+    private final ObjectMapper objectMapper;
+    private final Counter jsonEncodeCounter;
+    private final Counter binaryEncodeCounter;
+    private byte[] json;
+    private byte[] binary;
+    // [맵 스트림] MapStreamBuffer 순번 (없으면 0) -> seq 헤더
+    private volatile long sequence;
+
+    EncodedFrame(PlayerStateResponse response,
+                 ObjectMapper objectMapper,
+                 Counter jsonEncodeCounter,
+                 Counter binaryEncodeCounter) {
+        this.response = response;
+        this.objectMapper = objectMapper;
+        this.jsonEncodeCounter = jsonEncodeCounter;
+        this.binaryEncodeCounter = binaryEncodeCounter;
+    }
+
+    public synchronized byte[] json() {
+        if (json == null) {
+            try {
+                json = objectMapper.writeValueAsBytes(response);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("프레임 직렬화 실패: " + response.getType(), e);
+            }
+            jsonEncodeCounter.increment();
+        }
+        return json;
+    }
+
+    public synchronized byte[] binary() {
+        if (binary == null) {
+            binary = PlayerStateBinaryCodec.encodeResponse(response);
+            binaryEncodeCounter.increment();
+        }
+        return binary;
+    }
+
+    public long sequence() {
+        return sequence;
+    }
+
+    // AOI 시청자별 프레임은 같은 틱의 전체 프레임 순번을 이어받음
+    public void sequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    // 전송용 메시지: payload 는 공유, 헤더는 새로 생성 (mutable -> 전송 시 목적지 설정)
+    public Message<byte[]> toMessage(boolean binaryFormat) {
+        return message(binaryFormat ? binary() : json(), binaryFormat, sequence);
+    }
+
+    // 이미 인코딩된 payload 로 전송용 메시지 생성 (ClusterTopicRelay 가 중계받은 JSON 바이트, 이어받기 재전송에 사용)
+    static Message<byte[]> message(byte[] payload, boolean binaryFormat, long sequence) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(binaryFormat
+                ? PlayerStateBinaryMessageConverter.BINARY_MIME_TYPE
+                : MimeTypeUtils.APPLICATION_JSON);
+        if (sequence > 0) accessor.setNativeHeader(MapStreamBuffer.SEQUENCE_HEADER, String.valueOf(sequence));
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,137 @@
+package com.rally.ai_land.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.domain.player.dto.PlayerStateResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// [직렬화 1회] 플레이어 상태 응답 전송
+// - convertAndSend / convertAndSendToUser 는 전송마다 메시지 컨버터를 다시 거침
+//   -> 여기서는 EncodedFrame 으로 한 번 인코딩한 바이트를 SimpMessagingTemplate.send 로 그대로 전송
+// - /topic: 심플 브로커가 구독 세션 수만큼 같은 payload 배열로 팬아웃 (포맷이 섞이므로 항상 JSON)
+//   /topic/map/{mapId} 는 같은 JSON 바이트를 ClusterTopicRelay 로 다른 노드에도 중계, MapStreamBuffer 로 순번(seq 헤더) 부여
+// - 유저 개별: WireFormatRegistry 로 세션별 포맷 선택, 같은 프레임을 여러 유저에게 보내도 포맷별 인코딩은 한 번
+//   (바이너리 세션이 없는 유저는 유저 목적지로 한 번, 있으면 세션마다 sessionId 헤더를 붙여 전송)
+// - 측정: websocket.frame.encodes{format=json|binary} (인코딩 횟수), websocket.frame.sends (전송 수)
+@Component
+public class EncodedFrameSender {
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final WireFormatRegistry wireFormatRegistry;
+    private final ObjectMapper objectMapper;
+    private final ClusterTopicRelay clusterTopicRelay;
+    private final MapStreamBuffer mapStreamBuffer;
+    private final Counter jsonEncodeCounter;
+    private final Counter binaryEncodeCounter;
+    private final Counter sendCounter;
+
+    public EncodedFrameSender(SimpMessagingTemplate simpMessagingTemplate,
+                              WireFormatRegistry wireFormatRegistry,
+                              ObjectMapper objectMapper,
+                              ClusterTopicRelay clusterTopicRelay,
+                              MapStreamBuffer mapStreamBuffer,
+                              MeterRegistry meterRegistry) {
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.wireFormatRegistry = wireFormatRegistry;
+        this.objectMapper = objectMapper;
+        this.clusterTopicRelay = clusterTopicRelay;
+        this.mapStreamBuffer = mapStreamBuffer;
+        this.jsonEncodeCounter = meterRegistry.counter("websocket.frame.encodes", "format", "json");
+        this.binaryEncodeCounter = meterRegistry.counter("websocket.frame.encodes", "format", "binary");
+        this.sendCounter = meterRegistry.counter("websocket.frame.sends");
+    }
+
+    // 인코딩은 실제로 필요한 포맷만, 처음 전송할 때 수행
+    public EncodedFrame encode(PlayerStateResponse response) {
+        return new EncodedFrame(response, objectMapper, jsonEncodeCounter, binaryEncodeCounter);
+    }
+
+    public void sendToTopic(String destination, PlayerStateResponse response) {
+        sendToTopic(destination, encode(response));
+    }
+
+    public void sendToTopic(String destination, EncodedFrame frame) {
+        appendToMapStream(destination, frame);
+        simpMessagingTemplate.send(destination, frame.toMessage(false));
+        sendCounter.increment();
+        clusterTopicRelay.publish(destination, frame);
+    }
+
+    // 로컬 전송 없이 다른 노드에만 중계 (AOI 사용 시: 로컬은 시청자별 전송, 다른 노드는 /topic 으로 전체 프레임)
+    public void relayToTopic(String destination, PlayerStateResponse response) {
+        relayToTopic(destination, encode(response));
+    }
+
+    public void relayToTopic(String destination, EncodedFrame frame) {
+        appendToMapStream(destination, frame);
+        if (clusterTopicRelay.isEnabled()) clusterTopicRelay.publish(destination, frame);
+    }
+
+    // [맵 스트림] /topic/map/{mapId} 프레임에 순번 부여 + 재연결 이어받기용으로 보관
+    private void appendToMapStream(String destination, EncodedFrame frame) {
+        if (!mapStreamBuffer.isEnabled()) return;
+        Long mapId = MapStreamBuffer.mapIdOf(destination);
+        if (mapId != null) frame.sequence(mapStreamBuffer.append(mapId, frame.json()));
+    }
+
+    public void sendToUser(String username, String destination, PlayerStateResponse response) {
+        sendToUser(username, destination, encode(response));
+    }
+
+    // 실제 전송 경로: /user/{username}{destination} (convertAndSendToUser 와 같은 규칙)
+    public void sendToUser(String username, String destination, EncodedFrame frame) {
+        String userDestination = userDestination(username, destination);
+        Map<String, Boolean> sessionFormats = wireFormatRegistry.sessionFormatsOf(username);
+        if (!sessionFormats.containsValue(Boolean.TRUE)) {
+            simpMessagingTemplate.send(userDestination, frame.toMessage(false));
+            sendCounter.increment();
+            return;
+        }
+        sessionFormats.forEach((sessionId, binary) ->
+                sendWithSessionId(userDestination, sessionId, frame.toMessage(binary)));
+    }
+
+    // 유저의 세션 하나에만 전송 (같은 유저의 다른 탭/기기에는 보내지 않음)
+    // sessionId 헤더가 있으면 UserDestinationResolver 가 해당 세션의 구독으로만 변환
+    public void sendToSession(String username, String sessionId, String destination, PlayerStateResponse response) {
+        sendWithSessionId(userDestination(username, destination), sessionId,
+                encode(response).toMessage(wireFormatRegistry.isBinary(username, sessionId)));
+    }
+
+    // [맵 스트림] 이어받기: 놓친 맵 프레임을 순번 그대로 세션 하나에 재전송 (맵 토픽 프레임이므로 JSON)
+    public void replayToSession(String username, String sessionId, String destination, List<MapStreamBuffer.Frame> frames) {
+        String userDestination = userDestination(username, destination);
+        for (MapStreamBuffer.Frame frame : frames) {
+            sendWithSessionId(userDestination, sessionId, EncodedFrame.message(frame.json(), false, frame.sequence()));
+        }
+    }
+
+    private String userDestination(String username, String destination) {
+        return simpMessagingTemplate.getUserDestinationPrefix() + username.replace("/", "%2F") + destination;
+    }
+
+    private void sendWithSessionId(String userDestination, String sessionId, Message<byte[]> message) {
+        SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+        if (accessor != null) accessor.setSessionId(sessionId);
+        simpMessagingTemplate.send(userDestination, message);
+        sendCounter.increment();
+    }
+
+    public void sendToUsers(Collection<String> usernames, String destination, PlayerStateResponse response) {
+        if (usernames.isEmpty()) return;
+
+        EncodedFrame frame = encode(response);
+        for (String username : usernames) {
+            sendToUser(username, destination, frame);
+        }
+    }
+}
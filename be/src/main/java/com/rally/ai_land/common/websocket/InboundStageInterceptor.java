@@ -0,0 +1,135 @@
+package com.rally.ai_land.common.websocket;
+
+import com.rally.ai_land.common.websocket.InboundStageMetrics.Stage;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// [수신 지연 측정] clientInboundChannel 단계 구분
+// - entryStamp(): 인터셉터 체인 맨 앞, 채널 진입 시각과 메시지 type 을 헤더에 기록
+// - 이 인터셉터: 체인 맨 뒤
+//   preSend: interceptor 단계 (진입 ~ 체인 통과)
+//   beforeHandle: queue 단계 (체인 통과 ~ 실행기 스레드 시작)
+//   afterMessageHandled: handler 단계 (@MessageMapping 핸들러만)
+// - 실행기에서는 핸들러(컨트롤러, 브로커, 유저 destination)마다 별도 작업이므로 시작 시각은 스레드 로컬로 보관
+@Component
+@RequiredArgsConstructor
+public class InboundStageInterceptor implements ExecutorChannelInterceptor {
+
+    public static final String RECEIVED_AT_HEADER = "ailand.inbound.receivedAt";
+    public static final String INTERCEPTED_AT_HEADER = "ailand.inbound.interceptedAt";
+    public static final String TYPE_HEADER = "ailand.inbound.type";
+
+    private static final byte[] JSON_TYPE_PREFIX = "{\"t\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final String[] REQUEST_TYPES = {ActionType.P_JOIN, ActionType.P_LEAVE, ActionType.P_MOVE, ActionType.P_RESUME};
+
+    private final InboundStageMetrics inboundStageMetrics;
+
+    // 같은 스레드에서 beforeHandle -> 핸들러 -> afterMessageHandled 순으로 호출됨
+    private final ThreadLocal<long[]> handlerStartedAt = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final ChannelInterceptor entryStamp = new ChannelInterceptor() {
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            if (!inboundStageMetrics.isEnabled()) return message;
+            StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+            if (accessor == null || accessor.getCommand() == null || !accessor.isMutable()) return message;
+
+            accessor.setHeader(RECEIVED_AT_HEADER, System.nanoTime());
+            accessor.setHeader(TYPE_HEADER, typeOf(accessor, message.getPayload()));
+            return message;
+        }
+    };
+
+    // WebSocketConfig 에서 인터셉터 체인 맨 앞에 등록
+    public ChannelInterceptor entryStamp() {
+        return entryStamp;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !(accessor.getHeader(RECEIVED_AT_HEADER) instanceof Long receivedAt)) return message;
+
+        inboundStageMetrics.record(Stage.INTERCEPTOR, accessor.getDestination(),
+                (String) accessor.getHeader(TYPE_HEADER), receivedAt);
+        if (accessor.isMutable()) accessor.setHeader(INTERCEPTED_AT_HEADER, System.nanoTime());
+        return message;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler)) return message;
+        if (!(message.getHeaders().get(INTERCEPTED_AT_HEADER) instanceof Long interceptedAt)) return message;
+
+        inboundStageMetrics.record(Stage.QUEUE, destinationOf(message), typeOf(message), interceptedAt);
+        handlerStartedAt.get()[0] = System.nanoTime();
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler)) return;
+        long[] startedAt = handlerStartedAt.get();
+        if (startedAt[0] == 0) return;
+
+        inboundStageMetrics.record(Stage.HANDLER, destinationOf(message), typeOf(message), startedAt[0]);
+        startedAt[0] = 0;
+    }
+
+    private static String destinationOf(Message<?> message) {
+        return StompHeaderAccessor.getDestination(message.getHeaders());
+    }
+
+    private static String typeOf(Message<?> message) {
+        return (String) message.getHeaders().get(TYPE_HEADER);
+    }
+
+    // SEND: payload 앞부분만 보고 ActionType 판별 (역직렬화 전이므로)
+    // - JSON: {"t":"P_MOVE", ... 형태 (프론트엔드는 t 를 첫 필드로 보냄)
+    // - 바이너리: 첫 바이트 opcode
+    // 그 외 명령은 STOMP 명령 이름 (CONNECT 의 interceptor 단계 = JWT 검증 비용)
+    static String typeOf(StompHeaderAccessor accessor, Object payload) {
+        if (!StompCommand.SEND.equals(accessor.getCommand())) return accessor.getCommand().name();
+        if (!(payload instanceof byte[] bytes) || bytes.length == 0) return InboundStageMetrics.UNKNOWN;
+
+        if (bytes[0] == '{') return jsonTypeOf(bytes);
+        try {
+            return ActionType.fromOpcode(bytes[0]);
+        } catch (IllegalArgumentException e) {
+            return InboundStageMetrics.UNKNOWN;
+        }
+    }
+
+    private static String jsonTypeOf(byte[] bytes) {
+        if (bytes.length <= JSON_TYPE_PREFIX.length) return InboundStageMetrics.UNKNOWN;
+        for (int i = 0; i < JSON_TYPE_PREFIX.length; i++) {
+            if (bytes[i] != JSON_TYPE_PREFIX[i]) return InboundStageMetrics.UNKNOWN;
+        }
+        for (String type : REQUEST_TYPES) {
+            if (matchesAt(bytes, JSON_TYPE_PREFIX.length, type)) return type;
+        }
+        return InboundStageMetrics.UNKNOWN;
+    }
+
+    // type 문자열 뒤에 닫는 따옴표까지 일치해야 함
+    private static boolean matchesAt(byte[] bytes, int offset, String type) {
+        int end = offset + type.length();
+        if (end >= bytes.length || bytes[end] != '"') return false;
+        for (int i = 0; i < type.length(); i++) {
+            if (bytes[offset + i] != type.charAt(i)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,102 @@
+package com.rally.ai_land.common.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// [수신 지연 측정] 인바운드 STOMP 메시지 단계별 지연 히스토그램
+// - websocket.inbound.stage.latency{stage, destination, type} (Actuator /actuator/metrics 로 조회)
+// - destination 의 숫자 경로는 {id} 로 치환 (/app/map/3 -> /app/map/{id}) 해서 태그 수를 맵 수와 무관하게 유지
+// - type: SEND 는 ActionType (P_JOIN, P_MOVE ...), 그 외에는 STOMP 명령 (CONNECT, SUBSCRIBE ...)
+// - websocket.inbound.timing-enabled=false 면 기록하지 않음
+@Component
+public class InboundStageMetrics {
+
+    // PlayerController(@MessageMapping("/map/{mapId}")) 의 치환된 destination
+    public static final String MAP_DESTINATION = "/app/map/{id}";
+    public static final String UNKNOWN = "unknown";
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    // 치환 결과 캐시 한도 (임의 destination 으로 캐시가 계속 커지지 않도록)
+    private static final int MAX_CACHED_DESTINATIONS = 1024;
+
+    public enum Stage {
+        // 채널 진입 ~ 인터셉터 체인 통과 (JWT 인증, 포맷 협상)
+        INTERCEPTOR("interceptor"),
+        // clientInboundChannel 실행기 대기
+        QUEUE("queue"),
+        // @MessageMapping 처리: payload 변환 + 컨트롤러 (맵 액터 적재까지)
+        HANDLER("handler"),
+        // 맵 액터에서 PlayerService 처리 전체
+        SERVICE("service"),
+        // PlayerService 안의 Redis 호출
+        REDIS("redis"),
+        // 브로커/세션/맵 틱으로 송신 위임
+        DISPATCH("dispatch");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private record TimerKey(Stage stage, String destination, String type) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, String> normalizedDestinations = new ConcurrentHashMap<>();
+
+    public InboundStageMetrics(MeterRegistry meterRegistry,
+                               @Value("${websocket.inbound.timing-enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // startNanos: System.nanoTime() 기준 단계 시작 시각
+    public void record(Stage stage, String destination, String type, long startNanos) {
+        if (!enabled) return;
+        long elapsed = System.nanoTime() - startNanos;
+        timerOf(stage, normalize(destination), type == null ? UNKNOWN : type)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    String normalize(String destination) {
+        if (destination == null) return UNKNOWN;
+        String normalized = normalizedDestinations.get(destination);
+        if (normalized != null) return normalized;
+
+        normalized = NUMERIC_SEGMENT.matcher(destination).replaceAll("/{id}");
+        if (normalizedDestinations.size() < MAX_CACHED_DESTINATIONS) {
+            normalizedDestinations.put(destination, normalized);
+        }
+        return normalized;
+    }
+
+    private Timer timerOf(Stage stage, String destination, String type) {
+        return timers.computeIfAbsent(new TimerKey(stage, destination, type), key ->
+                Timer.builder("websocket.inbound.stage.latency")
+                        .tag("stage", key.stage().tag)
+                        .tag("destination", key.destination())
+                        .tag("type", key.type())
+                        .publishPercentiles(0.5, 0.99, 0.999)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(1_000))
+                        .maximumExpectedValue(Duration.ofSeconds(1))
+                        .register(meterRegistry));
+    }
+}
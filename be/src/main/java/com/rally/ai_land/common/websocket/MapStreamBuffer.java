@@ -0,0 +1,130 @@
+package com.rally.ai_land.common.websocket;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// [맵 스트림] 맵 별 프레임 순번 + 최근 프레임 링 버퍼 (재연결 이어받기용, 노드 로컬)
+// - 맵 전체에 해당하는 프레임(/topic/map/{mapId} 전송, AOI 사용 시 중계용 전체 프레임, 다른 노드에서 중계된 프레임)에
+//   1 부터 증가하는 순번을 붙이고 JSON 바이트를 최근 player.resume.buffer-size 개까지 보관
+// - 순번은 STOMP MESSAGE 의 seq 헤더로 전송 (payload 는 그대로) -> 클라이언트는 받은 최대 seq 를 기억
+// - since(mapId, lastSeq): lastSeq 이후 프레임, 버퍼에서 이미 밀려났으면 null (-> 전체 P_Init 으로 대체)
+// - 이 노드에 세션(유예 중 포함)이 있는 맵만 보관: PlayerSessionRegistry 가 retain/release 로 참조 수 관리
+//   마지막 세션이 나가면 버퍼 제거, 세션이 없는 맵의 프레임은 순번 없이 전송
+// - 측정: player.resume.replay.frames (이어받기 한 번에 재전송한 프레임 수), player.resume.streams (보관 중인 맵 수)
+@Component
+public class MapStreamBuffer {
+
+    public static final String SEQUENCE_HEADER = "seq";
+
+    private final boolean enabled;
+    private final int capacity;
+    private final DistributionSummary replaySummary;
+    private final Map<Long, Stream> streams = new ConcurrentHashMap<>();
+
+    public MapStreamBuffer(MeterRegistry meterRegistry,
+                           @Value("${player.resume.enabled:true}") boolean enabled,
+                           @Value("${player.resume.buffer-size:256}") int capacity) {
+        this.enabled = enabled;
+        this.capacity = Math.max(1, capacity);
+        this.replaySummary = DistributionSummary.builder("player.resume.replay.frames")
+                .baseUnit("frames")
+                .register(meterRegistry);
+        meterRegistry.gauge("player.resume.streams", streams, Map::size);
+    }
+
+    public record Frame(long sequence, byte[] json) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 맵 세션 참조 수 증가 (0 -> 1 이면 버퍼 생성)
+    public void retain(Long mapId) {
+        if (!enabled) return;
+
+        streams.compute(mapId, (id, stream) -> {
+            if (stream == null) stream = new Stream(capacity);
+            stream.references++;
+            return stream;
+        });
+    }
+
+    // 맵 세션 참조 수 감소 (0 이 되면 버퍼 제거)
+    public void release(Long mapId) {
+        if (!enabled) return;
+
+        streams.computeIfPresent(mapId, (id, stream) -> --stream.references > 0 ? stream : null);
+    }
+
+    // 순번을 붙여 보관하고 그 순번 반환, 이 노드에 세션이 없는 맵이면 0 (순번 없음)
+    public long append(Long mapId, byte[] json) {
+        Stream stream = streams.get(mapId);
+        return stream == null ? 0 : stream.append(json);
+    }
+
+    // 맵의 마지막 순번 (프레임이 없으면 0)
+    public long headOf(Long mapId) {
+        Stream stream = streams.get(mapId);
+        return stream == null ? 0 : stream.head();
+    }
+
+    // lastSequence 이후 프레임 (순번 순), 놓친 구간이 버퍼에 없으면 null
+    public List<Frame> since(Long mapId, long lastSequence) {
+        Stream stream = streams.get(mapId);
+        List<Frame> missed = stream == null
+                ? (lastSequence == 0 ? List.of() : null)
+                : stream.since(lastSequence);
+        if (missed != null) replaySummary.record(missed.size());
+        return missed;
+    }
+
+    // /topic/map/{mapId} 이면 mapId, 아니면 null
+    public static Long mapIdOf(String destination) {
+        if (!destination.startsWith(ClusterTopicRelay.MAP_TOPIC_PREFIX)) return null;
+        try {
+            return Long.valueOf(destination.substring(ClusterTopicRelay.MAP_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class Stream {
+        private final Frame[] ring;
+        private long head;
+        // streams.compute 안에서만 변경
+        private int references;
+
+        Stream(int capacity) {
+            this.ring = new Frame[capacity];
+        }
+
+        synchronized long append(byte[] json) {
+            long sequence = ++head;
+            ring[(int) (sequence % ring.length)] = new Frame(sequence, json);
+            return sequence;
+        }
+
+        synchronized long head() {
+            return head;
+        }
+
+        synchronized List<Frame> since(long lastSequence) {
+            // 다른 스트림(노드 재시작 등)의 순번이거나 버퍼보다 오래 끊겼음
+            if (lastSequence > head || head - lastSequence > ring.length) return null;
+
+            List<Frame> missed = new ArrayList<>((int) (head - lastSequence));
+            for (long sequence = lastSequence + 1; sequence <= head; sequence++) {
+                missed.add(ring[(int) (sequence % ring.length)]);
+            }
+            return missed;
+        }
+    }
+}
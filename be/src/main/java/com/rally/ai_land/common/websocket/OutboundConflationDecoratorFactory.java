@@ -0,0 +1,127 @@
+package com.rally.ai_land.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// [느린 소비자] 연결마다 세션을 ConflatingWebSocketSession 으로 감싸는 핸들러 데코레이터
+// - WebSocketConfig.configureWebSocketTransport 에서 등록, 비활성화(websocket.outbound.conflation-enabled=false) 시 기존 동작
+// - 측정 (세션별 태그 없이 합산, 한도 초과 세션은 로그로 남김)
+//   websocket.outbound.frames, websocket.outbound.positions.queued / conflated, websocket.outbound.conflation.ratio,
+//   websocket.outbound.queue.depth (적재 시점 세션 큐 깊이 분포), websocket.outbound.queue.depth.max,
+//   websocket.outbound.sessions.closed{reason=time-limit|buffer-limit}
+// - 감시 스레드: 전송 시간 한도의 1/4 주기(100ms 이상)로 모든 세션의 막힌 전송을 확인해서 종료
+//   (드레인 스레드는 공유 풀이므로 막힌 전송 하나가 스레드를 붙잡고 있으면 다른 세션 전송이 밀림)
+@Component
+@Slf4j
+public class OutboundConflationDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+
+    private final Executor webSocketOutboundExecutor;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long sendTimeLimitMs;
+    private final int bufferSizeLimit;
+    private final ConflatingWebSocketSession.Metrics metrics;
+    private final ScheduledExecutorService watchdogExecutor;
+
+    private final Map<String, ConflatingWebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    public OutboundConflationDecoratorFactory(@Qualifier("webSocketOutboundExecutor") Executor webSocketOutboundExecutor,
+                                              ObjectMapper objectMapper,
+                                              MeterRegistry meterRegistry,
+                                              @Value("${websocket.outbound.conflation-enabled:true}") boolean enabled,
+                                              @Value("${websocket.outbound.send-time-limit-ms:10000}") long sendTimeLimitMs,
+                                              @Value("${websocket.outbound.buffer-size-limit:524288}") int bufferSizeLimit) {
+        this.webSocketOutboundExecutor = webSocketOutboundExecutor;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.metrics = ConflatingWebSocketSession.Metrics.of(meterRegistry);
+
+        Gauge.builder("websocket.outbound.conflation.ratio", this, OutboundConflationDecoratorFactory::conflationRatio)
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.queue.depth.max", this, OutboundConflationDecoratorFactory::maxQueueDepth)
+                .register(meterRegistry);
+
+        this.watchdogExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "websocket-outbound-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            long intervalMs = Math.max(100, sendTimeLimitMs / 4);
+            watchdogExecutor.scheduleWithFixedDelay(this::closeTimedOutSends, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        if (!enabled) return handler;
+
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                ConflatingWebSocketSession conflatingSession = new ConflatingWebSocketSession(
+                        session, webSocketOutboundExecutor, objectMapper, metrics, sendTimeLimitMs, bufferSizeLimit);
+                sessions.put(session.getId(), conflatingSession);
+                super.afterConnectionEstablished(conflatingSession);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                ConflatingWebSocketSession conflatingSession = sessions.remove(session.getId());
+                if (conflatingSession != null) conflatingSession.discard();
+                super.afterConnectionClosed(conflatingSession != null ? conflatingSession : session, closeStatus);
+            }
+        };
+    }
+
+    // 호출 스레드: websocket-outbound-watchdog
+    void closeTimedOutSends() {
+        for (ConflatingWebSocketSession session : sessions.values()) {
+            try {
+                session.closeIfSendTimedOut();
+            } catch (RuntimeException e) {
+                // 예외가 밖으로 나가면 scheduleWithFixedDelay 가 이후 실행을 멈춤
+                log.warn("[느린 소비자] sessionId={} 전송 시간 확인 실패", session.getId(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdogExecutor.shutdownNow();
+    }
+
+    // 적재된 위치 중 더 새로운 위치에 덮여 보내지 않은 비율
+    private double conflationRatio() {
+        double queued = metrics.queuedPositions().count();
+        return queued == 0 ? 0 : metrics.conflatedPositions().count() / queued;
+    }
+
+    private double maxQueueDepth() {
+        int max = 0;
+        for (ConflatingWebSocketSession session : sessions.values()) {
+            max = Math.max(max, session.depth());
+        }
+        return max;
+    }
+}
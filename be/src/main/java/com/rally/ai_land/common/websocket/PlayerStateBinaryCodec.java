@@ -0,0 +1,382 @@
+package com.rally.ai_land.common.websocket;
+
+import com.rally.ai_land.domain.player.dto.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// [바이너리 프로토콜] 플레이어 상태 프레임 인코딩/디코딩
+// 프레임: [opcode:u8][playerId:varint] + 타입별 본문
+// - 좌표: 16비트 고정소수점 (1/COORD_SCALE px 단위, 0 ~ 65535/COORD_SCALE px)
+// - 방향: u8
+// - ID, 길이: unsigned varint (LEB128), null ID 는 0
+// - 문자열: [길이:varint][UTF-8]
+public final class PlayerStateBinaryCodec {
+    private PlayerStateBinaryCodec() {} // 객체 생성 금지
+
+    public static final int COORD_SCALE = 4;
+    private static final int MAX_FIXED = 0xFFFF;
+
+    // 목록 항목의 최소 바이트 수 (목록 길이 검증용)
+    private static final int MIN_ID_BYTES = 1;       // [id:varint]
+    private static final int MIN_INFO_BYTES = 2;     // [id:varint][name 길이:varint]
+    private static final int MIN_POSITION_BYTES = 6; // [id:varint][x:u16][y:u16][d:u8]
+
+    // ===== 요청 (클라이언트 -> 서버) =====
+
+    public static byte[] encodeRequest(PlayerStateRequest request) {
+        Writer writer = new Writer(32);
+        byte opcode = ActionType.toOpcode(request.getType());
+        writer.writeByte(opcode);
+        writer.writeId(request.getPlayerId());
+
+        switch (opcode) {
+            case ActionType.OP_JOIN -> writer.writeString(((PlayerJoinRequest) request).getName());
+            case ActionType.OP_LEAVE -> { }
+            case ActionType.OP_MOVE -> {
+                PlayerPositionUpdateRequest move = (PlayerPositionUpdateRequest) request;
+                writer.writeCoord(move.getX());
+                writer.writeCoord(move.getY());
+                writer.writeByte(move.getDir());
+            }
+            case ActionType.OP_RESUME -> {
+                PlayerResumeRequest resume = (PlayerResumeRequest) request;
+                writer.writeString(resume.getResumeToken());
+                writer.writeVarint(resume.getLastSequence());
+            }
+            default -> throw new IllegalArgumentException("요청으로 보낼 수 없는 opcode: " + opcode);
+        }
+        return writer.toByteArray();
+    }
+
+    public static PlayerStateRequest decodeRequest(byte[] frame) {
+        Reader reader = new Reader(frame);
+        byte opcode = reader.readByte();
+        Long playerId = reader.readId();
+
+        PlayerStateRequest request = switch (opcode) {
+            case ActionType.OP_JOIN -> {
+                PlayerJoinRequest join = new PlayerJoinRequest();
+                join.setName(reader.readString());
+                yield join;
+            }
+            case ActionType.OP_LEAVE -> new PlayerLeaveRequest();
+            case ActionType.OP_MOVE -> {
+                PlayerPositionUpdateRequest move = new PlayerPositionUpdateRequest();
+                move.setX(reader.readCoord());
+                move.setY(reader.readCoord());
+                move.setDir(reader.readByte());
+                yield move;
+            }
+            case ActionType.OP_RESUME -> {
+                PlayerResumeRequest resume = new PlayerResumeRequest();
+                resume.setResumeToken(reader.readString());
+                resume.setLastSequence(reader.readVarint());
+                yield resume;
+            }
+            default -> throw new IllegalArgumentException("요청으로 받을 수 없는 opcode: " + opcode);
+        };
+        request.setType(ActionType.fromOpcode(opcode));
+        request.setPlayerId(playerId);
+        return request;
+    }
+
+    // ===== 응답 (서버 -> 클라이언트) =====
+
+    public static byte[] encodeResponse(PlayerStateResponse response) {
+        Writer writer = new Writer(64);
+        byte opcode = ActionType.toOpcode(response.getType());
+        writer.writeByte(opcode);
+        writer.writeId(response.getPlayerId());
+
+        switch (opcode) {
+            case ActionType.OP_INIT -> {
+                PlayerInitResponse init = (PlayerInitResponse) response;
+                writeInfoList(writer, init.getPlayerInfoList());
+                writePositionList(writer, init.getPlayerPositionList());
+            }
+            case ActionType.OP_JOIN -> {
+                PlayerJoinResponse join = (PlayerJoinResponse) response;
+                writer.writeString(join.getName());
+                writePosition(writer, join.getPlayerPosition());
+            }
+            case ActionType.OP_LEAVE -> { }
+            case ActionType.OP_MOVE, ActionType.OP_CORR -> {
+                PlayerPositionUpdateResponse move = (PlayerPositionUpdateResponse) response;
+                writer.writeCoord(move.getX());
+                writer.writeCoord(move.getY());
+                writer.writeByte(move.getDir());
+            }
+            case ActionType.OP_SNAP -> {
+                PlayerSnapshotResponse snap = (PlayerSnapshotResponse) response;
+                writePositionList(writer, snap.getPlayerPositionList());
+                writeInfoList(writer, snap.getEnteredPlayerList());
+                List<Long> exitedList = snap.getExitedPlayerIdList();
+                writer.writeVarint(exitedList == null ? 0 : exitedList.size());
+                if (exitedList != null) exitedList.forEach(writer::writeId);
+            }
+            case ActionType.OP_INST -> {
+                PlayerInstanceResponse instance = (PlayerInstanceResponse) response;
+                writer.writeVarint(instance.getInstanceId());
+                writer.writeId(instance.getChannelId());
+            }
+            case ActionType.OP_NODE -> {
+                PlayerNodeResponse node = (PlayerNodeResponse) response;
+                writer.writeString(node.getNodeId());
+                writer.writeString(node.getUrl());
+            }
+            case ActionType.OP_RESUME -> {
+                PlayerResumeResponse resume = (PlayerResumeResponse) response;
+                writer.writeString(resume.getResumeToken());
+                // 0: 토큰 발급, 1: 이어받기 성공, 2: 실패
+                writer.writeByte(resume.getResumed() == null ? 0 : resume.getResumed() ? 1 : 2);
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 opcode: " + opcode);
+        }
+        return writer.toByteArray();
+    }
+
+    public static PlayerStateResponse decodeResponse(byte[] frame) {
+        Reader reader = new Reader(frame);
+        byte opcode = reader.readByte();
+        Long playerId = reader.readId();
+        String type = ActionType.fromOpcode(opcode);
+
+        return switch (opcode) {
+            case ActionType.OP_INIT -> PlayerInitResponse.builder()
+                    .type(type)
+                    .playerId(playerId)
+                    .playerInfoList(readInfoList(reader))
+                    .playerPositionList(readPositionList(reader))
+                    .build();
+            case ActionType.OP_JOIN -> PlayerJoinResponse.builder()
+                    .type(type)
+                    .playerId(playerId)
+                    .name(reader.readString())
+                    .playerPosition(readPosition(reader))
+                    .build();
+            case ActionType.OP_LEAVE -> PlayerLeaveResponse.builder()
+                    .type(type)
+                    .playerId(playerId)
+                    .build();
+            case ActionType.OP_MOVE, ActionType.OP_CORR -> PlayerPositionUpdateResponse.builder()
+                    .type(type)
+                    .playerId(playerId)
+                    .x(reader.readCoord())
+                    .y(reader.readCoord())
+                    .dir(reader.readByte())
+                    .build();
+            case ActionType.OP_SNAP -> {
+                List<PlayerPosition> positionList = readPositionList(reader);
+                List<PlayerInfo> enteredList = readInfoList(reader);
+                int exitedCount = reader.readCount(MIN_ID_BYTES);
+                List<Long> exitedList = new ArrayList<>(exitedCount);
+                for (int i = 0; i < exitedCount; i++) exitedList.add(reader.readId());
+                yield PlayerSnapshotResponse.builder()
+                        .type(type)
+                        .playerId(playerId)
+                        .playerPositionList(positionList)
+                        .enteredPlayerList(enteredList)
+                        .exitedPlayerIdList(exitedList)
+                        .build();
+            }
+            case ActionType.OP_INST -> PlayerInstanceResponse.builder()
+                    .type(type)
+                    .playerId(playerId)
+                    .instanceId((int) reader.readVarint())
+                    .channelId(reader.readId())
+                    .build();
+            case ActionType.OP_NODE -> PlayerNodeResponse.builder()
+                    .type(type)
+                    .playerId(playerId)
+                    .nodeId(reader.readString())
+                    .url(reader.readString())
+                    .build();
+            case ActionType.OP_RESUME -> {
+                String resumeToken = reader.readString();
+                byte resumed = reader.readByte();
+                yield PlayerResumeResponse.builder()
+                        .type(type)
+                        .playerId(playerId)
+                        .resumeToken(resumeToken)
+                        .resumed(resumed == 0 ? null : resumed == 1)
+                        .build();
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 opcode: " + opcode);
+        };
+    }
+
+    private static void writeInfoList(Writer writer, List<PlayerInfo> infoList) {
+        writer.writeVarint(infoList == null ? 0 : infoList.size());
+        if (infoList == null) return;
+        for (PlayerInfo info : infoList) {
+            writer.writeId(info.getPlayerId());
+            writer.writeString(info.getName());
+        }
+    }
+
+    private static List<PlayerInfo> readInfoList(Reader reader) {
+        int count = reader.readCount(MIN_INFO_BYTES);
+        List<PlayerInfo> infoList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            infoList.add(PlayerInfo.builder()
+                    .playerId(reader.readId())
+                    .name(reader.readString())
+                    .build());
+        }
+        return infoList;
+    }
+
+    private static void writePositionList(Writer writer, List<PlayerPosition> positionList) {
+        writer.writeVarint(positionList == null ? 0 : positionList.size());
+        if (positionList == null) return;
+        for (PlayerPosition position : positionList) {
+            writePosition(writer, position);
+        }
+    }
+
+    private static List<PlayerPosition> readPositionList(Reader reader) {
+        int count = reader.readCount(MIN_POSITION_BYTES);
+        List<PlayerPosition> positionList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            positionList.add(readPosition(reader));
+        }
+        return positionList;
+    }
+
+    private static void writePosition(Writer writer, PlayerPosition position) {
+        writer.writeId(position.getPlayerId());
+        writer.writeCoord(position.getX());
+        writer.writeCoord(position.getY());
+        writer.writeByte(position.getD());
+    }
+
+    private static PlayerPosition readPosition(Reader reader) {
+        return PlayerPosition.builder()
+                .playerId(reader.readId())
+                .x(reader.readCoord())
+                .y(reader.readCoord())
+                .d(reader.readByte())
+                .build();
+    }
+
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeId(Long id) {
+            writeVarint(id == null ? 0 : id);
+        }
+
+        // 맵 밖 좌표는 0 ~ 최대값으로 보정
+        void writeCoord(double value) {
+            int fixed = (int) Math.round(value * COORD_SCALE);
+            fixed = Math.max(0, Math.min(MAX_FIXED, fixed));
+            ensure(2);
+            buffer[position++] = (byte) (fixed >>> 8);
+            buffer[position++] = (byte) fixed;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensure(int size) {
+            if (position + size > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + size));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        byte readByte() {
+            checkRemaining(1);
+            return buffer[position++];
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IllegalArgumentException("잘못된 varint");
+        }
+
+        // 목록 길이: 남은 바이트에 다 들어갈 수 없는 개수면 목록을 만들기 전에 거부 (조작된 프레임의 큰 할당 방지)
+        int readCount(int minEntryBytes) {
+            long count = readVarint();
+            if (count < 0 || count > (buffer.length - position) / minEntryBytes) {
+                throw new IllegalArgumentException("잘못된 목록 길이: " + count);
+            }
+            return (int) count;
+        }
+
+        Long readId() {
+            long id = readVarint();
+            return id == 0 ? null : id;
+        }
+
+        double readCoord() {
+            checkRemaining(2);
+            int fixed = ((buffer[position] & 0xFF) << 8) | (buffer[position + 1] & 0xFF);
+            position += 2;
+            return (double) fixed / COORD_SCALE;
+        }
+
+        String readString() {
+            int length = (int) readVarint();
+            if (length == 0) return null;
+            checkRemaining(length);
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private void checkRemaining(int size) {
+            if (size < 0 || size > buffer.length - position) {
+                throw new IllegalArgumentException("프레임 길이가 부족합니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.rally.ai_land.common.websocket;
+
+import com.rally.ai_land.domain.player.dto.PlayerStateRequest;
+import com.rally.ai_land.domain.player.dto.PlayerStateResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.util.MimeType;
+
+import java.util.Map;
+
+// [바이너리 프로토콜] STOMP payload <-> 플레이어 상태 DTO
+// - content-type 이 BINARY_MIME_TYPE 일 때만 동작 (그 외에는 JSON 컨버터로 넘어감)
+// - application/octet-stream 계열이라 raw WebSocket 에서는 binary frame 으로 전송됨
+public class PlayerStateBinaryMessageConverter extends AbstractMessageConverter {
+
+    public static final MimeType BINARY_MIME_TYPE = new MimeType("application", "octet-stream",
+            Map.of("proto", "ailand-state"));
+
+    public PlayerStateBinaryMessageConverter() {
+        super(BINARY_MIME_TYPE);
+        // content-type 이 없는 메시지(JSON 기본 경로)는 절대 가로채지 않음
+        setStrictContentTypeMatch(true);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PlayerStateRequest.class.isAssignableFrom(clazz) || PlayerStateResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        if (!(message.getPayload() instanceof byte[] frame)) return null;
+
+        if (PlayerStateRequest.class.isAssignableFrom(targetClass)) {
+            return PlayerStateBinaryCodec.decodeRequest(frame);
+        }
+        return PlayerStateBinaryCodec.decodeResponse(frame);
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        if (payload instanceof PlayerStateResponse response) {
+            return PlayerStateBinaryCodec.encodeResponse(response);
+        }
+        return PlayerStateBinaryCodec.encodeRequest((PlayerStateRequest) payload);
+    }
+}
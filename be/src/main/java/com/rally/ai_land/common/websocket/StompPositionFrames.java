@@ -0,0 +1,180 @@
+package com.rally.ai_land.common.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import com.rally.ai_land.domain.player.dto.PlayerSnapshotResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// [느린 소비자] 세션으로 나가는 STOMP MESSAGE 프레임 중 합칠 수 있는 위치 프레임 파싱 / 합친 프레임 재조립
+// - 합칠 수 있는 프레임: P_SNAP 중 en/ex 가 비어 있는 것 (위치 목록만 있는 틱 프레임)
+// - JSON: PlayerStateResponse 필드 순서상 "t" 가 맨 앞이라 접두사로 먼저 거름 -> 나머지 프레임은 파싱하지 않음
+// - 바이너리: PlayerStateBinaryCodec 의 OP_SNAP
+// - seq 헤더(MapStreamBuffer 순번)는 합친 프레임 중 가장 큰 값으로 다시 붙임 (클라이언트의 lastSequence 가 계속 올라가도록)
+final class StompPositionFrames {
+    private StompPositionFrames() {} // 객체 생성 금지
+
+    private static final byte[] JSON_SNAP_PREFIX = ("{\"t\":\"" + ActionType.P_SNAP + "\"").getBytes(StandardCharsets.UTF_8);
+
+    private static final StompDecoder STOMP_DECODER = new StompDecoder();
+    private static final StompEncoder STOMP_ENCODER = new StompEncoder();
+
+    // 같은 Route 의 위치 프레임끼리만 합침
+    record Route(String destination, String subscriptionId, MimeType contentType, boolean binaryMessage) {
+    }
+
+    // sequence: seq 헤더 값 (없으면 0)
+    record PositionFrame(Route route, List<PlayerPosition> positionList, int frameBytes, long sequence) {
+    }
+
+    // 합칠 수 없는 프레임이면 null
+    static PositionFrame parse(WebSocketMessage<?> message, ObjectMapper objectMapper) {
+        byte[] bytes;
+        if (message instanceof TextMessage textMessage) {
+            bytes = textMessage.asBytes();
+        } else if (message instanceof BinaryMessage binaryMessage) {
+            ByteBuffer buffer = binaryMessage.getPayload().duplicate();
+            bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+        } else {
+            return null;
+        }
+
+        List<Message<byte[]>> decoded;
+        try {
+            decoded = STOMP_DECODER.decode(ByteBuffer.wrap(bytes));
+        } catch (RuntimeException e) {
+            return null;
+        }
+        if (decoded.size() != 1) return null;
+
+        Message<byte[]> frame = decoded.get(0);
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(frame);
+        if (!StompCommand.MESSAGE.equals(accessor.getCommand())) return null;
+
+        String contentTypeHeader = accessor.getFirstNativeHeader(StompHeaderAccessor.STOMP_CONTENT_TYPE_HEADER);
+        MimeType contentType = contentTypeHeader == null ? null : MimeTypeUtils.parseMimeType(contentTypeHeader);
+        List<PlayerPosition> positionList = readPositions(frame.getPayload(), contentType, objectMapper);
+        if (positionList == null || positionList.isEmpty()) return null;
+
+        Route route = new Route(
+                accessor.getFirstNativeHeader(StompHeaderAccessor.STOMP_DESTINATION_HEADER),
+                accessor.getFirstNativeHeader(StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER),
+                contentType,
+                message instanceof BinaryMessage);
+        return new PositionFrame(route, positionList, bytes.length, sequenceOf(accessor));
+    }
+
+    // 합친 위치들로 P_SNAP 프레임 하나를 다시 만듦 (원래 프레임과 같은 목적지/구독/포맷)
+    static WebSocketMessage<?> encode(Route route, Collection<PlayerPosition> positions, String messageId, long sequence,
+                                      ObjectMapper objectMapper) {
+        PlayerSnapshotResponse snapshot = PlayerSnapshotResponse.builder()
+                .type(ActionType.P_SNAP)
+                .playerPositionList(new ArrayList<>(positions))
+                .build();
+
+        byte[] payload;
+        if (isBinary(route.contentType())) {
+            payload = PlayerStateBinaryCodec.encodeResponse(snapshot);
+        } else {
+            try {
+                payload = objectMapper.writeValueAsBytes(snapshot);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("P_SNAP 직렬화 실패", e);
+            }
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(route.destination());
+        accessor.setSubscriptionId(route.subscriptionId());
+        accessor.setMessageId(messageId);
+        if (route.contentType() != null) accessor.setContentType(route.contentType());
+        if (sequence > 0) accessor.setNativeHeader(MapStreamBuffer.SEQUENCE_HEADER, String.valueOf(sequence));
+
+        byte[] frame = STOMP_ENCODER.encode(accessor.getMessageHeaders(), payload);
+        return route.binaryMessage() ? new BinaryMessage(frame) : new TextMessage(frame);
+    }
+
+    private static long sequenceOf(StompHeaderAccessor accessor) {
+        String sequence = accessor.getFirstNativeHeader(MapStreamBuffer.SEQUENCE_HEADER);
+        if (sequence == null) return 0;
+        try {
+            return Long.parseLong(sequence);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static List<PlayerPosition> readPositions(byte[] payload, MimeType contentType, ObjectMapper objectMapper) {
+        if (isBinary(contentType)) {
+            if (payload.length == 0 || payload[0] != ActionType.OP_SNAP) return null;
+            try {
+                PlayerSnapshotResponse snapshot = (PlayerSnapshotResponse) PlayerStateBinaryCodec.decodeResponse(payload);
+                if (hasElements(snapshot.getEnteredPlayerList()) || hasElements(snapshot.getExitedPlayerIdList())) return null;
+                return snapshot.getPlayerPositionList();
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        if (!startsWith(payload, JSON_SNAP_PREFIX)) return null;
+        try {
+            JsonNode root = objectMapper.readTree(payload);
+            if (hasElements(root.get("en")) || hasElements(root.get("ex"))) return null;
+
+            JsonNode positionNodes = root.get("ps");
+            if (positionNodes == null || !positionNodes.isArray()) return null;
+
+            List<PlayerPosition> positionList = new ArrayList<>(positionNodes.size());
+            for (JsonNode node : positionNodes) {
+                positionList.add(PlayerPosition.builder()
+                        .playerId(node.path("playerId").asLong())
+                        .x(node.path("x").asDouble())
+                        .y(node.path("y").asDouble())
+                        .d((short) node.path("d").asInt())
+                        .build());
+            }
+            return positionList;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static boolean isBinary(MimeType contentType) {
+        return PlayerStateBinaryMessageConverter.BINARY_MIME_TYPE.equals(contentType);
+    }
+
+    private static boolean hasElements(List<?> list) {
+        return list != null && !list.isEmpty();
+    }
+
+    private static boolean hasElements(JsonNode node) {
+        return node != null && node.isArray() && !node.isEmpty();
+    }
+
+    private static boolean startsWith(byte[] payload, byte[] prefix) {
+        if (payload.length < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if (payload[i] != prefix[i]) return false;
+        }
+        return true;
+    }
+}
@@ -1,30 +1,101 @@
 package com.rally.ai_land.common.websocket;
 
+import jakarta.websocket.server.ServerContainer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.context.ServletContextAware;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String SERVER_CONTAINER_ATTRIBUTE = ServerContainer.class.getName();
+
     private final JwtChannelInterceptor jwtChannelInterceptor;
+    private final WireFormatRegistry wireFormatRegistry;
+    private final OutboundConflationDecoratorFactory outboundConflationDecoratorFactory;
+    private final InboundStageInterceptor inboundStageInterceptor;
 
     @Value("${cors.allowed-origins}")
     private String[] allowedOrigins;
 
+    @Value("${websocket.container.max-text-message-buffer-size:65536}")
+    private int maxTextMessageBufferSize;
+
+    @Value("${websocket.container.max-binary-message-buffer-size:65536}")
+    private int maxBinaryMessageBufferSize;
+
+    @Value("${websocket.container.max-session-idle-timeout-ms:60000}")
+    private long maxSessionIdleTimeoutMs;
+
+    @Value("${websocket.container.async-send-timeout-ms:5000}")
+    private long asyncSendTimeoutMs;
+
+    @Value("${websocket.stomp.message-size-limit:65536}")
+    private int messageSizeLimit;
+
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // 기존 클라이언트용 (SockJS 프레이밍 + 폴백 전송)
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns(allowedOrigins)
                 .withSockJS();
+
+        // 게임 트래픽용 네이티브 WebSocket (SockJS 없음, 바이너리 payload 는 binary frame 으로 전송)
+        // 인증은 채널 인터셉터(JwtChannelInterceptor)에서 하므로 두 엔드포인트가 동일
+        registry.addEndpoint("/ws-raw")
+                .setAllowedOriginPatterns(allowedOrigins)
+                .addInterceptors(rawTransportMarker());
+    }
+
+    // /ws-raw 로 연결한 세션 표시 (WireFormatRegistry 가 바이너리 협상 허용 여부 판단에 사용)
+    private HandshakeInterceptor rawTransportMarker() {
+        return new HandshakeInterceptor() {
+            @Override
+            public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                           WebSocketHandler wsHandler, Map<String, Object> attributes) {
+                attributes.put(WireFormatRegistry.RAW_TRANSPORT_ATTRIBUTE, Boolean.TRUE);
+                return true;
+            }
+
+            @Override
+            public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                       WebSocketHandler wsHandler, Exception exception) {
+            }
+        };
+    }
+
+    // 서블릿 컨테이너(Tomcat) WebSocket 설정: 프레임 버퍼 크기, 유휴 종료 시간, 비동기 전송 타임아웃
+    // - 유휴 시간은 클라이언트 STOMP heartbeat(outgoing) 간격보다 충분히 길게
+    // - ServletServerContainerFactoryBean 대신 직접 설정: MockServletContext(@SpringBootTest) 에는 ServerContainer 가 없으므로 건너뜀
+    @Bean
+    public ServletContextAware webSocketContainerSettings() {
+        return servletContext -> {
+            if (!(servletContext.getAttribute(SERVER_CONTAINER_ATTRIBUTE) instanceof ServerContainer container)) return;
+
+            container.setDefaultMaxTextMessageBufferSize(maxTextMessageBufferSize);
+            container.setDefaultMaxBinaryMessageBufferSize(maxBinaryMessageBufferSize);
+            container.setDefaultMaxSessionIdleTimeout(maxSessionIdleTimeoutMs);
+            container.setAsyncSendTimeout(asyncSendTimeoutMs);
+        };
     }
 
     @Override
@@ -43,7 +114,27 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        // STOMP 메시지 수신 시 JWT 인증 처리
-        registration.interceptors(jwtChannelInterceptor);
+        // STOMP 메시지 수신 시 JWT 인증 처리 -> 인증된 유저 기준으로 payload 포맷 협상
+        // 단계별 지연 측정: 진입 시각 기록(맨 앞) ~ 체인 통과/실행기/핸들러 기록(맨 뒤)
+        registration.interceptors(inboundStageInterceptor.entryStamp(),
+                jwtChannelInterceptor,
+                wireFormatRegistry,
+                inboundStageInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션 송신 큐: 느린 클라이언트에게 밀린 위치 프레임은 합쳐서 보내고, 그래도 한도를 넘으면 연결 종료
+        registration.addDecoratorFactory(outboundConflationDecoratorFactory);
+        // 수신 STOMP 메시지 최대 크기 (컨테이너 프레임 버퍼와 맞춤)
+        registration.setMessageSizeLimit(messageSizeLimit);
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        // 바이너리 컨버터를 JSON(기본) 컨버터보다 앞에 등록
+        // content-type 이 바이너리일 때만 동작하므로 기존 JSON 경로는 그대로
+        messageConverters.add(new PlayerStateBinaryMessageConverter());
+        return true; // 기본 컨버터(String, ByteArray, Jackson)도 함께 등록
     }
 }
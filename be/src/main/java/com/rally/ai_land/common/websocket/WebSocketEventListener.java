@@ -1,33 +1,76 @@
 package com.rally.ai_land.common.websocket;
 
-import com.rally.ai_land.domain.player.dto.*;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.service.InboundMoveCoalescer;
+import com.rally.ai_land.domain.player.service.MapActorDispatcher;
+import com.rally.ai_land.domain.player.service.PlayerLeaveBatcher;
+import com.rally.ai_land.domain.player.service.PlayerResumeService;
 import com.rally.ai_land.domain.player.service.PlayerService;
+import com.rally.ai_land.domain.player.service.PlayerSessionRegistry;
 import com.rally.ai_land.domain.player.service.StateManagerService;
 import com.rally.ai_land.domain.user.dto.PlayerSession;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class WebSocketEventListener {
 
     private final StateManagerService stateManagerService;
+    private final PlayerSessionRegistry playerSessionRegistry;
+    private final PlayerLeaveBatcher playerLeaveBatcher;
+    private final InboundMoveCoalescer inboundMoveCoalescer;
+    private final PlayerResumeService playerResumeService;
+    private final MapActorDispatcher mapActorDispatcher;
     private final PlayerService playerService;
 
     @EventListener
     public void handleDisconnect(SessionDisconnectEvent event) {
         String sessionId = event.getSessionId();
+        inboundMoveCoalescer.remove(sessionId);
 
-        PlayerSession session = stateManagerService.getSession(sessionId);
+        // [이어받기] 토큰을 받은 세션은 유예 후 퇴장 (유예 안에 P_RESUME 이 오면 퇴장 없음)
+        // 레지스트리/Redis 세션은 이어받기 또는 유예 만료 때 정리
+        if (playerResumeService.park(sessionId, this::leaveExpired)) {
+            return;
+        }
 
-        playerService.handlePlayerLeave(sessionId,
-                session.getMapId(),
-                PlayerLeaveRequest.builder()
-                        .type(ActionType.P_LEAVE)
-                        .playerId(session.getPlayerId())
-                        .build());
+        // 1차: 노드 로컬 레지스트리 (Redis 왕복 없음), 2차: Redis (레지스트리에 없는 세션)
+        PlayerSession session = playerSessionRegistry.remove(sessionId);
+        if (session == null) {
+            session = stateManagerService.getSession(sessionId);
+        }
+
+        // 입장 전에 끊겼거나 이미 퇴장 처리된 세션
+        if (session == null) {
+            log.debug("[연결 해제] 퇴장 처리할 세션 없음. sessionId: {}", sessionId);
+            return;
+        }
+
+        // 같은 맵의 다른 상태 변경과 순서가 섞이지 않도록 맵 액터에서 처리 (대량 해제 시 맵 단위로 묶임)
+        playerLeaveBatcher.submit(session.getMapId(), sessionId, session.getPlayerId());
+    }
+
+    // [이어받기] 유예 만료: 그 사이 다른 세션(다른 노드로 재연결)으로 같은 맵에 다시 입장했으면 퇴장시키지 않고 이 노드의 세션만 정리
+    // (퇴장 처리는 온라인 목록/heartbeat/포지션을 지우고 P_LEAVE 를 보내므로 새 노드의 플레이어가 사라짐)
+    // 호출 스레드: player-resume-grace
+    private void leaveExpired(PlayerResumeService.Parked parked) {
+        try {
+            if (stateManagerService.hasRejoinedWithOtherSession(parked.mapId(), parked.playerId(), parked.sessionId())) {
+                log.debug("[이어받기] 유예 만료, 다른 세션으로 재입장함 - mapId: {}, playerId: {}", parked.mapId(), parked.playerId());
+                mapActorDispatcher.dispatch(parked.mapId(), ActionType.P_LEAVE, parked.playerId(),
+                        () -> playerService.releaseRejoinedSession(parked.mapId(), parked.sessionId(), parked.playerId()));
+                return;
+            }
+        } catch (DataAccessException e) {
+            // 확인 못 하면 퇴장 처리 (재입장한 노드의 heartbeat 가 온라인 목록에 다시 등록하고 P_JOIN)
+            log.warn("[이어받기] 현재 세션 확인 실패, 퇴장 처리합니다. playerId: {}", parked.playerId(), e);
+        }
+        playerLeaveBatcher.submit(parked.mapId(), parked.sessionId(), parked.playerId());
     }
 }
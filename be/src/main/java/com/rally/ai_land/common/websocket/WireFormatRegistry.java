@@ -0,0 +1,76 @@
+package com.rally.ai_land.common.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// [바이너리 프로토콜] 세션별 payload 포맷 협상
+// - STOMP CONNECT 의 "wire-format: binary" 헤더로 바이너리 포맷 선택 (없으면 JSON)
+// - /ws-raw 세션만 허용 (SockJS 는 payload 를 텍스트 프레임으로 보내므로 바이너리가 깨짐)
+// - 포맷은 세션 단위 (같은 유저의 /ws-raw 바이너리 탭과 SockJS 탭이 섞일 수 있음)
+//   -> 유저에게 개별 전송할 때 EncodedFrameSender 가 sessionFormatsOf() 로 세션별 포맷과 content-type 을 선택
+// - /topic 브로드캐스트는 구독자 포맷이 섞이므로 항상 JSON
+@Slf4j
+@Component
+public class WireFormatRegistry implements ChannelInterceptor {
+
+    public static final String WIRE_FORMAT_HEADER = "wire-format";
+    public static final String WIRE_FORMAT_BINARY = "binary";
+    // /ws-raw 핸드셰이크에서 세션 속성에 추가 (WebSocketConfig)
+    public static final String RAW_TRANSPORT_ATTRIBUTE = "ailand.rawTransport";
+
+    // username -> (sessionId -> 바이너리 여부)
+    private final Map<String, Map<String, Boolean>> sessionFormats = new ConcurrentHashMap<>();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) return message;
+
+        Principal user = accessor.getUser();
+        if (user == null) return message;
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            boolean binaryRequested = WIRE_FORMAT_BINARY.equalsIgnoreCase(accessor.getFirstNativeHeader(WIRE_FORMAT_HEADER));
+            boolean binary = binaryRequested && isRawTransport(accessor);
+            if (binary) {
+                log.debug("[WebSocket] 바이너리 포맷 협상 - username: {}, sessionId: {}", user.getName(), accessor.getSessionId());
+            } else if (binaryRequested) {
+                log.debug("[WebSocket] SockJS 세션은 JSON 유지 - username: {}, sessionId: {}", user.getName(), accessor.getSessionId());
+            }
+            sessionFormats.computeIfAbsent(user.getName(), name -> new ConcurrentHashMap<>())
+                    .put(accessor.getSessionId(), binary);
+        } else if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            sessionFormats.computeIfPresent(user.getName(), (name, formats) -> {
+                formats.remove(accessor.getSessionId());
+                return formats.isEmpty() ? null : formats;
+            });
+        }
+        return message;
+    }
+
+    private boolean isRawTransport(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        return attributes != null && Boolean.TRUE.equals(attributes.get(RAW_TRANSPORT_ATTRIBUTE));
+    }
+
+    public boolean isBinary(String username, String sessionId) {
+        return Boolean.TRUE.equals(sessionFormatsOf(username).get(sessionId));
+    }
+
+    // 유저의 연결된 세션별 포맷 (sessionId -> 바이너리 여부), 없으면 빈 Map
+    public Map<String, Boolean> sessionFormatsOf(String username) {
+        Map<String, Boolean> formats = sessionFormats.get(username);
+        return formats == null ? Collections.emptyMap() : formats;
+    }
+}
@@ -0,0 +1,35 @@
+package com.rally.ai_land.domain.map.controller;
+
+import com.rally.ai_land.common.constant.CommonConstant;
+import com.rally.ai_land.common.constant.CommonStatus;
+import com.rally.ai_land.common.dto.CommonResponse;
+import com.rally.ai_land.domain.map.dto.MapInstanceResponse;
+import com.rally.ai_land.domain.map.service.MapInstanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+public class MapInstanceController {
+
+    private final MapInstanceService mapInstanceService;
+
+    // [로비] 맵의 인스턴스별 인원 (channelId 로 /app/map/{channelId} 에 입장하면 해당 인스턴스 우선 배정)
+    @GetMapping(value = "/maps/{mapId}/instances",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getMapInstances(@PathVariable("mapId") Long mapId) {
+        return ResponseEntity.ok(
+                CommonResponse.<List<MapInstanceResponse>>builder()
+                        .successOrNot(CommonConstant.YES_FLAG)
+                        .statusCode(CommonStatus.SUCCESS)
+                        .data(mapInstanceService.getInstances(mapId))
+                        .build());
+    }
+}
@@ -0,0 +1,33 @@
+package com.rally.ai_land.domain.map.controller;
+
+import com.rally.ai_land.common.constant.CommonConstant;
+import com.rally.ai_land.common.constant.CommonStatus;
+import com.rally.ai_land.common.dto.CommonResponse;
+import com.rally.ai_land.domain.map.dto.MapOwnerResponse;
+import com.rally.ai_land.domain.map.service.MapOwnershipService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+public class MapOwnershipController {
+
+    private final MapOwnershipService mapOwnershipService;
+
+    // [맵 소유] 맵(채널)을 소유한 노드 (클라이언트는 url 노드의 /ws 로 연결)
+    @GetMapping(value = "/maps/{mapId}/owner",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getMapOwner(@PathVariable("mapId") Long mapId) {
+        return ResponseEntity.ok(
+                CommonResponse.<MapOwnerResponse>builder()
+                        .successOrNot(CommonConstant.YES_FLAG)
+                        .statusCode(CommonStatus.SUCCESS)
+                        .data(mapOwnershipService.getOwner(mapId))
+                        .build());
+    }
+}
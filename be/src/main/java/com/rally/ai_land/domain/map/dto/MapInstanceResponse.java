@@ -0,0 +1,20 @@
+package com.rally.ai_land.domain.map.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MapInstanceResponse {
+
+    private final Long mapId;
+
+    private final int instanceId;
+
+    // STOMP 목적지에 쓰는 ID (/topic/map/{channelId}, /app/map/{channelId})
+    private final Long channelId;
+
+    private final int population;
+
+    private final int capacity;
+}
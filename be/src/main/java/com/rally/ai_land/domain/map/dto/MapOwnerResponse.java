@@ -0,0 +1,16 @@
+package com.rally.ai_land.domain.map.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MapOwnerResponse {
+
+    private final Long mapId;
+
+    private final String nodeId;
+
+    // 클라이언트가 연결할 노드 URL (모르면 null -> 아무 노드나 사용, 다른 노드 프레임은 릴레이로 전달됨)
+    private final String url;
+}
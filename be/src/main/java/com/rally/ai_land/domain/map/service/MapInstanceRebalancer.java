@@ -0,0 +1,49 @@
+package com.rally.ai_land.domain.map.service;
+
+import com.rally.ai_land.common.websocket.EncodedFrameSender;
+import com.rally.ai_land.domain.map.service.MapInstanceService.Rebalance;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerInstanceResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// [맵 인스턴스] 재배치 루프
+// - player.instance.rebalance-interval-ms 주기로 이 노드가 배정한 맵마다 비어 가는 인스턴스를 하나씩 합침 (Redis 에서 원자적)
+// - 합쳐진 인스턴스의 토픽에 P_INST(p 없음) 전송 -> 구독 중인 클라이언트가 새 채널로 다시 P_JOIN
+//   (이전 채널 정리는 새 채널 입장 시 PlayerService 가 처리)
+// - 여러 노드가 동시에 돌아도 같은 인스턴스를 두 번 합치지 않음 (스크립트가 배정을 먼저 옮김)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MapInstanceRebalancer {
+
+    private final MapInstanceService mapInstanceService;
+    private final EncodedFrameSender encodedFrameSender;
+
+    @Scheduled(fixedDelayString = "${player.instance.rebalance-interval-ms:5000}")
+    public void rebalance() {
+        if (!mapInstanceService.isEnabled()) return;
+
+        for (Long mapId : mapInstanceService.getKnownMapIds()) {
+            try {
+                Rebalance rebalance = mapInstanceService.rebalance(mapId);
+                if (rebalance == null) continue;
+
+                log.info("[맵 인스턴스] 재배치 - mapId: {}, 인스턴스 {} -> {}, 플레이어: {}",
+                        mapId, rebalance.sourceInstanceId(), rebalance.targetInstanceId(), rebalance.movedPlayerIds().size());
+                Long sourceChannelId = MapInstanceService.channelIdOf(mapId, rebalance.sourceInstanceId());
+                encodedFrameSender.sendToTopic("/topic/map/" + sourceChannelId,
+                        PlayerInstanceResponse.builder()
+                                .type(ActionType.P_INST)
+                                .instanceId(rebalance.targetInstanceId())
+                                .channelId(MapInstanceService.channelIdOf(mapId, rebalance.targetInstanceId()))
+                                .build());
+            } catch (DataAccessException e) {
+                log.error("[맵 인스턴스] 재배치 실패, 다음 주기에 재시도합니다. mapId: {}", mapId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.rally.ai_land.domain.map.service;
+
+import com.rally.ai_land.domain.map.dto.MapInstanceResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// [맵 인스턴스] 정원을 넘는 맵을 인스턴스(채널)로 나눔
+// - 채널 ID: 인스턴스 0 은 mapId 그대로, 인스턴스 n 은 (n << INSTANCE_SHIFT) | mapId
+//   -> 토픽(/topic/map/{channelId}), Redis 키(map:{channelId}:*), 맵 액터/틱/AOI 가 채널 단위로 자동 분리
+//   -> 맵 메타데이터(스폰, 충돌)는 mapIdOf() 로 원본 맵 기준
+// - 배정: Redis Lua 스크립트로 원자적 (여러 노드가 동시에 입장시켜도 정원/인원 일관)
+//   map:{mapId}:instances (instanceId -> 인원), map:{mapId}:instance-players (playerId -> instanceId)
+// - 인원 수는 배정 기준 (접속 끊김이 처리되지 않은 노드 장애 시에는 TTL 로 정리)
+//   -> 플레이어가 남아 있는 맵은 PlayerPresenceReaper heartbeat 마다 TTL 갱신 (입장이 뜸해도 배정이 만료되지 않도록)
+// - 측정: map.instance.assignments{mapId, result=same|redirected}, map.instance.rebalanced.players{mapId}
+@Component
+@Slf4j
+public class MapInstanceService {
+
+    public static final int INSTANCE_SHIFT = 40;
+    private static final long MAP_ID_MASK = (1L << INSTANCE_SHIFT) - 1;
+    private static final long ASSIGNMENT_TTL_MINUTES = 30L;
+
+    private static final RedisScript<Long> ASSIGN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/map-instance-assign.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/map-instance-release.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REBALANCE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/map-instance-rebalance.lua"), List.class);
+
+    public record Rebalance(Long mapId, int sourceInstanceId, int targetInstanceId, List<Long> movedPlayerIds) {
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int capacity;
+    private final int maxInstances;
+    private final int lowWater;
+
+    // 이 노드에서 배정한 적이 있는 원본 맵 (재배치 대상)
+    private final Set<Long> knownMapIds = ConcurrentHashMap.newKeySet();
+
+    public MapInstanceService(RedisTemplate<String, String> redisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${player.instance.enabled:false}") boolean enabled,
+                              @Value("${player.instance.capacity:100}") int capacity,
+                              @Value("${player.instance.max-instances:64}") int maxInstances,
+                              @Value("${player.instance.rebalance-low-water-ratio:0.25}") double lowWaterRatio) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.maxInstances = maxInstances;
+        this.lowWater = (int) Math.floor(capacity * lowWaterRatio);
+    }
+
+    public static Long channelIdOf(Long mapId, int instanceId) {
+        return ((long) instanceId << INSTANCE_SHIFT) | mapId;
+    }
+
+    public static Long mapIdOf(Long channelId) {
+        return channelId & MAP_ID_MASK;
+    }
+
+    public static int instanceIdOf(Long channelId) {
+        return (int) (channelId >>> INSTANCE_SHIFT);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // [맵 인스턴스] 배정된 채널 ID (요청 채널과 다르면 호출 측이 P_INST 로 안내)
+    // 인스턴스 0 채널(= mapId)로 들어오면 자동 배정, 그 외 채널은 해당 인스턴스를 우선 (로비에서 선택)
+    public Long assign(Long channelId, Long playerId) {
+        Long mapId = mapIdOf(channelId);
+        knownMapIds.add(mapId);
+
+        Long instanceId = redisTemplate.execute(ASSIGN_SCRIPT, keysOf(mapId),
+                String.valueOf(playerId),
+                String.valueOf(instanceIdOf(channelId)),
+                String.valueOf(capacity),
+                String.valueOf(maxInstances),
+                String.valueOf(TimeUnit.MINUTES.toSeconds(ASSIGNMENT_TTL_MINUTES)));
+        Long assignedChannelId = instanceId == null ? channelId : channelIdOf(mapId, instanceId.intValue());
+
+        meterRegistry.counter("map.instance.assignments", "mapId", String.valueOf(mapId),
+                "result", assignedChannelId.equals(channelId) ? "same" : "redirected").increment();
+        return assignedChannelId;
+    }
+
+    // [맵 인스턴스] 퇴장한 플레이어 배정 해제 (한 번의 왕복)
+    public void release(Long channelId, Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) return;
+
+        Object[] args = new Object[playerIds.size() + 1];
+        args[0] = String.valueOf(instanceIdOf(channelId));
+        int index = 1;
+        for (Long playerId : playerIds) {
+            args[index++] = String.valueOf(playerId);
+        }
+        redisTemplate.execute(RELEASE_SCRIPT, keysOf(mapIdOf(channelId)), args);
+    }
+
+    // [로비] 맵의 인스턴스별 인원 (instanceId 순)
+    public List<MapInstanceResponse> getInstances(Long mapId) {
+        Map<Object, Object> populations = redisTemplate.opsForHash().entries(instancesKey(mapId));
+
+        List<MapInstanceResponse> instanceList = new ArrayList<>(populations.size());
+        for (Map.Entry<Object, Object> entry : populations.entrySet()) {
+            int instanceId = Integer.parseInt(String.valueOf(entry.getKey()));
+            instanceList.add(MapInstanceResponse.builder()
+                    .mapId(mapId)
+                    .instanceId(instanceId)
+                    .channelId(channelIdOf(mapId, instanceId))
+                    .population(Integer.parseInt(String.valueOf(entry.getValue())))
+                    .capacity(capacity)
+                    .build());
+        }
+        instanceList.sort(Comparator.comparingInt(MapInstanceResponse::getInstanceId));
+        return instanceList;
+    }
+
+    // [맵 인스턴스] 이 노드에 플레이어가 있는 채널들의 원본 맵 배정 TTL 갱신 (한 번의 파이프라인)
+    public void touch(Collection<Long> channelIds) {
+        if (!enabled || channelIds.isEmpty()) return;
+
+        Set<Long> mapIds = new HashSet<>();
+        for (Long channelId : channelIds) {
+            mapIds.add(mapIdOf(channelId));
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                @SuppressWarnings("unchecked")
+                RedisOperations<String, String> stringOps = (RedisOperations<String, String>) operations;
+                for (Long mapId : mapIds) {
+                    for (String key : keysOf(mapId)) {
+                        stringOps.expire(key, ASSIGNMENT_TTL_MINUTES, TimeUnit.MINUTES);
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    public Set<Long> getKnownMapIds() {
+        return Collections.unmodifiableSet(knownMapIds);
+    }
+
+    // [재배치] 인원이 기준 이하로 줄어든 인스턴스 하나를 다른 인스턴스로 합침, 할 일이 없으면 null
+    public Rebalance rebalance(Long mapId) {
+        List<?> reply = redisTemplate.execute(REBALANCE_SCRIPT, keysOf(mapId),
+                String.valueOf(capacity),
+                String.valueOf(lowWater));
+        if (reply == null || reply.size() < 2) return null;
+
+        List<Long> movedPlayerIds = new ArrayList<>(reply.size() - 2);
+        for (int i = 2; i < reply.size(); i++) {
+            movedPlayerIds.add(Long.valueOf(String.valueOf(reply.get(i))));
+        }
+        meterRegistry.counter("map.instance.rebalanced.players", "mapId", String.valueOf(mapId))
+                .increment(movedPlayerIds.size());
+        return new Rebalance(mapId,
+                Integer.parseInt(String.valueOf(reply.get(0))),
+                Integer.parseInt(String.valueOf(reply.get(1))),
+                movedPlayerIds);
+    }
+
+    private static List<String> keysOf(Long mapId) {
+        return List.of(instancesKey(mapId), "map:" + mapId + ":instance-players");
+    }
+
+    private static String instancesKey(Long mapId) {
+        return "map:" + mapId + ":instances";
+    }
+}
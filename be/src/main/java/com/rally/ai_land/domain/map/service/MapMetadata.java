@@ -0,0 +1,119 @@
+package com.rally.ai_land.domain.map.service;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+// [맵 메타데이터] 맵 하나의 크기, 스폰 지점, 충돌 비트셋
+// 바이너리 레이아웃 (big-endian, 캐시 파일과 동일 -> 파일을 mmap 한 버퍼를 그대로 감쌈)
+// [magic:i32][version:i32][sourceCrc:i64]
+// [widthTiles:i32][heightTiles:i32][tileWidth:i32][tileHeight:i32]
+// [spawnCount:i32] + spawnCount x [x:f64][y:f64][d:i16]
+// [collision: ceil(widthTiles * heightTiles / 64) x i64] - 타일 인덱스(y * width + x) 비트가 1 이면 막힘
+// - 타일 조회는 버퍼에서 long 하나를 읽는 O(1), 힙에 타일 배열을 따로 만들지 않음
+public final class MapMetadata {
+
+    static final int MAGIC = 0x41494D50; // "AIMP"
+    static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 * 4 + 4;
+    private static final int SPAWN_BYTES = 8 + 8 + 2;
+
+    public record SpawnPoint(double x, double y, short d) {
+    }
+
+    @Getter
+    private final long mapId;
+    private final ByteBuffer buffer;
+    @Getter
+    private final int widthTiles;
+    @Getter
+    private final int heightTiles;
+    @Getter
+    private final int tileWidth;
+    @Getter
+    private final int tileHeight;
+    @Getter
+    private final List<SpawnPoint> spawnPoints;
+    private final int collisionOffset;
+
+    // 버퍼 내용은 encode() 결과여야 함 (캐시 파일 검증은 MapMetadataRegistry 가 magic/version/crc 로 처리)
+    MapMetadata(long mapId, ByteBuffer buffer) {
+        this.mapId = mapId;
+        this.buffer = buffer;
+        this.widthTiles = buffer.getInt(16);
+        this.heightTiles = buffer.getInt(20);
+        this.tileWidth = buffer.getInt(24);
+        this.tileHeight = buffer.getInt(28);
+
+        int spawnCount = buffer.getInt(32);
+        List<SpawnPoint> spawns = new ArrayList<>(spawnCount);
+        int offset = HEADER_BYTES;
+        for (int i = 0; i < spawnCount; i++, offset += SPAWN_BYTES) {
+            spawns.add(new SpawnPoint(buffer.getDouble(offset), buffer.getDouble(offset + 8), buffer.getShort(offset + 16)));
+        }
+        this.spawnPoints = List.copyOf(spawns);
+        this.collisionOffset = offset;
+    }
+
+    static byte[] encode(long sourceCrc, int widthTiles, int heightTiles, int tileWidth, int tileHeight,
+                         List<SpawnPoint> spawnPoints, long[] collision) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + spawnPoints.size() * SPAWN_BYTES + collision.length * 8);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(sourceCrc)
+                .putInt(widthTiles).putInt(heightTiles).putInt(tileWidth).putInt(tileHeight)
+                .putInt(spawnPoints.size());
+        for (SpawnPoint spawnPoint : spawnPoints) {
+            buffer.putDouble(spawnPoint.x()).putDouble(spawnPoint.y()).putShort(spawnPoint.d());
+        }
+        for (long word : collision) {
+            buffer.putLong(word);
+        }
+        return buffer.array();
+    }
+
+    static int collisionWords(int widthTiles, int heightTiles) {
+        return (int) (((long) widthTiles * heightTiles + 63) >>> 6);
+    }
+
+    // 캐시 파일 재사용 가능 여부: 형식 버전과 원본 .tmj 체크섬이 같아야 함
+    static boolean isCompatible(ByteBuffer buffer, long sourceCrc) {
+        return buffer.capacity() >= HEADER_BYTES
+                && buffer.getInt(0) == MAGIC
+                && buffer.getInt(4) == VERSION
+                && buffer.getLong(8) == sourceCrc;
+    }
+
+    public int getWidthPixels() {
+        return widthTiles * tileWidth;
+    }
+
+    public int getHeightPixels() {
+        return heightTiles * tileHeight;
+    }
+
+    // 플레이어별로 고정된 스폰 지점 (여러 개면 playerId 로 분산), 없으면 null
+    public SpawnPoint spawnPointFor(Long playerId) {
+        if (spawnPoints.isEmpty()) return null;
+        if (spawnPoints.size() == 1 || playerId == null) return spawnPoints.get(0);
+        return spawnPoints.get((int) Math.floorMod(playerId, (long) spawnPoints.size()));
+    }
+
+    // 픽셀 좌표가 맵 안인지
+    public boolean contains(double x, double y) {
+        return x >= 0 && y >= 0 && x < getWidthPixels() && y < getHeightPixels();
+    }
+
+    // 픽셀 좌표의 타일이 막혔는지 (맵 밖은 막힌 것으로 취급)
+    public boolean isBlocked(double x, double y) {
+        if (!contains(x, y)) return true;
+        return isBlockedTile((int) (x / tileWidth), (int) (y / tileHeight));
+    }
+
+    public boolean isBlockedTile(int tileX, int tileY) {
+        if (tileX < 0 || tileY < 0 || tileX >= widthTiles || tileY >= heightTiles) return true;
+        int index = tileY * widthTiles + tileX;
+        long word = buffer.getLong(collisionOffset + (index >>> 6) * 8);
+        return (word & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,124 @@
+package com.rally.ai_land.domain.map.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+// [맵 메타데이터] mapId -> MapMetadata (기동 시 한 번 적재, 이후 읽기 전용)
+// - 원본: player.map.location 의 .tmj (파일 이름 map{id}.tmj -> mapId), 기본은 classpath:maps (빌드 시 fe/public/maps 에서 복사)
+// - 캐시: player.map.cache-dir/map{id}.bin (MapMetadata 바이너리 레이아웃)
+//   다음 기동부터는 .tmj 체크섬이 같으면 JSON 파싱 없이 캐시 파일을 mmap
+//   캐시를 쓸 수 없으면 (읽기 전용 디렉터리 등) 힙 버퍼로 대체
+// - 메타데이터가 없는 맵은 find() 가 null -> 호출 측 기본값 사용 (PlayerService.MAP_INIT_*)
+@Component
+@Slf4j
+public class MapMetadataRegistry {
+
+    private static final Pattern MAP_FILE_NAME = Pattern.compile("map(\\d+)\\.tmj");
+
+    private final ObjectMapper objectMapper;
+    private final String location;
+    private final Path cacheDir;
+
+    private final Map<Long, MapMetadata> maps = new ConcurrentHashMap<>();
+
+    public MapMetadataRegistry(ObjectMapper objectMapper,
+                               @Value("${player.map.location:classpath*:maps/*.tmj}") String location,
+                               @Value("${player.map.cache-dir:build/map-cache}") String cacheDir) {
+        this.objectMapper = objectMapper;
+        this.location = location;
+        this.cacheDir = Path.of(cacheDir);
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location)) {
+            Matcher matcher = resource.getFilename() == null ? null : MAP_FILE_NAME.matcher(resource.getFilename());
+            if (matcher == null || !matcher.matches()) {
+                log.warn("[맵 메타데이터] 파일 이름이 map{id}.tmj 형식이 아니라 건너뜁니다 - {}", resource.getFilename());
+                continue;
+            }
+
+            long mapId = Long.parseLong(matcher.group(1));
+            try (InputStream inputStream = resource.getInputStream()) {
+                MapMetadata metadata = loadMap(mapId, inputStream.readAllBytes());
+                maps.put(mapId, metadata);
+                log.info("[맵 메타데이터] mapId: {}, 크기: {}x{} 타일 ({}x{} px), 스폰 지점: {}",
+                        mapId, metadata.getWidthTiles(), metadata.getHeightTiles(),
+                        metadata.getWidthPixels(), metadata.getHeightPixels(), metadata.getSpawnPoints().size());
+            } catch (IOException | RuntimeException e) {
+                // 맵 하나가 잘못되어도 기동은 계속 (해당 맵은 기본값으로 동작)
+                log.error("[맵 메타데이터] mapId: {} 적재 실패", mapId, e);
+            }
+        }
+    }
+
+    // 없으면 null, 인스턴스 채널 ID 는 원본 맵으로 조회 (MapInstanceService)
+    public MapMetadata find(Long mapId) {
+        return mapId == null ? null : maps.get(MapInstanceService.mapIdOf(mapId));
+    }
+
+    MapMetadata loadMap(long mapId, byte[] tmj) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(tmj);
+        long sourceCrc = crc.getValue();
+
+        Path cacheFile = cacheDir.resolve("map" + mapId + ".bin");
+        ByteBuffer cached = mapCacheFile(cacheFile);
+        if (cached != null && MapMetadata.isCompatible(cached, sourceCrc)) {
+            log.debug("[맵 메타데이터] 캐시 파일 사용 - {}", cacheFile);
+            return new MapMetadata(mapId, cached);
+        }
+
+        byte[] encoded = TiledMapParser.parse(mapId, tmj, sourceCrc, objectMapper);
+        try {
+            writeCacheFile(cacheFile, encoded);
+            ByteBuffer written = mapCacheFile(cacheFile);
+            if (written != null) return new MapMetadata(mapId, written);
+        } catch (IOException e) {
+            log.warn("[맵 메타데이터] 캐시 파일을 쓸 수 없어 힙 버퍼 사용 - {}: {}", cacheFile, e.getMessage());
+        }
+        return new MapMetadata(mapId, ByteBuffer.wrap(encoded));
+    }
+
+    // 채널을 닫아도 매핑은 버퍼가 GC 될 때까지 유효
+    private static ByteBuffer mapCacheFile(Path cacheFile) {
+        if (!Files.isRegularFile(cacheFile)) return null;
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            log.warn("[맵 메타데이터] 캐시 파일 매핑 실패 - {}: {}", cacheFile, e.getMessage());
+            return null;
+        }
+    }
+
+    // 임시 파일에 쓰고 교체: 다른 프로세스가 쓰다 만 파일을 매핑하지 않도록
+    private static void writeCacheFile(Path cacheFile, byte[] encoded) throws IOException {
+        Files.createDirectories(cacheFile.getParent());
+        Path temp = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, encoded);
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
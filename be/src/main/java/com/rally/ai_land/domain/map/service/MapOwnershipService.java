@@ -0,0 +1,196 @@
+package com.rally.ai_land.domain.map.service;
+
+import com.rally.ai_land.common.cluster.ClusterMembershipService;
+import com.rally.ai_land.common.cluster.ClusterMembershipService.MembershipChangedEvent;
+import com.rally.ai_land.common.cluster.ConsistentHashRing;
+import com.rally.ai_land.common.websocket.ClusterTopicRelay.RemoteFrameEvent;
+import com.rally.ai_land.common.websocket.EncodedFrameSender;
+import com.rally.ai_land.domain.map.dto.MapOwnerResponse;
+import com.rally.ai_land.domain.map.service.MapMetadata.SpawnPoint;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerNodeResponse;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import com.rally.ai_land.domain.player.service.MapInitSnapshotService;
+import com.rally.ai_land.domain.player.service.PlayerSessionRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// [맵 소유] 맵(채널) ID 를 일관된 해시 링으로 노드 하나에 배정
+// - 클라이언트는 GET /api/v1/maps/{mapId}/owner 로 소유 노드 URL 을 받아 그 노드에 연결
+//   -> 같은 맵의 세션이 한 노드에 모여 맵 액터/틱/AOI/P_Init 스냅샷 같은 메모리 상태가 그 노드에서 권위를 가짐
+//   (다른 노드로 들어온 입장도 거절하지 않음: 릴레이로 동기화, map.ownership.joins{result=non-owner} 로 집계)
+// - 노드 목록이 바뀌어 소유 노드가 바뀐 맵은 넘겨줌 (handoff)
+//   1. 이 노드의 P_Init 스냅샷 위치를 map:{mapId}:handoff (playerId -> "x,y,d", TTL) 에 기록
+//   2. 맵 토픽에 P_NODE(새 노드 URL) -> 클라이언트가 새 노드로 다시 연결, 새 노드는 넘겨받은 위치에서 입장시킴
+//   3. 넘겨준 세션의 연결 해제는 조용히 정리 (P_LEAVE, 온라인 목록 제거 없음: 플레이어는 새 노드에서 계속 맵에 있음)
+// - 종료 시에도 이 노드를 뺀 링 기준으로 모든 맵을 넘겨줌
+// - 측정: map.ownership.joins{result=owner|non-owner}, map.ownership.handoffs{direction=out|in}
+@Component
+@Slf4j
+public class MapOwnershipService {
+
+    private final ClusterMembershipService clusterMembershipService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final EncodedFrameSender encodedFrameSender;
+    private final MapInitSnapshotService mapInitSnapshotService;
+    private final PlayerSessionRegistry playerSessionRegistry;
+    private final MeterRegistry meterRegistry;
+    private final long handoffTtlSeconds;
+
+    // 새 소유 노드로 넘어가는 중인 세션 (연결 해제 시 조용히 정리)
+    private final Set<String> handedOffSessionIds = ConcurrentHashMap.newKeySet();
+    // 넘겨받은 위치 (맵 별로 Redis 에서 한 번만 읽음)
+    private final Map<Long, Handoff> handoffs = new ConcurrentHashMap<>();
+
+    public MapOwnershipService(ClusterMembershipService clusterMembershipService,
+                               RedisTemplate<String, String> redisTemplate,
+                               EncodedFrameSender encodedFrameSender,
+                               MapInitSnapshotService mapInitSnapshotService,
+                               PlayerSessionRegistry playerSessionRegistry,
+                               MeterRegistry meterRegistry,
+                               @Value("${cluster.handoff-ttl-seconds:60}") long handoffTtlSeconds) {
+        this.clusterMembershipService = clusterMembershipService;
+        this.redisTemplate = redisTemplate;
+        this.encodedFrameSender = encodedFrameSender;
+        this.mapInitSnapshotService = mapInitSnapshotService;
+        this.playerSessionRegistry = playerSessionRegistry;
+        this.meterRegistry = meterRegistry;
+        this.handoffTtlSeconds = handoffTtlSeconds;
+    }
+
+    public boolean isOwner(Long mapId) {
+        return clusterMembershipService.isLocal(clusterMembershipService.ownerOf(mapId));
+    }
+
+    // [맵 소유] 소유 노드 조회 (프론트엔드 연결 대상)
+    public MapOwnerResponse getOwner(Long mapId) {
+        String ownerNodeId = clusterMembershipService.ownerOf(mapId);
+        return MapOwnerResponse.builder()
+                .mapId(mapId)
+                .nodeId(ownerNodeId)
+                .url(clusterMembershipService.urlOf(ownerNodeId))
+                .build();
+    }
+
+    public void recordJoin(Long mapId) {
+        meterRegistry.counter("map.ownership.joins", "result", isOwner(mapId) ? "owner" : "non-owner").increment();
+    }
+
+    // [맵 소유] 이전 소유 노드가 넘겨준 마지막 위치 (한 번 쓰면 제거), 없으면 null
+    // 호출 스레드: 맵 액터
+    public SpawnPoint takeHandoffPosition(Long mapId, Long playerId) {
+        if (!isOwner(mapId)) return null;
+
+        long now = System.currentTimeMillis();
+        Handoff handoff = handoffs.compute(mapId, (id, cached) ->
+                cached == null || cached.expiresAt() < now ? loadHandoff(id, now) : cached);
+        PlayerPosition position = handoff.positions().remove(playerId);
+        return position == null ? null : new SpawnPoint(position.getX(), position.getY(), position.getD());
+    }
+
+    // 넘겨준 세션이면 true (한 번만)
+    public boolean consumeHandedOff(String sessionId) {
+        return handedOffSessionIds.remove(sessionId);
+    }
+
+    // [맵 소유] 노드 목록 변경: 이 노드가 소유하던 맵 중 다른 노드로 넘어간 맵을 넘겨줌
+    @EventListener
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        handoffs.clear();
+        String nodeId = clusterMembershipService.getNodeId();
+        for (Long mapId : playerSessionRegistry.mapIds()) {
+            String nextOwner = event.current().ownerOf(mapId);
+            if (nodeId.equals(event.previous().ownerOf(mapId)) && !nodeId.equals(nextOwner)) {
+                handOff(mapId, nextOwner);
+            }
+        }
+    }
+
+    // 다른 노드가 이 노드로 넘겨줌: 캐시를 비워 다음 입장 때 새로 기록된 위치를 읽음
+    @EventListener
+    public void onRemoteFrame(RemoteFrameEvent event) {
+        if (event.response() instanceof PlayerNodeResponse nodeResponse
+                && clusterMembershipService.isLocal(nodeResponse.getNodeId())) {
+            handoffs.remove(event.mapId());
+            meterRegistry.counter("map.ownership.handoffs", "direction", "in").increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ConsistentHashRing remaining = clusterMembershipService.leave();
+        if (remaining.isEmpty()) return;
+
+        for (Long mapId : playerSessionRegistry.mapIds()) {
+            handOff(mapId, remaining.ownerOf(mapId));
+        }
+    }
+
+    private void handOff(Long mapId, String nextOwnerNodeId) {
+        try {
+            List<PlayerPosition> positions = mapInitSnapshotService.positionsOf(mapId);
+            if (!positions.isEmpty()) {
+                Map<String, String> fields = new HashMap<>(positions.size() * 2);
+                for (PlayerPosition position : positions) {
+                    fields.put(String.valueOf(position.getPlayerId()),
+                            position.getX() + "," + position.getY() + "," + position.getD());
+                }
+                redisTemplate.opsForHash().putAll(handoffKey(mapId), fields);
+                redisTemplate.expire(handoffKey(mapId), handoffTtlSeconds, TimeUnit.SECONDS);
+            }
+
+            handedOffSessionIds.addAll(playerSessionRegistry.sessionIdsOf(mapId));
+            encodedFrameSender.sendToTopic("/topic/map/" + mapId,
+                    PlayerNodeResponse.builder()
+                            .type(ActionType.P_NODE)
+                            .nodeId(nextOwnerNodeId)
+                            .url(clusterMembershipService.urlOf(nextOwnerNodeId))
+                            .build());
+
+            meterRegistry.counter("map.ownership.handoffs", "direction", "out").increment();
+            log.info("[맵 소유] 넘겨줌 - mapId: {}, 노드: {}, 위치: {}", mapId, nextOwnerNodeId, positions.size());
+        } catch (DataAccessException e) {
+            // 위치를 못 넘겨도 클라이언트는 스폰 지점에서 다시 입장
+            log.error("[맵 소유] 넘겨주기 실패 - mapId: {}, 노드: {}", mapId, nextOwnerNodeId, e);
+        }
+    }
+
+    private Handoff loadHandoff(Long mapId, long now) {
+        Map<Long, PlayerPosition> positions = new ConcurrentHashMap<>();
+        try {
+            redisTemplate.opsForHash().entries(handoffKey(mapId)).forEach((field, value) -> {
+                String[] xyd = String.valueOf(value).split(",");
+                Long playerId = Long.valueOf(String.valueOf(field));
+                positions.put(playerId, PlayerPosition.builder()
+                        .playerId(playerId)
+                        .x(Double.parseDouble(xyd[0]))
+                        .y(Double.parseDouble(xyd[1]))
+                        .d(Short.parseShort(xyd[2]))
+                        .build());
+            });
+        } catch (DataAccessException e) {
+            log.warn("[맵 소유] 넘겨받은 위치 조회 실패 - mapId: {}", mapId, e);
+        }
+        return new Handoff(positions, now + TimeUnit.SECONDS.toMillis(handoffTtlSeconds));
+    }
+
+    private static String handoffKey(Long mapId) {
+        return "map:" + mapId + ":handoff";
+    }
+
+    private record Handoff(Map<Long, PlayerPosition> positions, long expiresAt) {
+    }
+}
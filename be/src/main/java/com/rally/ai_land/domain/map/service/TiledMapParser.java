@@ -0,0 +1,148 @@
+package com.rally.ai_land.domain.map.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.domain.map.service.MapMetadata.SpawnPoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// [맵 메타데이터] Tiled JSON 맵(.tmj) -> MapMetadata 바이너리
+// - 충돌: (1) 타일셋 타일 속성 collides=true 인 타일 (2) 레이어 속성 collides=true 인 타일 레이어의 모든 타일
+//         (3) 이름이 collision 인 오브젝트 레이어의 사각형이 걸치는 타일
+// - 스폰: type(class) 이 spawn 인 오브젝트 또는 이름이 spawn 인 오브젝트 레이어의 오브젝트 (사각형은 중심점)
+//         방향은 오브젝트 속성 d (없으면 2: 아래)
+// - 지원하지 않음: infinite(청크) 맵, 외부 타일셋(.tsx) 의 타일 속성 (경고 후 무시)
+@Slf4j
+final class TiledMapParser {
+    private TiledMapParser() {} // 객체 생성 금지
+
+    static final String COLLIDES_PROPERTY = "collides";
+    static final String COLLISION_LAYER = "collision";
+    static final String SPAWN = "spawn";
+    static final String DIRECTION_PROPERTY = "d";
+    private static final short DEFAULT_DIRECTION = 2;
+    // gid 상위 비트는 뒤집기/회전 플래그
+    private static final long GID_MASK = 0x0FFFFFFFL;
+
+    static byte[] parse(long mapId, byte[] tmj, long sourceCrc, ObjectMapper objectMapper) throws IOException {
+        JsonNode root = objectMapper.readTree(tmj);
+        if (root.path("infinite").asBoolean(false)) {
+            throw new IllegalArgumentException("infinite 맵은 지원하지 않습니다: mapId=" + mapId);
+        }
+
+        int widthTiles = root.path("width").asInt();
+        int heightTiles = root.path("height").asInt();
+        int tileWidth = root.path("tilewidth").asInt();
+        int tileHeight = root.path("tileheight").asInt();
+        if (widthTiles <= 0 || heightTiles <= 0 || tileWidth <= 0 || tileHeight <= 0) {
+            throw new IllegalArgumentException("맵 크기 정보가 없습니다: mapId=" + mapId);
+        }
+
+        Set<Long> collidingGids = collidingGids(mapId, root.path("tilesets"));
+        long[] collision = new long[MapMetadata.collisionWords(widthTiles, heightTiles)];
+        List<SpawnPoint> spawnPoints = new ArrayList<>();
+
+        for (JsonNode layer : root.path("layers")) {
+            String type = layer.path("type").asText();
+            if ("tilelayer".equals(type)) {
+                markTileLayer(layer, widthTiles, heightTiles, collidingGids, collision);
+            } else if ("objectgroup".equals(type)) {
+                boolean collisionLayer = COLLISION_LAYER.equalsIgnoreCase(layer.path("name").asText());
+                boolean spawnLayer = SPAWN.equalsIgnoreCase(layer.path("name").asText());
+                for (JsonNode object : layer.path("objects")) {
+                    if (collisionLayer) {
+                        markRectangle(object, widthTiles, heightTiles, tileWidth, tileHeight, collision);
+                    } else if (spawnLayer || isSpawnObject(object)) {
+                        spawnPoints.add(spawnPointOf(object));
+                    }
+                }
+            }
+        }
+
+        return MapMetadata.encode(sourceCrc, widthTiles, heightTiles, tileWidth, tileHeight, spawnPoints, collision);
+    }
+
+    private static Set<Long> collidingGids(long mapId, JsonNode tilesets) {
+        Set<Long> gids = new HashSet<>();
+        for (JsonNode tileset : tilesets) {
+            if (tileset.has("source")) {
+                log.warn("[맵 메타데이터] 외부 타일셋은 충돌 속성을 읽지 않습니다 - mapId: {}, source: {}",
+                        mapId, tileset.path("source").asText());
+                continue;
+            }
+            long firstGid = tileset.path("firstgid").asLong(1);
+            for (JsonNode tile : tileset.path("tiles")) {
+                if (booleanProperty(tile, COLLIDES_PROPERTY)) {
+                    gids.add(firstGid + tile.path("id").asLong());
+                }
+            }
+        }
+        return gids;
+    }
+
+    private static void markTileLayer(JsonNode layer, int widthTiles, int heightTiles,
+                                      Set<Long> collidingGids, long[] collision) {
+        boolean layerCollides = booleanProperty(layer, COLLIDES_PROPERTY);
+        if (!layerCollides && collidingGids.isEmpty()) return;
+
+        JsonNode data = layer.path("data");
+        int tileCount = Math.min(data.size(), widthTiles * heightTiles);
+        for (int index = 0; index < tileCount; index++) {
+            long gid = data.get(index).asLong() & GID_MASK;
+            if (gid == 0) continue;
+            if (layerCollides || collidingGids.contains(gid)) {
+                collision[index >>> 6] |= 1L << index;
+            }
+        }
+    }
+
+    private static void markRectangle(JsonNode object, int widthTiles, int heightTiles,
+                                      int tileWidth, int tileHeight, long[] collision) {
+        double x = object.path("x").asDouble();
+        double y = object.path("y").asDouble();
+        double width = object.path("width").asDouble();
+        double height = object.path("height").asDouble();
+        if (width <= 0 || height <= 0) return;
+
+        // 경계에 딱 맞는 사각형이 옆 타일까지 막지 않도록 끝 좌표는 열린 구간
+        int fromX = Math.max(0, (int) Math.floor(x / tileWidth));
+        int fromY = Math.max(0, (int) Math.floor(y / tileHeight));
+        int toX = Math.min(widthTiles - 1, (int) Math.ceil((x + width) / tileWidth) - 1);
+        int toY = Math.min(heightTiles - 1, (int) Math.ceil((y + height) / tileHeight) - 1);
+        for (int tileY = fromY; tileY <= toY; tileY++) {
+            for (int tileX = fromX; tileX <= toX; tileX++) {
+                int index = tileY * widthTiles + tileX;
+                collision[index >>> 6] |= 1L << index;
+            }
+        }
+    }
+
+    private static boolean isSpawnObject(JsonNode object) {
+        return SPAWN.equalsIgnoreCase(object.path("type").asText())
+                || SPAWN.equalsIgnoreCase(object.path("class").asText());
+    }
+
+    private static SpawnPoint spawnPointOf(JsonNode object) {
+        double x = object.path("x").asDouble() + object.path("width").asDouble() / 2;
+        double y = object.path("y").asDouble() + object.path("height").asDouble() / 2;
+        short d = DEFAULT_DIRECTION;
+        for (JsonNode property : object.path("properties")) {
+            if (DIRECTION_PROPERTY.equals(property.path("name").asText())) {
+                d = (short) property.path("value").asInt(DEFAULT_DIRECTION);
+            }
+        }
+        return new SpawnPoint(x, y, d);
+    }
+
+    private static boolean booleanProperty(JsonNode node, String name) {
+        for (JsonNode property : node.path("properties")) {
+            if (name.equals(property.path("name").asText())) return property.path("value").asBoolean(false);
+        }
+        return false;
+    }
+}
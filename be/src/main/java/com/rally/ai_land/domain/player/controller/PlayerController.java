@@ -3,14 +3,17 @@ package com.rally.ai_land.domain.player.controller;
 import com.rally.ai_land.common.constant.CommonConstant;
 import com.rally.ai_land.common.constant.CommonStatus;
 import com.rally.ai_land.common.dto.CommonResponse;
+import com.rally.ai_land.common.websocket.InboundStageMetrics;
 import com.rally.ai_land.domain.chat.dto.ChatMessageSendRequest;
 import com.rally.ai_land.domain.chat.dto.ChatMessageSendResponse;
 import com.rally.ai_land.domain.chat.dto.ChatRoomInfoResponse;
 import com.rally.ai_land.domain.player.dto.PlayerStateRequest;
 import com.rally.ai_land.domain.player.dto.PlayerStateResponse;
+import com.rally.ai_land.domain.player.service.InboundMoveCoalescer;
 import com.rally.ai_land.domain.player.service.PlayerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -26,6 +29,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.security.Principal;
+import java.util.concurrent.ThreadLocalRandom;
 
 @RestController
 @RequiredArgsConstructor
@@ -33,6 +37,13 @@ import java.security.Principal;
 public class PlayerController {
 
     private final PlayerService playerService;
+    private final InboundMoveCoalescer inboundMoveCoalescer;
+    private final InboundStageMetrics inboundStageMetrics;
+
+    // 수신 로그 샘플링: N 개 중 1 개만 INFO (1 이면 전부, 0 이면 끔)
+    // 메시지마다 로그를 남기면 높은 수신량에서 로깅이 CPU 를 대부분 차지함
+    @Value("${player.log.sample-rate:1000}")
+    private int logSampleRate;
 
 
     // TODO: @Valid 고려
@@ -45,16 +56,34 @@ public class PlayerController {
                                   Principal principal
 //                                  @AuthenticationPrincipal UserDetails userDetails
     ) {
-        log.info("[받은 메시지] 목적지 맵 아이디  : {}", mapId);
-        log.info("[받은 메시지] 보낸 유저 아이디  : {}", playerStateRequest.getPlayerId());
-        log.info("[받은 메시지] 보낸 유저 이름   : {}", principal.getName());
-//        log.info("[받은 메시지] 보낸 유저 이름   : {}", userDetails.getUsername());
-        log.info("[받은 메시지] 타입           : {}", playerStateRequest.getType());
-
-        playerService.handlePlayerState(simpMessageHeaderAccessor.getSessionId(),
-                principal.getName(),
-//                userDetails.getUsername(),
+        if (shouldLog()) {
+            log.info("[받은 메시지] (1/{} 샘플) 맵 아이디: {}, 유저 아이디: {}, 유저 이름: {}, 타입: {}",
+                    logSampleRate, mapId, playerStateRequest.getPlayerId(), principal.getName(), playerStateRequest.getType());
+        }
+
+        // [맵 액터] 인바운드 스레드에서 바로 처리하지 않고 맵 메일박스에 적재 -> 맵 단위로 순서대로 처리
+        // [수신 합치기] P_MOVE 는 세션별 최대 처리율로 제한, 간격 안의 이동은 마지막 값만 적재
+        String sessionId = simpMessageHeaderAccessor.getSessionId();
+        String username = principal.getName();
+        inboundMoveCoalescer.dispatch(sessionId,
                 mapId,
-                playerStateRequest);
+                playerStateRequest.getType(),
+                playerStateRequest.getPlayerId(),
+                () -> {
+                    long startedAt = System.nanoTime();
+                    playerService.handlePlayerState(sessionId,
+                            username,
+//                            userDetails.getUsername(),
+                            mapId,
+                            playerStateRequest);
+                    inboundStageMetrics.record(InboundStageMetrics.Stage.SERVICE,
+                            InboundStageMetrics.MAP_DESTINATION, playerStateRequest.getType(), startedAt);
+                });
+    }
+
+    // 스레드 간 경합 없이 샘플링 (공유 카운터 대신 스레드별 난수)
+    private boolean shouldLog() {
+        if (logSampleRate <= 0) return false;
+        return logSampleRate == 1 || ThreadLocalRandom.current().nextInt(logSampleRate) == 0;
     }
 }
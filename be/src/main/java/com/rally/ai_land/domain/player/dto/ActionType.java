@@ -3,7 +3,7 @@ package com.rally.ai_land.domain.player.dto;
 public final class ActionType {
     private ActionType() {} // 객체 생성 금지
 
-    // TODO: String 이 아닌 숫자로 최적화
+    // JSON 프로토콜: 문자열 타입 ("t")
     public static final String P_Init = "P_Init";
 
     public static final String P_JOIN = "P_JOIN";
@@ -11,4 +11,68 @@ public final class ActionType {
     public static final String P_LEAVE = "P_LEAVE";
 
     public static final String P_MOVE = "P_MOVE";
-}
\ No newline at end of file
+
+    // 틱 단위로 모은 P_MOVE 묶음 (서버 -> 클라이언트)
+    public static final String P_SNAP = "P_SNAP";
+
+    // 이동 검증에서 보정/거부된 본인 위치 (서버 -> 해당 세션만)
+    public static final String P_CORR = "P_CORR";
+
+    // 맵 인스턴스 채널 이동 안내 (서버 -> 클라이언트)
+    public static final String P_INST = "P_INST";
+
+    // 맵 소유 노드 변경 안내 (서버 -> 맵 구독자 전원)
+    public static final String P_NODE = "P_NODE";
+
+    // 재연결 이어받기 (클라이언트 -> 서버: 토큰 + 마지막 순번, 서버 -> 해당 세션: 토큰 발급/결과)
+    public static final String P_RESUME = "P_RESUME";
+
+    // 바이너리 프로토콜: 숫자 opcode (PlayerStateBinaryCodec)
+    public static final byte OP_INIT = 1;
+
+    public static final byte OP_JOIN = 2;
+
+    public static final byte OP_LEAVE = 3;
+
+    public static final byte OP_MOVE = 4;
+
+    public static final byte OP_SNAP = 5;
+
+    public static final byte OP_CORR = 6;
+
+    public static final byte OP_INST = 7;
+
+    public static final byte OP_NODE = 8;
+
+    public static final byte OP_RESUME = 9;
+
+    public static byte toOpcode(String type) {
+        return switch (type) {
+            case P_Init -> OP_INIT;
+            case P_JOIN -> OP_JOIN;
+            case P_LEAVE -> OP_LEAVE;
+            case P_MOVE -> OP_MOVE;
+            case P_SNAP -> OP_SNAP;
+            case P_CORR -> OP_CORR;
+            case P_INST -> OP_INST;
+            case P_NODE -> OP_NODE;
+            case P_RESUME -> OP_RESUME;
+            default -> throw new IllegalArgumentException("알 수 없는 message type: " + type);
+        };
+    }
+
+    public static String fromOpcode(byte opcode) {
+        return switch (opcode) {
+            case OP_INIT -> P_Init;
+            case OP_JOIN -> P_JOIN;
+            case OP_LEAVE -> P_LEAVE;
+            case OP_MOVE -> P_MOVE;
+            case OP_SNAP -> P_SNAP;
+            case OP_CORR -> P_CORR;
+            case OP_INST -> P_INST;
+            case OP_NODE -> P_NODE;
+            case OP_RESUME -> P_RESUME;
+            default -> throw new IllegalArgumentException("알 수 없는 opcode: " + opcode);
+        };
+    }
+}
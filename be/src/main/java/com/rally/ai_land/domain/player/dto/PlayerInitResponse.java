@@ -3,11 +3,13 @@ package com.rally.ai_land.domain.player.dto;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
 @Data
 @SuperBuilder
+@Jacksonized
 @EqualsAndHashCode(callSuper = true)
 public class PlayerInitResponse extends PlayerStateResponse {
 
@@ -0,0 +1,21 @@
+package com.rally.ai_land.domain.player.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+// P_INST: 배정된 맵 인스턴스 채널로 이동 안내 (playerId 가 null 이면 채널 구독자 전원)
+@Data
+@SuperBuilder
+@Jacksonized
+@EqualsAndHashCode(callSuper = true)
+public class PlayerInstanceResponse extends PlayerStateResponse {
+
+    @JsonProperty("i")
+    private int instanceId;
+
+    @JsonProperty("c")
+    private Long channelId;
+}
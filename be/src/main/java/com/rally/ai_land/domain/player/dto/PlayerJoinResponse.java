@@ -4,11 +4,13 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
 @Data
 @SuperBuilder
+@Jacksonized
 @EqualsAndHashCode(callSuper = true)
 public class PlayerJoinResponse extends PlayerStateResponse {
 
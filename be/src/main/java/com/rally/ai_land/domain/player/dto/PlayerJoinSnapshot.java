@@ -0,0 +1,16 @@
+package com.rally.ai_land.domain.player.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+// [맵 입장] 입장 처리 후 맵 온라인 플레이어 목록 (P_Init 재료)
+@Data
+@Builder
+public class PlayerJoinSnapshot {
+
+    private List<PlayerInfo> playerInfoList;
+
+    private List<PlayerPosition> playerPositionList;
+}
@@ -3,9 +3,11 @@ package com.rally.ai_land.domain.player.dto;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
 
 @Data
 @SuperBuilder
+@Jacksonized
 @EqualsAndHashCode(callSuper = true)
 public class PlayerLeaveResponse extends PlayerStateResponse {
 
@@ -0,0 +1,21 @@
+package com.rally.ai_land.domain.player.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+// P_NODE: 맵 소유 노드가 바뀜 -> 구독자 전원이 새 소유 노드로 다시 연결 (위치는 넘겨받은 스냅샷에서 이어감)
+@Data
+@SuperBuilder
+@Jacksonized
+@EqualsAndHashCode(callSuper = true)
+public class PlayerNodeResponse extends PlayerStateResponse {
+
+    @JsonProperty("nd")
+    private String nodeId;
+
+    @JsonProperty("u")
+    private String url;
+}
@@ -2,9 +2,11 @@ package com.rally.ai_land.domain.player.dto;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 @Data
 @Builder
+@Jacksonized
 public class PlayerPosition {
 
     private Long playerId;
@@ -0,0 +1,22 @@
+package com.rally.ai_land.domain.player.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+// P_RESUME: 재연결한 클라이언트가 입장 때 받은 토큰과 마지막으로 받은 맵 스트림 순번으로 이어받기 요청
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class PlayerResumeRequest extends PlayerStateRequest {
+
+    @JsonProperty("rt")
+    private String resumeToken;
+
+    // 마지막으로 받은 프레임의 seq 헤더 (받은 적 없으면 0)
+    @JsonProperty("sq")
+    private long lastSequence;
+}
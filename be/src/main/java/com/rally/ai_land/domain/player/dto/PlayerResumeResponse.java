@@ -0,0 +1,26 @@
+package com.rally.ai_land.domain.player.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+// P_RESUME: 이어받기 토큰 발급/결과 (서버 -> 해당 세션만)
+// - 입장 시: rt 만 (resumed 없음)
+// - 이어받기 성공: 놓친 프레임 재전송 후 새 rt + resumed=true
+// - 이어받기 실패: resumed=false -> 클라이언트는 P_JOIN 으로 다시 입장
+@Data
+@SuperBuilder
+@Jacksonized
+@EqualsAndHashCode(callSuper = true)
+public class PlayerResumeResponse extends PlayerStateResponse {
+
+    @JsonProperty("rt")
+    private String resumeToken;
+
+    @JsonProperty("r")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean resumed;
+}
@@ -0,0 +1,28 @@
+package com.rally.ai_land.domain.player.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+@Data
+@SuperBuilder
+@Jacksonized
+@EqualsAndHashCode(callSuper = true)
+public class PlayerSnapshotResponse extends PlayerStateResponse {
+
+    // 직전 틱 이후 움직인 플레이어들의 마지막 위치
+    @JsonProperty("ps")
+    private List<PlayerPosition> playerPositionList;
+
+    // [AOI] 이번 틱에 시야로 들어온 플레이어 (위치는 ps 에 포함)
+    @JsonProperty("en")
+    private List<PlayerInfo> enteredPlayerList;
+
+    // [AOI] 이번 틱에 시야에서 나간 플레이어 ID
+    @JsonProperty("ex")
+    private List<Long> exitedPlayerIdList;
+}
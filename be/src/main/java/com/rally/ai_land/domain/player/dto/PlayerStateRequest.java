@@ -19,13 +19,15 @@ import lombok.experimental.SuperBuilder;
 @JsonSubTypes({
         @JsonSubTypes.Type(value = PlayerJoinRequest.class, name = ActionType.P_JOIN),
         @JsonSubTypes.Type(value = PlayerLeaveRequest.class, name = ActionType.P_LEAVE),
-        @JsonSubTypes.Type(value = PlayerPositionUpdateRequest.class, name = ActionType.P_MOVE)
+        @JsonSubTypes.Type(value = PlayerPositionUpdateRequest.class, name = ActionType.P_MOVE),
+        @JsonSubTypes.Type(value = PlayerResumeRequest.class, name = ActionType.P_RESUME)
 })
 public abstract class PlayerStateRequest {
 
     // TODO: String type 최적화
     // 플레이어 입장 및 퇴장: "P_JOIN", "P_LEAVE"
     // 플레이어 포지션 업데이트: "P_MOVE"
+    // 재연결 이어받기: "P_RESUME"
     @JsonProperty("t")
     private String type;
 
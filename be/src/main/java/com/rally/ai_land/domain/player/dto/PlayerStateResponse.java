@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+// 하위 응답은 @Jacksonized 빌더로 역직렬화 (다른 노드에서 중계된 프레임, ClusterTopicRelay)
 @Data
 @SuperBuilder
 @NoArgsConstructor
@@ -20,11 +21,15 @@ import lombok.experimental.SuperBuilder;
         @JsonSubTypes.Type(value = PlayerInitResponse.class, name = ActionType.P_Init),
         @JsonSubTypes.Type(value = PlayerJoinResponse.class, name = ActionType.P_JOIN),
         @JsonSubTypes.Type(value = PlayerLeaveResponse.class, name = ActionType.P_LEAVE),
-        @JsonSubTypes.Type(value = PlayerPositionUpdateResponse.class, name = ActionType.P_MOVE)
+        @JsonSubTypes.Type(value = PlayerPositionUpdateResponse.class, names = {ActionType.P_MOVE, ActionType.P_CORR}),
+        @JsonSubTypes.Type(value = PlayerSnapshotResponse.class, name = ActionType.P_SNAP),
+        @JsonSubTypes.Type(value = PlayerInstanceResponse.class, name = ActionType.P_INST),
+        @JsonSubTypes.Type(value = PlayerNodeResponse.class, name = ActionType.P_NODE),
+        @JsonSubTypes.Type(value = PlayerResumeResponse.class, name = ActionType.P_RESUME)
 })
 public abstract class PlayerStateResponse {
 
-    // P_INIT, P_JOIN, P_LEAVE, P_MOVE
+    // P_INIT, P_JOIN, P_LEAVE, P_MOVE, P_SNAP, P_CORR, P_INST, P_NODE, P_RESUME
     @JsonProperty("t")
     private String type;
 
@@ -0,0 +1,97 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.map.service.MapMetadata;
+import com.rally.ai_land.domain.map.service.MapMetadataRegistry;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// [AOI] 맵 별 공간 그리드 관리
+// - PlayerService 의 입장/이동/퇴장으로 그리드를 갱신
+// - MapTickBroadcaster 는 틱마다 시청자별 프레임을 받아 /user/queue/map/{mapId} 로 개별 전송
+// - 맵 크기: MapMetadataRegistry 의 실제 맵 크기(px), 메타데이터가 없는 맵만 player.aoi.map-width/height
+// - 셀 크기: player.aoi.cell-size (0 이면 맵 크기에서 유도)
+@Service
+@Slf4j
+public class AreaOfInterestService {
+
+    // 셀 크기를 유도할 때 맵 긴 변을 몇 칸으로 나눌지
+    private static final int DERIVED_CELLS_PER_SIDE = 5;
+
+    private final MapMetadataRegistry mapMetadataRegistry;
+    @Getter
+    private final boolean enabled;
+    private final int defaultMapWidth;
+    private final int defaultMapHeight;
+    private final int cellSize;
+
+    private final Map<Long, MapSpatialGrid> grids = new ConcurrentHashMap<>();
+
+    public AreaOfInterestService(MapMetadataRegistry mapMetadataRegistry,
+                                 @Value("${player.aoi.enabled:true}") boolean enabled,
+                                 @Value("${player.aoi.map-width:1600}") int defaultMapWidth,
+                                 @Value("${player.aoi.map-height:896}") int defaultMapHeight,
+                                 @Value("${player.aoi.cell-size:0}") int cellSize) {
+        this.mapMetadataRegistry = mapMetadataRegistry;
+        this.enabled = enabled;
+        this.defaultMapWidth = defaultMapWidth;
+        this.defaultMapHeight = defaultMapHeight;
+        this.cellSize = cellSize;
+    }
+
+    // [AOI] 입장: 입장한 플레이어의 시야(이웃 플레이어 ID) 반환
+    public Set<Long> join(Long mapId, Long playerId, String username, String name, double x, double y, short d) {
+        return grids.computeIfAbsent(mapId, this::createGrid).join(playerId, username, name, x, y, d);
+    }
+
+    // [AOI] 이동
+    public void move(Long mapId, Long playerId, double x, double y, short d) {
+        MapSpatialGrid grid = grids.get(mapId);
+        if (grid != null) grid.move(playerId, x, y, d);
+    }
+
+    // [AOI] 퇴장: 마지막 플레이어가 나가면 그리드 제거
+    public void leave(Long mapId, Long playerId) {
+        MapSpatialGrid grid = grids.get(mapId);
+        if (grid == null) return;
+
+        grid.leave(playerId);
+        if (grid.isEmpty()) grids.remove(mapId, grid);
+    }
+
+    // [AOI] 현재 시야 (본인 제외)
+    public Set<Long> visibleTo(Long mapId, Long playerId) {
+        MapSpatialGrid grid = grids.get(mapId);
+        return grid == null ? Set.of() : grid.visibleTo(playerId);
+    }
+
+    // [AOI] 해당 플레이어를 시야에 두고 있는 유저 이름 목록
+    public List<String> viewerUsernamesOf(Long mapId, Long playerId) {
+        MapSpatialGrid grid = grids.get(mapId);
+        return grid == null ? List.of() : grid.viewerUsernamesOf(playerId);
+    }
+
+    // [AOI] 틱 프레임 계산
+    public List<MapSpatialGrid.ViewerFrame> collectFrames(Long mapId, List<PlayerPosition> movedList) {
+        MapSpatialGrid grid = grids.get(mapId);
+        return grid == null ? List.of() : grid.collectFrames(movedList);
+    }
+
+    private MapSpatialGrid createGrid(Long mapId) {
+        MapMetadata metadata = mapMetadataRegistry.find(mapId);
+        int mapWidth = metadata == null ? defaultMapWidth : metadata.getWidthPixels();
+        int mapHeight = metadata == null ? defaultMapHeight : metadata.getHeightPixels();
+        int gridCellSize = cellSize > 0
+                ? cellSize
+                : Math.max(1, Math.max(mapWidth, mapHeight) / DERIVED_CELLS_PER_SIDE);
+        log.debug("[AOI] mapId={} 그리드 생성 ({}x{}, cell={})", mapId, mapWidth, mapHeight, gridCellSize);
+        return new MapSpatialGrid(mapWidth, mapHeight, gridCellSize);
+    }
+}
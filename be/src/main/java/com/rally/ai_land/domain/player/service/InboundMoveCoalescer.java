@@ -0,0 +1,140 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.player.dto.ActionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// [수신 합치기] 세션 별 P_MOVE 합치기 (맵 액터 적재 전 단계)
+// - 60Hz 로 보내는 클라이언트도 맵 틱(player.tick.hz)보다 자주 처리할 이유가 없음 -> 세션당 player.inbound.move-max-hz 로 제한
+// - 간격 안에 들어온 P_MOVE 는 세션별 마지막 하나만 대기, 간격이 지나면 그 하나만 맵 액터에 적재 (나머지는 coalesced)
+// - P_JOIN, P_LEAVE 는 바로 적재: 대기 중인 P_MOVE 가 있으면 먼저 적재해서 도착 순서 유지
+// - MapActorDispatcher 의 합치기는 메일박스 한도 초과 시의 안전장치, 여기는 평상시 처리량 제한
+// - 측정: player.inbound.moves{result=received|forwarded|coalesced}
+@Component
+@Slf4j
+public class InboundMoveCoalescer {
+
+    private final MapActorDispatcher mapActorDispatcher;
+    private final boolean enabled;
+    private final long minIntervalNanos;
+    private final ScheduledExecutorService flushExecutor;
+
+    private final Map<String, SessionMoves> sessions = new ConcurrentHashMap<>();
+
+    private final Counter receivedCounter;
+    private final Counter forwardedCounter;
+    private final Counter coalescedCounter;
+
+    public InboundMoveCoalescer(MapActorDispatcher mapActorDispatcher,
+                                MeterRegistry meterRegistry,
+                                @Value("${player.inbound.coalescing-enabled:true}") boolean enabled,
+                                @Value("${player.inbound.move-max-hz:20}") int moveMaxHz) {
+        this.mapActorDispatcher = mapActorDispatcher;
+        this.enabled = enabled && moveMaxHz > 0;
+        this.minIntervalNanos = moveMaxHz > 0 ? TimeUnit.SECONDS.toNanos(1) / moveMaxHz : 0;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inbound-move-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.receivedCounter = meterRegistry.counter("player.inbound.moves", "result", "received");
+        this.forwardedCounter = meterRegistry.counter("player.inbound.moves", "result", "forwarded");
+        this.coalescedCounter = meterRegistry.counter("player.inbound.moves", "result", "coalesced");
+    }
+
+    // [수신 합치기] MapActorDispatcher.dispatch 와 같은 인자 + 합치기 기준 sessionId
+    // 호출 스레드: clientInboundChannel
+    public void dispatch(String sessionId, Long mapId, String type, Long playerId, Runnable task) {
+        if (!enabled) {
+            mapActorDispatcher.dispatch(mapId, type, playerId, task);
+            return;
+        }
+
+        if (ActionType.P_MOVE.equals(type)) {
+            receivedCounter.increment();
+            sessions.computeIfAbsent(sessionId, id -> new SessionMoves())
+                    .offer(new PendingMove(mapId, playerId, task));
+            return;
+        }
+
+        SessionMoves moves = sessions.get(sessionId);
+        if (moves == null) {
+            mapActorDispatcher.dispatch(mapId, type, playerId, task);
+        } else {
+            moves.forwardAfterPending(mapId, type, playerId, task);
+        }
+    }
+
+    // 연결 해제: 대기 중인 P_MOVE 는 버림 (퇴장 처리가 뒤따름)
+    public void remove(String sessionId) {
+        SessionMoves moves = sessions.remove(sessionId);
+        if (moves != null) moves.discard();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdownNow();
+    }
+
+    private record PendingMove(Long mapId, Long playerId, Runnable task) {
+    }
+
+    // 세션 하나의 상태: 적재는 잠금 안에서 (적재 순서 = 도착 순서), 적재 자체는 큐 offer 라 짧음
+    private final class SessionMoves {
+        private PendingMove pending;
+        private long lastForwardedAt = System.nanoTime() - minIntervalNanos;
+        private boolean flushScheduled;
+
+        synchronized void offer(PendingMove move) {
+            long now = System.nanoTime();
+            if (pending == null && now - lastForwardedAt >= minIntervalNanos) {
+                forward(move, now);
+                return;
+            }
+
+            if (pending != null) coalescedCounter.increment();
+            pending = move;
+            if (!flushScheduled) {
+                flushScheduled = true;
+                long delay = Math.max(0, lastForwardedAt + minIntervalNanos - now);
+                flushExecutor.schedule(this::flush, delay, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        synchronized void forwardAfterPending(Long mapId, String type, Long playerId, Runnable task) {
+            if (pending != null) {
+                forward(pending, System.nanoTime());
+                pending = null;
+            }
+            mapActorDispatcher.dispatch(mapId, type, playerId, task);
+        }
+
+        synchronized void discard() {
+            pending = null;
+        }
+
+        private synchronized void flush() {
+            flushScheduled = false;
+            if (pending == null) return;
+
+            forward(pending, System.nanoTime());
+            pending = null;
+        }
+
+        private void forward(PendingMove move, long now) {
+            lastForwardedAt = now;
+            forwardedCounter.increment();
+            mapActorDispatcher.dispatch(move.mapId(), ActionType.P_MOVE, move.playerId(), move.task());
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.player.dto.ActionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// [맵 액터] 맵 별 단일 스레드 메일박스
+// - 같은 맵의 P_JOIN / P_MOVE / P_LEAVE 는 도착 순서대로 한 번에 하나씩 처리 (락 없이 직렬화)
+// - 다른 맵은 mapActorExecutor 스레드들에서 병렬 처리
+// - 메일박스 한도(player.actor.mailbox-capacity)를 넘으면
+//   P_MOVE: 플레이어별 마지막 값만 남기고 합침 (덮어쓴 이전 값은 dropped)
+//   P_JOIN, P_RESUME, P_LEAVE: 한도와 관계없이 항상 적재 (클라이언트는 재전송하지 않으므로 버리면 P_Init 없이 연결만 남거나 유령 플레이어가 남음)
+//   그 외(알 수 없는 타입): 상한(player.actor.mailbox-hard-limit)을 넘으면 거부
+//   -> P_MOVE 는 플레이어별로 합쳐지고 입장/퇴장은 연결 수만큼이라 메일박스는 유한
+// - 유휴 정리: player.actor.idle-evict-ms 동안 적재가 없고 비어 있는 액터는 제거 (맵/인스턴스 채널이 늘어도 액터와 미터가 쌓이지 않도록)
+//   적재와 제거는 actors 의 같은 키 잠금(compute) 안에서 -> 제거된 액터에 메시지가 남지 않음
+// - 측정: player.actor.mailbox.depth, player.actor.processing.latency (적재 ~ 처리 완료),
+//   player.actor.messages.conflated, player.actor.messages.dropped, player.actor.messages.rejected - mapId 태그
+@Component
+@Slf4j
+public class MapActorDispatcher {
+
+    // 한 번 드레인에서 처리할 최대 메시지 수 (다른 맵에 스레드를 양보하기 위해)
+    private static final int DRAIN_BATCH_SIZE = 256;
+
+    private final Executor mapActorExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int mailboxCapacity;
+    private final int mailboxHardLimit;
+    private final long idleEvictNanos;
+
+    private final Map<Long, MapActor> actors = new ConcurrentHashMap<>();
+
+    public MapActorDispatcher(@Qualifier("mapActorExecutor") Executor mapActorExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${player.actor.mailbox-capacity:1024}") int mailboxCapacity,
+                              @Value("${player.actor.mailbox-hard-limit:8192}") int mailboxHardLimit,
+                              @Value("${player.actor.idle-evict-ms:60000}") long idleEvictMillis) {
+        this.mapActorExecutor = mapActorExecutor;
+        this.meterRegistry = meterRegistry;
+        this.mailboxCapacity = mailboxCapacity;
+        this.mailboxHardLimit = Math.max(mailboxCapacity, mailboxHardLimit);
+        this.idleEvictNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictMillis);
+    }
+
+    // [맵 액터] 메시지 적재: type 은 ActionType 문자열, playerId 는 P_MOVE 합치기 기준
+    // 드레인 예약(executor 제출)은 키 잠금 밖에서
+    public void dispatch(Long mapId, String type, Long playerId, Runnable task) {
+        Envelope envelope = new Envelope(type, playerId, task, System.nanoTime());
+        MapActor actor = actors.compute(mapId, (id, current) -> {
+            MapActor target = current == null ? new MapActor(id) : current;
+            target.enqueue(envelope);
+            return target;
+        });
+        actor.schedule();
+    }
+
+    // [유휴 정리] idle-evict-ms 동안 적재가 없고 비어 있는 액터 제거 (0 이하면 끔)
+    @Scheduled(fixedDelayString = "${player.actor.idle-evict-ms:60000}")
+    public void evictIdle() {
+        if (idleEvictNanos <= 0) return;
+        evictIdleBefore(System.nanoTime() - idleEvictNanos);
+    }
+
+    void evictIdleBefore(long lastEnqueuedBefore) {
+        for (Long mapId : actors.keySet()) {
+            actors.computeIfPresent(mapId, (id, actor) -> {
+                if (!actor.isIdleSince(lastEnqueuedBefore)) return actor;
+                actor.removeMeters();
+                return null;
+            });
+        }
+    }
+
+    // 현재 메일박스 깊이 (합쳐진 P_MOVE 포함)
+    public int depthOf(Long mapId) {
+        MapActor actor = actors.get(mapId);
+        return actor == null ? 0 : actor.depth();
+    }
+
+    private record Envelope(String type, Long playerId, Runnable task, long enqueuedAt) {
+    }
+
+    private final class MapActor {
+        private final Long mapId;
+        private final Queue<Envelope> mailbox = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger mailboxSize = new AtomicInteger();
+        // 한도 초과 시 합쳐진 P_MOVE (플레이어별 마지막 값)
+        private final Map<Long, Envelope> conflatedMoves = new ConcurrentHashMap<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // 마지막 적재 시각 (nanoTime), 적재는 actors 키 잠금 안에서만
+        private volatile long lastEnqueuedAt = System.nanoTime();
+
+        private final Timer processingTimer;
+        private final Counter conflatedCounter;
+        private final Counter droppedCounter;
+        private final Counter rejectedCounter;
+        private final Gauge depthGauge;
+
+        MapActor(Long mapId) {
+            this.mapId = mapId;
+            String mapTag = String.valueOf(mapId);
+            this.processingTimer = Timer.builder("player.actor.processing.latency")
+                    .tag("mapId", mapTag)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            this.conflatedCounter = meterRegistry.counter("player.actor.messages.conflated", "mapId", mapTag);
+            this.droppedCounter = meterRegistry.counter("player.actor.messages.dropped", "mapId", mapTag);
+            this.rejectedCounter = meterRegistry.counter("player.actor.messages.rejected", "mapId", mapTag);
+            this.depthGauge = Gauge.builder("player.actor.mailbox.depth", this, MapActor::depth)
+                    .tag("mapId", mapTag)
+                    .register(meterRegistry);
+        }
+
+        int depth() {
+            return mailboxSize.get() + conflatedMoves.size();
+        }
+
+        boolean isIdleSince(long lastEnqueuedBefore) {
+            return lastEnqueuedAt - lastEnqueuedBefore <= 0
+                    && mailboxSize.get() == 0 && conflatedMoves.isEmpty() && !scheduled.get();
+        }
+
+        // 제거 후 같은 맵에 액터가 다시 생기면 새 액터 기준으로 다시 등록 (게이지가 이전 액터를 붙잡지 않도록)
+        void removeMeters() {
+            for (Meter meter : List.<Meter>of(processingTimer, conflatedCounter, droppedCounter, rejectedCounter, depthGauge)) {
+                meterRegistry.remove(meter);
+            }
+        }
+
+        void enqueue(Envelope envelope) {
+            lastEnqueuedAt = envelope.enqueuedAt();
+            boolean move = ActionType.P_MOVE.equals(envelope.type()) && envelope.playerId() != null;
+
+            if (!move && !isMembershipChange(envelope.type()) && mailboxSize.get() >= mailboxHardLimit) {
+                rejectedCounter.increment();
+                log.warn("[맵 액터] 메일박스 상한 초과로 거부 - mapId={} type={} playerId={}", mapId, envelope.type(), envelope.playerId());
+            } else if (move && mailboxSize.get() >= mailboxCapacity) {
+                conflatedCounter.increment();
+                if (conflatedMoves.put(envelope.playerId(), envelope) != null) droppedCounter.increment();
+            } else {
+                // 메일박스에 더 새로운 이동이 들어가므로 합쳐둔 예전 값은 버림
+                if (move && conflatedMoves.remove(envelope.playerId()) != null) droppedCounter.increment();
+                mailboxSize.incrementAndGet();
+                mailbox.offer(envelope);
+            }
+        }
+
+        private boolean isMembershipChange(String type) {
+            return ActionType.P_JOIN.equals(type) || ActionType.P_RESUME.equals(type) || ActionType.P_LEAVE.equals(type);
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                mapActorExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                int processed = 0;
+                Envelope envelope;
+                while (processed < DRAIN_BATCH_SIZE && (envelope = mailbox.poll()) != null) {
+                    mailboxSize.decrementAndGet();
+                    // 퇴장/재입장 이후에 예전 이동이 처리되지 않도록 합쳐진 P_MOVE 제거
+                    if (!ActionType.P_MOVE.equals(envelope.type()) && envelope.playerId() != null) {
+                        if (conflatedMoves.remove(envelope.playerId()) != null) droppedCounter.increment();
+                    }
+                    process(envelope);
+                    processed++;
+                }
+                // 합쳐진 P_MOVE 는 메일박스의 이전 메시지를 모두 처리한 뒤에 적용
+                if (mailbox.isEmpty()) drainConflatedMoves();
+            } finally {
+                scheduled.set(false);
+                // 플래그를 내리는 사이 들어온 메시지가 있으면 다시 예약
+                if (!mailbox.isEmpty() || !conflatedMoves.isEmpty()) schedule();
+            }
+        }
+
+        private void drainConflatedMoves() {
+            Iterator<Map.Entry<Long, Envelope>> iterator = conflatedMoves.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Envelope> entry = iterator.next();
+                if (conflatedMoves.remove(entry.getKey(), entry.getValue())) {
+                    process(entry.getValue());
+                }
+            }
+        }
+
+        private void process(Envelope envelope) {
+            try {
+                envelope.task().run();
+            } catch (Exception e) {
+                // 메시지 하나의 실패가 맵 전체 처리를 멈추지 않도록 여기서 삼킴
+                log.error("[맵 액터] mapId={} type={} playerId={} 처리 실패", mapId, envelope.type(), envelope.playerId(), e);
+            } finally {
+                processingTimer.record(System.nanoTime() - envelope.enqueuedAt(), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.common.websocket.ClusterTopicRelay.RemoteFrameEvent;
+import com.rally.ai_land.common.websocket.EncodedFrame;
+import com.rally.ai_land.common.websocket.EncodedFrameSender;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerInfo;
+import com.rally.ai_land.domain.player.dto.PlayerInitResponse;
+import com.rally.ai_land.domain.player.dto.PlayerJoinResponse;
+import com.rally.ai_land.domain.player.dto.PlayerJoinSnapshot;
+import com.rally.ai_land.domain.player.dto.PlayerLeaveResponse;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import com.rally.ai_land.domain.player.dto.PlayerSnapshotResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// [P_Init 스냅샷] 맵 별 플레이어 목록(정보 + 위치)을 메모리에서 증분 유지
+// - 입장/퇴장/이동(PlayerService, 맵 액터 스레드)으로 갱신하고 변경마다 version 증가
+// - 직렬화 결과(JSON, 바이너리)는 version 이 바뀔 때까지 재사용
+// - 입장자의 P_Init 은 바로 보내지 않고 모아두었다가 맵 틱에서 한 번 직렬화한 바이트를 그대로 전송 (EncodedFrameSender)
+//   AOI 사용 시: 시야(본인 포함)가 같은 입장자끼리 공유 (같은 틱에 스폰 지점으로 들어온 입장자는 대부분 한 묶음)
+// - Redis 온라인 목록은 이 노드에 맵 스냅샷이 없을 때(첫 입장, 모두 퇴장한 뒤)만 조회해서 채움
+// - 다른 노드에서 처리된 입장/퇴장/이동은 ClusterTopicRelay 가 중계한 프레임으로 반영
+// - 측정: player.init.snapshot.encodes (직렬화할 P_Init 프레임 생성 횟수), player.init.snapshot.sends (P_Init 전송 수) - mapId 태그, 스냅샷 제거 시 함께 제거
+@Component
+public class MapInitSnapshotService {
+
+    private final EncodedFrameSender encodedFrameSender;
+    private final AreaOfInterestService areaOfInterestService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, MapInitSnapshot> snapshots = new ConcurrentHashMap<>();
+    // 모든 맵이 공유하는 version 발급기: 스냅샷을 다시 채워도 맵의 version 은 계속 증가
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    public MapInitSnapshotService(EncodedFrameSender encodedFrameSender,
+                                  AreaOfInterestService areaOfInterestService,
+                                  MeterRegistry meterRegistry) {
+        this.encodedFrameSender = encodedFrameSender;
+        this.areaOfInterestService = areaOfInterestService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isSeeded(Long mapId) {
+        return snapshots.containsKey(mapId);
+    }
+
+    // [P_Init 스냅샷] Redis 에서 읽은 온라인 목록으로 맵 스냅샷 생성 (입장한 본인 포함)
+    // 측정값 등록은 leave 의 제거와 같은 키의 compute 안에서 (제거된 측정값을 새 스냅샷이 붙잡지 않도록)
+    public void seed(Long mapId, PlayerJoinSnapshot joinSnapshot) {
+        snapshots.compute(mapId, (id, previous) -> {
+            MapInitSnapshot snapshot = new MapInitSnapshot(id);
+            snapshot.seed(joinSnapshot.getPlayerInfoList(), joinSnapshot.getPlayerPositionList());
+            return snapshot;
+        });
+    }
+
+    public void join(Long mapId, PlayerInfo playerInfo, PlayerPosition playerPosition) {
+        MapInitSnapshot snapshot = snapshots.get(mapId);
+        if (snapshot != null) snapshot.join(playerInfo, playerPosition);
+    }
+
+    // 마지막 플레이어가 나가면 스냅샷과 mapId 측정값 제거 (다음 입장 때 Redis 에서 다시 채움)
+    public void leave(Long mapId, Long playerId) {
+        snapshots.computeIfPresent(mapId, (id, snapshot) -> {
+            if (!snapshot.leave(playerId)) return snapshot;
+            snapshot.removeMeters();
+            return null;
+        });
+    }
+
+    public void move(Long mapId, PlayerPosition playerPosition) {
+        MapInitSnapshot snapshot = snapshots.get(mapId);
+        if (snapshot != null) snapshot.move(playerPosition);
+    }
+
+    // [클러스터 릴레이] 다른 노드의 P_JOIN / P_LEAVE / P_SNAP 반영 (호출 스레드: Redis 리스너)
+    // 스냅샷이 없는 맵은 다음 입장 때 Redis 에서 채우므로 무시
+    @EventListener
+    public void onRemoteFrame(RemoteFrameEvent event) {
+        Long mapId = event.mapId();
+        if (!isSeeded(mapId)) return;
+
+        if (event.response() instanceof PlayerJoinResponse joinResponse) {
+            if (joinResponse.getPlayerPosition() == null) return;
+            join(mapId,
+                    PlayerInfo.builder().playerId(joinResponse.getPlayerId()).name(joinResponse.getName()).build(),
+                    joinResponse.getPlayerPosition());
+        } else if (event.response() instanceof PlayerLeaveResponse leaveResponse) {
+            leave(mapId, leaveResponse.getPlayerId());
+        } else if (event.response() instanceof PlayerSnapshotResponse snapshotResponse) {
+            if (snapshotResponse.getPlayerPositionList() != null) {
+                snapshotResponse.getPlayerPositionList().forEach(position -> move(mapId, position));
+            }
+            if (snapshotResponse.getExitedPlayerIdList() != null) {
+                snapshotResponse.getExitedPlayerIdList().forEach(playerId -> leave(mapId, playerId));
+            }
+        }
+    }
+
+    // [맵 소유] 넘겨줄 위치 스냅샷 (스냅샷이 없으면 빈 목록)
+    public List<PlayerPosition> positionsOf(Long mapId) {
+        MapInitSnapshot snapshot = snapshots.get(mapId);
+        return snapshot == null ? List.of() : snapshot.positions();
+    }
+
+    // 스냅샷이 없으면 -1
+    public long versionOf(Long mapId) {
+        MapInitSnapshot snapshot = snapshots.get(mapId);
+        return snapshot == null ? -1 : snapshot.version();
+    }
+
+    // [P_Init] 입장자 등록: 다음 맵 틱에서 전송
+    public void enqueueInit(Long mapId, Long playerId, String username) {
+        MapInitSnapshot snapshot = snapshots.get(mapId);
+        if (snapshot != null) snapshot.pendingInits.add(new PendingInit(playerId, username));
+    }
+
+    public boolean hasPendingInits(Long mapId) {
+        MapInitSnapshot snapshot = snapshots.get(mapId);
+        return snapshot != null && !snapshot.pendingInits.isEmpty();
+    }
+
+    // [P_Init] 모인 입장자에게 전송 (맵 틱에서 호출), 반환: 전송 수
+    public int flushPendingInits(Long mapId) {
+        MapInitSnapshot snapshot = snapshots.get(mapId);
+        if (snapshot == null || snapshot.pendingInits.isEmpty()) return 0;
+        return snapshot.flush();
+    }
+
+    private record PendingInit(Long playerId, String username) {}
+
+    private final class MapInitSnapshot {
+        private final Long mapId;
+        private final String userDestination;
+        private final Queue<PendingInit> pendingInits = new ConcurrentLinkedQueue<>();
+        // 입장 순서 유지
+        private final Map<Long, PlayerInfo> infos = new LinkedHashMap<>();
+        private final Map<Long, PlayerPosition> positions = new LinkedHashMap<>();
+        private final Counter encodeCounter;
+        private final Counter sendCounter;
+        private long version;
+        // AOI 미사용 시 전체 스냅샷 직렬화 결과 (version 이 같으면 틱을 넘어서도 재사용)
+        private EncodedFrame encodedFull;
+        private long encodedFullVersion = -1;
+
+        MapInitSnapshot(Long mapId) {
+            this.mapId = mapId;
+            this.userDestination = "/queue/map/" + mapId;
+            this.encodeCounter = meterRegistry.counter("player.init.snapshot.encodes", "mapId", String.valueOf(mapId));
+            this.sendCounter = meterRegistry.counter("player.init.snapshot.sends", "mapId", String.valueOf(mapId));
+        }
+
+        // 채널 id(맵 x 인스턴스)는 끝없이 늘어날 수 있으므로 비워진 맵의 측정값은 제거
+        void removeMeters() {
+            meterRegistry.remove(encodeCounter);
+            meterRegistry.remove(sendCounter);
+        }
+
+        synchronized void seed(List<PlayerInfo> playerInfoList, List<PlayerPosition> playerPositionList) {
+            playerInfoList.forEach(info -> infos.put(info.getPlayerId(), info));
+            playerPositionList.forEach(position -> positions.put(position.getPlayerId(), position));
+            version = versionSequence.incrementAndGet();
+        }
+
+        synchronized void join(PlayerInfo playerInfo, PlayerPosition playerPosition) {
+            infos.put(playerInfo.getPlayerId(), playerInfo);
+            positions.put(playerPosition.getPlayerId(), playerPosition);
+            version = versionSequence.incrementAndGet();
+        }
+
+        // 반환: 비었는지
+        synchronized boolean leave(Long playerId) {
+            boolean removed = infos.remove(playerId) != null;
+            removed |= positions.remove(playerId) != null;
+            if (removed) version = versionSequence.incrementAndGet();
+            return infos.isEmpty();
+        }
+
+        synchronized void move(PlayerPosition playerPosition) {
+            // 이미 퇴장한 플레이어의 늦은 이동은 무시
+            if (!infos.containsKey(playerPosition.getPlayerId())) return;
+            positions.put(playerPosition.getPlayerId(), playerPosition);
+            version = versionSequence.incrementAndGet();
+        }
+
+        synchronized List<PlayerPosition> positions() {
+            return new ArrayList<>(positions.values());
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        // 전송까지 잠금 안에서: 읽은 스냅샷보다 새로운 P_JOIN/P_LEAVE 가 먼저 나가지 않도록
+        synchronized int flush() {
+            List<PendingInit> joiners = new ArrayList<>();
+            PendingInit pendingInit;
+            while ((pendingInit = pendingInits.poll()) != null) joiners.add(pendingInit);
+
+            boolean aoiEnabled = areaOfInterestService.isEnabled();
+            Map<Set<Long>, EncodedFrame> encodedByAudience = new HashMap<>();
+            int sent = 0;
+            for (PendingInit joiner : joiners) {
+                // 전송 전에 퇴장한 입장자
+                if (!infos.containsKey(joiner.playerId())) continue;
+
+                EncodedFrame encoded;
+                if (aoiEnabled) {
+                    Set<Long> audience = new HashSet<>(areaOfInterestService.visibleTo(mapId, joiner.playerId()));
+                    audience.add(joiner.playerId());
+                    encoded = encodedByAudience.computeIfAbsent(audience, this::encode);
+                } else {
+                    encoded = encodedFull();
+                }
+                encodedFrameSender.sendToUser(joiner.username(), userDestination, encoded);
+                sent++;
+            }
+            sendCounter.increment(sent);
+            return sent;
+        }
+
+        private EncodedFrame encodedFull() {
+            if (encodedFull == null || encodedFullVersion != version) {
+                encodedFull = encode(null);
+                encodedFullVersion = version;
+            }
+            return encodedFull;
+        }
+
+        private EncodedFrame encode(Set<Long> audience) {
+            encodeCounter.increment();
+            return encodedFrameSender.encode(toResponse(audience));
+        }
+
+        // audience == null: 전체
+        // 입장자끼리 공유하므로 p(playerId) 는 비움 (클라이언트는 P_Init 의 p 를 사용하지 않음)
+        private PlayerInitResponse toResponse(Set<Long> audience) {
+            List<PlayerInfo> playerInfoList = new ArrayList<>(infos.size());
+            for (PlayerInfo info : infos.values()) {
+                if (audience == null || audience.contains(info.getPlayerId())) playerInfoList.add(info);
+            }
+            List<PlayerPosition> playerPositionList = new ArrayList<>(positions.size());
+            for (PlayerPosition position : positions.values()) {
+                if (audience == null || audience.contains(position.getPlayerId())) playerPositionList.add(position);
+            }
+            return PlayerInitResponse.builder()
+                    .type(ActionType.P_Init)
+                    .playerInfoList(playerInfoList)
+                    .playerPositionList(playerPositionList)
+                    .build();
+        }
+    }
+}
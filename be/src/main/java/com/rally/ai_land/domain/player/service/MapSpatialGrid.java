@@ -0,0 +1,208 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.player.dto.PlayerInfo;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// [AOI] 맵 하나의 균일 공간 해시 (Uniform Grid)
+// - 셀 크기 단위로 맵을 나누고, 플레이어는 자기 셀 기준 3x3 이웃 셀 안의 플레이어만 본다
+// - 이웃 관계는 대칭이므로 "A 가 B 를 본다" == "B 가 A 를 본다"
+// - 모든 공개 메서드는 그리드 단위로 동기화 (맵 하나당 락 하나)
+public class MapSpatialGrid {
+
+    @Getter
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+
+    private final Map<Long, Member> members = new HashMap<>();
+    private final Map<Integer, Set<Long>> cells = new HashMap<>();
+
+    public MapSpatialGrid(int mapWidth, int mapHeight, int cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (mapWidth + cellSize - 1) / cellSize);
+        this.rows = Math.max(1, (mapHeight + cellSize - 1) / cellSize);
+    }
+
+    // 입장: 본인 시야(이웃 플레이어 ID)를 반환하고, 이웃들의 시야에도 본인을 추가
+    public synchronized Set<Long> join(Long playerId, String username, String name, double x, double y, short d) {
+        leave(playerId);
+
+        Member member = new Member(playerId, username, name);
+        member.update(x, y, d);
+        member.cell = cellOf(x, y);
+        members.put(playerId, member);
+        cells.computeIfAbsent(member.cell, cell -> new HashSet<>()).add(playerId);
+
+        member.visible.addAll(playersAround(member));
+        for (Long viewerId : member.visible) {
+            members.get(viewerId).visible.add(playerId);
+        }
+        return new HashSet<>(member.visible);
+    }
+
+    // 퇴장: 셀과 모든 시야에서 제거
+    public synchronized void leave(Long playerId) {
+        Member member = members.remove(playerId);
+        if (member == null) return;
+
+        removeFromCell(member);
+        for (Long viewerId : member.visible) {
+            Member viewer = members.get(viewerId);
+            if (viewer != null) viewer.visible.remove(playerId);
+        }
+    }
+
+    // 이동: 위치와 셀만 갱신 (시야 변화는 틱에서 한 번에 계산)
+    public synchronized void move(Long playerId, double x, double y, short d) {
+        Member member = members.get(playerId);
+        if (member == null) return;
+
+        member.update(x, y, d);
+        int cell = cellOf(x, y);
+        if (cell != member.cell) {
+            removeFromCell(member);
+            member.cell = cell;
+            cells.computeIfAbsent(cell, key -> new HashSet<>()).add(playerId);
+        }
+    }
+
+    // 현재 시야 (본인 제외)
+    public synchronized Set<Long> visibleTo(Long playerId) {
+        Member member = members.get(playerId);
+        return member == null ? Set.of() : new HashSet<>(member.visible);
+    }
+
+    // 해당 플레이어를 보고 있는 유저 이름 목록 (시야가 대칭이므로 본인 시야와 같음)
+    public synchronized List<String> viewerUsernamesOf(Long playerId) {
+        Member member = members.get(playerId);
+        if (member == null) return List.of();
+
+        List<String> usernameList = new ArrayList<>(member.visible.size());
+        for (Long viewerId : member.visible) {
+            usernameList.add(members.get(viewerId).username);
+        }
+        return usernameList;
+    }
+
+    public synchronized boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    // [틱] 틱 동안 움직인 플레이어 목록으로 시청자별 프레임 계산
+    // - 시야 안에서 움직인 플레이어의 위치
+    // - 새로 시야에 들어온 플레이어 (정보 + 현재 위치)
+    // - 시야에서 나간 플레이어 ID
+    public synchronized List<ViewerFrame> collectFrames(List<PlayerPosition> movedList) {
+        Map<Long, PlayerPosition> moved = new HashMap<>(movedList.size() * 2);
+        for (PlayerPosition position : movedList) {
+            moved.put(position.getPlayerId(), position);
+        }
+
+        List<ViewerFrame> frameList = new ArrayList<>();
+        for (Member viewer : members.values()) {
+            Set<Long> around = playersAround(viewer);
+
+            List<PlayerPosition> positionList = new ArrayList<>();
+            List<PlayerInfo> enteredList = new ArrayList<>();
+            List<Long> exitedList = new ArrayList<>();
+
+            for (Long otherId : around) {
+                if (!viewer.visible.contains(otherId)) {
+                    Member other = members.get(otherId);
+                    enteredList.add(PlayerInfo.builder().playerId(otherId).name(other.name).build());
+                    positionList.add(other.toPlayerPosition());
+                } else {
+                    PlayerPosition position = moved.get(otherId);
+                    if (position != null) positionList.add(position);
+                }
+            }
+            for (Long otherId : viewer.visible) {
+                if (!around.contains(otherId)) exitedList.add(otherId);
+            }
+
+            viewer.visible.clear();
+            viewer.visible.addAll(around);
+
+            if (!positionList.isEmpty() || !exitedList.isEmpty()) {
+                frameList.add(new ViewerFrame(viewer.username, positionList, enteredList, exitedList));
+            }
+        }
+        return frameList;
+    }
+
+    private Set<Long> playersAround(Member member) {
+        int cx = member.cell % columns;
+        int cy = member.cell / columns;
+
+        Set<Long> around = new HashSet<>();
+        for (int ny = Math.max(0, cy - 1); ny <= Math.min(rows - 1, cy + 1); ny++) {
+            for (int nx = Math.max(0, cx - 1); nx <= Math.min(columns - 1, cx + 1); nx++) {
+                Set<Long> cellPlayers = cells.get(ny * columns + nx);
+                if (cellPlayers != null) around.addAll(cellPlayers);
+            }
+        }
+        around.remove(member.playerId);
+        return around;
+    }
+
+    private void removeFromCell(Member member) {
+        Set<Long> cellPlayers = cells.get(member.cell);
+        if (cellPlayers == null) return;
+        cellPlayers.remove(member.playerId);
+        if (cellPlayers.isEmpty()) cells.remove(member.cell);
+    }
+
+    // 맵 밖 좌표는 가장자리 셀로 보정
+    private int cellOf(double x, double y) {
+        int cx = Math.min(columns - 1, Math.max(0, (int) (x / cellSize)));
+        int cy = Math.min(rows - 1, Math.max(0, (int) (y / cellSize)));
+        return cy * columns + cx;
+    }
+
+    // [틱] 한 시청자에게 보낼 프레임 내용
+    public record ViewerFrame(String username,
+                              List<PlayerPosition> positionList,
+                              List<PlayerInfo> enteredList,
+                              List<Long> exitedList) {
+    }
+
+    private static final class Member {
+        private final Long playerId;
+        private final String username;
+        private final String name;
+        private final Set<Long> visible = new HashSet<>();
+        private double x;
+        private double y;
+        private short d;
+        private int cell;
+
+        Member(Long playerId, String username, String name) {
+            this.playerId = playerId;
+            this.username = username;
+            this.name = name;
+        }
+
+        void update(double x, double y, short d) {
+            this.x = x;
+            this.y = y;
+            this.d = d;
+        }
+
+        PlayerPosition toPlayerPosition() {
+            return PlayerPosition.builder()
+                    .playerId(playerId)
+                    .x(x)
+                    .y(y)
+                    .d(d)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.common.websocket.EncodedFrame;
+import com.rally.ai_land.common.websocket.EncodedFrameSender;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerInfo;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import com.rally.ai_land.domain.player.dto.PlayerSnapshotResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// [맵 틱] 맵 별 고정 주기 브로드캐스트
+// - P_MOVE 는 바로 보내지 않고 플레이어별 마지막 위치만 모아두었다가, 틱마다 P_SNAP 한 프레임으로 전송
+// - P_JOIN, P_LEAVE 는 PlayerService 에서 즉시 전송 (여기 거치지 않음)
+// - 입장자 P_Init 은 틱 시작 시 MapInitSnapshotService 가 모아서 전송 (같은 틱의 입장자는 직렬화 결과 공유)
+// - 작은 이동은 MovementFilter 가 미루고, 키프레임 주기가 되면 틱에 합쳐서 전송
+// - AOI 사용 시 /topic 대신 시청자별로 /user/queue/map/{mapId} 에 시야 안의 이동만 전송
+//   내용이 같은 시청자 프레임은 한 번만 인코딩해서 공유 (EncodedFrameSender)
+//   다른 노드에는 전체 프레임을 /topic 으로 중계 (AOI 그리드는 노드 로컬)
+// - 정지/재시작: 이동 등록과 루프 정지 판단은 모두 loops.compute 안에서 (같은 맵 키의 compute 는 순서대로 실행)
+//   -> 정지 판단 전에 들어온 이동은 남은 값으로 보여 루프가 계속 돌고, 정지 후에 들어온 이동은 새 루프가 받음
+// - 측정: map.tick.duration (틱 처리 시간), map.tick.frame.size (프레임당 포지션 수) - mapId 태그, 루프 정지 시 제거
+@Component
+@Slf4j
+public class MapTickBroadcaster {
+
+    private static final int MIN_TICK_HZ = 10;
+    private static final int MAX_TICK_HZ = 30;
+
+    // 연속으로 빈 틱이 이만큼 쌓이면 해당 맵 루프 정지 (다음 P_MOVE 때 재시작)
+    private static final int IDLE_TICKS_BEFORE_STOP = 100;
+
+    private final EncodedFrameSender encodedFrameSender;
+    private final AreaOfInterestService areaOfInterestService;
+    private final MovementFilter movementFilter;
+    private final MapInitSnapshotService mapInitSnapshotService;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService tickExecutor;
+    private final long tickIntervalMicros;
+
+    private final Map<Long, MapTickLoop> loops = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MapTickBroadcaster(EncodedFrameSender encodedFrameSender,
+                              AreaOfInterestService areaOfInterestService,
+                              MovementFilter movementFilter,
+                              MapInitSnapshotService mapInitSnapshotService,
+                              MeterRegistry meterRegistry,
+                              @Value("${player.tick.hz:20}") int tickHz,
+                              @Value("${player.tick.threads:2}") int tickThreads) {
+        this(encodedFrameSender, areaOfInterestService, movementFilter, mapInitSnapshotService, meterRegistry, tickHz,
+                newTickExecutor(tickThreads));
+    }
+
+    // 테스트에서 틱 실행 시점을 직접 제어할 때 사용
+    MapTickBroadcaster(EncodedFrameSender encodedFrameSender,
+                       AreaOfInterestService areaOfInterestService,
+                       MovementFilter movementFilter,
+                       MapInitSnapshotService mapInitSnapshotService,
+                       MeterRegistry meterRegistry,
+                       int tickHz,
+                       ScheduledExecutorService tickExecutor) {
+        this.encodedFrameSender = encodedFrameSender;
+        this.areaOfInterestService = areaOfInterestService;
+        this.movementFilter = movementFilter;
+        this.mapInitSnapshotService = mapInitSnapshotService;
+        this.meterRegistry = meterRegistry;
+        this.tickExecutor = tickExecutor;
+
+        int clampedHz = Math.max(MIN_TICK_HZ, Math.min(MAX_TICK_HZ, tickHz));
+        if (clampedHz != tickHz) {
+            log.warn("[맵 틱] player.tick.hz={} 는 허용 범위({}~{}) 밖이라 {} 로 조정합니다.", tickHz, MIN_TICK_HZ, MAX_TICK_HZ, clampedHz);
+        }
+        this.tickIntervalMicros = 1_000_000L / clampedHz;
+    }
+
+    private static ScheduledExecutorService newTickExecutor(int tickThreads) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newScheduledThreadPool(tickThreads, runnable -> {
+            Thread thread = new Thread(runnable, "map-tick-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // [맵 틱] 이동 등록: 같은 틱 안에서는 플레이어별 마지막 위치만 남김
+    // - 필터가 미룬 이동도 루프는 띄워둠 (키프레임 전송을 위해)
+    public void offerPosition(Long mapId, PlayerPosition playerPosition) {
+        boolean accepted = movementFilter.offer(mapId, playerPosition, System.currentTimeMillis());
+        loops.compute(mapId, (id, loop) -> {
+            MapTickLoop target = loop == null ? startLoop(id) : loop;
+            if (accepted) target.offer(playerPosition);
+            return target;
+        });
+    }
+
+    // [맵 틱] 루프가 없으면 시작 (P_Init 대기 등 이동 외의 틱 작업)
+    public void wake(Long mapId) {
+        loops.computeIfAbsent(mapId, this::startLoop);
+    }
+
+    // [맵 틱] 퇴장한 플레이어의 미전송 이동 제거 (P_LEAVE 이후 P_SNAP 에 다시 나타나지 않도록)
+    public void discardPlayer(Long mapId, Long playerId) {
+        MapTickLoop loop = loops.get(mapId);
+        if (loop != null) loop.pending.remove(playerId);
+        movementFilter.forget(mapId, playerId);
+    }
+
+    private MapTickLoop startLoop(Long mapId) {
+        MapTickLoop loop = new MapTickLoop(mapId);
+        loop.future = tickExecutor.scheduleAtFixedRate(loop::tick, tickIntervalMicros, tickIntervalMicros, TimeUnit.MICROSECONDS);
+        return loop;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tickExecutor.shutdownNow();
+    }
+
+    private final class MapTickLoop {
+        private final Long mapId;
+        private final String destination;
+        private final String userDestination;
+        private final ConcurrentHashMap<Long, PlayerPosition> pending = new ConcurrentHashMap<>();
+        private final Timer tickTimer;
+        private final DistributionSummary frameSizeSummary;
+        private ScheduledFuture<?> future;
+        private int idleTicks;
+
+        MapTickLoop(Long mapId) {
+            this.mapId = mapId;
+            this.destination = "/topic/map/" + mapId;
+            this.userDestination = "/queue/map/" + mapId;
+            this.tickTimer = Timer.builder("map.tick.duration")
+                    .tag("mapId", String.valueOf(mapId))
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            this.frameSizeSummary = DistributionSummary.builder("map.tick.frame.size")
+                    .tag("mapId", String.valueOf(mapId))
+                    .baseUnit("positions")
+                    .register(meterRegistry);
+        }
+
+        void offer(PlayerPosition playerPosition) {
+            pending.put(playerPosition.getPlayerId(), playerPosition);
+        }
+
+        void tick() {
+            try {
+                // 입장자 P_Init 을 먼저 보내야 이후 P_SNAP 이 그 위에 적용됨
+                int initSent = mapInitSnapshotService.flushPendingInits(mapId);
+
+                for (PlayerPosition keyframe : movementFilter.drainDueKeyframes(mapId, System.currentTimeMillis())) {
+                    pending.put(keyframe.getPlayerId(), keyframe);
+                }
+                if (pending.isEmpty()) {
+                    if (initSent > 0 || movementFilter.hasDeferred(mapId)) {
+                        idleTicks = 0;
+                        return;
+                    }
+                    if (++idleTicks >= IDLE_TICKS_BEFORE_STOP) stopIfIdle();
+                    return;
+                }
+                idleTicks = 0;
+
+                long start = System.nanoTime();
+                List<PlayerPosition> frame = drain();
+                if (!frame.isEmpty()) {
+                    if (areaOfInterestService.isEnabled()) {
+                        // 전체 프레임을 먼저 중계해서 받은 맵 스트림 순번을 시청자별 프레임에도 붙임
+                        EncodedFrame fullFrame = encodedFrameSender.encode(PlayerSnapshotResponse.builder()
+                                .type(ActionType.P_SNAP)
+                                .playerPositionList(frame)
+                                .build());
+                        encodedFrameSender.relayToTopic(destination, fullFrame);
+                        sendPerViewer(frame, fullFrame.sequence());
+                    } else {
+                        encodedFrameSender.sendToTopic(destination,
+                                PlayerSnapshotResponse.builder()
+                                        .type(ActionType.P_SNAP)
+                                        .playerPositionList(frame)
+                                        .build());
+                    }
+                    frameSizeSummary.record(frame.size());
+                }
+                tickTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            } catch (Exception e) {
+                // 예외가 나가면 scheduleAtFixedRate 가 멈추므로 여기서 삼킴
+                log.error("[맵 틱] mapId={} 틱 처리 실패", mapId, e);
+            }
+        }
+
+        // 같은 셀의 시청자는 목록 순서까지 같은 프레임을 받는 경우가 많음 -> 내용이 같으면 인코딩 공유
+        // (순서만 다른 프레임은 따로 인코딩될 뿐 결과는 같음)
+        private void sendPerViewer(List<PlayerPosition> frame, long sequence) {
+            Map<FrameContent, EncodedFrame> encodedByContent = new HashMap<>();
+            for (MapSpatialGrid.ViewerFrame viewerFrame : areaOfInterestService.collectFrames(mapId, frame)) {
+                FrameContent content = new FrameContent(viewerFrame.positionList(),
+                        viewerFrame.enteredList(),
+                        viewerFrame.exitedList());
+                EncodedFrame encoded = encodedByContent.computeIfAbsent(content, key -> {
+                    EncodedFrame viewerEncoded = encodedFrameSender.encode(PlayerSnapshotResponse.builder()
+                            .type(ActionType.P_SNAP)
+                            .playerPositionList(key.positionList())
+                            .enteredPlayerList(key.enteredList())
+                            .exitedPlayerIdList(key.exitedList())
+                            .build());
+                    viewerEncoded.sequence(sequence);
+                    return viewerEncoded;
+                });
+                encodedFrameSender.sendToUser(viewerFrame.username(), userDestination, encoded);
+            }
+        }
+
+        private List<PlayerPosition> drain() {
+            List<PlayerPosition> frame = new ArrayList<>(pending.size());
+            Iterator<Map.Entry<Long, PlayerPosition>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, PlayerPosition> entry = iterator.next();
+                // 꺼내는 사이 새 위치가 들어왔으면 그 값은 다음 틱으로 넘김
+                if (pending.remove(entry.getKey(), entry.getValue())) {
+                    frame.add(entry.getValue());
+                }
+            }
+            return frame;
+        }
+
+        // 마지막 틱 이후 등록된 이동, 미룬 이동, P_Init 대기가 있으면 계속 돌림
+        // (offerPosition, wake 와 같은 키의 compute 안이므로 판단과 제거 사이에 끼어드는 등록 없음)
+        private void stopIfIdle() {
+            loops.computeIfPresent(mapId, (id, loop) -> {
+                if (loop != this) return loop;
+                if (!pending.isEmpty() || movementFilter.hasDeferred(mapId) || mapInitSnapshotService.hasPendingInits(mapId)) {
+                    idleTicks = 0;
+                    return loop;
+                }
+                future.cancel(false);
+                removeMeters();
+                return null;
+            });
+        }
+
+        // 채널 id(맵 x 인스턴스)는 끝없이 늘어날 수 있으므로 정지한 루프의 mapId 태그 측정값은 제거
+        // (같은 맵에 루프가 다시 뜨면 새로 등록)
+        private void removeMeters() {
+            meterRegistry.remove(tickTimer);
+            meterRegistry.remove(frameSizeSummary);
+        }
+    }
+
+    private record FrameContent(List<PlayerPosition> positionList,
+                                List<PlayerInfo> enteredList,
+                                List<Long> exitedList) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// [이동 필터] 의미 없는 P_MOVE 브로드캐스트 억제 (Dead-Band)
+// - 플레이어별 마지막으로 "전달한" 위치/방향을 기억
+// - 이동 거리가 player.movement.min-distance 미만이고 방향(d)도 그대로면 전달을 미룸 (deferred)
+// - 미뤄진 위치는 마지막 전달 후 player.movement.keyframe-interval-ms 가 지나면 키프레임으로 강제 전달 -> 클라이언트 오차 상한
+// - 방향은 4방향(90도 단위)이라 방향이 바뀌면 항상 각도 임계값을 넘은 것으로 봄
+// - 측정: player.movement.moves{mapId, result=forwarded|suppressed|keyframe} - 맵의 마지막 플레이어가 나가면 제거
+@Component
+public class MovementFilter {
+
+    private final double minDistanceSquared;
+    private final long keyframeIntervalMillis;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, MapTracks> maps = new ConcurrentHashMap<>();
+
+    public MovementFilter(@Value("${player.movement.min-distance:2.0}") double minDistance,
+                          @Value("${player.movement.keyframe-interval-ms:1000}") long keyframeIntervalMillis,
+                          MeterRegistry meterRegistry) {
+        this.minDistanceSquared = minDistance * minDistance;
+        this.keyframeIntervalMillis = keyframeIntervalMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // [이동 필터] true: 이번 틱에 전달, false: 미룸
+    public boolean offer(Long mapId, PlayerPosition position, long nowMillis) {
+        MapTracks mapTracks = maps.computeIfAbsent(mapId, MapTracks::new);
+        Track track = mapTracks.tracks.computeIfAbsent(position.getPlayerId(), playerId -> new Track());
+
+        if (track.offer(position, nowMillis)) {
+            mapTracks.forwardedCounter.increment();
+            return true;
+        }
+        mapTracks.suppressedCounter.increment();
+        return false;
+    }
+
+    // [이동 필터] 키프레임 주기가 지난 미뤄진 위치를 꺼냄 (맵 틱에서 호출)
+    public List<PlayerPosition> drainDueKeyframes(Long mapId, long nowMillis) {
+        MapTracks mapTracks = maps.get(mapId);
+        if (mapTracks == null) return List.of();
+
+        List<PlayerPosition> keyframeList = new ArrayList<>();
+        for (Track track : mapTracks.tracks.values()) {
+            PlayerPosition keyframe = track.takeDueKeyframe(nowMillis, keyframeIntervalMillis);
+            if (keyframe != null) keyframeList.add(keyframe);
+        }
+        if (!keyframeList.isEmpty()) mapTracks.keyframeCounter.increment(keyframeList.size());
+        return keyframeList;
+    }
+
+    // 아직 전달되지 않은 위치가 있는지 (맵 틱 루프 유지 판단)
+    public boolean hasDeferred(Long mapId) {
+        MapTracks mapTracks = maps.get(mapId);
+        if (mapTracks == null) return false;
+
+        for (Track track : mapTracks.tracks.values()) {
+            if (track.hasDeferred()) return true;
+        }
+        return false;
+    }
+
+    // [이동 필터] 퇴장 시 기록 제거 (마지막 플레이어면 맵 기록과 측정값도 제거)
+    public void forget(Long mapId, Long playerId) {
+        maps.computeIfPresent(mapId, (id, mapTracks) -> {
+            mapTracks.tracks.remove(playerId);
+            if (!mapTracks.tracks.isEmpty()) return mapTracks;
+            mapTracks.removeMeters();
+            return null;
+        });
+    }
+
+    private final class MapTracks {
+        private final Map<Long, Track> tracks = new ConcurrentHashMap<>();
+        private final Counter forwardedCounter;
+        private final Counter suppressedCounter;
+        private final Counter keyframeCounter;
+
+        MapTracks(Long mapId) {
+            String mapTag = String.valueOf(mapId);
+            this.forwardedCounter = meterRegistry.counter("player.movement.moves", "mapId", mapTag, "result", "forwarded");
+            this.suppressedCounter = meterRegistry.counter("player.movement.moves", "mapId", mapTag, "result", "suppressed");
+            this.keyframeCounter = meterRegistry.counter("player.movement.moves", "mapId", mapTag, "result", "keyframe");
+        }
+
+        // 채널 id(맵 x 인스턴스)는 끝없이 늘어날 수 있으므로 비워진 맵의 mapId 태그 측정값은 제거
+        void removeMeters() {
+            meterRegistry.remove(forwardedCounter);
+            meterRegistry.remove(suppressedCounter);
+            meterRegistry.remove(keyframeCounter);
+        }
+    }
+
+    private final class Track {
+        private boolean initialized;
+        private double lastX;
+        private double lastY;
+        private short lastD;
+        private long lastForwardedAt;
+        private PlayerPosition deferred;
+
+        synchronized boolean offer(PlayerPosition position, long nowMillis) {
+            if (!initialized || isSignificant(position) || nowMillis - lastForwardedAt >= keyframeIntervalMillis) {
+                forward(position, nowMillis);
+                return true;
+            }
+            deferred = position;
+            return false;
+        }
+
+        synchronized PlayerPosition takeDueKeyframe(long nowMillis, long intervalMillis) {
+            if (deferred == null || nowMillis - lastForwardedAt < intervalMillis) return null;
+
+            PlayerPosition keyframe = deferred;
+            forward(keyframe, nowMillis);
+            return keyframe;
+        }
+
+        synchronized boolean hasDeferred() {
+            return deferred != null;
+        }
+
+        private boolean isSignificant(PlayerPosition position) {
+            double dx = position.getX() - lastX;
+            double dy = position.getY() - lastY;
+            return dx * dx + dy * dy >= minDistanceSquared || position.getD() != lastD;
+        }
+
+        private void forward(PlayerPosition position, long nowMillis) {
+            initialized = true;
+            lastX = position.getX();
+            lastY = position.getY();
+            lastD = position.getD();
+            lastForwardedAt = nowMillis;
+            deferred = null;
+        }
+    }
+}
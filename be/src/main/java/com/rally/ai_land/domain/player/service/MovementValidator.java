@@ -0,0 +1,205 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.map.service.MapMetadata;
+import com.rally.ai_land.domain.map.service.MapMetadata.SpawnPoint;
+import com.rally.ai_land.domain.map.service.MapMetadataRegistry;
+import com.rally.ai_land.domain.player.dto.PlayerPositionUpdateRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// [이동 검증] 서버 권한 이동 검증 (P_MOVE 경로, Redis 조회 없음)
+// - 플레이어별 마지막으로 "수락한" 위치/방향/시각을 원시 타입 필드로 기억 (입장 시 스폰 지점으로 초기화)
+// - 속도: 이동 거리가 max-speed x 경과 시간(최대 max-gap-ms) + slack-px 를 넘으면 이동 방향으로 허용 거리까지 잘라냄 (clamped)
+// - 맵 경계: 맵 밖 좌표는 경계 안으로 잘라냄 (clamped), 메타데이터가 없는 맵은 검사하지 않음
+// - 충돌: 막힌 타일에 도착하면 거부 (rejected) -> 마지막 수락 위치 유지
+// - 기록이 없는 플레이어 (입장 전/퇴장 후 이동): 기록을 만들지 않고 거부, 스폰 지점으로 되돌림
+// - 잘못된 방향(d)은 마지막 방향 유지
+// - 보정/거부된 요청은 수락 값으로 덮어씀 -> 호출 측이 본인 세션에 P_CORR 전송
+// - 호출 스레드: 맵 액터 (같은 맵의 호출은 한 번에 하나씩)
+// - 측정: player.movement.validation{mapId, result=accepted|clamped|rejected} - 맵의 마지막 플레이어가 나가면 제거
+@Component
+public class MovementValidator {
+
+    public enum Verdict {
+        ACCEPTED, CLAMPED, REJECTED
+    }
+
+    // 경계 보정 시 마지막 픽셀 안쪽으로
+    private static final double EDGE_EPSILON = 0.01;
+
+    private final boolean enabled;
+    private final double maxSpeedPerNano;
+    private final double slackPixels;
+    private final long maxGapNanos;
+    private final MapMetadataRegistry mapMetadataRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, MapValidation> maps = new ConcurrentHashMap<>();
+
+    public MovementValidator(@Value("${player.movement.validation.enabled:true}") boolean enabled,
+                             @Value("${player.movement.validation.max-speed:300}") double maxSpeed,
+                             @Value("${player.movement.validation.slack-px:32}") double slackPixels,
+                             @Value("${player.movement.validation.max-gap-ms:1000}") long maxGapMillis,
+                             MapMetadataRegistry mapMetadataRegistry,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxSpeedPerNano = maxSpeed / 1_000_000_000d;
+        this.slackPixels = slackPixels;
+        this.maxGapNanos = maxGapMillis * 1_000_000L;
+        this.mapMetadataRegistry = mapMetadataRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // [이동 검증] 입장(스폰) 위치로 기록 초기화
+    public void reset(Long mapId, Long playerId, double x, double y, short d, long nowNanos) {
+        if (!enabled) return;
+
+        // 기록 추가는 remove 의 맵 제거와 같은 키의 compute 안에서 (제거되는 맵에 기록을 넣지 않도록)
+        maps.compute(mapId, (id, mapValidation) -> {
+            MapValidation target = mapValidation == null ? new MapValidation(id) : mapValidation;
+            target.tracks.computeIfAbsent(playerId, trackId -> new Track()).accept(x, y, d, nowNanos);
+            return target;
+        });
+    }
+
+    // [이동 검증] 요청을 검증하고, 보정/거부된 경우 요청의 x, y, d 를 수락 값으로 덮어씀
+    public Verdict validate(Long mapId, PlayerPositionUpdateRequest request, long nowNanos) {
+        if (!enabled) return Verdict.ACCEPTED;
+
+        MapValidation mapValidation = maps.get(mapId);
+        Track track = mapValidation == null ? null : mapValidation.tracks.get(request.getPlayerId());
+        MapMetadata mapMetadata = mapMetadataRegistry.find(mapId);
+
+        // 기록은 입장(reset)에서만 만듦: 퇴장 때만 지워지므로 여기서 만들면 쌓임
+        if (track == null) {
+            if (mapValidation != null) mapValidation.rejectedCounter.increment();
+            SpawnPoint spawnPoint = mapMetadata == null ? null : mapMetadata.spawnPointFor(request.getPlayerId());
+            if (spawnPoint == null) spawnPoint = PlayerService.MAP_INIT_SPAWN;
+            request.setX(spawnPoint.x());
+            request.setY(spawnPoint.y());
+            request.setDir(spawnPoint.d());
+            return Verdict.REJECTED;
+        }
+
+        Verdict verdict = check(track, mapMetadata, request, nowNanos);
+        switch (verdict) {
+            case ACCEPTED -> mapValidation.acceptedCounter.increment();
+            case CLAMPED -> mapValidation.clampedCounter.increment();
+            case REJECTED -> mapValidation.rejectedCounter.increment();
+        }
+
+        if (verdict == Verdict.REJECTED) {
+            request.setX(track.x);
+            request.setY(track.y);
+            request.setDir(track.d);
+            return verdict;
+        }
+
+        track.accept(request.getX(), request.getY(), request.getDir(), nowNanos);
+        return verdict;
+    }
+
+    // [이동 검증] 퇴장 시 기록 제거 (마지막 플레이어면 맵 기록과 측정값도 제거)
+    public void remove(Long mapId, Long playerId) {
+        maps.computeIfPresent(mapId, (id, mapValidation) -> {
+            mapValidation.tracks.remove(playerId);
+            if (!mapValidation.tracks.isEmpty()) return mapValidation;
+            mapValidation.removeMeters();
+            return null;
+        });
+    }
+
+    private Verdict check(Track track, MapMetadata mapMetadata, PlayerPositionUpdateRequest request, long nowNanos) {
+        boolean clamped = false;
+        double x = request.getX();
+        double y = request.getY();
+        short d = request.getDir();
+
+        // NaN/Infinity 는 보정할 기준이 없으므로 거부
+        if (!Double.isFinite(x) || !Double.isFinite(y)) return Verdict.REJECTED;
+
+        if (d < 1 || d > 4) {
+            d = track.d;
+            clamped = true;
+        }
+
+        // 속도: 이동 벡터를 허용 거리까지 축소
+        long elapsedNanos = Math.min(Math.max(nowNanos - track.acceptedAt, 0), maxGapNanos);
+        double allowed = maxSpeedPerNano * elapsedNanos + slackPixels;
+        double dx = x - track.x;
+        double dy = y - track.y;
+        double distanceSquared = dx * dx + dy * dy;
+        if (distanceSquared > allowed * allowed) {
+            double scale = allowed / Math.sqrt(distanceSquared);
+            x = track.x + dx * scale;
+            y = track.y + dy * scale;
+            clamped = true;
+        }
+
+        if (mapMetadata != null) {
+            // 맵 경계
+            double maxX = mapMetadata.getWidthPixels() - EDGE_EPSILON;
+            double maxY = mapMetadata.getHeightPixels() - EDGE_EPSILON;
+            if (x < 0 || y < 0 || x > maxX || y > maxY) {
+                x = Math.min(Math.max(x, 0), maxX);
+                y = Math.min(Math.max(y, 0), maxY);
+                clamped = true;
+            }
+
+            // 충돌 타일
+            if (mapMetadata.isBlocked(x, y)) return Verdict.REJECTED;
+        }
+
+        if (!clamped) return Verdict.ACCEPTED;
+
+        request.setX(x);
+        request.setY(y);
+        request.setDir(d);
+        return Verdict.CLAMPED;
+    }
+
+    private final class MapValidation {
+        private final Map<Long, Track> tracks = new ConcurrentHashMap<>();
+        private final Counter acceptedCounter;
+        private final Counter clampedCounter;
+        private final Counter rejectedCounter;
+
+        MapValidation(Long mapId) {
+            String mapTag = String.valueOf(mapId);
+            this.acceptedCounter = meterRegistry.counter("player.movement.validation", "mapId", mapTag, "result", "accepted");
+            this.clampedCounter = meterRegistry.counter("player.movement.validation", "mapId", mapTag, "result", "clamped");
+            this.rejectedCounter = meterRegistry.counter("player.movement.validation", "mapId", mapTag, "result", "rejected");
+        }
+
+        // 채널 id(맵 x 인스턴스)는 끝없이 늘어날 수 있으므로 비워진 맵의 mapId 태그 측정값은 제거
+        void removeMeters() {
+            meterRegistry.remove(acceptedCounter);
+            meterRegistry.remove(clampedCounter);
+            meterRegistry.remove(rejectedCounter);
+        }
+    }
+
+    // 맵 액터에서만 갱신하므로 동기화 없음
+    private static final class Track {
+        private double x;
+        private double y;
+        private short d;
+        private long acceptedAt;
+
+        void accept(double x, double y, short d, long nowNanos) {
+            this.x = x;
+            this.y = y;
+            this.d = d;
+            this.acceptedAt = nowNanos;
+        }
+    }
+}
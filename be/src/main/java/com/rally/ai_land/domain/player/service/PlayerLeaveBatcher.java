@@ -0,0 +1,46 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.player.dto.ActionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// [퇴장 배치] 연결 해제로 인한 퇴장을 맵 별로 모아서 처리
+// - 해제 이벤트마다 맵 액터에 작업을 넣지만, 먼저 실행된 작업이 그때까지 쌓인 퇴장을 모두 꺼내 한 번에 처리
+//   -> 평소(1건)에는 바로 처리, 노드 재시작 등 대량 해제 시에는 Redis 제거/퇴장 브로드캐스트가 맵 단위로 묶임
+@Component
+@RequiredArgsConstructor
+public class PlayerLeaveBatcher {
+
+    private final MapActorDispatcher mapActorDispatcher;
+    private final PlayerService playerService;
+
+    private final Map<Long, Queue<PendingLeave>> pending = new ConcurrentHashMap<>();
+
+    public void submit(Long mapId, String sessionId, Long playerId) {
+        pending.computeIfAbsent(mapId, id -> new ConcurrentLinkedQueue<>()).offer(new PendingLeave(sessionId, playerId));
+        mapActorDispatcher.dispatch(mapId, ActionType.P_LEAVE, playerId, () -> drain(mapId));
+    }
+
+    // 맵 액터 스레드에서 실행
+    private void drain(Long mapId) {
+        Queue<PendingLeave> queue = pending.get(mapId);
+        if (queue == null) return;
+
+        // sessionId -> playerId (도착 순서 유지)
+        Map<String, Long> leaveBatch = new LinkedHashMap<>();
+        PendingLeave leave;
+        while ((leave = queue.poll()) != null) {
+            leaveBatch.put(leave.sessionId(), leave.playerId());
+        }
+        if (!leaveBatch.isEmpty()) playerService.handlePlayerLeaveBatch(mapId, leaveBatch);
+    }
+
+    private record PendingLeave(String sessionId, Long playerId) {
+    }
+}
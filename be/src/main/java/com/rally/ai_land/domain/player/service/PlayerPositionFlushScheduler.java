@@ -0,0 +1,53 @@
+package com.rally.ai_land.domain.player.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// [플레이어 포지션] Write-Back flush 루프
+// - player.position.flush-interval-ms 주기로 dirty 포지션만 Redis 에 반영
+// - 측정: player.position.flush.entries (저장 엔트리 수), player.position.flush.latency (flush 소요 시간)
+@Component
+@Slf4j
+public class PlayerPositionFlushScheduler {
+
+    private final StateManagerService stateManagerService;
+
+    private final Counter flushedEntryCounter;
+    private final Counter flushFailureCounter;
+    private final Timer flushTimer;
+
+    public PlayerPositionFlushScheduler(StateManagerService stateManagerService,
+                                        PlayerPositionStore playerPositionStore,
+                                        MeterRegistry meterRegistry) {
+        this.stateManagerService = stateManagerService;
+        this.flushedEntryCounter = meterRegistry.counter("player.position.flush.entries");
+        this.flushFailureCounter = meterRegistry.counter("player.position.flush.failures");
+        this.flushTimer = Timer.builder("player.position.flush.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("player.position.store.size", playerPositionStore, PlayerPositionStore::size)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${player.position.flush-interval-ms:1000}")
+    public void flushDirtyPlayerPositions() {
+        long start = System.nanoTime();
+        try {
+            int flushed = stateManagerService.flushDirtyPlayerPositions();
+            flushedEntryCounter.increment(flushed);
+        } catch (DataAccessException e) {
+            flushFailureCounter.increment();
+            log.error("[Write-Back] 포지션 flush 실패, 다음 주기에 재시도합니다.", e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
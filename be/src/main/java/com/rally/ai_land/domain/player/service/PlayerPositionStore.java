@@ -0,0 +1,106 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// [플레이어 포지션] 노드 로컬 포지션 테이블 (Write-Back)
+// - 모든 P_MOVE 는 이 테이블만 갱신하고, dirty 엔트리만 주기적으로 Redis 에 반영
+// - 엔트리는 박싱 없이 primitive 필드(x, y, d)만 보관
+// - 맵 단위 키 레이아웃(map:{id}:pos)에 쓰기 위해 입장 시 mapId 를 함께 기억
+@Component
+public class PlayerPositionStore {
+
+    private final ConcurrentHashMap<Long, Entry> table = new ConcurrentHashMap<>();
+
+    // 이동 반영: dirty 표시 (다음 flush 대상), 입장(initialize)하지 않은 플레이어는 무시 (mapId 없는 엔트리를 만들지 않음)
+    public void update(Long playerId, double x, double y, short d) {
+        Entry entry = table.get(playerId);
+        if (entry != null) entry.set(x, y, d, true);
+    }
+
+    // 이미 Redis 에 기록된 값으로 초기화: dirty 아님
+    public void initialize(Long mapId, Long playerId, double x, double y, short d) {
+        Entry entry = table.computeIfAbsent(playerId, id -> new Entry());
+        entry.mapId = mapId;
+        entry.set(x, y, d, false);
+    }
+
+    // 로컬 조회: 없으면 null
+    public PlayerPosition get(Long playerId) {
+        Entry entry = table.get(playerId);
+        return entry == null ? null : entry.toPlayerPosition(playerId);
+    }
+
+    // 로컬 제거: 제거 시점에 flush 되지 않은 값이 있으면 반환
+    public PlayerPosition remove(Long playerId) {
+        Entry entry = table.remove(playerId);
+        if (entry == null) return null;
+        return entry.takeIfDirty(playerId);
+    }
+
+    // dirty 엔트리를 맵 별로 꺼내면서 clean 으로 전환 (mapId 를 모르는 엔트리는 건너뜀)
+    public Map<Long, List<PlayerPosition>> drainDirtyByMap() {
+        Map<Long, List<PlayerPosition>> dirtyByMap = new HashMap<>();
+        table.forEach((playerId, entry) -> {
+            Long mapId = entry.mapId;
+            if (mapId == null) return;
+            PlayerPosition position = entry.takeIfDirty(playerId);
+            if (position != null) dirtyByMap.computeIfAbsent(mapId, id -> new ArrayList<>()).add(position);
+        });
+        return dirtyByMap;
+    }
+
+    // flush 실패 시 다시 dirty 로 되돌림 (그 사이 갱신된 엔트리는 이미 dirty)
+    public void markDirty(List<PlayerPosition> positionList) {
+        for (PlayerPosition position : positionList) {
+            Entry entry = table.get(position.getPlayerId());
+            if (entry != null) entry.markDirty();
+        }
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    private static final class Entry {
+        private volatile Long mapId;
+        private double x;
+        private double y;
+        private short d;
+        private boolean dirty;
+
+        // 값이 그대로면 dirty 로 만들지 않음 (제자리 P_MOVE 는 Redis 에 쓰지 않도록)
+        synchronized void set(double x, double y, short d, boolean dirty) {
+            boolean changed = this.x != x || this.y != y || this.d != d;
+            this.x = x;
+            this.y = y;
+            this.d = d;
+            this.dirty = this.dirty || (dirty && changed);
+        }
+
+        synchronized void markDirty() {
+            this.dirty = true;
+        }
+
+        synchronized PlayerPosition takeIfDirty(Long playerId) {
+            if (!dirty) return null;
+            dirty = false;
+            return toPlayerPosition(playerId);
+        }
+
+        synchronized PlayerPosition toPlayerPosition(Long playerId) {
+            return PlayerPosition.builder()
+                    .playerId(playerId)
+                    .x(x)
+                    .y(y)
+                    .d(d)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.map.service.MapInstanceService;
+import com.rally.ai_land.domain.map.service.MapOwnershipService;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.service.StateManagerService.ReapResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// [유령 정리] heartbeat 기반 유령 플레이어 정리
+// - 노드 장애/강제 종료로 연결 해제 이벤트가 없으면 map:{id}:players 에 플레이어가 남음 (다른 플레이어에게 계속 보임)
+// - heartbeat: player.reaper.heartbeat-interval-ms 주기로 이 노드에 연결된 플레이어를 map:{id}:heartbeat (ZSET, Redis TIME ms) 에 갱신
+//   (이어받기 유예 중인 세션도 레지스트리에 남아 있으므로 계속 갱신)
+//   -> 연결 중인데 온라인 목록에서 빠진 플레이어 (heartbeat 지연으로 소유 노드가 정리함) 는 맵 액터에서 다시 등록 + P_JOIN
+//   -> 같은 주기에 맵 인스턴스 배정 (map:{mapId}:instances, instance-players) TTL 도 갱신
+// - 정리: player.reaper.sweep-interval-ms 주기로 소유 노드만 자기 맵을 확인 (중복 P_LEAVE 방지)
+//   -> stale-after-ms 동안 갱신이 없거나 heartbeat 자체가 없는 멤버를 batch-size 명씩 제거 (player-reap.lua: 온라인 목록 제거 + 키 UNLINK)
+//   -> 제거된 플레이어는 맵 액터에서 로컬 상태 정리 + P_LEAVE (여러 명이면 P_SNAP ex)
+// - 측정: player.reaper.ghosts (정리한 플레이어 수), player.reaper.sweeps, player.reaper.roster.size{phase=before|after},
+//         player.reaper.failures
+@Component
+@Slf4j
+public class PlayerPresenceReaper {
+
+    private final StateManagerService stateManagerService;
+    private final PlayerSessionRegistry playerSessionRegistry;
+    private final MapOwnershipService mapOwnershipService;
+    private final MapInstanceService mapInstanceService;
+    private final MapActorDispatcher mapActorDispatcher;
+    private final PlayerService playerService;
+    private final boolean enabled;
+    private final long staleAfterMillis;
+    private final int batchSize;
+
+    private final Counter ghostCounter;
+    private final Counter sweepCounter;
+    private final Counter failureCounter;
+    private final DistributionSummary rosterBeforeSummary;
+    private final DistributionSummary rosterAfterSummary;
+
+    public PlayerPresenceReaper(StateManagerService stateManagerService,
+                                PlayerSessionRegistry playerSessionRegistry,
+                                MapOwnershipService mapOwnershipService,
+                                MapInstanceService mapInstanceService,
+                                MapActorDispatcher mapActorDispatcher,
+                                PlayerService playerService,
+                                MeterRegistry meterRegistry,
+                                @Value("${player.reaper.enabled:true}") boolean enabled,
+                                @Value("${player.reaper.stale-after-ms:30000}") long staleAfterMillis,
+                                @Value("${player.reaper.batch-size:200}") int batchSize) {
+        this.stateManagerService = stateManagerService;
+        this.playerSessionRegistry = playerSessionRegistry;
+        this.mapOwnershipService = mapOwnershipService;
+        this.mapInstanceService = mapInstanceService;
+        this.mapActorDispatcher = mapActorDispatcher;
+        this.playerService = playerService;
+        this.enabled = enabled;
+        this.staleAfterMillis = staleAfterMillis;
+        this.batchSize = Math.max(1, batchSize);
+        this.ghostCounter = meterRegistry.counter("player.reaper.ghosts");
+        this.sweepCounter = meterRegistry.counter("player.reaper.sweeps");
+        this.failureCounter = meterRegistry.counter("player.reaper.failures");
+        this.rosterBeforeSummary = DistributionSummary.builder("player.reaper.roster.size")
+                .tag("phase", "before")
+                .baseUnit("players")
+                .register(meterRegistry);
+        this.rosterAfterSummary = DistributionSummary.builder("player.reaper.roster.size")
+                .tag("phase", "after")
+                .baseUnit("players")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${player.reaper.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        if (!enabled) return;
+
+        Map<Long, Set<Long>> playerIdsByMap = playerSessionRegistry.playerIdsByMap();
+        for (Map.Entry<Long, Set<Long>> entry : playerIdsByMap.entrySet()) {
+            Long mapId = entry.getKey();
+            try {
+                List<Long> missingPlayerIds = stateManagerService.touchHeartbeats(mapId, entry.getValue());
+                if (!missingPlayerIds.isEmpty()) {
+                    mapActorDispatcher.dispatch(mapId, ActionType.P_JOIN, missingPlayerIds.get(0),
+                            () -> playerService.handleMissingPlayers(mapId, missingPlayerIds));
+                }
+            } catch (DataAccessException e) {
+                failureCounter.increment();
+                log.error("[유령 정리] heartbeat 갱신 실패, 다음 주기에 재시도합니다. mapId: {}", mapId, e);
+            }
+        }
+
+        try {
+            mapInstanceService.touch(playerIdsByMap.keySet());
+        } catch (DataAccessException e) {
+            failureCounter.increment();
+            log.error("[유령 정리] 맵 인스턴스 배정 TTL 갱신 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    // 기동 직후에는 다른 노드의 heartbeat 가 아직 한 번도 안 왔을 수 있으므로 stale-after-ms 만큼 기다린 뒤 시작
+    @Scheduled(initialDelayString = "${player.reaper.stale-after-ms:30000}",
+            fixedDelayString = "${player.reaper.sweep-interval-ms:15000}")
+    public void sweep() {
+        if (!enabled) return;
+
+        List<Long> mapIds;
+        try {
+            mapIds = stateManagerService.getHeartbeatMapIds();
+        } catch (DataAccessException e) {
+            failureCounter.increment();
+            log.error("[유령 정리] 맵 목록 조회 실패, 다음 주기에 재시도합니다.", e);
+            return;
+        }
+
+        for (Long mapId : mapIds) {
+            if (!mapOwnershipService.isOwner(mapId)) continue;
+            try {
+                sweepMap(mapId);
+            } catch (DataAccessException e) {
+                failureCounter.increment();
+                log.error("[유령 정리] 정리 실패, 다음 주기에 재시도합니다. mapId: {}", mapId, e);
+            }
+        }
+    }
+
+    // batch-size 보다 적게 제거될 때까지 반복 (스크립트 한 번에 제거하는 양을 제한해서 Redis 점유 시간을 짧게)
+    private void sweepMap(Long mapId) {
+        sweepCounter.increment();
+        List<Long> reapedPlayerIds = new ArrayList<>();
+        long rosterBefore = -1;
+        ReapResult result;
+        do {
+            result = stateManagerService.reapStalePlayers(mapId, staleAfterMillis, batchSize);
+            if (rosterBefore < 0) rosterBefore = result.rosterBefore();
+            reapedPlayerIds.addAll(result.reapedPlayerIds());
+        } while (result.reapedPlayerIds().size() >= batchSize);
+
+        rosterBeforeSummary.record(rosterBefore);
+        rosterAfterSummary.record(result.rosterAfter());
+        if (reapedPlayerIds.isEmpty()) return;
+
+        ghostCounter.increment(reapedPlayerIds.size());
+        log.info("[유령 정리] mapId: {}, 정리 {}명, 인원 {} -> {}",
+                mapId, reapedPlayerIds.size(), rosterBefore, result.rosterAfter());
+        mapActorDispatcher.dispatch(mapId, ActionType.P_LEAVE, reapedPlayerIds.get(0),
+                () -> playerService.handleReapedPlayers(mapId, reapedPlayerIds));
+    }
+}
@@ -0,0 +1,150 @@
+package com.rally.ai_land.domain.player.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// [이어받기] 재연결 유예 (노드 로컬)
+// - 입장/이어받기 성공 시 세션에 이어받기 토큰 발급 (P_RESUME rt)
+// - 연결이 끊기면 바로 퇴장시키지 않고 player.resume.grace-ms 동안 보류 (P_LEAVE 없음, 다른 플레이어에게는 잠시 멈춘 것처럼 보임)
+//   -> 유예 안에 같은 토큰으로 P_RESUME 이 오면 새 세션으로 이어받음 (P_JOIN/P_LEAVE 브로드캐스트, Redis 입장 스크립트 없음)
+//   -> 유예가 지나면 원래대로 퇴장 처리 (onExpired)
+// - 토큰은 발급한 노드에만 있음: 다른 노드로 재연결하면 거절 -> 클라이언트는 P_JOIN
+// - 측정: player.resume.sessions{result=parked|resumed|expired|rejected}, player.resume.parked (유예 중 세션 수)
+@Component
+@Slf4j
+public class PlayerResumeService {
+
+    private final long graceMillis;
+    private final ScheduledExecutorService graceExecutor;
+
+    // 연결 중인 세션의 토큰: sessionId -> Resumable
+    private final Map<String, Resumable> bySession = new ConcurrentHashMap<>();
+    // 유예 중인 세션: token -> Parked
+    private final Map<String, Parked> byToken = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> expiries = new ConcurrentHashMap<>();
+
+    private final Counter parkedCounter;
+    private final Counter resumedCounter;
+    private final Counter expiredCounter;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public PlayerResumeService(MeterRegistry meterRegistry,
+                               @Value("${player.resume.enabled:true}") boolean enabled,
+                               @Value("${player.resume.grace-ms:10000}") long graceMillis) {
+        this(meterRegistry, enabled, graceMillis, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "player-resume-grace");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    // 테스트에서 유예 만료 시점을 직접 제어할 때 사용
+    PlayerResumeService(MeterRegistry meterRegistry, boolean enabled, long graceMillis, ScheduledExecutorService graceExecutor) {
+        this.graceMillis = enabled ? Math.max(0, graceMillis) : 0;
+        this.graceExecutor = graceExecutor;
+        this.parkedCounter = meterRegistry.counter("player.resume.sessions", "result", "parked");
+        this.resumedCounter = meterRegistry.counter("player.resume.sessions", "result", "resumed");
+        this.expiredCounter = meterRegistry.counter("player.resume.sessions", "result", "expired");
+        this.rejectedCounter = meterRegistry.counter("player.resume.sessions", "result", "rejected");
+        meterRegistry.gauge("player.resume.parked", byToken, Map::size);
+    }
+
+    public record Parked(String sessionId, Long mapId, Long playerId, String username) {
+    }
+
+    private record Resumable(String token, Long mapId, Long playerId, String username) {
+    }
+
+    public boolean isEnabled() {
+        return graceMillis > 0;
+    }
+
+    // 세션에 새 토큰 발급 (이전 토큰은 무효), 꺼져 있으면 null
+    // 호출 스레드: 맵 액터
+    public String issue(String sessionId, Long mapId, Long playerId, String username) {
+        if (!isEnabled()) return null;
+
+        String token = UUID.randomUUID().toString();
+        bySession.put(sessionId, new Resumable(token, mapId, playerId, username));
+        return token;
+    }
+
+    // 명시적 퇴장 등: 이 세션은 이어받을 수 없음
+    public void revoke(String sessionId) {
+        bySession.remove(sessionId);
+    }
+
+    // [이어받기] 연결 해제: 토큰이 있는 세션이면 유예 시작 후 true (퇴장은 유예가 지나면 onExpired 로)
+    // 호출 스레드: 연결 해제 이벤트
+    public boolean park(String sessionId, Consumer<Parked> onExpired) {
+        Resumable resumable = bySession.remove(sessionId);
+        if (resumable == null) return false;
+
+        String token = resumable.token();
+        Parked parked = new Parked(sessionId, resumable.mapId(), resumable.playerId(), resumable.username());
+        byToken.put(token, parked);
+        expiries.put(token, graceExecutor.schedule(() -> {
+            expiries.remove(token);
+            // 이어받기/재입장이 먼저 가져갔으면 아무것도 하지 않음
+            if (byToken.remove(token, parked)) {
+                expiredCounter.increment();
+                log.debug("[이어받기] 유예 만료 - mapId: {}, playerId: {}", parked.mapId(), parked.playerId());
+                onExpired.accept(parked);
+            }
+        }, graceMillis, TimeUnit.MILLISECONDS));
+        parkedCounter.increment();
+        return true;
+    }
+
+    // [이어받기] 토큰으로 유예 중인 세션을 가져옴 (한 번만), 토큰이 없거나 맵/플레이어/유저가 다르면 null
+    // 호출 스레드: 맵 액터
+    public Parked claim(String token, Long mapId, Long playerId, String username) {
+        Parked parked = token == null ? null : byToken.get(token);
+        if (parked == null || !parked.mapId().equals(mapId) || !parked.playerId().equals(playerId)
+                || !parked.username().equals(username) || !byToken.remove(token, parked)) {
+            rejectedCounter.increment();
+            return null;
+        }
+
+        cancelExpiry(token);
+        resumedCounter.increment();
+        return parked;
+    }
+
+    // 같은 플레이어가 P_JOIN 으로 다시 입장: 유예 중인 이전 세션을 만료 처리 없이 꺼냄, 없으면 null
+    public Parked discardParked(Long playerId) {
+        for (Map.Entry<String, Parked> entry : byToken.entrySet()) {
+            Parked parked = entry.getValue();
+            if (parked.playerId().equals(playerId) && byToken.remove(entry.getKey(), parked)) {
+                cancelExpiry(entry.getKey());
+                return parked;
+            }
+        }
+        return null;
+    }
+
+    private void cancelExpiry(String token) {
+        ScheduledFuture<?> expiry = expiries.remove(token);
+        if (expiry != null) expiry.cancel(false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        graceExecutor.shutdownNow();
+    }
+}
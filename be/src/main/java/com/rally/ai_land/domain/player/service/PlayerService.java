@@ -1,12 +1,27 @@
 package com.rally.ai_land.domain.player.service;
 
+import com.rally.ai_land.common.websocket.EncodedFrameSender;
+import com.rally.ai_land.common.websocket.InboundStageMetrics;
+import com.rally.ai_land.common.websocket.InboundStageMetrics.Stage;
+import com.rally.ai_land.common.websocket.MapStreamBuffer;
+import com.rally.ai_land.domain.map.service.MapInstanceService;
+import com.rally.ai_land.domain.map.service.MapMetadata;
+import com.rally.ai_land.domain.map.service.MapMetadata.SpawnPoint;
+import com.rally.ai_land.domain.map.service.MapMetadataRegistry;
+import com.rally.ai_land.domain.map.service.MapOwnershipService;
 import com.rally.ai_land.domain.player.dto.*;
+import com.rally.ai_land.domain.user.dto.PlayerSession;
+import com.rally.ai_land.domain.user.service.PlayerNicknameCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.security.Principal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -15,13 +30,30 @@ public class PlayerService {
 
     // LEAVE 의 경우 추가적인 EventListener 필요
     private final StateManagerService stateManagerService;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final EncodedFrameSender encodedFrameSender;
+    private final MapTickBroadcaster mapTickBroadcaster;
+    private final AreaOfInterestService areaOfInterestService;
+    private final PlayerSessionRegistry playerSessionRegistry;
+    private final MapInitSnapshotService mapInitSnapshotService;
+    // [수신 지연 측정] redis, dispatch 단계 (P_MOVE 는 로컬 포지션 테이블에 쓰므로 redis 단계 없음)
+    private final InboundStageMetrics inboundStageMetrics;
+    private final MapMetadataRegistry mapMetadataRegistry;
+    private final MovementValidator movementValidator;
+    private final MapInstanceService mapInstanceService;
+    private final MapActorDispatcher mapActorDispatcher;
+    private final PlayerPositionStore playerPositionStore;
+    private final MapOwnershipService mapOwnershipService;
+    private final PlayerResumeService playerResumeService;
+    private final MapStreamBuffer mapStreamBuffer;
+    private final PlayerNicknameCache playerNicknameCache;
 
+    // 맵 메타데이터에 스폰 지점이 없을 때 기본값 (map1 중앙, '하')
     public static double MAP_INIT_X = 800;
     public static double MAP_INIT_Y = 488;
     public static short MAP_INIT_D = 2;
+    public static final SpawnPoint MAP_INIT_SPAWN = new SpawnPoint(MAP_INIT_X, MAP_INIT_Y, MAP_INIT_D);
 
-    // TODO: 비동기 처리 고려 (stateManager)
+    // 호출 스레드: MapActorDispatcher 의 맵 액터 (같은 맵의 호출은 항상 한 번에 하나씩)
     public void handlePlayerState(String sessionId,
                                                  String username,
                                                  Long mapId,
@@ -35,10 +67,14 @@ public class PlayerService {
                 assert playerStateRequest instanceof PlayerLeaveRequest;
                 handlePlayerLeave(sessionId, mapId, (PlayerLeaveRequest) playerStateRequest);
                 return;
+            case "P_RESUME":
+                assert playerStateRequest instanceof PlayerResumeRequest;
+                handlePlayerResume(sessionId, username, mapId, (PlayerResumeRequest) playerStateRequest);
+                return;
 
             case "P_MOVE":
                 assert playerStateRequest instanceof PlayerPositionUpdateRequest;
-                handlePositionUpdate(mapId, (PlayerPositionUpdateRequest) playerStateRequest);
+                handlePositionUpdate(sessionId, username, mapId, (PlayerPositionUpdateRequest) playerStateRequest);
                 return;
 
             default:
@@ -46,64 +82,377 @@ public class PlayerService {
         }
     }
 
+    // mapId: 맵 인스턴스 사용 시 채널 ID (MapInstanceService.channelIdOf)
     private void handlePlayerJoin(String sessionId, String username, Long mapId, PlayerJoinRequest request) {
-        // [상태 업데이트]
-        stateManagerService.setSession(sessionId, mapId, request.getPlayerId());
-        stateManagerService.registerPlayerMapOnline(mapId, request.getPlayerId());
-        stateManagerService.addPlayerInfo(mapId, request.getPlayerId());
-        stateManagerService.addOrInitializePlayerPosition(request.getPlayerId());
+        // [맵 인스턴스] 배정된 채널이 다르면 입장하지 않고 본인 세션에 P_INST -> 클라이언트가 해당 채널로 다시 P_JOIN
+        if (mapInstanceService.isEnabled()) {
+            Long assignedChannelId = mapInstanceService.assign(mapId, request.getPlayerId());
+            if (!assignedChannelId.equals(mapId)) {
+                encodedFrameSender.sendToSession(username, sessionId, "/queue/map/" + mapId,
+                        PlayerInstanceResponse.builder()
+                                .type(ActionType.P_INST)
+                                .playerId(request.getPlayerId())
+                                .instanceId(MapInstanceService.instanceIdOf(assignedChannelId))
+                                .channelId(assignedChannelId)
+                                .build());
+                return;
+            }
+        }
+
+        // [맵 인스턴스] 같은 세션이 같은 맵의 다른 인스턴스에서 넘어옴 (재배치 등)
+        // 이전 채널 정리는 이전 채널의 맵 액터에서, 위치는 이전 인스턴스의 마지막 위치를 이어감
+        SpawnPoint spawnPoint = switchingFrom(sessionId, mapId, request.getPlayerId());
+        // [이어받기] 이어받기 대신 다시 입장: 유예 중인 이전 세션은 만료를 기다리지 않고 정리
+        dropParked(mapId, request.getPlayerId());
+        // [맵 소유] 이전 소유 노드에서 넘어온 입장이면 넘겨받은 마지막 위치에서 이어감
+        if (spawnPoint == null) spawnPoint = mapOwnershipService.takeHandoffPosition(mapId, request.getPlayerId());
+        if (spawnPoint == null) spawnPoint = spawnPointOf(mapId, request.getPlayerId());
+        mapOwnershipService.recordJoin(mapId);
 
-        log.info("현재 유저 목록 {}", stateManagerService.getPlayersMapOnline(mapId));
+        // [상태 업데이트] 세션/온라인/정보/포지션 갱신 (Lua 스크립트 한 번의 왕복)
+        // 온라인 플레이어 목록은 이 노드에 맵 P_Init 스냅샷이 없을 때만 함께 조회
+        boolean seeded = mapInitSnapshotService.isSeeded(mapId);
+        long redisStartedAt = System.nanoTime();
+        PlayerJoinSnapshot joinSnapshot = stateManagerService.joinMap(sessionId, mapId, request.getPlayerId(), !seeded, spawnPoint);
+        inboundStageMetrics.record(Stage.REDIS, InboundStageMetrics.MAP_DESTINATION, request.getType(), redisStartedAt);
+        playerSessionRegistry.register(sessionId, mapId, request.getPlayerId());
+        // [이동 검증] 마지막 수락 위치를 스폰 지점으로 초기화
+        movementValidator.reset(mapId, request.getPlayerId(), spawnPoint.x(), spawnPoint.y(), spawnPoint.d(), System.nanoTime());
+
+        PlayerPosition spawnPosition = PlayerPosition.builder()
+                .playerId(request.getPlayerId())
+                .x(spawnPoint.x())
+                .y(spawnPoint.y())
+                .d(spawnPoint.d())
+                .build();
+        // 클라이언트가 보낸 이름은 쓰지 않음 (Redis 에 기록된 것과 같은 닉네임, joinMap 에서 이미 캐시에 적재됨)
+        String nickname = playerNicknameCache.getNickname(request.getPlayerId());
+
+        // [P_Init 스냅샷] 첫 입장이면 Redis 목록으로 채우고, 이후에는 증분 갱신
+        if (seeded) {
+            mapInitSnapshotService.join(mapId,
+                    PlayerInfo.builder().playerId(request.getPlayerId()).name(nickname).build(),
+                    spawnPosition);
+        } else {
+            mapInitSnapshotService.seed(mapId, joinSnapshot);
+        }
+
+        // [AOI] 그리드 등록 (P_Init 은 전송 시점의 시야(+ 본인) 기준으로 필터링)
+        if (areaOfInterestService.isEnabled()) {
+            areaOfInterestService.join(mapId, request.getPlayerId(), username, nickname,
+                    spawnPoint.x(), spawnPoint.y(), spawnPoint.d());
+        }
 
-        // [본인 응답]
+        // [본인 응답] 다음 맵 틱에 P_Init 전송 (같은 틱의 입장자는 한 번 직렬화한 스냅샷 공유)
         // 실제 전송 경로: /user/{username}/queue/map/{mapId}
-        simpMessagingTemplate.convertAndSendToUser(username,
-                "/queue/map/" + mapId,
-                PlayerInitResponse.builder()
-                        .type(ActionType.P_Init)
-                        .playerId(request.getPlayerId())
-                        .playerInfoList(stateManagerService.getPlayersMapOnline(mapId))
-                        .playerPositionList(stateManagerService.getAllPlayerPositions(mapId))
-                        .build());
+        long dispatchStartedAt = System.nanoTime();
+        mapInitSnapshotService.enqueueInit(mapId, request.getPlayerId(), username);
+        mapTickBroadcaster.wake(mapId);
+        issueResumeToken(sessionId, username, mapId, request.getPlayerId(), null);
 
         // [타인 응답]
-        // 실제 전송 경로: /topic/map/{mapId}
-        simpMessagingTemplate.convertAndSend("/topic/map/" + mapId,
-                PlayerJoinResponse.builder()
-                        .type(request.getType())
-                        .playerId(request.getPlayerId())
-                        .name(request.getName())
-                        .playerPosition(PlayerPosition.builder() // TODO: 초기화의 경우 맵 시작 정보도 불러와야 함
-                                .playerId(request.getPlayerId()) // 불필요하긴 함
-                                .x(MAP_INIT_X)
-                                .y(MAP_INIT_Y)
-                                .d(MAP_INIT_D)
-                                .build())
+        PlayerJoinResponse playerJoinResponse = PlayerJoinResponse.builder()
+                .type(request.getType())
+                .playerId(request.getPlayerId())
+                .name(nickname)
+                .playerPosition(spawnPosition)
+                .build();
+
+        broadcastJoin(mapId, playerJoinResponse);
+        inboundStageMetrics.record(Stage.DISPATCH, InboundStageMetrics.MAP_DESTINATION, request.getType(), dispatchStartedAt);
+    }
+
+    // AOI 사용 시: 위치를 시야에 둔 유저에게만 /user/{username}/queue/map/{mapId} (다른 노드에는 /topic 으로 중계)
+    // 미사용 시: /topic/map/{mapId}
+    // 시청자가 여러 명이어도 인코딩은 포맷별 한 번
+    private void broadcastJoin(Long mapId, PlayerJoinResponse playerJoinResponse) {
+        if (areaOfInterestService.isEnabled()) {
+            encodedFrameSender.sendToUsers(areaOfInterestService.viewerUsernamesOf(mapId, playerJoinResponse.getPlayerId()),
+                    "/queue/map/" + mapId,
+                    playerJoinResponse);
+            encodedFrameSender.relayToTopic("/topic/map/" + mapId, playerJoinResponse);
+        } else {
+            encodedFrameSender.sendToTopic("/topic/map/" + mapId, playerJoinResponse);
+        }
+    }
+
+    // [이어받기] 유예 중인 세션을 새 세션으로 이어받음: 맵 상태(온라인, 포지션, AOI, P_Init 스냅샷)는 그대로 두고 세션만 교체
+    // 놓친 맵 프레임은 순번 그대로 재전송, 버퍼에서 밀려났거나 AOI 사용 중이면 P_Init 으로 대체 (다른 플레이어에게는 아무것도 보내지 않음)
+    // 실제 전송 경로: /user/{username}/queue/map/{mapId} (sessionId 세션만)
+    private void handlePlayerResume(String sessionId, String username, Long mapId, PlayerResumeRequest request) {
+        PlayerResumeService.Parked parked = playerResumeService.claim(request.getResumeToken(), mapId, request.getPlayerId(), username);
+        if (parked == null) {
+            encodedFrameSender.sendToSession(username, sessionId, "/queue/map/" + mapId,
+                    PlayerResumeResponse.builder()
+                            .type(ActionType.P_RESUME)
+                            .playerId(request.getPlayerId())
+                            .resumed(false)
+                            .build());
+            return;
+        }
+
+        playerSessionRegistry.remove(parked.sessionId());
+        playerSessionRegistry.register(sessionId, mapId, request.getPlayerId());
+        long redisStartedAt = System.nanoTime();
+        stateManagerService.removeSession(parked.sessionId());
+        stateManagerService.setSession(sessionId, mapId, request.getPlayerId());
+        inboundStageMetrics.record(Stage.REDIS, InboundStageMetrics.MAP_DESTINATION, request.getType(), redisStartedAt);
+
+        long dispatchStartedAt = System.nanoTime();
+        // [AOI] 버퍼는 맵 전체 프레임이므로 재전송하면 시야 밖 플레이어까지 보임 -> 시야 기준 P_Init 으로 대체
+        List<MapStreamBuffer.Frame> missedFrames = areaOfInterestService.isEnabled()
+                ? null
+                : mapStreamBuffer.since(mapId, request.getLastSequence());
+        if (missedFrames == null) {
+            mapInitSnapshotService.enqueueInit(mapId, request.getPlayerId(), username);
+            mapTickBroadcaster.wake(mapId);
+        } else {
+            encodedFrameSender.replayToSession(username, sessionId, "/queue/map/" + mapId, missedFrames);
+        }
+        issueResumeToken(sessionId, username, mapId, request.getPlayerId(), true);
+        inboundStageMetrics.record(Stage.DISPATCH, InboundStageMetrics.MAP_DESTINATION, request.getType(), dispatchStartedAt);
+    }
+
+    // [이어받기] 세션에 새 토큰 발급 후 해당 세션에만 P_RESUME (꺼져 있으면 보내지 않음)
+    private void issueResumeToken(String sessionId, String username, Long mapId, Long playerId, Boolean resumed) {
+        String resumeToken = playerResumeService.issue(sessionId, mapId, playerId, username);
+        if (resumeToken == null) return;
+
+        encodedFrameSender.sendToSession(username, sessionId, "/queue/map/" + mapId,
+                PlayerResumeResponse.builder()
+                        .type(ActionType.P_RESUME)
+                        .playerId(playerId)
+                        .resumeToken(resumeToken)
+                        .resumed(resumed)
+                        .build());
+    }
+
+    // 유예 중인 이전 세션 정리: 같은 맵이면 세션만 (플레이어는 이번 입장으로 계속 맵에 있음), 다른 맵이면 그 맵의 액터에서 채널 퇴장
+    private void dropParked(Long mapId, Long playerId) {
+        PlayerResumeService.Parked parked = playerResumeService.discardParked(playerId);
+        if (parked == null) return;
+
+        playerSessionRegistry.remove(parked.sessionId());
+        stateManagerService.removeSession(parked.sessionId());
+        if (!mapId.equals(parked.mapId())) {
+            mapActorDispatcher.dispatch(parked.mapId(), ActionType.P_LEAVE, playerId,
+                    () -> leaveChannel(parked.mapId(), playerId));
+        }
+    }
+
+    // [맵 메타데이터] 맵의 스폰 지점 (여러 개면 playerId 로 고정 분산), 메타데이터가 없으면 기본값
+    private SpawnPoint spawnPointOf(Long mapId, Long playerId) {
+        MapMetadata mapMetadata = mapMetadataRegistry.find(mapId);
+        SpawnPoint spawnPoint = mapMetadata == null ? null : mapMetadata.spawnPointFor(playerId);
+        return spawnPoint == null ? MAP_INIT_SPAWN : spawnPoint;
+    }
+
+    // 이전 인스턴스 채널에서 넘어온 입장이면 이전 채널 퇴장을 적재하고 마지막 위치 반환, 아니면 null
+    private SpawnPoint switchingFrom(String sessionId, Long channelId, Long playerId) {
+        PlayerSession previous = playerSessionRegistry.get(sessionId);
+        if (previous == null || channelId.equals(previous.getMapId()) || !playerId.equals(previous.getPlayerId())
+                || !MapInstanceService.mapIdOf(channelId).equals(MapInstanceService.mapIdOf(previous.getMapId()))) {
+            return null;
+        }
+
+        Long previousChannelId = previous.getMapId();
+        mapActorDispatcher.dispatch(previousChannelId, ActionType.P_LEAVE, playerId,
+                () -> leaveChannel(previousChannelId, playerId));
+
+        PlayerPosition lastPosition = playerPositionStore.get(playerId);
+        return lastPosition == null ? null : new SpawnPoint(lastPosition.getX(), lastPosition.getY(), lastPosition.getD());
+    }
+
+    // [맵 인스턴스] 채널만 떠남: 세션, 포지션, 인스턴스 배정은 새 채널 입장이 이미 갱신
+    private void leaveChannel(Long channelId, Long playerId) {
+        stateManagerService.removePlayerMapOnline(channelId, playerId);
+        mapTickBroadcaster.discardPlayer(channelId, playerId);
+        movementValidator.remove(channelId, playerId);
+        areaOfInterestService.leave(channelId, playerId);
+        mapInitSnapshotService.leave(channelId, playerId);
+
+        encodedFrameSender.sendToTopic("/topic/map/" + channelId,
+                PlayerLeaveResponse.builder()
+                        .type(ActionType.P_LEAVE)
+                        .playerId(playerId)
                         .build());
     }
 
     // WebSocketEventListener 로 인해 public 접근
     public void handlePlayerLeave(String sessionId, Long mapId, PlayerLeaveRequest request) {
-        stateManagerService.removeSession(sessionId);
-        stateManagerService.removePlayerMapOnline(mapId, request.getPlayerId());
+        playerResumeService.revoke(sessionId);
+        playerSessionRegistry.remove(sessionId);
+        long redisStartedAt = System.nanoTime();
+        // 세션, 온라인, heartbeat 제거 + player:{id}:position/info UNLINK (한 번의 Pipeline)
+        stateManagerService.removePlayersFromMap(mapId, Map.of(sessionId, request.getPlayerId()));
+        if (mapInstanceService.isEnabled()) mapInstanceService.release(mapId, List.of(request.getPlayerId()));
+        inboundStageMetrics.record(Stage.REDIS, InboundStageMetrics.MAP_DESTINATION, request.getType(), redisStartedAt);
+        mapTickBroadcaster.discardPlayer(mapId, request.getPlayerId());
+        movementValidator.remove(mapId, request.getPlayerId());
+        areaOfInterestService.leave(mapId, request.getPlayerId());
+        mapInitSnapshotService.leave(mapId, request.getPlayerId());
 
-        simpMessagingTemplate.convertAndSend("/topic/map/" + mapId,
+        long dispatchStartedAt = System.nanoTime();
+        encodedFrameSender.sendToTopic("/topic/map/" + mapId,
                 PlayerLeaveResponse.builder()
                         .type(request.getType())
                         .playerId(request.getPlayerId())
                         .build());
+        inboundStageMetrics.record(Stage.DISPATCH, InboundStageMetrics.MAP_DESTINATION, request.getType(), dispatchStartedAt);
+    }
+
+    // [퇴장 배치] 연결 해제로 모인 퇴장: Redis 제거는 한 번의 Pipeline, 브로드캐스트는 1건이면 P_LEAVE, 여러 건이면 P_SNAP(ex) 하나
+    // sessionPlayerIds: sessionId -> playerId
+    public void handlePlayerLeaveBatch(Long mapId, Map<String, Long> sessionPlayerIds) {
+        // [맵 소유] 새 소유 노드로 넘겨준 세션은 로컬 상태만 정리 (플레이어는 새 노드에서 계속 맵에 있음)
+        Map<String, Long> leavingSessionPlayerIds = new LinkedHashMap<>(sessionPlayerIds);
+        sessionPlayerIds.forEach((sessionId, playerId) -> {
+            if (mapOwnershipService.consumeHandedOff(sessionId)) {
+                leavingSessionPlayerIds.remove(sessionId);
+                releaseHandedOff(sessionId, mapId, playerId);
+            }
+        });
+        if (!leavingSessionPlayerIds.isEmpty()) leavePlayers(mapId, leavingSessionPlayerIds);
+    }
+
+    private void leavePlayers(Long mapId, Map<String, Long> sessionPlayerIds) {
+        sessionPlayerIds.keySet().forEach(playerSessionRegistry::remove);
+        stateManagerService.removePlayersFromMap(mapId, sessionPlayerIds);
+        releaseAndBroadcastLeave(mapId, new ArrayList<>(sessionPlayerIds.values()));
+    }
+
+    // [유령 정리] Redis 에서 이미 제거된 플레이어 (heartbeat 끊김: 노드 장애 등으로 연결 해제 이벤트가 없었음)
+    // 로컬 상태 정리 + 퇴장 브로드캐스트
+    // 이 노드에 아직 연결된 플레이어 (heartbeat 지연) 는 퇴장시키지 않고 Redis 에 다시 등록 (퇴장을 알리지 않았으므로 입장도 알리지 않음)
+    // 호출 스레드: 맵 액터
+    public void handleReapedPlayers(Long mapId, List<Long> reapedPlayerIds) {
+        Set<Long> connectedPlayerIds = playerSessionRegistry.playerIdsOf(mapId);
+        List<Long> exitedPlayerIdList = new ArrayList<>(reapedPlayerIds.size());
+        List<Long> connectedReapedIdList = new ArrayList<>();
+        for (Long playerId : reapedPlayerIds) {
+            if (connectedPlayerIds.contains(playerId)) {
+                connectedReapedIdList.add(playerId);
+            } else {
+                exitedPlayerIdList.add(playerId);
+            }
+        }
+        if (!connectedReapedIdList.isEmpty()) restorePlayers(mapId, connectedReapedIdList, false);
+        if (!exitedPlayerIdList.isEmpty()) releaseAndBroadcastLeave(mapId, exitedPlayerIdList);
+    }
+
+    // [유령 정리] heartbeat 에서 온라인 목록에 없다고 확인된 이 노드의 플레이어 (다른 소유 노드가 정리하고 P_LEAVE 를 보냄)
+    // 아직 연결 중이면 Redis 에 다시 등록하고 P_JOIN 으로 다시 알림, 그 사이 퇴장했으면 무시
+    // 호출 스레드: 맵 액터
+    public void handleMissingPlayers(Long mapId, List<Long> missingPlayerIds) {
+        Set<Long> connectedPlayerIds = playerSessionRegistry.playerIdsOf(mapId);
+        List<Long> restoreIdList = missingPlayerIds.stream().filter(connectedPlayerIds::contains).toList();
+        if (!restoreIdList.isEmpty()) restorePlayers(mapId, restoreIdList, true);
+    }
+
+    private void restorePlayers(Long mapId, List<Long> playerIds, boolean announce) {
+        List<PlayerPosition> positionList = new ArrayList<>(playerIds.size());
+        for (Long playerId : playerIds) {
+            PlayerPosition position = playerPositionStore.get(playerId);
+            if (position != null) positionList.add(position);
+        }
+        log.warn("[유령 정리] 연결 중인 플레이어가 정리되어 다시 등록 (heartbeat 지연) - mapId: {}, playerIds: {}", mapId, playerIds);
+        List<PlayerInfo> playerInfoList = stateManagerService.restorePlayers(mapId, positionList);
+        if (!announce) return;
+
+        for (int i = 0; i < playerInfoList.size(); i++) {
+            PlayerInfo playerInfo = playerInfoList.get(i);
+            PlayerPosition position = positionList.get(i);
+            // 다른 노드에서 중계된 퇴장으로 빠졌을 수 있음
+            mapInitSnapshotService.join(mapId, playerInfo, position);
+            broadcastJoin(mapId, PlayerJoinResponse.builder()
+                    .type(ActionType.P_JOIN)
+                    .playerId(playerInfo.getPlayerId())
+                    .name(playerInfo.getName())
+                    .playerPosition(position)
+                    .build());
+        }
+    }
+
+    // 로컬 상태 정리 + 1건이면 P_LEAVE, 여러 건이면 P_SNAP(ex) 하나
+    private void releaseAndBroadcastLeave(Long mapId, List<Long> exitedPlayerIdList) {
+        if (mapInstanceService.isEnabled()) mapInstanceService.release(mapId, exitedPlayerIdList);
+        for (Long playerId : exitedPlayerIdList) {
+            mapTickBroadcaster.discardPlayer(mapId, playerId);
+            movementValidator.remove(mapId, playerId);
+            areaOfInterestService.leave(mapId, playerId);
+            mapInitSnapshotService.leave(mapId, playerId);
+        }
+
+        if (exitedPlayerIdList.size() == 1) {
+            encodedFrameSender.sendToTopic("/topic/map/" + mapId,
+                    PlayerLeaveResponse.builder()
+                            .type(ActionType.P_LEAVE)
+                            .playerId(exitedPlayerIdList.get(0))
+                            .build());
+        } else {
+            encodedFrameSender.sendToTopic("/topic/map/" + mapId,
+                    PlayerSnapshotResponse.builder()
+                            .type(ActionType.P_SNAP)
+                            .exitedPlayerIdList(exitedPlayerIdList)
+                            .build());
+        }
     }
 
-    private void handlePositionUpdate(Long mapId, PlayerPositionUpdateRequest request) {
+    // [이어받기] 유예가 끝난 세션인데 플레이어는 그 사이 다른 세션(다른 노드)으로 같은 맵에 다시 입장함
+    // 넘겨준 세션과 같이 로컬 상태만 정리 (P_LEAVE, 온라인 목록 제거 없음)
+    // 호출 스레드: 맵 액터
+    public void releaseRejoinedSession(Long mapId, String sessionId, Long playerId) {
+        releaseHandedOff(sessionId, mapId, playerId);
+    }
+
+    // 온라인 목록, 인스턴스 배정, P_Init 스냅샷은 새 노드의 입장이 이어받으므로 건드리지 않음 (P_LEAVE 도 보내지 않음)
+    private void releaseHandedOff(String sessionId, Long mapId, Long playerId) {
+        playerSessionRegistry.remove(sessionId);
+        stateManagerService.removeSession(sessionId);
+        playerPositionStore.remove(playerId);
+        mapTickBroadcaster.discardPlayer(mapId, playerId);
+        movementValidator.remove(mapId, playerId);
+        areaOfInterestService.leave(mapId, playerId);
+    }
+
+    // 이동은 즉시 브로드캐스트하지 않고 맵 틱에 모아서 P_SNAP 으로 전송
+    private void handlePositionUpdate(String sessionId, String username, Long mapId, PlayerPositionUpdateRequest request) {
+        // 입장하지 않은 세션/맵/플레이어의 이동은 버림 (퇴장 뒤 늦게 온 P_MOVE, 임의의 mapId/playerId)
+        // -> 검증 기록, 로컬 포지션, 맵 틱 루프 등 퇴장 때만 지워지는 상태를 만들지 않음
+        if (!playerSessionRegistry.isJoined(sessionId, mapId, request.getPlayerId())) {
+            log.debug("[이동 검증] 입장하지 않은 이동 무시 - sessionId: {}, mapId: {}, playerId: {}", sessionId, mapId, request.getPlayerId());
+            return;
+        }
+
+        // [이동 검증] 보정/거부되면 요청 값이 수락 위치로 바뀌어 있음 -> 보낸 세션에만 P_CORR
+        // 실제 전송 경로: /user/{username}/queue/map/{mapId} (sessionId 세션만)
+        MovementValidator.Verdict verdict = movementValidator.validate(mapId, request, System.nanoTime());
+        if (verdict != MovementValidator.Verdict.ACCEPTED) {
+            encodedFrameSender.sendToSession(username, sessionId, "/queue/map/" + mapId,
+                    PlayerPositionUpdateResponse.builder()
+                            .type(ActionType.P_CORR)
+                            .playerId(request.getPlayerId())
+                            .x(request.getX())
+                            .y(request.getY())
+                            .dir(request.getDir())
+                            .build());
+            // 거부: 위치가 바뀌지 않았으므로 저장/브로드캐스트 생략
+            if (verdict == MovementValidator.Verdict.REJECTED) return;
+        }
+
         stateManagerService.updatePlayerPosition(request.getPlayerId(), request.getX(), request.getY(), request.getDir());
+        areaOfInterestService.move(mapId, request.getPlayerId(), request.getX(), request.getY(), request.getDir());
 
-        simpMessagingTemplate.convertAndSend("/topic/map/" + mapId,
-                PlayerPositionUpdateResponse.builder()
-                        .type(request.getType())
-                        .playerId(request.getPlayerId())
-                        .x(request.getX())
-                        .y(request.getY())
-                        .dir(request.getDir())
-                        .build());
+        PlayerPosition playerPosition = PlayerPosition.builder()
+                .playerId(request.getPlayerId())
+                .x(request.getX())
+                .y(request.getY())
+                .d(request.getDir())
+                .build();
+        // P_Init 스냅샷에는 필터와 상관없이 최신 위치 반영
+        mapInitSnapshotService.move(mapId, playerPosition);
+        long dispatchStartedAt = System.nanoTime();
+        mapTickBroadcaster.offerPosition(mapId, playerPosition);
+        inboundStageMetrics.record(Stage.DISPATCH, InboundStageMetrics.MAP_DESTINATION, request.getType(), dispatchStartedAt);
     }
 }
@@ -0,0 +1,99 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.common.websocket.ClusterTopicRelay;
+import com.rally.ai_land.common.websocket.MapStreamBuffer;
+import com.rally.ai_land.domain.user.dto.PlayerSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// [세션] 노드 로컬 세션 레지스트리: sessionId -> (mapId, playerId)
+// - P_JOIN 에서 등록, 퇴장 처리에서 제거
+// - 연결 해제 시 1차 조회 대상 (Redis session:{sessionId} 는 다른 노드에서 입장한 세션용 보조 수단)
+// - 맵 별 세션 수만큼 ClusterTopicRelay 구독 참조 (이 노드에 세션이 있는 맵만 다른 노드 프레임 수신)
+//   MapStreamBuffer 도 같은 참조 수 (이 노드에 세션이 있는 맵만 이어받기 버퍼 보관)
+@Component
+@RequiredArgsConstructor
+public class PlayerSessionRegistry {
+
+    private final ClusterTopicRelay clusterTopicRelay;
+    private final MapStreamBuffer mapStreamBuffer;
+
+    private final Map<String, PlayerSession> sessions = new ConcurrentHashMap<>();
+
+    public void register(String sessionId, Long mapId, Long playerId) {
+        clusterTopicRelay.retain(mapId);
+        mapStreamBuffer.retain(mapId);
+        PlayerSession previous = sessions.put(sessionId, PlayerSession.builder()
+                .mapId(mapId)
+                .playerId(playerId)
+                .build());
+        // 같은 세션의 재입장 (맵 인스턴스 이동 등): 이전 맵 참조 해제
+        if (previous != null) release(previous.getMapId());
+    }
+
+    // 없으면 null
+    public PlayerSession get(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    // [이동 검증] 이 세션이 이 맵에 이 플레이어로 입장해 있는지 (입장 전/퇴장 후/다른 맵의 P_MOVE 거르기)
+    public boolean isJoined(String sessionId, Long mapId, Long playerId) {
+        PlayerSession session = sessions.get(sessionId);
+        return session != null && session.getMapId().equals(mapId) && session.getPlayerId().equals(playerId);
+    }
+
+    // 제거한 세션 반환: 없으면 null
+    public PlayerSession remove(String sessionId) {
+        PlayerSession removed = sessions.remove(sessionId);
+        if (removed != null) release(removed.getMapId());
+        return removed;
+    }
+
+    private void release(Long mapId) {
+        clusterTopicRelay.release(mapId);
+        mapStreamBuffer.release(mapId);
+    }
+
+    // 이 노드에 세션이 있는 맵 (소유 노드 변경 시 넘겨줄 맵 계산용, 전체 순회)
+    public Set<Long> mapIds() {
+        Set<Long> mapIds = new HashSet<>();
+        sessions.values().forEach(session -> mapIds.add(session.getMapId()));
+        return mapIds;
+    }
+
+    public List<String> sessionIdsOf(Long mapId) {
+        List<String> sessionIds = new ArrayList<>();
+        sessions.forEach((sessionId, session) -> {
+            if (mapId.equals(session.getMapId())) sessionIds.add(sessionId);
+        });
+        return sessionIds;
+    }
+
+    // [유령 정리] 이 노드에 연결된 맵의 플레이어 (heartbeat 대상)
+    public Set<Long> playerIdsOf(Long mapId) {
+        Set<Long> playerIds = new HashSet<>();
+        sessions.values().forEach(session -> {
+            if (mapId.equals(session.getMapId())) playerIds.add(session.getPlayerId());
+        });
+        return playerIds;
+    }
+
+    public Map<Long, Set<Long>> playerIdsByMap() {
+        Map<Long, Set<Long>> playerIdsByMap = new HashMap<>();
+        sessions.values().forEach(session ->
+                playerIdsByMap.computeIfAbsent(session.getMapId(), id -> new HashSet<>()).add(session.getPlayerId()));
+        return playerIdsByMap;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+}
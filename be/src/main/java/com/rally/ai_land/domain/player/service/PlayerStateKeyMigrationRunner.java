@@ -0,0 +1,53 @@
+package com.rally.ai_land.domain.player.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+// [키 레이아웃] 플레이어 단위 -> 맵 단위 마이그레이션
+// - player.state.map-scoped-keys=true + player.state.migrate-on-startup=true 로 기동하면
+//   map:{id}:players 를 SCAN 해서 맵마다 map:{id}:pos, map:{id}:info 로 복사
+// - 기존 키는 지우지 않음 (TTL 로 만료) -> map-scoped-keys=false 로 되돌리면 롤백
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerStateKeyMigrationRunner implements ApplicationRunner {
+
+    private static final String MAP_PLAYERS_PATTERN = "map:*:players";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StateManagerService stateManagerService;
+
+    @Value("${player.state.map-scoped-keys:false}")
+    private boolean mapScopedKeys;
+
+    @Value("${player.state.migrate-on-startup:false}")
+    private boolean migrateOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!mapScopedKeys || !migrateOnStartup) return;
+
+        int mapCount = 0;
+        int playerCount = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(MAP_PLAYERS_PATTERN).count(100).build())) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                try {
+                    Long mapId = Long.valueOf(key.split(":")[1]);
+                    playerCount += stateManagerService.migrateToMapScopedKeys(mapId);
+                    mapCount++;
+                } catch (NumberFormatException e) {
+                    log.warn("[키 레이아웃] 잘못된 맵 키 건너뜀: {}", key);
+                }
+            }
+        }
+        log.info("[키 레이아웃] 맵 단위 키로 마이그레이션 완료: 맵 {}개, 플레이어 {}명", mapCount, playerCount);
+    }
+}
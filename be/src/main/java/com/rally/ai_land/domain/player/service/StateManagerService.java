@@ -1,19 +1,22 @@
 package com.rally.ai_land.domain.player.service;
 
+import com.rally.ai_land.domain.map.service.MapMetadata.SpawnPoint;
 import com.rally.ai_land.domain.player.dto.PlayerInfo;
+import com.rally.ai_land.domain.player.dto.PlayerJoinSnapshot;
 import com.rally.ai_land.domain.player.dto.PlayerPosition;
 import com.rally.ai_land.domain.user.dto.PlayerSession;
-import com.rally.ai_land.domain.user.entity.User;
-import com.rally.ai_land.domain.user.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
+import com.rally.ai_land.domain.user.service.PlayerNicknameCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.type.descriptor.java.ObjectJavaType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,11 +32,47 @@ import java.util.stream.IntStream;
 public class StateManagerService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final UserRepository userRepository;
+    private final PlayerNicknameCache playerNicknameCache;
+    private final PlayerPositionStore playerPositionStore;
 
     private static final long PLAYER_INFO_TTL = 30L;
     private static final long SESSION_TTL = 2L;
 
+    // [맵 입장] Lua 스크립트: RedisTemplate.execute() 가 EVALSHA 로 실행하고, 서버에 없으면(NOSCRIPT) EVAL 로 한 번 적재
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PLAYER_JOIN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/player-join.lua"), List.class);
+    private static final long JOIN_NEED_NAME = 0L;
+    private static final int JOIN_REPLY_STRIDE = 5; // id, name, x, y, d
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PLAYER_JOIN_MAP_SCOPED_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/player-join-map-scoped.lua"), List.class);
+    private static final String POSITION_DELIMITER = ",";
+
+    // [유령 정리] 맵 별 heartbeat ZSET 갱신, heartbeat 가 끊긴 플레이어 제거 (PlayerPresenceReaper)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PLAYER_HEARTBEAT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/player-heartbeat.lua"), List.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PLAYER_REAP_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/player-reap.lua"), List.class);
+    private static final String HEARTBEAT_MAPS_KEY = "maps:heartbeat";
+
+    // [플레이어 포지션] 온라인 목록에 남아 있는 플레이어만 포지션 저장 (퇴장 뒤 늦게 온 flush 가 키를 되살리지 않도록)
+    private static final RedisScript<Long> PLAYER_POSITION_FLUSH_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/player-position-flush.lua"), Long.class);
+
+    @Value("${player.join.script-enabled:true}")
+    private boolean joinScriptEnabled;
+
+    // [키 레이아웃]
+    // false: 플레이어 단위 - map:{id}:players (Set) + player:{id}:info, player:{id}:position (Hash)
+    // true : 맵 단위 - map:{id}:pos ("x,y,d"), map:{id}:info (닉네임) Hash 에 플레이어별 필드 하나
+    //        -> 맵 스냅샷은 HGETALL, 퇴장은 HDEL, TTL 갱신은 맵 키 단위
+    @Value("${player.state.map-scoped-keys:false}")
+    private boolean mapScopedKeys;
+
     private static final String FIELD_X = "x";
     private static final String FIELD_Y = "y";
     private static final String FIELD_D = "d";
@@ -46,12 +85,30 @@ public class StateManagerService {
 
     // [플레이어 맵 온라인] 맵 온라인 플레이어 등록
     public void registerPlayerMapOnline(Long mapId, Long playerId) {
+        if (mapScopedKeys) return; // 맵 단위: map:{id}:pos 의 필드 목록이 곧 온라인 목록 (포지션 초기화 시 등록)
+
         String key = "map:" + mapId + ":players";
         redisTemplate.opsForSet().add(key, String.valueOf(playerId));
     }
 
     // [플레이어 맵 온라인] 맵 온라인 플레이어 제거
     public void removePlayerMapOnline(Long mapId, Long playerId) {
+        if (mapScopedKeys) {
+            // 맵 단위: 포지션/정보 필드를 한 번의 왕복으로 제거
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    @SuppressWarnings("unchecked")
+                    RedisOperations<String, String> stringOps = (RedisOperations<String, String>) operations;
+
+                    stringOps.opsForHash().delete(mapPositionKey(mapId), String.valueOf(playerId));
+                    stringOps.opsForHash().delete(mapInfoKey(mapId), String.valueOf(playerId));
+                    return null;
+                }
+            });
+            return;
+        }
+
         String key = "map:" + mapId + ":players";
         redisTemplate.opsForSet().remove(key, String.valueOf(playerId));
     }
@@ -59,6 +116,8 @@ public class StateManagerService {
     // [플레이어 맵 온라인] 맵 온라인 플레이어 정보 제공
     // TODO: 삭제 예정 (성능 테스트 후)
     public List<PlayerInfo> getPlayersMapOnline(Long mapId) {
+        if (mapScopedKeys) return getMapSnapshotByMapKeys(mapId).getPlayerInfoList();
+
         // 요청 1: 온라인 플레이어 ID 목록 조회 (Set)
         List<String> onlinePlayerIdList = getOnlinePlayerIdList(mapId);
         if (onlinePlayerIdList == null || onlinePlayerIdList.isEmpty())
@@ -84,6 +143,8 @@ public class StateManagerService {
 
     // [플레이어 맵 온라인] 맵 온라인 플레이어 정보 제공: Pipelining 기법
     public List<PlayerInfo> getPlayerMapOnlineByPipelining(Long mapId) {
+        if (mapScopedKeys) return getMapSnapshotByMapKeys(mapId).getPlayerInfoList();
+
         // 요청 1: 온라인 플레이어 ID 목록 조회 (Set)
         List<String> onlinePlayerIdList = getOnlinePlayerIdList(mapId);
         if (onlinePlayerIdList == null || onlinePlayerIdList.isEmpty()) {
@@ -142,8 +203,329 @@ public class StateManagerService {
         return new ArrayList<>(onlinePlayerIdSet);
     }
 
+    // [맵 입장] 세션 저장 + 맵 온라인 등록 + 정보/포지션 초기화 + 온라인 플레이어 목록 조회
+    // player.join.script-enabled=false 면 기존 단계별 요청으로 처리 (성능 비교용)
+    // withRoster=false: 온라인 플레이어 목록은 조회하지 않음 (노드에 P_Init 스냅샷이 이미 있을 때) -> 빈 목록 반환
+    // spawnPoint: 포지션이 없을 때 초기화할 위치 (맵 메타데이터의 스폰 지점)
+    public PlayerJoinSnapshot joinMap(String sessionId, Long mapId, Long playerId, boolean withRoster, SpawnPoint spawnPoint) {
+        if (!joinScriptEnabled) return joinMapBySteps(sessionId, mapId, playerId, withRoster, spawnPoint);
+        return mapScopedKeys
+                ? joinMapByMapScopedScript(sessionId, mapId, playerId, withRoster, spawnPoint)
+                : joinMapByScript(sessionId, mapId, playerId, withRoster, spawnPoint);
+    }
+
+    // [맵 입장] 단계별 요청: 명령마다 왕복 (플레이어 정보 조회는 플레이어 수만큼 왕복)
+    public PlayerJoinSnapshot joinMapBySteps(String sessionId, Long mapId, Long playerId, boolean withRoster) {
+        return joinMapBySteps(sessionId, mapId, playerId, withRoster, PlayerService.MAP_INIT_SPAWN);
+    }
+
+    public PlayerJoinSnapshot joinMapBySteps(String sessionId, Long mapId, Long playerId, boolean withRoster, SpawnPoint spawnPoint) {
+        setSession(sessionId, mapId, playerId);
+        registerPlayerMapOnline(mapId, playerId);
+        addPlayerInfo(mapId, playerId);
+        addOrInitializePlayerPosition(mapId, playerId, spawnPoint);
+        touchHeartbeats(mapId, List.of(playerId));
+
+        if (!withRoster) return emptyJoinSnapshot();
+        if (mapScopedKeys) return getMapSnapshotByMapKeys(mapId);
+        return PlayerJoinSnapshot.builder()
+                .playerInfoList(getPlayersMapOnline(mapId))
+                .playerPositionList(getAllPlayerPositions(mapId))
+                .build();
+    }
+
+    // [맵 입장] Lua 스크립트: 한 번의 왕복으로 원자적으로 처리 (플레이어 정보가 없을 때만 DB 조회 후 한 번 더)
+    public PlayerJoinSnapshot joinMapByScript(String sessionId, Long mapId, Long playerId, boolean withRoster) {
+        return joinMapByScript(sessionId, mapId, playerId, withRoster, PlayerService.MAP_INIT_SPAWN);
+    }
+
+    public PlayerJoinSnapshot joinMapByScript(String sessionId, Long mapId, Long playerId, boolean withRoster, SpawnPoint spawnPoint) {
+        List<?> reply = executeJoinScript(sessionId, mapId, playerId, "", withRoster, spawnPoint);
+
+        if (isJoinNeedName(reply)) {
+            reply = executeJoinScript(sessionId, mapId, playerId, playerNicknameCache.getNickname(playerId), withRoster, spawnPoint); // Username 아님
+        }
+
+        // 로컬 테이블도 Redis 와 같은 값으로 초기화 (clean)
+        playerPositionStore.initialize(mapId, playerId, spawnPoint.x(), spawnPoint.y(), spawnPoint.d());
+
+        return toJoinSnapshot(reply);
+    }
+
+    // [맵 입장] 맵 단위 키 레이아웃용 Lua 스크립트: 응답에 맵 전체 포지션/정보 Hash 포함
+    public PlayerJoinSnapshot joinMapByMapScopedScript(String sessionId, Long mapId, Long playerId, boolean withRoster, SpawnPoint spawnPoint) {
+        List<?> reply = executeMapScopedJoinScript(sessionId, mapId, playerId, "", withRoster, spawnPoint);
+
+        if (isJoinNeedName(reply)) {
+            reply = executeMapScopedJoinScript(sessionId, mapId, playerId, playerNicknameCache.getNickname(playerId), withRoster, spawnPoint); // Username 아님
+        }
+
+        // 로컬 테이블도 Redis 와 같은 값으로 초기화 (clean)
+        playerPositionStore.initialize(mapId, playerId, spawnPoint.x(), spawnPoint.y(), spawnPoint.d());
+
+        if (reply == null || reply.size() < 3) return toMapSnapshot(List.of(), List.of());
+        return toMapSnapshot((List<?>) reply.get(1), (List<?>) reply.get(2));
+    }
+
+    private List<?> executeMapScopedJoinScript(String sessionId, Long mapId, Long playerId, String name, boolean withRoster,
+                                               SpawnPoint spawnPoint) {
+        List<String> keys = List.of(
+                "session:" + sessionId,
+                mapPositionKey(mapId),
+                mapInfoKey(mapId),
+                mapHeartbeatKey(mapId),
+                HEARTBEAT_MAPS_KEY,
+                playerSessionKey(playerId));
+
+        return redisTemplate.execute(PLAYER_JOIN_MAP_SCOPED_SCRIPT, keys,
+                String.valueOf(mapId),
+                String.valueOf(playerId),
+                String.valueOf(TimeUnit.HOURS.toSeconds(SESSION_TTL)),
+                String.valueOf(TimeUnit.MINUTES.toSeconds(PLAYER_INFO_TTL)),
+                packPosition(spawnPoint.x(), spawnPoint.y(), spawnPoint.d()),
+                name == null ? "" : name,
+                withRoster ? "1" : "0",
+                sessionId);
+    }
+
+    private List<?> executeJoinScript(String sessionId, Long mapId, Long playerId, String name, boolean withRoster,
+                                      SpawnPoint spawnPoint) {
+        List<String> keys = List.of(
+                "session:" + sessionId,
+                "map:" + mapId + ":players",
+                "player:" + playerId + ":info",
+                "player:" + playerId + ":position",
+                mapHeartbeatKey(mapId),
+                HEARTBEAT_MAPS_KEY,
+                playerSessionKey(playerId));
+
+        return redisTemplate.execute(PLAYER_JOIN_SCRIPT, keys,
+                String.valueOf(mapId),
+                String.valueOf(playerId),
+                String.valueOf(TimeUnit.HOURS.toSeconds(SESSION_TTL)),
+                String.valueOf(TimeUnit.MINUTES.toSeconds(PLAYER_INFO_TTL)),
+                String.valueOf(spawnPoint.x()),
+                String.valueOf(spawnPoint.y()),
+                String.valueOf(spawnPoint.d()),
+                name == null ? "" : name,
+                withRoster ? "1" : "0",
+                sessionId);
+    }
+
+    private PlayerJoinSnapshot emptyJoinSnapshot() {
+        return PlayerJoinSnapshot.builder().playerInfoList(new ArrayList<>()).playerPositionList(new ArrayList<>()).build();
+    }
+
+    private boolean isJoinNeedName(List<?> reply) {
+        return reply != null && !reply.isEmpty()
+                && reply.get(0) instanceof Number status && status.longValue() == JOIN_NEED_NAME;
+    }
+
+    // 스크립트 응답 -> 플레이어 목록: 아직 flush 되지 않은 위치가 있으면 로컬 테이블 값 우선
+    private PlayerJoinSnapshot toJoinSnapshot(List<?> reply) {
+        List<PlayerInfo> playerInfoList = new ArrayList<>();
+        List<PlayerPosition> playerPositionList = new ArrayList<>();
+        if (reply == null) {
+            return PlayerJoinSnapshot.builder().playerInfoList(playerInfoList).playerPositionList(playerPositionList).build();
+        }
+
+        for (int i = 1; i + JOIN_REPLY_STRIDE <= reply.size(); i += JOIN_REPLY_STRIDE) {
+            String playerId = (String) reply.get(i);
+            String name = (String) reply.get(i + 1);
+            try {
+                Long id = Long.valueOf(playerId);
+                if (name != null) {
+                    playerInfoList.add(PlayerInfo.builder().playerId(id).name(name).build());
+                }
+
+                PlayerPosition localPosition = playerPositionStore.get(id);
+                if (localPosition != null) {
+                    playerPositionList.add(localPosition);
+                } else if (reply.get(i + 2) != null && reply.get(i + 3) != null && reply.get(i + 4) != null) {
+                    playerPositionList.add(PlayerPosition.builder()
+                            .playerId(id)
+                            .x(Double.parseDouble((String) reply.get(i + 2)))
+                            .y(Double.parseDouble((String) reply.get(i + 3)))
+                            .d(Short.parseShort((String) reply.get(i + 4)))
+                            .build());
+                }
+            } catch (NumberFormatException e) {
+                log.error("Invalid join reply format for player ID: {}", playerId);
+            }
+        }
+        return PlayerJoinSnapshot.builder()
+                .playerInfoList(playerInfoList)
+                .playerPositionList(playerPositionList)
+                .build();
+    }
+
+    // [퇴장 배치] 여러 플레이어 퇴장을 한 번의 Pipeline 으로: 세션 + 온라인 + heartbeat 제거, 포지션 키 UNLINK
+    // (다음 입장이 포지션을 스폰 지점으로 덮어쓰므로 마지막 위치는 저장하지 않음, UNLINK 는 메모리 회수를 Redis 백그라운드로)
+    // player:{id}:info 는 TTL 로 남김: 재입장 시 입장 스크립트가 닉네임 없이 한 번에 끝남 (없으면 DB 조회 + 재호출)
+    // sessionPlayerIds: sessionId -> playerId
+    public void removePlayersFromMap(Long mapId, Map<String, Long> sessionPlayerIds) {
+        if (sessionPlayerIds.isEmpty()) return;
+
+        List<String> sessionKeys = new ArrayList<>(sessionPlayerIds.size());
+        List<String> positionKeys = new ArrayList<>(sessionPlayerIds.size());
+        List<String> playerIds = new ArrayList<>(sessionPlayerIds.size());
+        sessionPlayerIds.forEach((sessionId, playerId) -> {
+            sessionKeys.add("session:" + sessionId);
+            positionKeys.add("player:" + playerId + ":position");
+            playerIds.add(String.valueOf(playerId));
+        });
+        sessionPlayerIds.values().forEach(playerPositionStore::remove);
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                @SuppressWarnings("unchecked")
+                RedisOperations<String, String> stringOps = (RedisOperations<String, String>) operations;
+
+                stringOps.delete(sessionKeys);
+                stringOps.opsForZSet().remove(mapHeartbeatKey(mapId), playerIds.toArray());
+                if (mapScopedKeys) {
+                    stringOps.opsForHash().delete(mapPositionKey(mapId), playerIds.toArray());
+                    stringOps.opsForHash().delete(mapInfoKey(mapId), playerIds.toArray());
+                } else {
+                    stringOps.opsForSet().remove("map:" + mapId + ":players", playerIds.toArray());
+                    stringOps.unlink(positionKeys);
+                }
+                return null;
+            }
+        });
+    }
+
+    // [유령 정리] 이 노드에 연결된 플레이어의 heartbeat 갱신 (맵 하나당 스크립트 한 번)
+    // 반환: 온라인 목록에 없는 플레이어 (heartbeat 지연으로 이미 정리됨 -> restorePlayers 로 복구)
+    public List<Long> touchHeartbeats(Long mapId, Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) return List.of();
+
+        Object[] args = new Object[playerIds.size() + 3];
+        args[0] = String.valueOf(mapId);
+        args[1] = String.valueOf(TimeUnit.MINUTES.toSeconds(PLAYER_INFO_TTL));
+        args[2] = mapScopedKeys ? "1" : "0";
+        int i = 3;
+        for (Long playerId : playerIds) {
+            args[i++] = String.valueOf(playerId);
+        }
+        List<?> reply = redisTemplate.execute(PLAYER_HEARTBEAT_SCRIPT,
+                List.of(mapHeartbeatKey(mapId), HEARTBEAT_MAPS_KEY, mapRosterKey(mapId)), args);
+        return toPlayerIds(reply, 0);
+    }
+
+    // [유령 정리] 연결 중인데 정리된 플레이어를 다시 등록: 온라인 목록 + 정보(닉네임) + 포지션 + heartbeat
+    // 반환: 복구한 플레이어 정보 (다른 플레이어에게 다시 알릴 때 사용)
+    public List<PlayerInfo> restorePlayers(Long mapId, List<PlayerPosition> positionList) {
+        if (positionList.isEmpty()) return List.of();
+
+        List<PlayerInfo> playerInfoList = new ArrayList<>(positionList.size());
+        for (PlayerPosition position : positionList) {
+            playerInfoList.add(PlayerInfo.builder()
+                    .playerId(position.getPlayerId())
+                    .name(playerNicknameCache.getNickname(position.getPlayerId())) // Username 아님
+                    .build());
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                @SuppressWarnings("unchecked")
+                RedisOperations<String, String> stringOps = (RedisOperations<String, String>) operations;
+
+                if (mapScopedKeys) {
+                    Map<String, String> positionFields = new HashMap<>();
+                    Map<String, String> infoFields = new HashMap<>();
+                    for (int i = 0; i < positionList.size(); i++) {
+                        PlayerPosition position = positionList.get(i);
+                        String field = String.valueOf(position.getPlayerId());
+                        positionFields.put(field, packPosition(position.getX(), position.getY(), position.getD()));
+                        infoFields.put(field, playerInfoList.get(i).getName());
+                    }
+                    stringOps.opsForHash().putAll(mapPositionKey(mapId), positionFields);
+                    stringOps.expire(mapPositionKey(mapId), PLAYER_INFO_TTL, TimeUnit.MINUTES);
+                    stringOps.opsForHash().putAll(mapInfoKey(mapId), infoFields);
+                    stringOps.expire(mapInfoKey(mapId), PLAYER_INFO_TTL, TimeUnit.MINUTES);
+                    return null;
+                }
+
+                for (int i = 0; i < positionList.size(); i++) {
+                    PlayerPosition position = positionList.get(i);
+                    String infoKey = "player:" + position.getPlayerId() + ":info";
+                    String positionKey = "player:" + position.getPlayerId() + ":position";
+                    stringOps.opsForHash().putAll(infoKey, Map.of(
+                            FIELD_MAP_ID, String.valueOf(mapId),
+                            FIELD_NAME, playerInfoList.get(i).getName()));
+                    stringOps.expire(infoKey, PLAYER_INFO_TTL, TimeUnit.MINUTES);
+                    stringOps.opsForHash().putAll(positionKey, toPositionHash(position));
+                    stringOps.expire(positionKey, PLAYER_INFO_TTL, TimeUnit.MINUTES);
+                    stringOps.opsForSet().add(mapRosterKey(mapId), String.valueOf(position.getPlayerId()));
+                }
+                return null;
+            }
+        });
+        touchHeartbeats(mapId, positionList.stream().map(PlayerPosition::getPlayerId).toList());
+        return playerInfoList;
+    }
+
+    // [유령 정리] heartbeat 가 한 번이라도 기록된 맵 (정리 대상)
+    public List<Long> getHeartbeatMapIds() {
+        Set<String> mapIds = redisTemplate.opsForSet().members(HEARTBEAT_MAPS_KEY);
+        if (mapIds == null) return List.of();
+
+        List<Long> mapIdList = new ArrayList<>(mapIds.size());
+        for (String mapId : mapIds) {
+            try {
+                mapIdList.add(Long.valueOf(mapId));
+            } catch (NumberFormatException e) {
+                log.error("Invalid heartbeat map ID: {}", mapId);
+            }
+        }
+        return mapIdList;
+    }
+
+    public record ReapResult(long rosterBefore, long rosterAfter, List<Long> reapedPlayerIds) {
+    }
+
+    // [유령 정리] staleMillis 동안 heartbeat 가 없는 플레이어를 최대 batchSize 명 제거 (player-reap.lua)
+    public ReapResult reapStalePlayers(Long mapId, long staleMillis, int batchSize) {
+        List<String> keys = List.of(
+                mapHeartbeatKey(mapId),
+                HEARTBEAT_MAPS_KEY,
+                mapRosterKey(mapId),
+                mapInfoKey(mapId));
+        List<?> reply = redisTemplate.execute(PLAYER_REAP_SCRIPT, keys,
+                String.valueOf(mapId),
+                String.valueOf(staleMillis),
+                String.valueOf(batchSize),
+                mapScopedKeys ? "1" : "0");
+        if (reply == null || reply.size() < 2) return new ReapResult(0, 0, List.of());
+
+        return new ReapResult(((Number) reply.get(0)).longValue(), ((Number) reply.get(1)).longValue(), toPlayerIds(reply, 2));
+    }
+
+    // 스크립트 응답의 from 번째부터 playerId 목록
+    private List<Long> toPlayerIds(List<?> reply, int from) {
+        if (reply == null || reply.size() <= from) return List.of();
+
+        List<Long> playerIds = new ArrayList<>(reply.size() - from);
+        for (int i = from; i < reply.size(); i++) {
+            try {
+                playerIds.add(Long.valueOf(String.valueOf(reply.get(i))));
+            } catch (NumberFormatException e) {
+                log.error("Invalid player ID in script reply: {}", reply.get(i));
+            }
+        }
+        return playerIds;
+    }
+
     // [플레이어 정보] 플레이어 정보 추가: TTL 로 존재 가능
     public void addPlayerInfo(Long mapId, Long playerId) {
+        if (mapScopedKeys) {
+            addMapScopedPlayerInfo(mapId, playerId);
+            return;
+        }
+
         String key = "player:" + playerId + ":info";
 
         // 데이터 있는 경우: TTL 만 증가
@@ -151,18 +533,25 @@ public class StateManagerService {
 
         if (isExists) return;
 
-        // 데이터 없는 경우
-        User user = userRepository.findById(playerId)
-                .orElseThrow(() -> new EntityNotFoundException("User Not Found with ID: " + playerId));
-
+        // 데이터 없는 경우: 닉네임 캐시 (미스 시 닉네임만 DB 조회)
         Map<String, String> playerInfo = new HashMap<>();
         playerInfo.put(FIELD_MAP_ID, String.valueOf(mapId));
-        playerInfo.put(FIELD_NAME, user.getNickname()); // Username 아님
+        playerInfo.put(FIELD_NAME, playerNicknameCache.getNickname(playerId)); // Username 아님
 
         redisTemplate.opsForHash().putAll(key, playerInfo);
         redisTemplate.expire(key, PLAYER_INFO_TTL, TimeUnit.MINUTES);
     }
 
+    // [플레이어 정보] 맵 단위: map:{id}:info 에 닉네임 필드가 없을 때만 DB 조회
+    private void addMapScopedPlayerInfo(Long mapId, Long playerId) {
+        String key = mapInfoKey(mapId);
+
+        if (!redisTemplate.opsForHash().hasKey(key, String.valueOf(playerId))) {
+            redisTemplate.opsForHash().put(key, String.valueOf(playerId), playerNicknameCache.getNickname(playerId)); // Username 아님
+        }
+        redisTemplate.expire(key, PLAYER_INFO_TTL, TimeUnit.MINUTES);
+    }
+
     // [플레이어 정보] 플레이어 정보 제거: TTL 관리
      public void removePlayerInfo(Long playerId) {
          String key = "player:" + playerId + ":info";
@@ -171,12 +560,27 @@ public class StateManagerService {
 
     // [플레이어 포지션] 플레이어 포지션 추가 및 초기화: Hash 자료구조는 덮어써짐 -> putIfAbsent(): Insert Only
     // TODO: 좌표 숫자 형식 최적화: 다른 자료구조 or 소수점 줄이기(ex. 2자리) -> 우선 2자리
-    public void addOrInitializePlayerPosition(Long playerId) {
+    public void addOrInitializePlayerPosition(Long mapId, Long playerId) {
+        addOrInitializePlayerPosition(mapId, playerId, PlayerService.MAP_INIT_SPAWN);
+    }
+
+    public void addOrInitializePlayerPosition(Long mapId, Long playerId, SpawnPoint spawnPoint) {
+        // 로컬 테이블도 Redis 와 같은 값으로 초기화 (clean)
+        playerPositionStore.initialize(mapId, playerId, spawnPoint.x(), spawnPoint.y(), spawnPoint.d());
+
+        if (mapScopedKeys) {
+            String key = mapPositionKey(mapId);
+            redisTemplate.opsForHash().put(key, String.valueOf(playerId),
+                    packPosition(spawnPoint.x(), spawnPoint.y(), spawnPoint.d()));
+            redisTemplate.expire(key, PLAYER_INFO_TTL, TimeUnit.MINUTES);
+            return;
+        }
+
         Map<String, Object> playerPosition = new HashMap<>();
-        // TODO: 맵 별로 메타데이터를 만들어서 초기 스폰 장소 알고 있어야 함 + 프론트 하드코딩 말고 일관되게 해야 함
-        playerPosition.put(FIELD_X, String.valueOf(PlayerService.MAP_INIT_X)); // 맵 중앙
-        playerPosition.put(FIELD_Y, String.valueOf(PlayerService.MAP_INIT_Y)); // 맵 중앙
-        playerPosition.put(FIELD_D, String.valueOf(PlayerService.MAP_INIT_D)); // direction(상하좌우): '하'로 초기화
+        // 스폰 지점: 맵 메타데이터(.tmj 의 spawn 오브젝트), 없으면 PlayerService.MAP_INIT_* (맵 중앙, '하')
+        playerPosition.put(FIELD_X, String.valueOf(spawnPoint.x()));
+        playerPosition.put(FIELD_Y, String.valueOf(spawnPoint.y()));
+        playerPosition.put(FIELD_D, String.valueOf(spawnPoint.d()));
 
         String key = "player:" + playerId + ":position";
         redisTemplate.opsForHash().putAll(key, playerPosition);
@@ -185,33 +589,95 @@ public class StateManagerService {
 
     // [플레이어 포지션] 플레이어 포지션 업데이트
     // TODO: 좌표 숫자 형식 최적화: 다른 자료구조 or 소수점 줄이기(ex. 2자리) -> 프론트에서 하는게 성능 유리
-    // TODO: 최적화 1) 쓰기(Write-Back): 서버 메모리에만 갱신하다가 1초에 한 번만 Redis 에 저장.
-    // TODO: 최적화 2) 변화 감지: 이전 위치와 비교해서 차이가 클 때만 Redis 저장.
+    // 최적화 1) 쓰기(Write-Back): 서버 메모리(PlayerPositionStore)에만 갱신하고, flushDirtyPlayerPositions() 가 주기적으로 Redis 에 저장.
+    // 최적화 2) 변화 감지: 값이 그대로면 dirty 로 만들지 않음. 브로드캐스트 쪽 억제는 MovementFilter (dead-band + 키프레임) 가 담당.
     // TODO: 웹소켓에서 어차피 데이터를 제공하기 때문에 Redis 에서 무리할 필요는 없음
     public void updatePlayerPosition(Long playerId, double x, double y, short d) {
-        Map<String, String> playerPosition = new HashMap<>();
-        playerPosition.put(FIELD_X, String.valueOf(x));
-        playerPosition.put(FIELD_Y, String.valueOf(y));
-        playerPosition.put(FIELD_D, String.valueOf(d));
+        playerPositionStore.update(playerId, x, y, d);
+    }
 
-        String key = "player:" + playerId + ":position";
-        redisTemplate.opsForHash().putAll(key, playerPosition);
-        redisTemplate.expire(key, PLAYER_INFO_TTL, TimeUnit.MINUTES);
+    // [플레이어 포지션] dirty 포지션 일괄 저장: 맵마다 스크립트 한 번 (온라인 목록 확인 + HSET + EXPIRE)
+    // 퇴장(removePlayersFromMap)과 순서가 정해져 있지 않으므로 목록에서 빠진 플레이어는 Redis 가 건너뜀
+    // 맵 단위 레이아웃: 맵마다 HSET 한 번(여러 필드), map:{id}:pos 에 필드가 남아 있는 플레이어만
+    // 반환값: 저장한 엔트리 수
+    public int flushDirtyPlayerPositions() {
+        Map<Long, List<PlayerPosition>> dirtyByMap = playerPositionStore.drainDirtyByMap();
+        if (dirtyByMap.isEmpty()) return 0;
+
+        int written = 0;
+        try {
+            for (Map.Entry<Long, List<PlayerPosition>> entry : dirtyByMap.entrySet()) {
+                Object[] args = toFlushArgs(entry.getValue());
+                Long reply = redisTemplate.execute(PLAYER_POSITION_FLUSH_SCRIPT, List.of(mapRosterKey(entry.getKey())), args);
+                if (reply != null) written += reply.intValue();
+            }
+        } catch (DataAccessException e) {
+            // 다음 주기에 재시도 (이미 저장한 맵도 다시 쓰지만 같은 값)
+            dirtyByMap.values().forEach(playerPositionStore::markDirty);
+            throw e;
+        }
+        return written;
+    }
+
+    // 스크립트 인자: TTL, 레이아웃, 플레이어 단위는 (playerId, x, y, d) / 맵 단위는 (playerId, "x,y,d") 반복
+    private Object[] toFlushArgs(List<PlayerPosition> dirtyList) {
+        int stride = mapScopedKeys ? 2 : 4;
+        Object[] args = new Object[dirtyList.size() * stride + 2];
+        args[0] = String.valueOf(TimeUnit.MINUTES.toSeconds(PLAYER_INFO_TTL));
+        args[1] = mapScopedKeys ? "1" : "0";
+        int i = 2;
+        for (PlayerPosition position : dirtyList) {
+            args[i++] = String.valueOf(position.getPlayerId());
+            if (mapScopedKeys) {
+                args[i++] = packPosition(position.getX(), position.getY(), position.getD());
+            } else {
+                args[i++] = String.valueOf(position.getX());
+                args[i++] = String.valueOf(position.getY());
+                args[i++] = String.valueOf(position.getD());
+            }
+        }
+        return args;
+    }
+
+    private Map<String, String> toPositionHash(PlayerPosition position) {
+        Map<String, String> playerPosition = new HashMap<>();
+        playerPosition.put(FIELD_X, String.valueOf(position.getX()));
+        playerPosition.put(FIELD_Y, String.valueOf(position.getY()));
+        playerPosition.put(FIELD_D, String.valueOf(position.getD()));
+        return playerPosition;
     }
 
     // [플레이어 포지션] 플레이어 포지션 제거: TTL 관리
      public void removePlayerPosition(Long playerId) {
+         playerPositionStore.remove(playerId);
          String key = "player:" + playerId + ":position";
          redisTemplate.delete(key);
      }
 
-    // [플레이어 포지션] 플레이어 포지션 전체 조회
+    // [플레이어 포지션] 플레이어 포지션 전체 조회: 로컬 테이블 우선, 없는 플레이어만 Redis 조회
     public List<PlayerPosition> getAllPlayerPositions(Long mapId) {
+        if (mapScopedKeys) return getMapSnapshotByMapKeys(mapId).getPlayerPositionList();
+
         List<String> onlinePlayerIdList = getOnlinePlayerIdList(mapId);
         if (onlinePlayerIdList.isEmpty()) {
             return new ArrayList<>();
         }
 
+        List<PlayerPosition> playerPositionList = new ArrayList<>();
+        List<String> missedPlayerIdList = new ArrayList<>();
+        for (String playerId : onlinePlayerIdList) {
+            PlayerPosition localPosition = playerPositionStore.get(Long.valueOf(playerId));
+            if (localPosition != null) {
+                playerPositionList.add(localPosition);
+            } else {
+                missedPlayerIdList.add(playerId);
+            }
+        }
+
+        if (missedPlayerIdList.isEmpty()) {
+            return playerPositionList;
+        }
+
         // SessionCallback 으로 Pipeline 실행
         List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
             @Override
@@ -219,7 +685,7 @@ public class StateManagerService {
                 @SuppressWarnings("unchecked")
                 RedisOperations<String, String> stringOps = (RedisOperations<String, String>) operations;
 
-                for (String playerId : onlinePlayerIdList) {
+                for (String playerId : missedPlayerIdList) {
                     String playerKey = "player:" + playerId + ":position";
                     stringOps.opsForHash().entries(playerKey);
                 }
@@ -228,7 +694,6 @@ public class StateManagerService {
         });
 
         // 결과 반환
-        List<PlayerPosition> playerPositionList = new ArrayList<>();
         int size = results.size();
         for (int i = 0; i < size; i++) {
             @SuppressWarnings("unchecked")
@@ -244,18 +709,181 @@ public class StateManagerService {
 
             try {
                 playerPositionList.add(PlayerPosition.builder()
-                        .playerId(Long.valueOf(onlinePlayerIdList.get(i)))
+                        .playerId(Long.valueOf(missedPlayerIdList.get(i)))
                         .x(Double.parseDouble(data.get(FIELD_X))) // xyd 는 파싱에 취약: "", null, undefined, overflow
                         .y(Double.parseDouble(data.get(FIELD_Y)))
                         .d(Short.parseShort(data.get(FIELD_D)))
                         .build());
             } catch (NumberFormatException e) {
-                log.error("Invalid position data format for player ID: {}, Data: {}", onlinePlayerIdList.get(i), data);
+                log.error("Invalid position data format for player ID: {}, Data: {}", missedPlayerIdList.get(i), data);
             }
         }
         return playerPositionList;
     }
 
+    // [맵 스냅샷] 플레이어 단위 키: SMEMBERS + 플레이어별 HGETALL (Pipeline)
+    public PlayerJoinSnapshot getMapSnapshotByPlayerKeys(Long mapId) {
+        return PlayerJoinSnapshot.builder()
+                .playerInfoList(getPlayerMapOnlineByPipelining(mapId))
+                .playerPositionList(getAllPlayerPositions(mapId))
+                .build();
+    }
+
+    // [맵 스냅샷] 맵 단위 키: map:{id}:pos, map:{id}:info HGETALL 두 개를 한 번의 왕복으로
+    public PlayerJoinSnapshot getMapSnapshotByMapKeys(Long mapId) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                @SuppressWarnings("unchecked")
+                RedisOperations<String, String> stringOps = (RedisOperations<String, String>) operations;
+
+                stringOps.opsForHash().entries(mapPositionKey(mapId));
+                stringOps.opsForHash().entries(mapInfoKey(mapId));
+                return null;
+            }
+        });
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> positionHash = (Map<String, String>) results.get(0);
+        @SuppressWarnings("unchecked")
+        Map<String, String> infoHash = (Map<String, String>) results.get(1);
+        return toMapSnapshot(positionHash, infoHash);
+    }
+
+    // HGETALL 응답(필드, 값 순서의 평탄한 목록) -> 스냅샷
+    private PlayerJoinSnapshot toMapSnapshot(List<?> positionReply, List<?> infoReply) {
+        return toMapSnapshot(toHash(positionReply), toHash(infoReply));
+    }
+
+    private Map<String, String> toHash(List<?> reply) {
+        Map<String, String> hash = new HashMap<>();
+        for (int i = 0; i + 1 < reply.size(); i += 2) {
+            hash.put((String) reply.get(i), (String) reply.get(i + 1));
+        }
+        return hash;
+    }
+
+    // 맵 단위 Hash -> 스냅샷: 온라인 목록은 포지션 필드 기준, 아직 flush 되지 않은 위치는 로컬 테이블 값 우선
+    private PlayerJoinSnapshot toMapSnapshot(Map<String, String> positionHash, Map<String, String> infoHash) {
+        List<PlayerInfo> playerInfoList = new ArrayList<>();
+        List<PlayerPosition> playerPositionList = new ArrayList<>();
+
+        if (positionHash != null) {
+            positionHash.forEach((playerId, packed) -> {
+                try {
+                    Long id = Long.valueOf(playerId);
+                    String name = infoHash == null ? null : infoHash.get(playerId);
+                    if (name != null) {
+                        playerInfoList.add(PlayerInfo.builder().playerId(id).name(name).build());
+                    }
+
+                    PlayerPosition localPosition = playerPositionStore.get(id);
+                    playerPositionList.add(localPosition != null ? localPosition : unpackPosition(id, packed));
+                } catch (RuntimeException e) {
+                    log.error("Invalid position data format for player ID: {}, Data: {}", playerId, packed);
+                }
+            });
+        }
+        return PlayerJoinSnapshot.builder()
+                .playerInfoList(playerInfoList)
+                .playerPositionList(playerPositionList)
+                .build();
+    }
+
+    // [키 레이아웃] 플레이어 단위 -> 맵 단위 복사 (기존 키는 TTL 로 만료되도록 남겨둠: 롤백 가능)
+    // 반환값: 복사한 플레이어 수
+    public int migrateToMapScopedKeys(Long mapId) {
+        List<String> onlinePlayerIdList = getOnlinePlayerIdList(mapId);
+        if (onlinePlayerIdList.isEmpty()) return 0;
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                @SuppressWarnings("unchecked")
+                RedisOperations<String, String> stringOps = (RedisOperations<String, String>) operations;
+
+                for (String playerId : onlinePlayerIdList) {
+                    stringOps.opsForHash().entries("player:" + playerId + ":position");
+                    stringOps.opsForHash().entries("player:" + playerId + ":info");
+                }
+                return null;
+            }
+        });
+
+        Map<String, String> positionFields = new HashMap<>();
+        Map<String, String> infoFields = new HashMap<>();
+        for (int i = 0; i < onlinePlayerIdList.size(); i++) {
+            String playerId = onlinePlayerIdList.get(i);
+            @SuppressWarnings("unchecked")
+            Map<String, String> position = (Map<String, String>) results.get(i * 2);
+            @SuppressWarnings("unchecked")
+            Map<String, String> info = (Map<String, String>) results.get(i * 2 + 1);
+
+            if (position != null && position.get(FIELD_X) != null && position.get(FIELD_Y) != null && position.get(FIELD_D) != null) {
+                positionFields.put(playerId, position.get(FIELD_X) + POSITION_DELIMITER + position.get(FIELD_Y)
+                        + POSITION_DELIMITER + position.get(FIELD_D));
+            }
+            if (info != null && info.get(FIELD_NAME) != null) {
+                infoFields.put(playerId, info.get(FIELD_NAME));
+            }
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                @SuppressWarnings("unchecked")
+                RedisOperations<String, String> stringOps = (RedisOperations<String, String>) operations;
+
+                if (!positionFields.isEmpty()) {
+                    stringOps.opsForHash().putAll(mapPositionKey(mapId), positionFields);
+                    stringOps.expire(mapPositionKey(mapId), PLAYER_INFO_TTL, TimeUnit.MINUTES);
+                }
+                if (!infoFields.isEmpty()) {
+                    stringOps.opsForHash().putAll(mapInfoKey(mapId), infoFields);
+                    stringOps.expire(mapInfoKey(mapId), PLAYER_INFO_TTL, TimeUnit.MINUTES);
+                }
+                return null;
+            }
+        });
+        return positionFields.size();
+    }
+
+    private String mapPositionKey(Long mapId) {
+        return "map:" + mapId + ":pos";
+    }
+
+    private String mapInfoKey(Long mapId) {
+        return "map:" + mapId + ":info";
+    }
+
+    // 온라인 목록: 플레이어 단위는 map:{id}:players (Set), 맵 단위는 map:{id}:pos 의 필드
+    private String mapRosterKey(Long mapId) {
+        return mapScopedKeys ? mapPositionKey(mapId) : "map:" + mapId + ":players";
+    }
+
+    private String mapHeartbeatKey(Long mapId) {
+        return "map:" + mapId + ":heartbeat";
+    }
+
+    private String playerSessionKey(Long playerId) {
+        return "player:" + playerId + ":session";
+    }
+
+    // 포지션 압축 값: "x,y,d"
+    private String packPosition(double x, double y, short d) {
+        return x + POSITION_DELIMITER + y + POSITION_DELIMITER + d;
+    }
+
+    private PlayerPosition unpackPosition(Long playerId, String packed) {
+        String[] parts = packed.split(POSITION_DELIMITER);
+        return PlayerPosition.builder()
+                .playerId(playerId)
+                .x(Double.parseDouble(parts[0]))
+                .y(Double.parseDouble(parts[1]))
+                .d(Short.parseShort(parts[2]))
+                .build();
+    }
+
     // [세션] 세션 저장
     public void setSession(String sessionId, Long mapId, Long playerId) {
         Map<String, Object> playerSession = new HashMap<>();
@@ -265,6 +893,17 @@ public class StateManagerService {
         String key = "session:" + sessionId;
         redisTemplate.opsForHash().putAll(key, playerSession);
         redisTemplate.expire(key, SESSION_TTL, TimeUnit.HOURS); // 세션 TTL 추가
+        redisTemplate.opsForValue().set(playerSessionKey(playerId), sessionId, SESSION_TTL, TimeUnit.HOURS);
+    }
+
+    // [이어받기] 플레이어가 다른 세션으로 같은 맵에 다시 입장했으면 true (다른 노드로 재연결 등)
+    // player:{playerId}:session 은 입장/이어받기마다 갱신: 없거나 sessionId 그대로면 재입장 없음
+    public boolean hasRejoinedWithOtherSession(Long mapId, Long playerId, String sessionId) {
+        String currentSessionId = redisTemplate.opsForValue().get(playerSessionKey(playerId));
+        if (currentSessionId == null || currentSessionId.equals(sessionId)) return false;
+
+        PlayerSession current = getSession(currentSessionId);
+        return current != null && mapId.equals(current.getMapId());
     }
 
     // [세션] 세션 조회
@@ -272,7 +911,7 @@ public class StateManagerService {
         String key = "session:" + sessionId;
 
         Map<Object, Object> sessionData = redisTemplate.opsForHash().entries(key);
-        log.info("sessionData: {}", sessionData);
+        log.debug("sessionData: {}", sessionData);
 
         if (sessionData.isEmpty()) return null; // 세션 만료 혹은 유효하지 않은 세션으로 간주
 
@@ -292,5 +931,4 @@ public class StateManagerService {
     public void removeSession(String sessionId) {
         String key = "session:" + sessionId;
         redisTemplate.delete(key);
-    }
-}
\ No newline at end of file
+    }}
\ No newline at end of file
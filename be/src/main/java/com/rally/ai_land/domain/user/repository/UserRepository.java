@@ -2,7 +2,9 @@ package com.rally.ai_land.domain.user.repository;
 
 import com.rally.ai_land.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -17,6 +19,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByUsernameAndIsLock(String username, Boolean isLock);
 
+    // 닉네임만 조회 (엔티티 전체 로딩 X)
+    @Query("select u.nickname from User u where u.id = :id")
+    Optional<String> findNicknameById(@Param("id") Long id);
+
     @Transactional
     void deleteByUsername(String username);
 }
@@ -0,0 +1,65 @@
+package com.rally.ai_land.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.rally.ai_land.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+// [닉네임 캐시] playerId -> 닉네임 (노드 로컬, 크기/시간 제한)
+// - 미스 시 닉네임만 조회하는 쿼리로 적재 (User 엔티티 전체 로딩 X)
+// - 닉네임 변경 시 UserService 에서 invalidate 호출
+// - 측정: cache.gets{cache=player.nickname, result=hit|miss}, cache.load.duration, player.nickname.cache.hit.ratio
+@Component
+public class PlayerNicknameCache {
+
+    private static final String CACHE_NAME = "player.nickname";
+
+    private final LoadingCache<Long, String> cache;
+
+    public PlayerNicknameCache(UserRepository userRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${player.nickname-cache.max-size:10000}") long maxSize,
+                               @Value("${player.nickname-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(playerId -> userRepository.findNicknameById(playerId).orElse(null)); // null 은 캐시하지 않음
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("player.nickname.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .register(meterRegistry);
+    }
+
+    // [닉네임 캐시] 조회: 유저가 없으면 EntityNotFoundException
+    public String getNickname(Long playerId) {
+        String nickname = cache.get(playerId);
+        if (nickname == null) {
+            throw new EntityNotFoundException("User Not Found with ID: " + playerId);
+        }
+        return nickname;
+    }
+
+    // [닉네임 캐시] 무효화: 트랜잭션 안이면 커밋 후에 한 번 더 (커밋 전 다른 스레드가 예전 값을 다시 적재하는 경우 대비)
+    public void invalidate(Long playerId) {
+        cache.invalidate(playerId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(playerId);
+                }
+            });
+        }
+    }
+}
@@ -37,6 +37,7 @@ public class UserService extends DefaultOAuth2UserService implements UserDetails
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtRefreshService jwtRefreshService;
+    private final PlayerNicknameCache playerNicknameCache;
 
 
     // 자체 로그인 회원 가입 (존재 여부)
@@ -97,6 +98,7 @@ public class UserService extends DefaultOAuth2UserService implements UserDetails
 
         // 회원 정보 수정
         user.updateInfo(userRequest);
+        playerNicknameCache.invalidate(user.getId());
 
         return userRepository.save(user).getId();
     }
@@ -172,6 +174,7 @@ public class UserService extends DefaultOAuth2UserService implements UserDetails
             entity.get().updateInfo(dto);
 
             userRepository.save(entity.get());
+            playerNicknameCache.invalidate(entity.get().getId());
         } else {
             // 신규 유저 추가
             User newUser = User.builder()
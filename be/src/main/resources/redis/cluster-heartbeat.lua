@@ -0,0 +1,20 @@
+-- [클러스터 멤버십] 노드 heartbeat + 만료 노드 정리 + 살아 있는 노드 목록
+-- KEYS[1] cluster:nodes (ZSET nodeId -> 마지막 heartbeat ms), KEYS[2] cluster:node-urls (Hash nodeId -> 접속 URL)
+-- ARGV[1] nodeId, ARGV[2] 접속 URL, ARGV[3] 노드 TTL(ms)
+-- 반환: 살아 있는 nodeId 목록
+-- - 시각은 Redis 서버 시계 기준 (노드 간 시계 차이와 무관)
+-- - 어느 노드든 만료 노드를 정리 (마지막 heartbeat 가 TTL 보다 오래된 노드)
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+redis.call('ZADD', KEYS[1], now, ARGV[1])
+redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+
+local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', '(' .. (now - tonumber(ARGV[3])))
+for _, nodeId in ipairs(expired) do
+    redis.call('ZREM', KEYS[1], nodeId)
+    redis.call('HDEL', KEYS[2], nodeId)
+end
+
+return redis.call('ZRANGE', KEYS[1], 0, -1)
@@ -0,0 +1,58 @@
+-- [맵 인스턴스] 입장 플레이어를 인스턴스에 원자적으로 배정
+-- KEYS[1] map:{mapId}:instances (Hash instanceId -> 인원)
+-- KEYS[2] map:{mapId}:instance-players (Hash playerId -> instanceId)
+-- ARGV[1] playerId, ARGV[2] 희망 instanceId ('0' 이면 자동 배정), ARGV[3] 정원, ARGV[4] 최대 인스턴스 수, ARGV[5] TTL(초)
+-- 반환: 배정된 instanceId
+-- - 이미 배정된 플레이어는 기존 인스턴스 그대로 (재입장, 리다이렉트 후 입장)
+-- - 희망 인스턴스가 있고 정원 미만이면 그 인스턴스
+-- - 아니면 정원 미만 인스턴스 중 인원이 가장 많은 곳 (같으면 작은 id) -> 인스턴스를 채워서 수를 줄임
+-- - 모두 정원이면 비어 있는 가장 작은 id 로 새 인스턴스, 최대 수에 도달했으면 인원이 가장 적은 곳 (정원 초과 허용)
+
+local assigned = redis.call('HGET', KEYS[2], ARGV[1])
+if assigned then
+    redis.call('EXPIRE', KEYS[1], ARGV[5])
+    redis.call('EXPIRE', KEYS[2], ARGV[5])
+    return tonumber(assigned)
+end
+
+local capacity = tonumber(ARGV[3])
+local maxInstances = tonumber(ARGV[4])
+local preferred = tonumber(ARGV[2])
+local populations = redis.call('HGETALL', KEYS[1])
+
+local chosen, chosenPopulation = nil, -1
+local leastLoaded, leastPopulation = nil, nil
+local used = {}
+for i = 1, #populations, 2 do
+    local id = tonumber(populations[i])
+    local population = tonumber(populations[i + 1])
+    used[id] = true
+    if population < capacity then
+        if id == preferred and preferred ~= 0 then
+            chosen, chosenPopulation = id, math.huge
+        elseif population > chosenPopulation or (population == chosenPopulation and id < chosen) then
+            chosen, chosenPopulation = id, population
+        end
+    end
+    if leastPopulation == nil or population < leastPopulation or (population == leastPopulation and id < leastLoaded) then
+        leastLoaded, leastPopulation = id, population
+    end
+end
+
+if chosen == nil then
+    for id = 0, maxInstances - 1 do
+        if not used[id] then
+            chosen = id
+            break
+        end
+    end
+end
+if chosen == nil then
+    chosen = leastLoaded
+end
+
+redis.call('HINCRBY', KEYS[1], chosen, 1)
+redis.call('HSET', KEYS[2], ARGV[1], chosen)
+redis.call('EXPIRE', KEYS[1], ARGV[5])
+redis.call('EXPIRE', KEYS[2], ARGV[5])
+return chosen
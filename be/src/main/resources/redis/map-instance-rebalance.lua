@@ -0,0 +1,53 @@
+-- [맵 인스턴스] 비어 가는 인스턴스를 다른 인스턴스로 합침 (한 번에 한 인스턴스)
+-- KEYS[1] map:{mapId}:instances, KEYS[2] map:{mapId}:instance-players
+-- ARGV[1] 정원, ARGV[2] 합칠 기준 인원 (이하이면 합침)
+-- 반환: {} -> 할 일 없음
+--       {sourceId, targetId, playerId, ...} -> source 의 플레이어를 target 으로 재배정 (source 필드 삭제)
+-- - source: 인원이 가장 적은 인스턴스 (같으면 큰 id), 인스턴스가 2 개 이상일 때만
+-- - target: source 인원을 받아도 정원 이하인 인스턴스 중 인원이 가장 많은 곳 (같으면 작은 id)
+
+local capacity = tonumber(ARGV[1])
+local lowWater = tonumber(ARGV[2])
+local populations = redis.call('HGETALL', KEYS[1])
+if #populations < 4 then
+    return {}
+end
+
+local source, sourcePopulation = nil, nil
+for i = 1, #populations, 2 do
+    local id = tonumber(populations[i])
+    local population = tonumber(populations[i + 1])
+    if sourcePopulation == nil or population < sourcePopulation or (population == sourcePopulation and id > source) then
+        source, sourcePopulation = id, population
+    end
+end
+if sourcePopulation > lowWater then
+    return {}
+end
+
+local target, targetPopulation = nil, nil
+for i = 1, #populations, 2 do
+    local id = tonumber(populations[i])
+    local population = tonumber(populations[i + 1])
+    if id ~= source and population + sourcePopulation <= capacity
+            and (targetPopulation == nil or population > targetPopulation or (population == targetPopulation and id < target)) then
+        target, targetPopulation = id, population
+    end
+end
+if target == nil then
+    return {}
+end
+
+local reply = {tostring(source), tostring(target)}
+local sourceId = tostring(source)
+local assignments = redis.call('HGETALL', KEYS[2])
+for i = 1, #assignments, 2 do
+    if assignments[i + 1] == sourceId then
+        redis.call('HSET', KEYS[2], assignments[i], target)
+        reply[#reply + 1] = assignments[i]
+    end
+end
+
+redis.call('HINCRBY', KEYS[1], target, #reply - 2)
+redis.call('HDEL', KEYS[1], source)
+return reply
@@ -0,0 +1,21 @@
+-- [맵 인스턴스] 퇴장 플레이어 배정 해제
+-- KEYS[1] map:{mapId}:instances, KEYS[2] map:{mapId}:instance-players
+-- ARGV[1] 퇴장한 instanceId, ARGV[2..] playerId
+-- 반환: 해제한 플레이어 수
+-- - 지금 배정이 ARGV[1] 인 플레이어만 해제 (재배치로 이미 다른 인스턴스로 옮겨졌으면 그대로 둠)
+-- - 인원이 0 이 된 인스턴스는 필드 삭제
+
+local released = 0
+for i = 2, #ARGV do
+    if redis.call('HGET', KEYS[2], ARGV[i]) == ARGV[1] then
+        redis.call('HDEL', KEYS[2], ARGV[i])
+        released = released + 1
+    end
+end
+
+if released > 0 then
+    if redis.call('HINCRBY', KEYS[1], ARGV[1], -released) <= 0 then
+        redis.call('HDEL', KEYS[1], ARGV[1])
+    end
+end
+return released
@@ -0,0 +1,27 @@
+-- [유령 정리] 맵 플레이어 heartbeat
+-- KEYS[1] map:{mapId}:heartbeat (ZSET playerId -> 마지막 heartbeat ms), KEYS[2] maps:heartbeat (heartbeat 가 있는 mapId Set)
+-- KEYS[3] 온라인 목록: map:{mapId}:players (Set) 또는 map:{mapId}:pos (Hash, 맵 단위 레이아웃)
+-- ARGV[1] mapId, ARGV[2] heartbeat 키 TTL(초), ARGV[3] 맵 단위 레이아웃 ('1' / '0'), ARGV[4..] 이 노드에 연결된 playerId
+-- 반환: 온라인 목록에 없는 playerId (heartbeat 지연으로 player-reap.lua 가 이미 정리함 -> 호출 측에서 복구)
+-- - 시각은 Redis 서버 시계 기준 (노드 간 시계 차이와 무관, cluster-heartbeat.lua 와 같음)
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local mapScoped = ARGV[3] == '1'
+
+local missing = {}
+for i = 4, #ARGV do
+    redis.call('ZADD', KEYS[1], now, ARGV[i])
+    local online
+    if mapScoped then
+        online = redis.call('HEXISTS', KEYS[3], ARGV[i])
+    else
+        online = redis.call('SISMEMBER', KEYS[3], ARGV[i])
+    end
+    if online == 0 then
+        missing[#missing + 1] = ARGV[i]
+    end
+end
+redis.call('EXPIRE', KEYS[1], ARGV[2])
+redis.call('SADD', KEYS[2], ARGV[1])
+return missing
@@ -0,0 +1,38 @@
+-- [맵 입장] 맵 단위 키 레이아웃용: 한 번의 왕복으로 입장 처리 + 맵 전체 포지션/정보 반환
+-- KEYS[1] session:{sessionId}
+-- KEYS[2] map:{mapId}:pos   (필드: playerId, 값: "x,y,d")
+-- KEYS[3] map:{mapId}:info  (필드: playerId, 값: 닉네임)
+-- KEYS[4] map:{mapId}:heartbeat, KEYS[5] maps:heartbeat (입장 시점을 첫 heartbeat 로 기록, player-heartbeat.lua)
+-- KEYS[6] player:{playerId}:session (플레이어의 현재 세션, 이전 세션의 이어받기 유예 만료 시 확인)
+-- ARGV[1] mapId, ARGV[2] playerId, ARGV[3] session TTL(초), ARGV[4] 맵 키 TTL(초)
+-- ARGV[5] 초기 포지션 "x,y,d", ARGV[6] 닉네임 (모르면 빈 문자열)
+-- ARGV[7] 맵 전체 포지션/정보 포함 여부 ('1' / '0'), ARGV[8] sessionId
+-- 반환: {0} -> 정보 필드가 없고 닉네임도 없음 (DB 조회 후 닉네임과 함께 재호출)
+--       {1, HGETALL pos, HGETALL info}
+--       {1} -> ARGV[7] 이 '0' 이면 목록 없이 입장 처리만
+
+if redis.call('HEXISTS', KEYS[3], ARGV[2]) == 0 then
+    if ARGV[6] == '' then
+        return {0}
+    end
+    redis.call('HSET', KEYS[3], ARGV[2], ARGV[6])
+end
+
+redis.call('HSET', KEYS[1], 'mapId', ARGV[1], 'playerId', ARGV[2])
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+redis.call('SET', KEYS[6], ARGV[8], 'EX', ARGV[3])
+
+redis.call('HSET', KEYS[2], ARGV[2], ARGV[5])
+redis.call('EXPIRE', KEYS[2], ARGV[4])
+redis.call('EXPIRE', KEYS[3], ARGV[4])
+
+local time = redis.call('TIME')
+redis.call('ZADD', KEYS[4], tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000), ARGV[2])
+redis.call('EXPIRE', KEYS[4], ARGV[4])
+redis.call('SADD', KEYS[5], ARGV[1])
+
+if ARGV[7] == '0' then
+    return {1}
+end
+
+return {1, redis.call('HGETALL', KEYS[2]), redis.call('HGETALL', KEYS[3])}
@@ -0,0 +1,51 @@
+-- [맵 입장] 한 번의 왕복으로 입장 처리 + 맵 온라인 플레이어 목록(이름, 위치) 반환
+-- KEYS[1] session:{sessionId}
+-- KEYS[2] map:{mapId}:players
+-- KEYS[3] player:{playerId}:info
+-- KEYS[4] player:{playerId}:position
+-- KEYS[5] map:{mapId}:heartbeat, KEYS[6] maps:heartbeat (입장 시점을 첫 heartbeat 로 기록, player-heartbeat.lua)
+-- KEYS[7] player:{playerId}:session (플레이어의 현재 세션, 이전 세션의 이어받기 유예 만료 시 확인)
+-- ARGV[1] mapId, ARGV[2] playerId, ARGV[3] session TTL(초), ARGV[4] info/position TTL(초)
+-- ARGV[5] x, ARGV[6] y, ARGV[7] d, ARGV[8] 닉네임 (모르면 빈 문자열)
+-- ARGV[9] 온라인 플레이어 목록 포함 여부 ('1' / '0'), ARGV[10] sessionId
+-- 반환: {0} -> info 가 없고 닉네임도 없음 (DB 조회 후 닉네임과 함께 재호출)
+--       {1, id, name, x, y, d, id, name, x, y, d, ...} -> 값이 없으면 nil
+--       {1} -> ARGV[9] 이 '0' 이면 목록 없이 입장 처리만
+-- 주의: 다른 플레이어 키(player:{id}:*)는 KEYS 로 넘기지 않으므로 단일 노드 Redis 전제 (클러스터 불가)
+
+if redis.call('EXPIRE', KEYS[3], ARGV[4]) == 0 then
+    if ARGV[8] == '' then
+        return {0}
+    end
+    redis.call('HSET', KEYS[3], 'mapId', ARGV[1], 'name', ARGV[8])
+    redis.call('EXPIRE', KEYS[3], ARGV[4])
+end
+
+redis.call('HSET', KEYS[1], 'mapId', ARGV[1], 'playerId', ARGV[2])
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+redis.call('SET', KEYS[7], ARGV[10], 'EX', ARGV[3])
+
+redis.call('SADD', KEYS[2], ARGV[2])
+
+local time = redis.call('TIME')
+redis.call('ZADD', KEYS[5], tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000), ARGV[2])
+redis.call('EXPIRE', KEYS[5], ARGV[4])
+redis.call('SADD', KEYS[6], ARGV[1])
+
+redis.call('HSET', KEYS[4], 'x', ARGV[5], 'y', ARGV[6], 'd', ARGV[7])
+redis.call('EXPIRE', KEYS[4], ARGV[4])
+
+if ARGV[9] == '0' then
+    return {1}
+end
+
+local reply = {1}
+for _, playerId in ipairs(redis.call('SMEMBERS', KEYS[2])) do
+    local position = redis.call('HMGET', 'player:' .. playerId .. ':position', 'x', 'y', 'd')
+    reply[#reply + 1] = playerId
+    reply[#reply + 1] = redis.call('HGET', 'player:' .. playerId .. ':info', 'name')
+    reply[#reply + 1] = position[1]
+    reply[#reply + 1] = position[2]
+    reply[#reply + 1] = position[3]
+end
+return reply
@@ -0,0 +1,35 @@
+-- [플레이어 포지션] dirty 포지션 저장: 맵 온라인 목록에 남아 있는 플레이어만
+-- KEYS[1] 온라인 목록: map:{mapId}:players (Set) 또는 map:{mapId}:pos (Hash, 맵 단위 레이아웃)
+-- ARGV[1] TTL(초), ARGV[2] 맵 단위 레이아웃 ('1' / '0')
+-- ARGV[3..] 플레이어 단위: playerId, x, y, d 반복 / 맵 단위: playerId, "x,y,d" 반복
+-- 반환: 저장한 플레이어 수
+-- - flush 는 스케줄러 스레드, 퇴장은 맵 액터라 순서가 정해져 있지 않음
+--   -> 목록 확인과 쓰기를 한 스크립트에서: 퇴장/유령 정리(목록 제거 + 포지션 키 UNLINK) 뒤에 늦게 온 flush 가 키를 다시 만들지 않음
+--   (맵 단위에서는 map:{mapId}:pos 가 곧 온라인 목록이라 늦은 HSET 이 퇴장한 플레이어를 목록에 되살림)
+-- 주의: player:{id}:position 은 KEYS 로 넘기지 않으므로 단일 노드 Redis 전제 (player-reap.lua 와 같음)
+
+local mapScoped = ARGV[2] == '1'
+local written = 0
+if mapScoped then
+    for i = 3, #ARGV, 2 do
+        if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then
+            redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            written = written + 1
+        end
+    end
+    if written > 0 then
+        redis.call('EXPIRE', KEYS[1], ARGV[1])
+    end
+    return written
+end
+
+for i = 3, #ARGV, 4 do
+    local playerId = ARGV[i]
+    if redis.call('SISMEMBER', KEYS[1], playerId) == 1 then
+        local key = 'player:' .. playerId .. ':position'
+        redis.call('HSET', key, 'x', ARGV[i + 1], 'y', ARGV[i + 2], 'd', ARGV[i + 3])
+        redis.call('EXPIRE', key, ARGV[1])
+        written = written + 1
+    end
+end
+return written
@@ -0,0 +1,68 @@
+-- [유령 정리] heartbeat 가 끊긴 플레이어를 맵 온라인 목록에서 제거 + 플레이어 키 UNLINK
+-- KEYS[1] map:{mapId}:heartbeat, KEYS[2] maps:heartbeat
+-- KEYS[3] 온라인 목록: map:{mapId}:players (Set) 또는 map:{mapId}:pos (Hash, 맵 단위 레이아웃)
+-- KEYS[4] map:{mapId}:info (맵 단위 레이아웃에서만 사용)
+-- ARGV[1] mapId, ARGV[2] 만료 기준(ms), ARGV[3] 한 번에 정리할 최대 수, ARGV[4] 맵 단위 레이아웃 ('1' / '0')
+-- 반환: {정리 전 인원, 정리 후 인원, playerId, playerId, ...}
+-- - 대상: 마지막 heartbeat 가 만료 기준보다 오래됐거나, 온라인 목록에는 있는데 heartbeat 가 없는 플레이어
+--   (heartbeat 전에 노드가 죽었거나 heartbeat 키가 만료된 경우)
+-- - 목록 제거와 player:{id}:* UNLINK 를 한 스크립트에서: 그 사이에 다시 입장한 플레이어의 새 키를 지우지 않음
+-- - 온라인 목록에 없던 플레이어 (채널 이동 등으로 이미 정리됨) 는 heartbeat 만 지우고 결과에 넣지 않음
+-- - 목록과 heartbeat 가 모두 비면 maps:heartbeat 에서 맵 제거
+-- 주의: player:{id}:* 는 KEYS 로 넘기지 않으므로 단일 노드 Redis 전제 (player-join.lua 와 같음)
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local limit = tonumber(ARGV[3])
+local mapScoped = ARGV[4] == '1'
+
+local function rosterSize()
+    if mapScoped then
+        return redis.call('HLEN', KEYS[3])
+    end
+    return redis.call('SCARD', KEYS[3])
+end
+
+local function removeFromRoster(playerId)
+    if mapScoped then
+        redis.call('HDEL', KEYS[4], playerId)
+        return redis.call('HDEL', KEYS[3], playerId)
+    end
+    return redis.call('SREM', KEYS[3], playerId)
+end
+
+local before = rosterSize()
+local candidates = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', '(' .. (now - tonumber(ARGV[2])), 'LIMIT', 0, limit)
+if #candidates < limit then
+    local roster
+    if mapScoped then
+        roster = redis.call('HKEYS', KEYS[3])
+    else
+        roster = redis.call('SMEMBERS', KEYS[3])
+    end
+    for _, playerId in ipairs(roster) do
+        if #candidates >= limit then
+            break
+        end
+        if not redis.call('ZSCORE', KEYS[1], playerId) then
+            candidates[#candidates + 1] = playerId
+        end
+    end
+end
+
+local reply = {before, 0}
+for _, playerId in ipairs(candidates) do
+    redis.call('ZREM', KEYS[1], playerId)
+    if removeFromRoster(playerId) == 1 then
+        if not mapScoped then
+            redis.call('UNLINK', 'player:' .. playerId .. ':position', 'player:' .. playerId .. ':info')
+        end
+        reply[#reply + 1] = playerId
+    end
+end
+
+reply[2] = rosterSize()
+if reply[2] == 0 and redis.call('ZCARD', KEYS[1]) == 0 then
+    redis.call('SREM', KEYS[2], ARGV[1])
+end
+return reply
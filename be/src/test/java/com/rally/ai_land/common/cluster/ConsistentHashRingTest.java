@@ -0,0 +1,66 @@
+package com.rally.ai_land.common.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConsistentHashRing 단위 테스트")
+class ConsistentHashRingTest {
+
+    private static final int VIRTUAL_NODES = 128;
+    private static final int MAP_COUNT = 10_000;
+
+    @Test
+    @DisplayName("노드 목록 순서와 무관하게 같은 배정이어야 한다")
+    void shouldAssignDeterministically() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), VIRTUAL_NODES);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of("node-c", "node-a", "node-b"), VIRTUAL_NODES);
+
+        // when & then
+        for (long mapId = 1; mapId <= MAP_COUNT; mapId++) {
+            assertThat(reordered.ownerOf(mapId)).isEqualTo(ring.ownerOf(mapId));
+        }
+    }
+
+    @Test
+    @DisplayName("노드가 추가되면 새 노드로 옮겨지는 맵만 소유 노드가 바뀌어야 한다")
+    void shouldMoveOnlyKeysOfAddedNode() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), VIRTUAL_NODES);
+        ConsistentHashRing grown = new ConsistentHashRing(List.of("node-a", "node-b", "node-c", "node-d"), VIRTUAL_NODES);
+
+        // when
+        int moved = 0;
+        for (long mapId = 1; mapId <= MAP_COUNT; mapId++) {
+            String before = ring.ownerOf(mapId);
+            String after = grown.ownerOf(mapId);
+            if (!before.equals(after)) {
+                assertThat(after).isEqualTo("node-d");
+                moved++;
+            }
+        }
+
+        // then: 평균 1/4, 가상 노드 편차 감안
+        assertThat(moved).isBetween(MAP_COUNT / 8, MAP_COUNT * 3 / 8);
+    }
+
+    @Test
+    @DisplayName("노드를 빼면 그 노드의 맵만 남은 노드로 옮겨지고, 노드가 없으면 null 이어야 한다")
+    void shouldReassignKeysOfRemovedNode() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b"), VIRTUAL_NODES);
+
+        // when
+        ConsistentHashRing remaining = ring.without("node-a", VIRTUAL_NODES);
+
+        // then
+        for (long mapId = 1; mapId <= MAP_COUNT; mapId++) {
+            assertThat(remaining.ownerOf(mapId)).isEqualTo("node-b");
+        }
+        assertThat(remaining.without("node-b", VIRTUAL_NODES).ownerOf(1L)).isNull();
+    }
+}
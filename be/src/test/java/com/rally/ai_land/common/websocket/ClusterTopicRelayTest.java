@@ -0,0 +1,207 @@
+package com.rally.ai_land.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.common.cluster.ClusterMembershipService;
+import com.rally.ai_land.common.websocket.ClusterTopicRelay.RemoteFrameEvent;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerLeaveResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClusterTopicRelay 단위 테스트")
+class ClusterTopicRelayTest {
+
+    private static final Long MAP_ID = 1L;
+
+    @Mock
+    private SimpMessagingTemplate simpMessagingTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private RedisConnection redisConnection;
+
+    @Mock
+    private ClusterMembershipService clusterMembershipService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private ClusterTopicRelay clusterTopicRelay;
+
+    private final PlayerLeaveResponse response = PlayerLeaveResponse.builder()
+            .type(ActionType.P_LEAVE)
+            .playerId(100L)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(clusterMembershipService.getNodeId()).thenReturn("node-a");
+        clusterTopicRelay = new ClusterTopicRelay(simpMessagingTemplate, redisTemplate, redisMessageListenerContainer,
+                objectMapper, applicationEventPublisher, meterRegistry, clusterMembershipService,
+                new MapStreamBuffer(meterRegistry, true, 16), true);
+    }
+
+    private EncodedFrame frameOf(PlayerLeaveResponse response) {
+        return new EncodedFrame(response, objectMapper,
+                meterRegistry.counter("test.json"), meterRegistry.counter("test.binary"));
+    }
+
+    private MessageListener retainAndCaptureListener() {
+        clusterTopicRelay.retain(MAP_ID);
+        ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        ArgumentCaptor<ChannelTopic> topicCaptor = ArgumentCaptor.forClass(ChannelTopic.class);
+        verify(redisMessageListenerContainer).addMessageListener(listenerCaptor.capture(), topicCaptor.capture());
+        assertThat(topicCaptor.getValue().getTopic()).isEqualTo("map:1:relay");
+        return listenerCaptor.getValue();
+    }
+
+    private DefaultMessage envelope(String nodeId, byte[] json) {
+        byte[] header = (nodeId + "\n" + System.currentTimeMillis() + "\n").getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[header.length + json.length];
+        System.arraycopy(header, 0, body, 0, header.length);
+        System.arraycopy(json, 0, body, header.length, json.length);
+        return new DefaultMessage("map:1:relay".getBytes(StandardCharsets.UTF_8), body);
+    }
+
+    @Test
+    @DisplayName("맵 토픽 프레임은 노드 ID 를 붙여 맵 채널로 PUBLISH 해야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldPublishMapTopicFrame() {
+        // given
+        EncodedFrame frame = frameOf(response);
+
+        // when
+        clusterTopicRelay.publish("/topic/map/1", frame);
+        clusterTopicRelay.publish("/topic/chat/1", frame);
+
+        // then
+        ArgumentCaptor<RedisCallback<Long>> callbackCaptor = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate, times(1)).execute(callbackCaptor.capture());
+        callbackCaptor.getValue().doInRedis(redisConnection);
+
+        ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(redisConnection).publish(eq("map:1:relay".getBytes(StandardCharsets.UTF_8)), bodyCaptor.capture());
+        String body = new String(bodyCaptor.getValue(), StandardCharsets.UTF_8);
+        assertThat(body).startsWith("node-a\n").endsWith(new String(frame.json(), StandardCharsets.UTF_8));
+        assertThat(meterRegistry.counter("websocket.relay.messages", "mapId", "1", "direction", "published").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드 프레임은 로컬 토픽으로 그대로 전달하고, 자기 노드 프레임은 무시해야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldDeliverOnlyRemoteFrames() throws Exception {
+        // given
+        MessageListener listener = retainAndCaptureListener();
+        byte[] json = objectMapper.writeValueAsBytes(response);
+
+        // when
+        listener.onMessage(envelope("node-a", json), null);
+        listener.onMessage(envelope("node-b", json), null);
+
+        // then
+        ArgumentCaptor<Message<byte[]>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(simpMessagingTemplate, times(1)).send(eq("/topic/map/1"), messageCaptor.capture());
+        assertThat(messageCaptor.getValue().getPayload()).isEqualTo(json);
+
+        ArgumentCaptor<RemoteFrameEvent> eventCaptor = ArgumentCaptor.forClass(RemoteFrameEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().mapId()).isEqualTo(MAP_ID);
+        assertThat(eventCaptor.getValue().response()).isEqualTo(response);
+        assertThat(meterRegistry.timer("websocket.relay.latency", "mapId", "1").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리스너가 쓰지 않는 타입은 역직렬화 없이 전달만 하고, 발행 시각이 깨져도 전달해야 한다")
+    void shouldSkipEventForUnusedTypesAndTolerateBadTimestamp() throws Exception {
+        // given
+        MessageListener listener = retainAndCaptureListener();
+        byte[] correction = "{\"t\":\"P_CORR\",\"p\":100,\"x\":1.0}".getBytes(StandardCharsets.UTF_8);
+        byte[] leave = objectMapper.writeValueAsBytes(response);
+        byte[] header = "node-b\nnot-a-number\n".getBytes(StandardCharsets.UTF_8);
+        byte[] badTimestamp = new byte[header.length + leave.length];
+        System.arraycopy(header, 0, badTimestamp, 0, header.length);
+        System.arraycopy(leave, 0, badTimestamp, header.length, leave.length);
+
+        // when
+        listener.onMessage(envelope("node-b", correction), null);
+        listener.onMessage(new DefaultMessage("map:1:relay".getBytes(StandardCharsets.UTF_8), badTimestamp), null);
+
+        // then
+        verify(simpMessagingTemplate, times(2)).send(eq("/topic/map/1"), any(Message.class));
+        ArgumentCaptor<RemoteFrameEvent> eventCaptor = ArgumentCaptor.forClass(RemoteFrameEvent.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().response()).isEqualTo(response);
+        assertThat(meterRegistry.timer("websocket.relay.latency", "mapId", "1").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독은 맵의 첫 참조에서 시작하고 마지막 참조가 해제될 때 종료해야 한다")
+    void shouldSubscribeWhileReferenced() {
+        // given
+        MessageListener listener = retainAndCaptureListener();
+        clusterTopicRelay.retain(MAP_ID);
+
+        // when
+        clusterTopicRelay.release(MAP_ID);
+
+        // then
+        verify(redisMessageListenerContainer, never()).removeMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+        assertThat(clusterTopicRelay.subscribedMapCount()).isEqualTo(1);
+
+        // when
+        clusterTopicRelay.release(MAP_ID);
+
+        // then
+        verify(redisMessageListenerContainer).removeMessageListener(eq(listener), any(ChannelTopic.class));
+        verify(redisMessageListenerContainer, times(1)).addMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+        assertThat(clusterTopicRelay.subscribedMapCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("마지막 참조가 해제되면 해당 맵의 릴레이 측정값을 제거해야 한다")
+    void shouldRemoveMetersOnLastRelease() throws Exception {
+        // given
+        MessageListener listener = retainAndCaptureListener();
+        listener.onMessage(envelope("node-b", objectMapper.writeValueAsBytes(response)), null);
+        clusterTopicRelay.publish("/topic/map/1", frameOf(response));
+
+        // when
+        clusterTopicRelay.release(MAP_ID);
+
+        // then
+        assertThat(meterRegistry.find("websocket.relay.latency").tag("mapId", "1").timer()).isNull();
+        assertThat(meterRegistry.find("websocket.relay.messages").tag("mapId", "1").counters()).isEmpty();
+    }
+}
@@ -0,0 +1,191 @@
+package com.rally.ai_land.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConflatingWebSocketSession 단위 테스트")
+class ConflatingWebSocketSessionTest {
+
+    private static final String DESTINATION = "/topic/map/1";
+    private static final StompPositionFrames.Route ROUTE =
+            new StompPositionFrames.Route(DESTINATION, "sub-0", MimeTypeUtils.APPLICATION_JSON, false);
+
+    @Mock
+    private WebSocketSession delegate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Runnable> submitted = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private ConflatingWebSocketSession session(int bufferSizeLimit) {
+        return session(10_000, bufferSizeLimit);
+    }
+
+    private ConflatingWebSocketSession session(long sendTimeLimitMs, int bufferSizeLimit) {
+        return new ConflatingWebSocketSession(delegate, submitted::add, objectMapper,
+                ConflatingWebSocketSession.Metrics.of(meterRegistry), sendTimeLimitMs, bufferSizeLimit);
+    }
+
+    private void runSubmitted() {
+        while (!submitted.isEmpty()) {
+            submitted.remove(0).run();
+        }
+    }
+
+    private PlayerPosition position(Long playerId, double x) {
+        return PlayerPosition.builder().playerId(playerId).x(x).y(10).d((short) 2).build();
+    }
+
+    private WebSocketMessage<?> snapshotFrame(PlayerPosition... positions) {
+        return sequencedSnapshotFrame(0, positions);
+    }
+
+    private WebSocketMessage<?> sequencedSnapshotFrame(long sequence, PlayerPosition... positions) {
+        return StompPositionFrames.encode(ROUTE, Arrays.asList(positions), "m", sequence, objectMapper);
+    }
+
+    private TextMessage eventFrame(String json) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(DESTINATION);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId("e");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return new TextMessage(new StompEncoder().encode(accessor.getMessageHeaders(), json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("밀린 위치 프레임은 플레이어별 최신 값으로 합치고 입장/퇴장 프레임의 순서는 유지해야 한다")
+    void shouldConflatePositionsAndKeepEventOrder() throws Exception {
+        // given
+        when(delegate.isOpen()).thenReturn(true);
+        ConflatingWebSocketSession session = session(1024 * 1024);
+        TextMessage join = eventFrame("{\"t\":\"P_JOIN\",\"p\":3}");
+        TextMessage leave = eventFrame("{\"t\":\"P_LEAVE\",\"p\":1}");
+
+        // when
+        session.sendMessage(join);
+        session.sendMessage(snapshotFrame(position(1L, 0), position(2L, 0)));
+        session.sendMessage(snapshotFrame(position(1L, 5), position(3L, 0)));
+        session.sendMessage(leave);
+        session.sendMessage(snapshotFrame(position(2L, 9)));
+        runSubmitted();
+
+        // then
+        ArgumentCaptor<WebSocketMessage<?>> messageCaptor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(delegate, times(4)).sendMessage(messageCaptor.capture());
+        List<WebSocketMessage<?>> sent = messageCaptor.getAllValues();
+
+        assertThat(sent.get(0)).isSameAs(join);
+        assertThat(StompPositionFrames.parse(sent.get(1), objectMapper).positionList())
+                .containsExactly(position(1L, 5), position(3L, 0));
+        assertThat(sent.get(2)).isSameAs(leave);
+        assertThat(StompPositionFrames.parse(sent.get(3), objectMapper).positionList())
+                .containsExactly(position(2L, 9));
+
+        assertThat(meterRegistry.counter("websocket.outbound.positions.queued").count()).isEqualTo(5);
+        assertThat(meterRegistry.counter("websocket.outbound.positions.conflated").count()).isEqualTo(2);
+        assertThat(session.depth()).isZero();
+        assertThat(session.queuedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("합칠 수 없는 프레임이 대기 한도를 넘으면 연결을 종료해야 한다")
+    void shouldCloseWhenBufferLimitExceeded() throws Exception {
+        // given
+        ConflatingWebSocketSession session = session(64);
+
+        // when
+        session.sendMessage(eventFrame("{\"t\":\"P_JOIN\",\"p\":3}"));
+        session.sendMessage(eventFrame("{\"t\":\"P_LEAVE\",\"p\":3}"));
+        session.sendMessage(eventFrame("{\"t\":\"P_LEAVE\",\"p\":4}"));
+        runSubmitted();
+
+        // then
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(delegate, never()).sendMessage(any());
+        assertThat(meterRegistry.counter("websocket.outbound.sessions.closed", "reason", "buffer-limit").count())
+                .isEqualTo(1);
+        assertThat(session.depth()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송이 시간 한도를 넘겨 막혀 있으면 새 프레임이 없어도 감시 스레드가 연결을 종료해야 한다")
+    void shouldCloseWhenSendBlockedPastTimeLimit() throws Exception {
+        // given
+        when(delegate.isOpen()).thenReturn(true);
+        ConflatingWebSocketSession session = session(0, 1024 * 1024);
+        List<Boolean> watchdogResults = new ArrayList<>();
+        doAnswer(invocation -> {
+            // 전송이 막혀 있는 동안 감시 스레드가 확인
+            Thread.sleep(1);
+            watchdogResults.add(session.closeIfSendTimedOut());
+            return null;
+        }).when(delegate).sendMessage(any());
+
+        // when
+        assertThat(session.closeIfSendTimedOut()).isFalse();
+        session.sendMessage(eventFrame("{\"t\":\"P_JOIN\",\"p\":3}"));
+        runSubmitted();
+
+        // then
+        assertThat(watchdogResults).containsExactly(true);
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.counter("websocket.outbound.sessions.closed", "reason", "time-limit").count())
+                .isEqualTo(1);
+        assertThat(session.closeIfSendTimedOut()).isFalse();
+    }
+
+    @Test
+    @DisplayName("합친 위치 프레임은 합쳐진 프레임 중 가장 큰 seq 헤더를 유지해야 한다")
+    void shouldKeepNewestSequenceOnMergedFrame() throws Exception {
+        // given
+        when(delegate.isOpen()).thenReturn(true);
+        ConflatingWebSocketSession session = session(1024 * 1024);
+        TextMessage join = eventFrame("{\"t\":\"P_JOIN\",\"p\":3}");
+
+        // when: join 전송 중 밀린 위치 프레임 3 개가 하나로 합쳐짐
+        session.sendMessage(join);
+        session.sendMessage(sequencedSnapshotFrame(11, position(1L, 0)));
+        session.sendMessage(sequencedSnapshotFrame(12, position(1L, 5)));
+        session.sendMessage(sequencedSnapshotFrame(13, position(2L, 0)));
+        runSubmitted();
+
+        // then
+        ArgumentCaptor<WebSocketMessage<?>> messageCaptor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(delegate, times(2)).sendMessage(messageCaptor.capture());
+        StompPositionFrames.PositionFrame merged = StompPositionFrames.parse(messageCaptor.getAllValues().get(1), objectMapper);
+        assertThat(merged.positionList()).containsExactly(position(1L, 5), position(2L, 0));
+        assertThat(merged.sequence()).isEqualTo(13);
+    }
+}
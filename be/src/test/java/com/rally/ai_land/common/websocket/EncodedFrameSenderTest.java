@@ -0,0 +1,172 @@
+package com.rally.ai_land.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerLeaveResponse;
+import com.rally.ai_land.domain.player.dto.PlayerPositionUpdateResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EncodedFrameSender 단위 테스트")
+class EncodedFrameSenderTest {
+
+    @Mock
+    private SimpMessagingTemplate simpMessagingTemplate;
+
+    @Mock
+    private WireFormatRegistry wireFormatRegistry;
+
+    @Mock
+    private ClusterTopicRelay clusterTopicRelay;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MapStreamBuffer mapStreamBuffer;
+    private EncodedFrameSender encodedFrameSender;
+
+    private final PlayerLeaveResponse response = PlayerLeaveResponse.builder()
+            .type(ActionType.P_LEAVE)
+            .playerId(100L)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mapStreamBuffer = new MapStreamBuffer(meterRegistry, true, 16);
+        encodedFrameSender = new EncodedFrameSender(simpMessagingTemplate, wireFormatRegistry, new ObjectMapper(), clusterTopicRelay,
+                mapStreamBuffer, meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Message<?>> captureSent(int times) {
+        ArgumentCaptor<Message<?>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(simpMessagingTemplate, times(times)).send(anyString(), messageCaptor.capture());
+        return messageCaptor.getAllValues();
+    }
+
+    @Test
+    @DisplayName("/topic 전송은 JSON 으로 한 번 인코딩한 바이트를 그대로 보내야 한다")
+    void shouldSendEncodedJsonToTopic() {
+        // when
+        encodedFrameSender.sendToTopic("/topic/map/1", response);
+
+        // then
+        Message<?> message = captureSent(1).get(0);
+        assertThat(new String((byte[]) message.getPayload())).contains("\"t\":\"P_LEAVE\"", "\"p\":100");
+        assertThat(message.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        verify(simpMessagingTemplate).send(eq("/topic/map/1"), any(Message.class));
+        verify(clusterTopicRelay).publish(eq("/topic/map/1"), any(EncodedFrame.class));
+    }
+
+    @Test
+    @DisplayName("여러 유저에게 보내도 포맷별 인코딩은 한 번이어야 한다")
+    void shouldEncodeOncePerFormatForManyUsers() {
+        // given
+        when(simpMessagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        when(wireFormatRegistry.sessionFormatsOf("binaryUser")).thenReturn(Map.of("session-bin", true));
+
+        // when
+        encodedFrameSender.sendToUsers(List.of("a", "b", "binaryUser", "c"), "/queue/map/1", response);
+
+        // then
+        List<Message<?>> messages = captureSent(4);
+        assertThat(messages.get(0).getPayload()).isSameAs(messages.get(1).getPayload()).isSameAs(messages.get(3).getPayload());
+        assertThat(messages.get(2).getHeaders().get(MessageHeaders.CONTENT_TYPE))
+                .isEqualTo(PlayerStateBinaryMessageConverter.BINARY_MIME_TYPE);
+        assertThat(PlayerStateBinaryCodec.decodeResponse((byte[]) messages.get(2).getPayload())).isEqualTo(response);
+        assertThat(SimpMessageHeaderAccessor.getSessionId(messages.get(2).getHeaders())).isEqualTo("session-bin");
+        verify(simpMessagingTemplate).send(eq("/user/binaryUser/queue/map/1"), any(Message.class));
+        assertThat(meterRegistry.counter("websocket.frame.encodes", "format", "json").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("websocket.frame.encodes", "format", "binary").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("websocket.frame.sends").count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("세션 전송은 sessionId 헤더를 붙여 해당 세션으로만 가야 한다")
+    void shouldSendToSingleSession() {
+        // given
+        when(simpMessagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        when(wireFormatRegistry.isBinary("binaryUser", "session-1")).thenReturn(true);
+        PlayerPositionUpdateResponse correction = PlayerPositionUpdateResponse.builder()
+                .type(ActionType.P_CORR)
+                .playerId(100L)
+                .x(812.25)
+                .y(455.5)
+                .dir((short) 3)
+                .build();
+
+        // when
+        encodedFrameSender.sendToSession("binaryUser", "session-1", "/queue/map/1", correction);
+
+        // then
+        Message<?> message = captureSent(1).get(0);
+        verify(simpMessagingTemplate).send(eq("/user/binaryUser/queue/map/1"), any(Message.class));
+        assertThat(SimpMessageHeaderAccessor.getSessionId(message.getHeaders())).isEqualTo("session-1");
+        assertThat(PlayerStateBinaryCodec.decodeResponse((byte[]) message.getPayload())).isEqualTo(correction);
+    }
+
+    @Test
+    @DisplayName("같은 유저라도 세션마다 협상한 포맷으로 보내야 한다")
+    void shouldSendPerSessionFormatForMixedSessions() {
+        // given
+        when(simpMessagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        Map<String, Boolean> sessionFormats = new LinkedHashMap<>();
+        sessionFormats.put("session-raw", true);
+        sessionFormats.put("session-sockjs", false);
+        when(wireFormatRegistry.sessionFormatsOf("user")).thenReturn(sessionFormats);
+
+        // when
+        encodedFrameSender.sendToUser("user", "/queue/map/1", response);
+
+        // then
+        List<Message<?>> messages = captureSent(2);
+        assertThat(SimpMessageHeaderAccessor.getSessionId(messages.get(0).getHeaders())).isEqualTo("session-raw");
+        assertThat(messages.get(0).getHeaders().get(MessageHeaders.CONTENT_TYPE))
+                .isEqualTo(PlayerStateBinaryMessageConverter.BINARY_MIME_TYPE);
+        assertThat(SimpMessageHeaderAccessor.getSessionId(messages.get(1).getHeaders())).isEqualTo("session-sockjs");
+        assertThat(messages.get(1).getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        assertThat(new String((byte[]) messages.get(1).getPayload())).contains("\"t\":\"P_LEAVE\"");
+    }
+
+    @Test
+    @DisplayName("맵 토픽 프레임은 seq 헤더로 순번이 붙고, 이어받기 재전송은 같은 순번으로 해당 세션에만 가야 한다")
+    void shouldSequenceMapTopicAndReplayToSession() {
+        // given
+        when(simpMessagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        mapStreamBuffer.retain(1L);
+        encodedFrameSender.sendToTopic("/topic/map/1", response);
+        encodedFrameSender.sendToTopic("/topic/map/1", response);
+
+        // when
+        encodedFrameSender.replayToSession("user", "session-1", "/queue/map/1", mapStreamBuffer.since(1L, 1));
+
+        // then
+        List<Message<?>> messages = captureSent(3);
+        assertThat(SimpMessageHeaderAccessor.getFirstNativeHeader(MapStreamBuffer.SEQUENCE_HEADER, messages.get(0).getHeaders())).isEqualTo("1");
+        assertThat(SimpMessageHeaderAccessor.getFirstNativeHeader(MapStreamBuffer.SEQUENCE_HEADER, messages.get(1).getHeaders())).isEqualTo("2");
+        Message<?> replayed = messages.get(2);
+        assertThat(SimpMessageHeaderAccessor.getFirstNativeHeader(MapStreamBuffer.SEQUENCE_HEADER, replayed.getHeaders())).isEqualTo("2");
+        assertThat(SimpMessageHeaderAccessor.getSessionId(replayed.getHeaders())).isEqualTo("session-1");
+        assertThat(replayed.getPayload()).isEqualTo(messages.get(1).getPayload());
+        verify(simpMessagingTemplate).send(eq("/user/user/queue/map/1"), any(Message.class));
+    }
+}
@@ -0,0 +1,83 @@
+package com.rally.ai_land.common.websocket;
+
+import com.rally.ai_land.domain.player.dto.ActionType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InboundStageInterceptor 단위 테스트")
+class InboundStageInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private InboundStageInterceptor inboundStageInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        inboundStageInterceptor = new InboundStageInterceptor(new InboundStageMetrics(meterRegistry, true));
+    }
+
+    // StompDecoder 처럼 헤더를 수정 가능한 상태로 남긴 메시지
+    private Message<byte[]> sendFrame(String destination, byte[] payload) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private Timer timerOf(String stage, String type) {
+        return meterRegistry.find("websocket.inbound.stage.latency")
+                .tags("stage", stage, "destination", InboundStageMetrics.MAP_DESTINATION, "type", type)
+                .timer();
+    }
+
+    @Test
+    @DisplayName("인터셉터 체인을 통과하면 치환된 destination 과 type 으로 interceptor 단계를 기록해야 한다")
+    void shouldRecordInterceptorStage() {
+        // given
+        Message<byte[]> message = sendFrame("/app/map/3",
+                "{\"t\":\"P_MOVE\",\"p\":1,\"x\":800.0,\"y\":488.0,\"d\":2}".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        Message<?> stamped = inboundStageInterceptor.entryStamp().preSend(message, null);
+        inboundStageInterceptor.preSend(stamped, null);
+
+        // then
+        Timer timer = timerOf("interceptor", ActionType.P_MOVE);
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(stamped.getHeaders().get(InboundStageInterceptor.INTERCEPTED_AT_HEADER)).isInstanceOf(Long.class);
+    }
+
+    @Test
+    @DisplayName("payload 앞부분으로 JSON, 바이너리, 그 외 명령의 type 을 판별해야 한다")
+    void shouldSniffType() {
+        // given
+        StompHeaderAccessor send = StompHeaderAccessor.create(StompCommand.SEND);
+        StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+
+        // when & then
+        assertThat(InboundStageInterceptor.typeOf(send, "{\"t\":\"P_JOIN\",\"p\":1}".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo(ActionType.P_JOIN);
+        assertThat(InboundStageInterceptor.typeOf(send, new byte[]{ActionType.OP_LEAVE, 1}))
+                .isEqualTo(ActionType.P_LEAVE);
+        assertThat(InboundStageInterceptor.typeOf(send, "{\"t\":\"P_RESUME\",\"rt\":\"token\"}".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo(ActionType.P_RESUME);
+        assertThat(InboundStageInterceptor.typeOf(send, "{\"p\":1,\"t\":\"P_MOVE\"}".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo(InboundStageMetrics.UNKNOWN);
+        assertThat(InboundStageInterceptor.typeOf(send, "{\"t\":\"P_MOVEX\"}".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo(InboundStageMetrics.UNKNOWN);
+        assertThat(InboundStageInterceptor.typeOf(connect, new byte[0]))
+                .isEqualTo("CONNECT");
+    }
+}
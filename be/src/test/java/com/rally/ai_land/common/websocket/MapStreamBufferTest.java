@@ -0,0 +1,88 @@
+package com.rally.ai_land.common.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MapStreamBuffer 단위 테스트")
+class MapStreamBufferTest {
+
+    private static final Long MAP_ID = 1L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MapStreamBuffer mapStreamBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mapStreamBuffer = new MapStreamBuffer(meterRegistry, true, 4);
+        mapStreamBuffer.retain(MAP_ID);
+    }
+
+    private void append(int count) {
+        for (int i = 0; i < count; i++) {
+            mapStreamBuffer.append(MAP_ID, new byte[]{(byte) i});
+        }
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 순번 이후 프레임만 순번 순으로 돌려줘야 한다")
+    void shouldReturnFramesAfterLastSequence() {
+        // given
+        append(3);
+
+        // when
+        List<MapStreamBuffer.Frame> missed = mapStreamBuffer.since(MAP_ID, 1);
+
+        // then
+        assertThat(missed).extracting(MapStreamBuffer.Frame::sequence).containsExactly(2L, 3L);
+        assertThat(mapStreamBuffer.since(MAP_ID, 3)).isEmpty();
+        assertThat(meterRegistry.summary("player.resume.replay.frames").totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("놓친 구간이 버퍼에서 밀려났거나 모르는 순번이면 null 이어야 한다")
+    void shouldReturnNullWhenGapIsNotBuffered() {
+        // given
+        append(6);
+
+        // when & then
+        assertThat(mapStreamBuffer.since(MAP_ID, 2)).extracting(MapStreamBuffer.Frame::sequence).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(mapStreamBuffer.since(MAP_ID, 1)).isNull();
+        assertThat(mapStreamBuffer.since(MAP_ID, 7)).isNull();
+        assertThat(mapStreamBuffer.since(2L, 5)).isNull();
+        assertThat(mapStreamBuffer.since(2L, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이 노드에 세션이 없는 맵은 보관하지 않고, 마지막 세션이 나가면 버퍼를 제거해야 한다")
+    void shouldKeepStreamOnlyWhileMapHasSessions() {
+        // given
+        mapStreamBuffer.retain(MAP_ID);
+        append(2);
+
+        // when & then
+        assertThat(mapStreamBuffer.append(2L, new byte[]{1})).isZero();
+
+        mapStreamBuffer.release(MAP_ID);
+        assertThat(mapStreamBuffer.headOf(MAP_ID)).isEqualTo(2);
+
+        mapStreamBuffer.release(MAP_ID);
+        assertThat(mapStreamBuffer.headOf(MAP_ID)).isZero();
+        assertThat(mapStreamBuffer.append(MAP_ID, new byte[]{1})).isZero();
+        assertThat(meterRegistry.get("player.resume.streams").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("/topic/map/{mapId} 가 아닌 목적지는 맵 스트림이 아니어야 한다")
+    void shouldResolveMapIdOnlyForMapTopic() {
+        assertThat(MapStreamBuffer.mapIdOf("/topic/map/12")).isEqualTo(12L);
+        assertThat(MapStreamBuffer.mapIdOf("/topic/lobby")).isNull();
+        assertThat(MapStreamBuffer.mapIdOf("/topic/map/abc")).isNull();
+    }
+}
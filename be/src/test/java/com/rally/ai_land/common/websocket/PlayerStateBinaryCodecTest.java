@@ -0,0 +1,160 @@
+package com.rally.ai_land.common.websocket;
+
+import com.rally.ai_land.domain.player.dto.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PlayerStateBinaryCodec 단위 테스트")
+class PlayerStateBinaryCodecTest {
+
+    @Test
+    @DisplayName("P_MOVE 요청을 1/4 px 정밀도로 왕복 변환해야 한다")
+    void shouldRoundTripMoveRequest() {
+        // given
+        PlayerPositionUpdateRequest request = new PlayerPositionUpdateRequest();
+        request.setType(ActionType.P_MOVE);
+        request.setPlayerId(300L);
+        request.setX(812.37);
+        request.setY(455.81);
+        request.setDir((short) 3);
+
+        // when
+        byte[] frame = PlayerStateBinaryCodec.encodeRequest(request);
+        PlayerPositionUpdateRequest decoded = (PlayerPositionUpdateRequest) PlayerStateBinaryCodec.decodeRequest(frame);
+
+        // then: opcode(1) + varint 300(2) + x(2) + y(2) + d(1)
+        assertThat(frame).hasSize(8);
+        assertThat(decoded.getType()).isEqualTo(ActionType.P_MOVE);
+        assertThat(decoded.getPlayerId()).isEqualTo(300L);
+        assertThat(decoded.getX()).isCloseTo(812.37, within(1.0 / PlayerStateBinaryCodec.COORD_SCALE));
+        assertThat(decoded.getY()).isCloseTo(455.81, within(1.0 / PlayerStateBinaryCodec.COORD_SCALE));
+        assertThat(decoded.getDir()).isEqualTo((short) 3);
+    }
+
+    @Test
+    @DisplayName("P_JOIN 요청의 UTF-8 닉네임을 보존해야 한다")
+    void shouldRoundTripJoinRequest() {
+        // given
+        PlayerJoinRequest request = new PlayerJoinRequest();
+        request.setType(ActionType.P_JOIN);
+        request.setPlayerId(1L);
+        request.setName("랠리");
+
+        // when
+        PlayerJoinRequest decoded = (PlayerJoinRequest) PlayerStateBinaryCodec.decodeRequest(
+                PlayerStateBinaryCodec.encodeRequest(request));
+
+        // then
+        assertThat(decoded.getName()).isEqualTo("랠리");
+    }
+
+    @Test
+    @DisplayName("P_SNAP 응답의 포지션, 진입, 이탈 목록을 왕복 변환해야 한다")
+    void shouldRoundTripSnapshotResponse() {
+        // given
+        PlayerSnapshotResponse response = PlayerSnapshotResponse.builder()
+                .type(ActionType.P_SNAP)
+                .playerPositionList(List.of(
+                        PlayerPosition.builder().playerId(1L).x(10).y(20).d((short) 1).build(),
+                        PlayerPosition.builder().playerId(2L).x(30.5).y(40.25).d((short) 4).build()))
+                .enteredPlayerList(List.of(PlayerInfo.builder().playerId(2L).name("B").build()))
+                .exitedPlayerIdList(List.of(3L))
+                .build();
+
+        // when
+        PlayerSnapshotResponse decoded = (PlayerSnapshotResponse) PlayerStateBinaryCodec.decodeResponse(
+                PlayerStateBinaryCodec.encodeResponse(response));
+
+        // then
+        assertThat(decoded.getPlayerId()).isNull();
+        assertThat(decoded.getPlayerPositionList()).isEqualTo(response.getPlayerPositionList());
+        assertThat(decoded.getEnteredPlayerList()).isEqualTo(response.getEnteredPlayerList());
+        assertThat(decoded.getExitedPlayerIdList()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("P_RESUME 요청의 토큰과 순번, 응답의 이어받기 결과를 왕복 변환해야 한다")
+    void shouldRoundTripResume() {
+        // given
+        PlayerResumeRequest request = PlayerResumeRequest.builder()
+                .type(ActionType.P_RESUME)
+                .playerId(1L)
+                .resumeToken("token-1")
+                .lastSequence(300_000L)
+                .build();
+        PlayerResumeResponse issued = PlayerResumeResponse.builder()
+                .type(ActionType.P_RESUME)
+                .playerId(1L)
+                .resumeToken("token-2")
+                .build();
+        PlayerResumeResponse rejected = PlayerResumeResponse.builder()
+                .type(ActionType.P_RESUME)
+                .playerId(1L)
+                .resumed(false)
+                .build();
+
+        // when
+        PlayerStateRequest decodedRequest = PlayerStateBinaryCodec.decodeRequest(PlayerStateBinaryCodec.encodeRequest(request));
+
+        // then
+        assertThat(decodedRequest).isEqualTo(request);
+        assertThat(PlayerStateBinaryCodec.decodeResponse(PlayerStateBinaryCodec.encodeResponse(issued))).isEqualTo(issued);
+        assertThat(PlayerStateBinaryCodec.decodeResponse(PlayerStateBinaryCodec.encodeResponse(rejected))).isEqualTo(rejected);
+    }
+
+    @Test
+    @DisplayName("맵 밖 좌표는 고정소수점 범위로 보정해야 한다")
+    void shouldClampOutOfRangeCoordinates() {
+        // given
+        PlayerPositionUpdateResponse response = PlayerPositionUpdateResponse.builder()
+                .type(ActionType.P_MOVE)
+                .playerId(1L)
+                .x(-5)
+                .y(1_000_000)
+                .dir((short) 2)
+                .build();
+
+        // when
+        PlayerPositionUpdateResponse decoded = (PlayerPositionUpdateResponse) PlayerStateBinaryCodec.decodeResponse(
+                PlayerStateBinaryCodec.encodeResponse(response));
+
+        // then
+        assertThat(decoded.getX()).isZero();
+        assertThat(decoded.getY()).isEqualTo(65535.0 / PlayerStateBinaryCodec.COORD_SCALE);
+    }
+
+    @Test
+    @DisplayName("잘린 프레임은 IllegalArgumentException 을 던져야 한다")
+    void shouldRejectTruncatedFrame() {
+        assertThatThrownBy(() -> PlayerStateBinaryCodec.decodeRequest(new byte[]{ActionType.OP_MOVE, 1, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("남은 바이트보다 큰 목록 길이나 음수 길이는 목록을 만들기 전에 IllegalArgumentException 을 던져야 한다")
+    void shouldRejectMalformedListCount() {
+        // given: P_SNAP, playerId 없음, 포지션 개수 = Integer.MAX_VALUE (본문 없음)
+        byte[] hugeCount = {ActionType.OP_SNAP, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        // 포지션 개수 = 2 (한 개 분량만 있음)
+        byte[] shortList = {ActionType.OP_SNAP, 0, 2, 1, 0, 4, 0, 8, 1};
+        // 포지션 0, 진입 0, 이탈 개수 = 음수가 되는 10바이트 varint
+        byte[] negativeCount = {ActionType.OP_SNAP, 0, 0, 0,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+
+        // when & then
+        assertThatThrownBy(() -> PlayerStateBinaryCodec.decodeResponse(hugeCount))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("목록 길이");
+        assertThatThrownBy(() -> PlayerStateBinaryCodec.decodeResponse(shortList))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("목록 길이");
+        assertThatThrownBy(() -> PlayerStateBinaryCodec.decodeResponse(negativeCount))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("목록 길이");
+    }
+}
@@ -0,0 +1,105 @@
+package com.rally.ai_land.domain.map.service;
+
+import com.rally.ai_land.common.websocket.EncodedFrameSender;
+import com.rally.ai_land.domain.map.service.MapInstanceService.Rebalance;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerInstanceResponse;
+import com.rally.ai_land.domain.player.dto.PlayerStateResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MapInstanceRebalancer 단위 테스트")
+class MapInstanceRebalancerTest {
+
+    private static final Long MAP_ID = 3L;
+
+    @Mock
+    private MapInstanceService mapInstanceService;
+
+    @Mock
+    private EncodedFrameSender encodedFrameSender;
+
+    @InjectMocks
+    private MapInstanceRebalancer mapInstanceRebalancer;
+
+    @Test
+    @DisplayName("합쳐진 인스턴스의 토픽에 대상 채널로 P_INST 를 보내야 한다")
+    void shouldAnnounceTargetChannelToSourceTopic() {
+        // given
+        when(mapInstanceService.isEnabled()).thenReturn(true);
+        when(mapInstanceService.getKnownMapIds()).thenReturn(Set.of(MAP_ID));
+        when(mapInstanceService.rebalance(MAP_ID)).thenReturn(new Rebalance(MAP_ID, 2, 0, List.of(101L, 102L)));
+
+        // when
+        mapInstanceRebalancer.rebalance();
+
+        // then
+        ArgumentCaptor<PlayerStateResponse> frameCaptor = ArgumentCaptor.forClass(PlayerStateResponse.class);
+        verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MapInstanceService.channelIdOf(MAP_ID, 2)), frameCaptor.capture());
+        PlayerInstanceResponse frame = (PlayerInstanceResponse) frameCaptor.getValue();
+        assertThat(frame.getType()).isEqualTo(ActionType.P_INST);
+        assertThat(frame.getPlayerId()).isNull();
+        assertThat(frame.getInstanceId()).isZero();
+        assertThat(frame.getChannelId()).isEqualTo(MAP_ID);
+    }
+
+    @Test
+    @DisplayName("합칠 인스턴스가 없으면 아무것도 보내지 않아야 한다")
+    void shouldNotSendWhenNothingToRebalance() {
+        // given
+        when(mapInstanceService.isEnabled()).thenReturn(true);
+        when(mapInstanceService.getKnownMapIds()).thenReturn(Set.of(MAP_ID));
+        when(mapInstanceService.rebalance(MAP_ID)).thenReturn(null);
+
+        // when
+        mapInstanceRebalancer.rebalance();
+
+        // then
+        verifyNoInteractions(encodedFrameSender);
+    }
+
+    @Test
+    @DisplayName("한 맵의 재배치가 실패해도 다음 맵은 재배치해야 한다")
+    void shouldContinueOnFailure() {
+        // given
+        when(mapInstanceService.isEnabled()).thenReturn(true);
+        when(mapInstanceService.getKnownMapIds()).thenReturn(new LinkedHashSet<>(List.of(1L, MAP_ID)));
+        when(mapInstanceService.rebalance(1L)).thenThrow(new QueryTimeoutException("timeout"));
+        when(mapInstanceService.rebalance(MAP_ID)).thenReturn(new Rebalance(MAP_ID, 1, 0, List.of(101L)));
+
+        // when
+        mapInstanceRebalancer.rebalance();
+
+        // then
+        verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MapInstanceService.channelIdOf(MAP_ID, 1)), any(PlayerStateResponse.class));
+    }
+
+    @Test
+    @DisplayName("인스턴스 기능이 꺼져 있으면 재배치하지 않아야 한다")
+    void shouldSkipWhenDisabled() {
+        // given
+        when(mapInstanceService.isEnabled()).thenReturn(false);
+
+        // when
+        mapInstanceRebalancer.rebalance();
+
+        // then
+        verify(mapInstanceService, never()).rebalance(anyLong());
+        verifyNoInteractions(encodedFrameSender);
+    }
+}
@@ -0,0 +1,113 @@
+package com.rally.ai_land.domain.map.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MapInstanceService 단위 테스트")
+class MapInstanceServiceTest {
+
+    private static final Long MAP_ID = 3L;
+    private static final Long PLAYER_ID = 100L;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MapInstanceService mapInstanceService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mapInstanceService = new MapInstanceService(redisTemplate, meterRegistry, true, 100, 64, 0.25);
+    }
+
+    @Test
+    @DisplayName("인스턴스 0 채널은 mapId 그대로이고, 채널 ID 에서 mapId 와 instanceId 를 되찾아야 한다")
+    void shouldEncodeChannelId() {
+        // when
+        Long base = MapInstanceService.channelIdOf(MAP_ID, 0);
+        Long second = MapInstanceService.channelIdOf(MAP_ID, 2);
+
+        // then
+        assertThat(base).isEqualTo(MAP_ID);
+        assertThat(second).isNotEqualTo(MAP_ID);
+        assertThat(MapInstanceService.mapIdOf(second)).isEqualTo(MAP_ID);
+        assertThat(MapInstanceService.instanceIdOf(second)).isEqualTo(2);
+        assertThat(MapInstanceService.instanceIdOf(base)).isZero();
+    }
+
+    @Test
+    @DisplayName("스크립트가 다른 인스턴스를 배정하면 그 채널 ID 를 반환하고 redirected 로 집계해야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldReturnAssignedChannel() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("map:3:instances", "map:3:instance-players")),
+                eq(String.valueOf(PLAYER_ID)), eq("0"), eq("100"), eq("64"), anyString()))
+                .thenReturn(1L);
+
+        // when
+        Long channelId = mapInstanceService.assign(MAP_ID, PLAYER_ID);
+
+        // then
+        assertThat(channelId).isEqualTo(MapInstanceService.channelIdOf(MAP_ID, 1));
+        assertThat(meterRegistry.counter("map.instance.assignments", "mapId", "3", "result", "redirected").count()).isEqualTo(1);
+        assertThat(mapInstanceService.getKnownMapIds()).containsExactly(MAP_ID);
+    }
+
+    @Test
+    @DisplayName("재배치 응답을 원본/대상 인스턴스와 옮겨진 플레이어 목록으로 변환해야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldParseRebalanceReply() {
+        // given: 인원 100 x 0.25 = 25 명 이하면 합침
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("100"), eq("25")))
+                .thenReturn(List.of("2", "0", "101", "102"));
+
+        // when
+        MapInstanceService.Rebalance rebalance = mapInstanceService.rebalance(MAP_ID);
+
+        // then
+        assertThat(rebalance.sourceInstanceId()).isEqualTo(2);
+        assertThat(rebalance.targetInstanceId()).isZero();
+        assertThat(rebalance.movedPlayerIds()).containsExactly(101L, 102L);
+    }
+
+    @Test
+    @DisplayName("배정 TTL 갱신은 채널이 있을 때만 한 번의 파이프라인으로 보내야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldTouchAssignmentsOnlyWhenChannelsExist() {
+        // when
+        mapInstanceService.touch(List.of());
+        mapInstanceService.touch(List.of(MAP_ID, MapInstanceService.channelIdOf(MAP_ID, 1)));
+
+        // then
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("인스턴스 기능이 꺼져 있으면 배정 TTL 을 갱신하지 않아야 한다")
+    void shouldNotTouchWhenDisabled() {
+        // given
+        MapInstanceService disabled = new MapInstanceService(redisTemplate, meterRegistry, false, 100, 64, 0.25);
+
+        // when
+        disabled.touch(List.of(MAP_ID));
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+}
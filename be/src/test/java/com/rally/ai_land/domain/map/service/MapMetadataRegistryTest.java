@@ -0,0 +1,114 @@
+package com.rally.ai_land.domain.map.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.domain.map.service.MapMetadata.SpawnPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MapMetadataRegistry 단위 테스트")
+class MapMetadataRegistryTest {
+
+    // 4 x 3 타일, 32px
+    // - 타일셋 타일 id 1 (gid 2) 은 collides -> (1, 0)
+    // - collides 레이어의 타일 -> (3, 2)
+    // - collision 오브젝트 사각형 (0, 64) ~ (32, 96) -> (0, 2)
+    // - spawn 오브젝트 두 개 (점 / 사각형 중심)
+    private static final String TMJ = """
+            {"width":4,"height":3,"tilewidth":32,"tileheight":32,"infinite":false,
+             "tilesets":[{"firstgid":1,"tiles":[{"id":1,"properties":[{"name":"collides","type":"bool","value":true}]}]}],
+             "layers":[
+               {"type":"tilelayer","name":"ground","data":[1,2,1,1, 1,1,1,1, 1,1,1,1]},
+               {"type":"tilelayer","name":"walls","properties":[{"name":"collides","type":"bool","value":true}],
+                "data":[0,0,0,0, 0,0,0,0, 0,0,0,5]},
+               {"type":"objectgroup","name":"collision","objects":[{"x":0,"y":64,"width":32,"height":32}]},
+               {"type":"objectgroup","name":"spawn","objects":[
+                 {"x":48,"y":48,"width":0,"height":0,"point":true,"properties":[{"name":"d","type":"int","value":1}]},
+                 {"x":64,"y":0,"width":32,"height":32}]}
+             ]}
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private MapMetadataRegistry registryOf(Path mapDir) throws Exception {
+        MapMetadataRegistry registry = new MapMetadataRegistry(new ObjectMapper(),
+                "file:" + mapDir.toAbsolutePath() + "/*.tmj",
+                tempDir.resolve("cache").toString());
+        registry.load();
+        return registry;
+    }
+
+    private Path writeMap(String fileName, String tmj) throws Exception {
+        Path mapDir = Files.createDirectories(tempDir.resolve("maps"));
+        Files.writeString(mapDir.resolve(fileName), tmj, StandardCharsets.UTF_8);
+        return mapDir;
+    }
+
+    @Test
+    @DisplayName(".tmj 에서 크기, 충돌 타일, 스폰 지점을 읽어야 한다")
+    void shouldParseTiledMap() throws Exception {
+        // given
+        Path mapDir = writeMap("map7.tmj", TMJ);
+
+        // when
+        MapMetadata metadata = registryOf(mapDir).find(7L);
+
+        // then
+        assertThat(metadata).isNotNull();
+        assertThat(metadata.getWidthPixels()).isEqualTo(128);
+        assertThat(metadata.getHeightPixels()).isEqualTo(96);
+
+        assertThat(metadata.isBlockedTile(1, 0)).isTrue();
+        assertThat(metadata.isBlockedTile(3, 2)).isTrue();
+        assertThat(metadata.isBlockedTile(0, 2)).isTrue();
+        assertThat(metadata.isBlockedTile(1, 2)).isFalse(); // 사각형 오른쪽 경계는 포함하지 않음
+        assertThat(metadata.isBlockedTile(0, 0)).isFalse();
+        assertThat(metadata.isBlocked(40, 10)).isTrue();
+        assertThat(metadata.isBlocked(-1, 10)).isTrue(); // 맵 밖
+
+        assertThat(metadata.getSpawnPoints()).containsExactly(
+                new SpawnPoint(48, 48, (short) 1),
+                new SpawnPoint(80, 16, (short) 2));
+        assertThat(metadata.spawnPointFor(3L)).isEqualTo(new SpawnPoint(80, 16, (short) 2));
+    }
+
+    @Test
+    @DisplayName("캐시 파일을 쓰고, .tmj 가 바뀌면 캐시를 다시 만들어야 한다")
+    void shouldReuseCacheUntilSourceChanges() throws Exception {
+        // given
+        Path mapDir = writeMap("map7.tmj", TMJ);
+        registryOf(mapDir);
+        Path cacheFile = tempDir.resolve("cache").resolve("map7.bin");
+        assertThat(cacheFile).exists();
+        byte[] firstCache = Files.readAllBytes(cacheFile);
+
+        // when: 같은 원본이면 캐시 재사용, 바뀌면 다시 파싱
+        MapMetadata reused = registryOf(mapDir).find(7L);
+        byte[] reusedCache = Files.readAllBytes(cacheFile);
+        writeMap("map7.tmj", TMJ.replace("\"data\":[0,0,0,0, 0,0,0,0, 0,0,0,5]", "\"data\":[0,0,0,0, 0,0,0,0, 0,0,0,0]"));
+        MapMetadata changed = registryOf(mapDir).find(7L);
+
+        // then
+        assertThat(reusedCache).isEqualTo(firstCache);
+        assertThat(reused.isBlockedTile(3, 2)).isTrue();
+        assertThat(changed.isBlockedTile(3, 2)).isFalse();
+        assertThat(Files.readAllBytes(cacheFile)).isNotEqualTo(firstCache);
+    }
+
+    @Test
+    @DisplayName("메타데이터가 없는 맵은 null 이어야 한다")
+    void shouldReturnNullForUnknownMap() throws Exception {
+        // given
+        Path mapDir = writeMap("map7.tmj", TMJ);
+
+        // when & then
+        assertThat(registryOf(mapDir).find(8L)).isNull();
+    }
+}
@@ -0,0 +1,180 @@
+package com.rally.ai_land.domain.map.service;
+
+import com.rally.ai_land.common.cluster.ClusterMembershipService;
+import com.rally.ai_land.common.cluster.ClusterMembershipService.MembershipChangedEvent;
+import com.rally.ai_land.common.cluster.ConsistentHashRing;
+import com.rally.ai_land.common.websocket.EncodedFrameSender;
+import com.rally.ai_land.domain.map.service.MapMetadata.SpawnPoint;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerNodeResponse;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import com.rally.ai_land.domain.player.dto.PlayerStateResponse;
+import com.rally.ai_land.domain.player.service.MapInitSnapshotService;
+import com.rally.ai_land.domain.player.service.PlayerSessionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MapOwnershipService 단위 테스트")
+class MapOwnershipServiceTest {
+
+    private static final Long MAP_ID = 1L;
+    private static final long HANDOFF_TTL_SECONDS = 60;
+
+    @Mock
+    private ClusterMembershipService clusterMembershipService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private EncodedFrameSender encodedFrameSender;
+
+    @Mock
+    private MapInitSnapshotService mapInitSnapshotService;
+
+    @Mock
+    private PlayerSessionRegistry playerSessionRegistry;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MapOwnershipService mapOwnershipService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mapOwnershipService = new MapOwnershipService(clusterMembershipService, redisTemplate, encodedFrameSender,
+                mapInitSnapshotService, playerSessionRegistry, meterRegistry, HANDOFF_TTL_SECONDS);
+    }
+
+    private static ConsistentHashRing ring(String... nodeIds) {
+        return new ConsistentHashRing(List.of(nodeIds), 16);
+    }
+
+    @Nested
+    @DisplayName("노드 목록 변경 (넘겨주기)")
+    class OnMembershipChangedTest {
+
+        @BeforeEach
+        void setUp() {
+            when(clusterMembershipService.getNodeId()).thenReturn("a");
+            when(playerSessionRegistry.mapIds()).thenReturn(Set.of(MAP_ID));
+        }
+
+        @Test
+        @DisplayName("소유 노드가 바뀐 맵은 위치를 기록하고 P_NODE 를 보내야 한다")
+        void shouldHandOffMapToNextOwner() {
+            // given
+            when(mapInitSnapshotService.positionsOf(MAP_ID)).thenReturn(List.of(
+                    PlayerPosition.builder().playerId(101L).x(10.5).y(20.0).d((short) 2).build()));
+            when(playerSessionRegistry.sessionIdsOf(MAP_ID)).thenReturn(List.of("session-1", "session-2"));
+            when(clusterMembershipService.urlOf("b")).thenReturn("http://node-b:8080");
+            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+            // when
+            mapOwnershipService.onMembershipChanged(new MembershipChangedEvent(ring("a"), ring("b")));
+
+            // then
+            verify(hashOperations).putAll("map:1:handoff", Map.of("101", "10.5,20.0,2"));
+            verify(redisTemplate).expire("map:1:handoff", HANDOFF_TTL_SECONDS, TimeUnit.SECONDS);
+
+            ArgumentCaptor<PlayerStateResponse> frameCaptor = ArgumentCaptor.forClass(PlayerStateResponse.class);
+            verify(encodedFrameSender).sendToTopic(eq("/topic/map/1"), frameCaptor.capture());
+            PlayerNodeResponse frame = (PlayerNodeResponse) frameCaptor.getValue();
+            assertThat(frame.getType()).isEqualTo(ActionType.P_NODE);
+            assertThat(frame.getNodeId()).isEqualTo("b");
+            assertThat(frame.getUrl()).isEqualTo("http://node-b:8080");
+
+            assertThat(meterRegistry.counter("map.ownership.handoffs", "direction", "out").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("넘겨준 세션은 연결 해제 시 한 번만 조용히 정리 대상이어야 한다")
+        void shouldConsumeHandedOffSessionOnce() {
+            // given
+            when(mapInitSnapshotService.positionsOf(MAP_ID)).thenReturn(List.of());
+            when(playerSessionRegistry.sessionIdsOf(MAP_ID)).thenReturn(List.of("session-1"));
+
+            // when
+            mapOwnershipService.onMembershipChanged(new MembershipChangedEvent(ring("a"), ring("b")));
+
+            // then
+            assertThat(mapOwnershipService.consumeHandedOff("session-1")).isTrue();
+            assertThat(mapOwnershipService.consumeHandedOff("session-1")).isFalse();
+            assertThat(mapOwnershipService.consumeHandedOff("session-other")).isFalse();
+            verifyNoInteractions(redisTemplate);
+        }
+
+        @Test
+        @DisplayName("이 노드가 계속 소유하는 맵은 넘겨주지 않아야 한다")
+        void shouldNotHandOffWhenStillOwner() {
+            // when
+            mapOwnershipService.onMembershipChanged(new MembershipChangedEvent(ring("a"), ring("a")));
+
+            // then
+            verifyNoInteractions(mapInitSnapshotService, encodedFrameSender, redisTemplate);
+            assertThat(mapOwnershipService.consumeHandedOff("session-1")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("넘겨받은 위치 조회")
+    class TakeHandoffPositionTest {
+
+        @Test
+        @DisplayName("넘겨받은 위치는 Redis 에서 한 번만 읽고 한 번 쓰면 제거되어야 한다")
+        void shouldLoadOnceAndRemoveAfterTake() {
+            // given
+            when(clusterMembershipService.ownerOf(MAP_ID)).thenReturn("b");
+            when(clusterMembershipService.isLocal("b")).thenReturn(true);
+            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries("map:1:handoff")).thenReturn(Map.of("101", "10.5,20.0,2", "102", "1.0,2.0,0"));
+
+            // when
+            SpawnPoint first = mapOwnershipService.takeHandoffPosition(MAP_ID, 101L);
+            SpawnPoint again = mapOwnershipService.takeHandoffPosition(MAP_ID, 101L);
+            SpawnPoint other = mapOwnershipService.takeHandoffPosition(MAP_ID, 102L);
+
+            // then
+            assertThat(first).isEqualTo(new SpawnPoint(10.5, 20.0, (short) 2));
+            assertThat(again).isNull();
+            assertThat(other).isEqualTo(new SpawnPoint(1.0, 2.0, (short) 0));
+            verify(hashOperations, times(1)).entries("map:1:handoff");
+        }
+
+        @Test
+        @DisplayName("소유 노드가 아니면 넘겨받은 위치를 읽지 않아야 한다")
+        void shouldIgnoreWhenNotOwner() {
+            // given
+            when(clusterMembershipService.ownerOf(MAP_ID)).thenReturn("b");
+            when(clusterMembershipService.isLocal("b")).thenReturn(false);
+
+            // when
+            SpawnPoint spawnPoint = mapOwnershipService.takeHandoffPosition(MAP_ID, 101L);
+
+            // then
+            assertThat(spawnPoint).isNull();
+            verifyNoInteractions(redisTemplate);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.player.dto.ActionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InboundMoveCoalescer 단위 테스트")
+class InboundMoveCoalescerTest {
+
+    private static final Long MAP_ID = 1L;
+    private static final Long PLAYER_ID = 10L;
+    private static final String SESSION_ID = "session-1";
+    // 1Hz: 테스트 도중에는 예약된 flush 가 돌지 않음
+    private static final int MOVE_MAX_HZ = 1;
+
+    // 제출된 맵 액터 드레인 작업을 테스트가 직접 실행
+    private final Queue<Runnable> submitted = new ArrayDeque<>();
+    private final List<String> processed = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private InboundMoveCoalescer inboundMoveCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MapActorDispatcher mapActorDispatcher = new MapActorDispatcher(submitted::add, meterRegistry, 1024, 8192, 60_000);
+        inboundMoveCoalescer = new InboundMoveCoalescer(mapActorDispatcher, meterRegistry, true, MOVE_MAX_HZ);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inboundMoveCoalescer.shutdown();
+    }
+
+    private void runSubmitted() {
+        Runnable task;
+        while ((task = submitted.poll()) != null) task.run();
+    }
+
+    private void move(String label) {
+        inboundMoveCoalescer.dispatch(SESSION_ID, MAP_ID, ActionType.P_MOVE, PLAYER_ID, () -> processed.add(label));
+    }
+
+    private double countOf(String result) {
+        return meterRegistry.counter("player.inbound.moves", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("간격 안에 들어온 P_MOVE 는 마지막 하나만 남기고 합쳐야 한다")
+    void shouldCoalesceMovesWithinInterval() {
+        // when
+        move("move-1");
+        move("move-2");
+        move("move-3");
+        runSubmitted();
+
+        // then
+        assertThat(processed).containsExactly("move-1"); // move-3 은 다음 간격에 적재 대기
+        assertThat(countOf("received")).isEqualTo(3.0);
+        assertThat(countOf("forwarded")).isEqualTo(1.0);
+        assertThat(countOf("coalesced")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("P_LEAVE 는 바로 적재하되 대기 중인 P_MOVE 를 먼저 적재해야 한다")
+    void shouldForwardPendingMoveBeforeLeave() {
+        // given
+        move("move-1");
+        move("move-2");
+
+        // when
+        inboundMoveCoalescer.dispatch(SESSION_ID, MAP_ID, ActionType.P_LEAVE, PLAYER_ID, () -> processed.add("leave"));
+        runSubmitted();
+
+        // then
+        assertThat(processed).containsExactly("move-1", "move-2", "leave");
+        assertThat(countOf("coalesced")).isZero();
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 대기 중인 P_MOVE 를 버려야 한다")
+    void shouldDiscardPendingMoveOnDisconnect() {
+        // given
+        move("move-1");
+        move("move-2");
+
+        // when
+        inboundMoveCoalescer.remove(SESSION_ID);
+        inboundMoveCoalescer.dispatch(SESSION_ID, MAP_ID, ActionType.P_JOIN, PLAYER_ID, () -> processed.add("join"));
+        runSubmitted();
+
+        // then
+        assertThat(processed).containsExactly("move-1", "join");
+    }
+}
@@ -0,0 +1,151 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.player.dto.ActionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MapActorDispatcher 단위 테스트")
+class MapActorDispatcherTest {
+
+    private static final Long MAP_ID = 1L;
+    private static final int CAPACITY = 2;
+    private static final int HARD_LIMIT = 3;
+
+    // 제출된 드레인 작업을 테스트가 직접 실행
+    private final Queue<Runnable> submitted = new ArrayDeque<>();
+    private SimpleMeterRegistry meterRegistry;
+    private MapActorDispatcher mapActorDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mapActorDispatcher = new MapActorDispatcher(submitted::add, meterRegistry, CAPACITY, HARD_LIMIT, 60_000);
+    }
+
+    private void runSubmitted() {
+        Runnable task;
+        while ((task = submitted.poll()) != null) task.run();
+    }
+
+    @Test
+    @DisplayName("같은 맵의 메시지는 적재 순서대로 처리해야 한다")
+    void shouldProcessInOrder() {
+        // given
+        List<String> processed = new ArrayList<>();
+
+        // when
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_JOIN, 10L, () -> processed.add("join"));
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_MOVE, 10L, () -> processed.add("move"));
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_LEAVE, 10L, () -> processed.add("leave"));
+
+        // then
+        assertThat(submitted).hasSize(1); // 맵 하나당 드레인 작업은 하나
+        runSubmitted();
+        assertThat(processed).containsExactly("join", "move", "leave");
+        assertThat(mapActorDispatcher.depthOf(MAP_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("한도 초과 시 P_MOVE 는 합치고 P_JOIN/P_LEAVE 는 버리지 않아야 한다")
+    void shouldConflateMovesOnOverflow() {
+        // given
+        List<String> processed = new ArrayList<>();
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_MOVE, 10L, () -> processed.add("move-1"));
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_MOVE, 10L, () -> processed.add("move-2"));
+
+        // when
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_MOVE, 20L, () -> processed.add("move-3"));
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_MOVE, 20L, () -> processed.add("move-4"));
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_JOIN, 30L, () -> processed.add("join"));
+
+        // then
+        assertThat(mapActorDispatcher.depthOf(MAP_ID)).isEqualTo(4);
+        runSubmitted();
+        assertThat(processed).containsExactly("move-1", "move-2", "join", "move-4");
+        assertThat(meterRegistry.counter("player.actor.messages.conflated", "mapId", "1").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("player.actor.messages.dropped", "mapId", "1").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 나도 다음 메시지는 처리해야 한다")
+    void shouldContinueAfterFailure() {
+        // given
+        List<String> processed = new ArrayList<>();
+
+        // when
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_JOIN, 10L, () -> { throw new IllegalStateException("실패"); });
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_LEAVE, 10L, () -> processed.add("leave"));
+        runSubmitted();
+
+        // then
+        assertThat(processed).containsExactly("leave");
+    }
+
+    @Test
+    @DisplayName("상한 초과 시에도 P_JOIN/P_RESUME/P_LEAVE 는 적재하고 알 수 없는 타입만 거부해야 한다")
+    void shouldNeverRejectMembershipChangesOverHardLimit() {
+        // given
+        List<String> processed = new ArrayList<>();
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_JOIN, 10L, () -> processed.add("join-1"));
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_JOIN, 20L, () -> processed.add("join-2"));
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_JOIN, 30L, () -> processed.add("join-3"));
+
+        // when
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_JOIN, 40L, () -> processed.add("join-4"));
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_RESUME, 50L, () -> processed.add("resume"));
+        mapActorDispatcher.dispatch(MAP_ID, "P_UNKNOWN", 60L, () -> processed.add("unknown"));
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_LEAVE, 10L, () -> processed.add("leave"));
+
+        // then
+        runSubmitted();
+        assertThat(processed).containsExactly("join-1", "join-2", "join-3", "join-4", "resume", "leave");
+        assertThat(meterRegistry.counter("player.actor.messages.rejected", "mapId", "1").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비어 있는 유휴 액터는 미터와 함께 제거되고, 다시 적재하면 새로 만들어야 한다")
+    void shouldEvictIdleActor() {
+        // given
+        List<String> processed = new ArrayList<>();
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_JOIN, 10L, () -> processed.add("join"));
+
+        // when: 처리 전에는 제거하지 않음
+        mapActorDispatcher.evictIdleBefore(System.nanoTime());
+        runSubmitted();
+        mapActorDispatcher.evictIdleBefore(System.nanoTime());
+
+        // then
+        assertThat(processed).containsExactly("join");
+        assertThat(meterRegistry.find("player.actor.mailbox.depth").tag("mapId", "1").gauge()).isNull();
+
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_LEAVE, 10L, () -> processed.add("leave"));
+        assertThat(mapActorDispatcher.depthOf(MAP_ID)).isEqualTo(1);
+        assertThat(meterRegistry.find("player.actor.mailbox.depth").tag("mapId", "1").gauge().value()).isEqualTo(1);
+        runSubmitted();
+        assertThat(processed).containsExactly("join", "leave");
+    }
+
+    @Test
+    @DisplayName("최근에 적재된 액터는 제거하지 않아야 한다")
+    void shouldKeepRecentlyUsedActor() {
+        // given
+        long before = System.nanoTime() - 1;
+        mapActorDispatcher.dispatch(MAP_ID, ActionType.P_JOIN, 10L, () -> { });
+        runSubmitted();
+
+        // when
+        mapActorDispatcher.evictIdleBefore(before);
+
+        // then
+        assertThat(meterRegistry.find("player.actor.mailbox.depth").tag("mapId", "1").gauge()).isNotNull();
+    }
+}
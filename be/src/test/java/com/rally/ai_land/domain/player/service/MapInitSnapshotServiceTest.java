@@ -0,0 +1,242 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.common.websocket.ClusterTopicRelay;
+import com.rally.ai_land.common.websocket.ClusterTopicRelay.RemoteFrameEvent;
+import com.rally.ai_land.common.websocket.EncodedFrameSender;
+import com.rally.ai_land.common.websocket.MapStreamBuffer;
+import com.rally.ai_land.common.websocket.WireFormatRegistry;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerInfo;
+import com.rally.ai_land.domain.player.dto.PlayerJoinResponse;
+import com.rally.ai_land.domain.player.dto.PlayerJoinSnapshot;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import com.rally.ai_land.domain.player.dto.PlayerSnapshotResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MapInitSnapshotService 단위 테스트")
+class MapInitSnapshotServiceTest {
+
+    private static final Long MAP_ID = 1L;
+
+    @Mock
+    private SimpMessagingTemplate simpMessagingTemplate;
+
+    @Mock
+    private AreaOfInterestService areaOfInterestService;
+
+    @Mock
+    private WireFormatRegistry wireFormatRegistry;
+
+    @Mock
+    private ClusterTopicRelay clusterTopicRelay;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MapInitSnapshotService mapInitSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        EncodedFrameSender encodedFrameSender = new EncodedFrameSender(simpMessagingTemplate, wireFormatRegistry,
+                new ObjectMapper(), clusterTopicRelay, new MapStreamBuffer(meterRegistry, false, 16), meterRegistry);
+        mapInitSnapshotService = new MapInitSnapshotService(encodedFrameSender, areaOfInterestService, meterRegistry);
+    }
+
+    private PlayerInfo info(Long playerId) {
+        return PlayerInfo.builder().playerId(playerId).name("player-" + playerId).build();
+    }
+
+    private PlayerPosition position(Long playerId, double x) {
+        return PlayerPosition.builder().playerId(playerId).x(x).y(10).d((short) 2).build();
+    }
+
+    private void seedWith(Long playerId) {
+        mapInitSnapshotService.seed(MAP_ID, PlayerJoinSnapshot.builder()
+                .playerInfoList(List.of(info(playerId)))
+                .playerPositionList(List.of(position(playerId, 0)))
+                .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Message<?>> captureSent(int times) {
+        ArgumentCaptor<Message<?>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        verify(simpMessagingTemplate, times(times)).send(anyString(), messageCaptor.capture());
+        return messageCaptor.getAllValues();
+    }
+
+    @Test
+    @DisplayName("입장/이동/퇴장마다 version 이 증가하고 마지막 퇴장 시 스냅샷을 제거해야 한다")
+    void shouldIncreaseVersionOnEveryChange() {
+        // given
+        seedWith(10L);
+        long seededVersion = mapInitSnapshotService.versionOf(MAP_ID);
+
+        // when & then
+        mapInitSnapshotService.join(MAP_ID, info(20L), position(20L, 0));
+        long joinedVersion = mapInitSnapshotService.versionOf(MAP_ID);
+        assertThat(joinedVersion).isGreaterThan(seededVersion);
+
+        mapInitSnapshotService.move(MAP_ID, position(20L, 5));
+        long movedVersion = mapInitSnapshotService.versionOf(MAP_ID);
+        assertThat(movedVersion).isGreaterThan(joinedVersion);
+
+        mapInitSnapshotService.move(MAP_ID, position(99L, 5)); // 없는 플레이어
+        assertThat(mapInitSnapshotService.versionOf(MAP_ID)).isEqualTo(movedVersion);
+
+        mapInitSnapshotService.leave(MAP_ID, 10L);
+        mapInitSnapshotService.leave(MAP_ID, 20L);
+        assertThat(mapInitSnapshotService.isSeeded(MAP_ID)).isFalse();
+        assertThat(mapInitSnapshotService.versionOf(MAP_ID)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 중계된 입장/이동/퇴장을 스냅샷에 반영해야 한다")
+    void shouldApplyRemoteFrames() {
+        // given
+        seedWith(10L);
+
+        // when
+        mapInitSnapshotService.onRemoteFrame(new RemoteFrameEvent(MAP_ID, PlayerJoinResponse.builder()
+                .type(ActionType.P_JOIN)
+                .playerId(20L)
+                .name("player-20")
+                .playerPosition(position(20L, 0))
+                .build()));
+        long joinedVersion = mapInitSnapshotService.versionOf(MAP_ID);
+        mapInitSnapshotService.onRemoteFrame(new RemoteFrameEvent(MAP_ID, PlayerSnapshotResponse.builder()
+                .type(ActionType.P_SNAP)
+                .playerPositionList(List.of(position(20L, 5)))
+                .exitedPlayerIdList(List.of(10L))
+                .build()));
+
+        // then
+        assertThat(joinedVersion).isGreaterThan(-1);
+        assertThat(mapInitSnapshotService.versionOf(MAP_ID)).isGreaterThan(joinedVersion);
+        // 10 은 퇴장, 20 만 남음 -> 20 이 나가면 스냅샷 제거
+        mapInitSnapshotService.leave(MAP_ID, 20L);
+        assertThat(mapInitSnapshotService.isSeeded(MAP_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 틱의 입장자는 한 번 직렬화한 바이트를 공유해야 한다")
+    void shouldShareEncodedSnapshotWithinTick() {
+        // given
+        when(simpMessagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        seedWith(10L);
+        mapInitSnapshotService.join(MAP_ID, info(20L), position(20L, 0));
+        mapInitSnapshotService.enqueueInit(MAP_ID, 10L, "user10");
+        mapInitSnapshotService.enqueueInit(MAP_ID, 20L, "user20");
+
+        // when
+        int sent = mapInitSnapshotService.flushPendingInits(MAP_ID);
+
+        // then
+        assertThat(sent).isEqualTo(2);
+        List<Message<?>> messages = captureSent(2);
+        assertThat(messages.get(0).getPayload()).isSameAs(messages.get(1).getPayload());
+        assertThat(new String((byte[]) messages.get(0).getPayload(), StandardCharsets.UTF_8))
+                .contains("\"t\":\"P_Init\"", "player-10", "player-20");
+        verify(simpMessagingTemplate).send(eq("/user/user10/queue/map/" + MAP_ID), any(Message.class));
+        assertThat(meterRegistry.counter("player.init.snapshot.encodes", "mapId", "1").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("player.init.snapshot.sends", "mapId", "1").count()).isEqualTo(2);
+        assertThat(mapInitSnapshotService.hasPendingInits(MAP_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("version 이 바뀌지 않으면 다음 틱에도 직렬화 결과를 재사용해야 한다")
+    void shouldReuseEncodedSnapshotUntilVersionChanges() {
+        // given
+        when(simpMessagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        seedWith(10L);
+
+        // when
+        mapInitSnapshotService.enqueueInit(MAP_ID, 10L, "user10");
+        mapInitSnapshotService.flushPendingInits(MAP_ID);
+        mapInitSnapshotService.enqueueInit(MAP_ID, 10L, "user10");
+        mapInitSnapshotService.flushPendingInits(MAP_ID);
+        mapInitSnapshotService.move(MAP_ID, position(10L, 5));
+        mapInitSnapshotService.enqueueInit(MAP_ID, 10L, "user10");
+        mapInitSnapshotService.flushPendingInits(MAP_ID);
+
+        // then
+        List<Message<?>> messages = captureSent(3);
+        assertThat(messages.get(1).getPayload()).isSameAs(messages.get(0).getPayload());
+        assertThat(messages.get(2).getPayload()).isNotSameAs(messages.get(1).getPayload());
+        assertThat(meterRegistry.counter("player.init.snapshot.encodes", "mapId", "1").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("AOI 사용 시 시야(본인 포함) 안의 플레이어만 포함해야 한다")
+    void shouldFilterByAudienceWhenAoiEnabled() {
+        // given
+        when(simpMessagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        when(areaOfInterestService.isEnabled()).thenReturn(true);
+        when(areaOfInterestService.visibleTo(MAP_ID, 20L)).thenReturn(Set.of());
+        seedWith(10L);
+        mapInitSnapshotService.join(MAP_ID, info(20L), position(20L, 1500));
+        mapInitSnapshotService.enqueueInit(MAP_ID, 20L, "user20");
+
+        // when
+        mapInitSnapshotService.flushPendingInits(MAP_ID);
+
+        // then
+        String payload = new String((byte[]) captureSent(1).get(0).getPayload(), StandardCharsets.UTF_8);
+        assertThat(payload).contains("player-20").doesNotContain("player-10");
+    }
+
+    @Test
+    @DisplayName("전송 전에 퇴장한 입장자에게는 보내지 않아야 한다")
+    void shouldSkipJoinerWhoLeftBeforeFlush() {
+        // given
+        seedWith(10L);
+        mapInitSnapshotService.join(MAP_ID, info(20L), position(20L, 0));
+        mapInitSnapshotService.enqueueInit(MAP_ID, 20L, "user20");
+        mapInitSnapshotService.leave(MAP_ID, 20L);
+
+        // when
+        int sent = mapInitSnapshotService.flushPendingInits(MAP_ID);
+
+        // then
+        assertThat(sent).isZero();
+        verify(simpMessagingTemplate, never()).send(anyString(), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("마지막 퇴장으로 스냅샷을 제거하면 mapId 측정값도 제거하고, 다시 채우면 새로 등록해야 한다")
+    void shouldRemoveMetersWithSnapshot() {
+        // given
+        when(simpMessagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        seedWith(10L);
+        assertThat(meterRegistry.find("player.init.snapshot.sends").tag("mapId", "1").counter()).isNotNull();
+
+        // when
+        mapInitSnapshotService.leave(MAP_ID, 10L);
+
+        // then
+        assertThat(meterRegistry.find("player.init.snapshot.encodes").tag("mapId", "1").counter()).isNull();
+        assertThat(meterRegistry.find("player.init.snapshot.sends").tag("mapId", "1").counter()).isNull();
+
+        seedWith(20L);
+        mapInitSnapshotService.enqueueInit(MAP_ID, 20L, "user20");
+        mapInitSnapshotService.flushPendingInits(MAP_ID);
+        assertThat(meterRegistry.find("player.init.snapshot.sends").tag("mapId", "1").counter().count()).isEqualTo(1);
+    }
+}
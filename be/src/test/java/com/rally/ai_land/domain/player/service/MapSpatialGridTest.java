@@ -0,0 +1,102 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.player.dto.PlayerInfo;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MapSpatialGrid 단위 테스트")
+class MapSpatialGridTest {
+
+    private static final int CELL_SIZE = 100;
+
+    private MapSpatialGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new MapSpatialGrid(1000, 1000, CELL_SIZE);
+    }
+
+    private PlayerPosition position(Long playerId, double x, double y) {
+        return PlayerPosition.builder().playerId(playerId).x(x).y(y).d((short) 2).build();
+    }
+
+    @Test
+    @DisplayName("이웃 셀의 플레이어만 시야에 포함해야 한다")
+    void shouldSeeOnlyNeighborCells() {
+        // given
+        grid.join(1L, "a", "A", 50, 50, (short) 2);
+        grid.join(2L, "b", "B", 150, 150, (short) 2); // 대각 이웃 셀
+        grid.join(3L, "c", "C", 950, 950, (short) 2); // 먼 셀
+
+        // when & then
+        assertThat(grid.visibleTo(1L)).containsExactly(2L);
+        assertThat(grid.visibleTo(2L)).containsExactly(1L);
+        assertThat(grid.visibleTo(3L)).isEmpty();
+        assertThat(grid.viewerUsernamesOf(1L)).containsExactly("b");
+    }
+
+    @Test
+    @DisplayName("시야 밖 플레이어의 이동은 프레임에 포함하지 않아야 한다")
+    void shouldNotSendMovesOutsideView() {
+        // given
+        grid.join(1L, "a", "A", 50, 50, (short) 2);
+        grid.join(3L, "c", "C", 950, 950, (short) 2);
+
+        // when
+        grid.move(3L, 940, 940, (short) 3);
+        List<MapSpatialGrid.ViewerFrame> frameList = grid.collectFrames(List.of(position(3L, 940, 940)));
+
+        // then
+        assertThat(frameList).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시야 경계를 넘으면 진입/이탈 이벤트를 만들어야 한다")
+    void shouldEmitEnterAndExitWhenCrossingBoundary() {
+        // given
+        grid.join(1L, "a", "A", 50, 50, (short) 2);
+        grid.join(2L, "b", "B", 550, 50, (short) 2);
+
+        // when: 2 가 1 의 이웃 셀로 진입
+        grid.move(2L, 150, 50, (short) 3);
+        List<MapSpatialGrid.ViewerFrame> enterFrames = grid.collectFrames(List.of(position(2L, 150, 50)));
+
+        // then
+        MapSpatialGrid.ViewerFrame frameForA = enterFrames.stream()
+                .filter(frame -> frame.username().equals("a"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(frameForA.enteredList()).extracting(PlayerInfo::getName).containsExactly("B");
+        assertThat(frameForA.positionList()).extracting(PlayerPosition::getPlayerId).containsExactly(2L);
+
+        // when: 다시 멀어짐
+        grid.move(2L, 550, 50, (short) 4);
+        List<MapSpatialGrid.ViewerFrame> exitFrames = grid.collectFrames(List.of(position(2L, 550, 50)));
+
+        // then
+        assertThat(exitFrames).filteredOn(frame -> frame.username().equals("a"))
+                .singleElement()
+                .satisfies(frame -> assertThat(frame.exitedList()).containsExactly(2L));
+    }
+
+    @Test
+    @DisplayName("퇴장하면 다른 플레이어의 시야에서도 제거되어야 한다")
+    void shouldRemoveFromOtherViewsOnLeave() {
+        // given
+        grid.join(1L, "a", "A", 50, 50, (short) 2);
+        grid.join(2L, "b", "B", 60, 60, (short) 2);
+
+        // when
+        grid.leave(2L);
+
+        // then
+        assertThat(grid.visibleTo(1L)).isEmpty();
+        assertThat(grid.isEmpty()).isFalse();
+    }
+}
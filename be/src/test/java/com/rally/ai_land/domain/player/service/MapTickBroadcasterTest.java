@@ -0,0 +1,217 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.common.websocket.EncodedFrameSender;
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import com.rally.ai_land.domain.player.dto.PlayerSnapshotResponse;
+import com.rally.ai_land.domain.player.dto.PlayerStateResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MapTickBroadcaster 단위 테스트")
+class MapTickBroadcasterTest {
+
+    private static final Long MAP_ID = 1L;
+    // MapTickBroadcaster.IDLE_TICKS_BEFORE_STOP
+    private static final int IDLE_TICKS_BEFORE_STOP = 100;
+
+    @Mock
+    private EncodedFrameSender encodedFrameSender;
+
+    @Mock
+    private AreaOfInterestService areaOfInterestService;
+
+    @Mock
+    private MovementFilter movementFilter;
+
+    @Mock
+    private MapInitSnapshotService mapInitSnapshotService;
+
+    // 예약된 틱은 돌지 않음: 테스트가 캡처한 틱 작업을 직접 실행
+    @Mock
+    private ScheduledExecutorService tickExecutor;
+
+    @Mock
+    private ScheduledFuture<?> tickFuture;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MapTickBroadcaster mapTickBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mapTickBroadcaster = new MapTickBroadcaster(encodedFrameSender, areaOfInterestService, movementFilter,
+                mapInitSnapshotService, meterRegistry, 20, tickExecutor);
+        doReturn(tickFuture).when(tickExecutor).scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+    }
+
+    private PlayerPosition position(Long playerId, double x) {
+        return PlayerPosition.builder().playerId(playerId).x(x).y(10).d((short) 2).build();
+    }
+
+    private Runnable scheduledTick(int loopsStarted) {
+        ArgumentCaptor<Runnable> tickCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(tickExecutor, times(loopsStarted)).scheduleAtFixedRate(tickCaptor.capture(), anyLong(), anyLong(), any(TimeUnit.class));
+        return tickCaptor.getValue();
+    }
+
+    private List<PlayerPosition> sentSnapshot() {
+        ArgumentCaptor<PlayerStateResponse> frameCaptor = ArgumentCaptor.forClass(PlayerStateResponse.class);
+        verify(encodedFrameSender).sendToTopic(eq("/topic/map/1"), frameCaptor.capture());
+        return ((PlayerSnapshotResponse) frameCaptor.getValue()).getPlayerPositionList();
+    }
+
+    private void runIdleTicks(Runnable tick, int count) {
+        for (int i = 0; i < count; i++) tick.run();
+    }
+
+    @Test
+    @DisplayName("한 틱 안의 이동은 플레이어별 마지막 위치만 한 P_SNAP 프레임으로 보내야 한다")
+    void shouldAggregateMovesIntoOneSnapshotPerTick() {
+        // given
+        when(movementFilter.offer(eq(MAP_ID), any(PlayerPosition.class), anyLong())).thenReturn(true);
+        mapTickBroadcaster.offerPosition(MAP_ID, position(10L, 1));
+        mapTickBroadcaster.offerPosition(MAP_ID, position(20L, 2));
+        mapTickBroadcaster.offerPosition(MAP_ID, position(10L, 5));
+
+        // when
+        scheduledTick(1).run();
+
+        // then
+        assertThat(sentSnapshot())
+                .extracting(PlayerPosition::getPlayerId, PlayerPosition::getX)
+                .containsExactlyInAnyOrder(tuple(10L, 5.0), tuple(20L, 2.0));
+        assertThat(meterRegistry.find("map.tick.frame.size").tag("mapId", "1").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("필터가 미룬 이동은 프레임에 넣지 않고, 키프레임이 되면 다음 틱에 보내야 한다")
+    void shouldSendDeferredMoveAsKeyframe() {
+        // given
+        when(movementFilter.offer(eq(MAP_ID), any(PlayerPosition.class), anyLong())).thenReturn(false);
+        when(movementFilter.hasDeferred(MAP_ID)).thenReturn(true);
+        mapTickBroadcaster.offerPosition(MAP_ID, position(10L, 1));
+        Runnable tick = scheduledTick(1);
+
+        // when & then
+        tick.run();
+        verify(encodedFrameSender, never()).sendToTopic(anyString(), any(PlayerStateResponse.class));
+
+        when(movementFilter.drainDueKeyframes(eq(MAP_ID), anyLong())).thenReturn(List.of(position(10L, 1)));
+        tick.run();
+        assertThat(sentSnapshot()).extracting(PlayerPosition::getPlayerId).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("입장자 P_Init 은 이동이 없어도 wake 된 다음 틱에 바로 보내야 한다")
+    void shouldFlushPendingInitsOnWake() {
+        // given
+        mapTickBroadcaster.wake(MAP_ID);
+        mapTickBroadcaster.wake(MAP_ID);
+
+        // when
+        scheduledTick(1).run();
+
+        // then
+        verify(mapInitSnapshotService).flushPendingInits(MAP_ID);
+        verify(encodedFrameSender, never()).sendToTopic(anyString(), any(PlayerStateResponse.class));
+    }
+
+    @Test
+    @DisplayName("퇴장한 플레이어의 대기 중 이동은 P_LEAVE 이후의 P_SNAP 에 나타나지 않아야 한다")
+    void shouldDropPendingMoveOfLeavingPlayer() {
+        // given
+        when(movementFilter.offer(eq(MAP_ID), any(PlayerPosition.class), anyLong())).thenReturn(true);
+        mapTickBroadcaster.offerPosition(MAP_ID, position(10L, 1));
+        mapTickBroadcaster.offerPosition(MAP_ID, position(20L, 2));
+
+        // when
+        mapTickBroadcaster.discardPlayer(MAP_ID, 10L);
+        scheduledTick(1).run();
+
+        // then
+        assertThat(sentSnapshot()).extracting(PlayerPosition::getPlayerId).containsExactly(20L);
+        verify(movementFilter).forget(MAP_ID, 10L);
+    }
+
+    @Test
+    @DisplayName("빈 틱이 이어지면 루프를 멈추고 측정값을 제거하며, 다음 이동에서 새 루프를 시작해야 한다")
+    void shouldStopIdleLoopAndRestartOnNextMove() {
+        // given
+        mapTickBroadcaster.wake(MAP_ID);
+        Runnable tick = scheduledTick(1);
+
+        // when
+        runIdleTicks(tick, IDLE_TICKS_BEFORE_STOP);
+
+        // then
+        verify(tickFuture).cancel(false);
+        assertThat(meterRegistry.find("map.tick.duration").tag("mapId", "1").timer()).isNull();
+        assertThat(meterRegistry.find("map.tick.frame.size").tag("mapId", "1").summary()).isNull();
+
+        // when
+        when(movementFilter.offer(eq(MAP_ID), any(PlayerPosition.class), anyLong())).thenReturn(true);
+        mapTickBroadcaster.offerPosition(MAP_ID, position(10L, 1));
+        scheduledTick(2).run();
+
+        // then
+        assertThat(sentSnapshot()).extracting(PlayerPosition::getPlayerId).containsExactly(10L);
+        assertThat(meterRegistry.find("map.tick.frame.size").tag("mapId", "1").summary()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("정지 판단 직전에 들어온 이동이 있으면 루프를 유지하고 다음 틱에 보내야 한다")
+    void shouldKeepLoopWhenMoveArrivesWhileStopping() {
+        // given: 마지막 빈 틱의 비어 있음 확인 직후 (정지 판단 전) 이동 등록
+        when(movementFilter.offer(eq(MAP_ID), any(PlayerPosition.class), anyLong())).thenReturn(true);
+        AtomicInteger deferredChecks = new AtomicInteger();
+        when(movementFilter.hasDeferred(MAP_ID)).thenAnswer(invocation -> {
+            if (deferredChecks.incrementAndGet() == IDLE_TICKS_BEFORE_STOP) {
+                mapTickBroadcaster.offerPosition(MAP_ID, position(10L, 1));
+            }
+            return false;
+        });
+        mapTickBroadcaster.wake(MAP_ID);
+        Runnable tick = scheduledTick(1);
+
+        // when
+        runIdleTicks(tick, IDLE_TICKS_BEFORE_STOP);
+        tick.run();
+
+        // then
+        verify(tickFuture, never()).cancel(anyBoolean());
+        verify(tickExecutor, times(1)).scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+        assertThat(sentSnapshot()).extracting(PlayerPosition::getPlayerId).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("P_Init 대기가 남아 있으면 빈 틱이 이어져도 루프를 유지해야 한다")
+    void shouldKeepLoopWhilePendingInits() {
+        // given
+        when(mapInitSnapshotService.hasPendingInits(MAP_ID)).thenReturn(true);
+        mapTickBroadcaster.wake(MAP_ID);
+
+        // when
+        runIdleTicks(scheduledTick(1), IDLE_TICKS_BEFORE_STOP);
+
+        // then
+        verify(tickFuture, never()).cancel(anyBoolean());
+        assertThat(meterRegistry.find("map.tick.duration").tag("mapId", "1").timer()).isNotNull();
+    }
+}
@@ -0,0 +1,95 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.player.dto.PlayerPosition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MovementFilter 단위 테스트")
+class MovementFilterTest {
+
+    private static final Long MAP_ID = 1L;
+    private static final long KEYFRAME_MS = 1000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MovementFilter movementFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        movementFilter = new MovementFilter(2.0, KEYFRAME_MS, meterRegistry);
+    }
+
+    private PlayerPosition position(double x, double y, short d) {
+        return PlayerPosition.builder().playerId(10L).x(x).y(y).d(d).build();
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("player.movement.moves", "mapId", "1", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("임계값 미만 이동은 미루고, 방향 전환은 바로 전달해야 한다")
+    void shouldSuppressSmallMovesAndForwardTurns() {
+        // given
+        assertThat(movementFilter.offer(MAP_ID, position(100, 100, (short) 2), 0)).isTrue();
+
+        // when & then
+        assertThat(movementFilter.offer(MAP_ID, position(101, 100, (short) 2), 50)).isFalse();
+        assertThat(movementFilter.offer(MAP_ID, position(101, 100, (short) 3), 100)).isTrue();
+        assertThat(movementFilter.offer(MAP_ID, position(104, 100, (short) 3), 150)).isTrue();
+
+        assertThat(count("forwarded")).isEqualTo(3);
+        assertThat(count("suppressed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("미뤄진 위치는 키프레임 주기가 지나면 꺼내져야 한다")
+    void shouldEmitDeferredPositionAsKeyframe() {
+        // given
+        movementFilter.offer(MAP_ID, position(100, 100, (short) 2), 0);
+        movementFilter.offer(MAP_ID, position(101, 101, (short) 2), 100);
+
+        // when & then
+        assertThat(movementFilter.hasDeferred(MAP_ID)).isTrue();
+        assertThat(movementFilter.drainDueKeyframes(MAP_ID, 500)).isEmpty();
+        assertThat(movementFilter.drainDueKeyframes(MAP_ID, KEYFRAME_MS))
+                .extracting(PlayerPosition::getX)
+                .containsExactly(101.0);
+        assertThat(movementFilter.hasDeferred(MAP_ID)).isFalse();
+        assertThat(count("keyframe")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("퇴장한 플레이어의 미뤄진 위치는 버려야 한다")
+    void shouldForgetDeferredOnLeave() {
+        // given
+        movementFilter.offer(MAP_ID, position(100, 100, (short) 2), 0);
+        movementFilter.offer(MAP_ID, position(101, 100, (short) 2), 100);
+
+        // when
+        movementFilter.forget(MAP_ID, 10L);
+
+        // then
+        assertThat(movementFilter.hasDeferred(MAP_ID)).isFalse();
+        assertThat(movementFilter.drainDueKeyframes(MAP_ID, 5000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("맵의 마지막 플레이어가 퇴장하면 mapId 측정값을 제거해야 한다")
+    void shouldRemoveMetersWhenLastPlayerLeaves() {
+        // given
+        movementFilter.offer(MAP_ID, position(100, 100, (short) 2), 0);
+        movementFilter.offer(MAP_ID, PlayerPosition.builder().playerId(20L).x(200).y(200).d((short) 1).build(), 0);
+
+        // when & then
+        movementFilter.forget(MAP_ID, 10L);
+        assertThat(meterRegistry.find("player.movement.moves").tag("mapId", "1").counters()).hasSize(3);
+
+        movementFilter.forget(MAP_ID, 20L);
+        assertThat(meterRegistry.find("player.movement.moves").tag("mapId", "1").counters()).isEmpty();
+    }
+}
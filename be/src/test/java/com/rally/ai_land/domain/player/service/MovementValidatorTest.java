@@ -0,0 +1,180 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rally.ai_land.domain.map.service.MapMetadataRegistry;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.dto.PlayerPositionUpdateRequest;
+import com.rally.ai_land.domain.player.service.MovementValidator.Verdict;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MovementValidator 단위 테스트")
+class MovementValidatorTest {
+
+    // 4 x 3 타일, 32px (128 x 96 px), 타일 (1, 0) 막힘
+    private static final String TMJ = """
+            {"width":4,"height":3,"tilewidth":32,"tileheight":32,"infinite":false,"tilesets":[],
+             "layers":[{"type":"objectgroup","name":"collision","objects":[{"x":32,"y":0,"width":32,"height":32}]}]}
+            """;
+
+    private static final Long MAP_ID = 7L;
+    private static final Long PLAYER_ID = 100L;
+    private static final long SECOND = 1_000_000_000L;
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MovementValidator movementValidator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path mapDir = Files.createDirectories(tempDir.resolve("maps"));
+        Files.writeString(mapDir.resolve("map7.tmj"), TMJ, StandardCharsets.UTF_8);
+        MapMetadataRegistry mapMetadataRegistry = new MapMetadataRegistry(new ObjectMapper(),
+                "file:" + mapDir.toAbsolutePath() + "/*.tmj", tempDir.resolve("cache").toString());
+        mapMetadataRegistry.load();
+
+        meterRegistry = new SimpleMeterRegistry();
+        // 최대 100 px/s, 여유 10 px, 최대 1초
+        movementValidator = new MovementValidator(true, 100, 10, 1000, mapMetadataRegistry, meterRegistry);
+        movementValidator.reset(MAP_ID, PLAYER_ID, 16, 80, (short) 2, 0);
+    }
+
+    private PlayerPositionUpdateRequest move(double x, double y, short d) {
+        PlayerPositionUpdateRequest request = new PlayerPositionUpdateRequest();
+        request.setType(ActionType.P_MOVE);
+        request.setPlayerId(PLAYER_ID);
+        request.setX(x);
+        request.setY(y);
+        request.setDir(d);
+        return request;
+    }
+
+    private double countOf(String result) {
+        return meterRegistry.counter("player.movement.validation", "mapId", String.valueOf(MAP_ID), "result", result).count();
+    }
+
+    @Test
+    @DisplayName("허용 속도 안의 이동은 그대로 수락해야 한다")
+    void shouldAcceptMoveWithinSpeed() {
+        // given: 0.5초 -> 50 + 10 px 까지 허용
+        PlayerPositionUpdateRequest request = move(66, 80, (short) 4);
+
+        // when
+        Verdict verdict = movementValidator.validate(MAP_ID, request, SECOND / 2);
+
+        // then
+        assertThat(verdict).isEqualTo(Verdict.ACCEPTED);
+        assertThat(request.getX()).isEqualTo(66);
+        assertThat(countOf("accepted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("속도를 넘는 이동은 이동 방향으로 허용 거리까지 잘라내야 한다")
+    void shouldClampMoveOverSpeed() {
+        // given: 0.5초 -> 60 px 까지, 100 px 이동 요청
+        PlayerPositionUpdateRequest request = move(116, 80, (short) 4);
+
+        // when
+        Verdict verdict = movementValidator.validate(MAP_ID, request, SECOND / 2);
+
+        // then
+        assertThat(verdict).isEqualTo(Verdict.CLAMPED);
+        assertThat(request.getX()).isCloseTo(76, within(1e-6));
+        assertThat(request.getY()).isEqualTo(80);
+        assertThat(countOf("clamped")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("맵 밖 좌표는 경계 안으로, 잘못된 방향은 마지막 방향으로 보정해야 한다")
+    void shouldClampOutOfBoundsAndInvalidDirection() {
+        // given
+        PlayerPositionUpdateRequest request = move(16, 100, (short) 9);
+
+        // when
+        Verdict verdict = movementValidator.validate(MAP_ID, request, SECOND);
+
+        // then
+        assertThat(verdict).isEqualTo(Verdict.CLAMPED);
+        assertThat(request.getY()).isLessThan(96).isGreaterThan(95);
+        assertThat(request.getDir()).isEqualTo((short) 2);
+    }
+
+    @Test
+    @DisplayName("막힌 타일로의 이동은 거부하고 마지막 수락 위치로 되돌려야 한다")
+    void shouldRejectMoveIntoBlockedTile() {
+        // given: (48, 16) 은 타일 (1, 0)
+        movementValidator.validate(MAP_ID, move(16, 40, (short) 1), SECOND);
+        PlayerPositionUpdateRequest request = move(48, 16, (short) 4);
+
+        // when
+        Verdict verdict = movementValidator.validate(MAP_ID, request, 2 * SECOND);
+
+        // then
+        assertThat(verdict).isEqualTo(Verdict.REJECTED);
+        assertThat(request.getX()).isEqualTo(16);
+        assertThat(request.getY()).isEqualTo(40);
+        assertThat(request.getDir()).isEqualTo((short) 1);
+        assertThat(countOf("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오래 멈춰 있어도 허용 거리는 max-gap 까지만 늘어나야 한다")
+    void shouldCapElapsedTimeAtMaxGap() {
+        // given: 10초가 지나도 1초 (100 + 10 px) 까지만
+        movementValidator.reset(MAP_ID, PLAYER_ID, 120, 80, (short) 2, 0);
+        PlayerPositionUpdateRequest far = move(0, 80, (short) 3);
+
+        // when
+        Verdict verdict = movementValidator.validate(MAP_ID, far, 10 * SECOND);
+
+        // then
+        assertThat(verdict).isEqualTo(Verdict.CLAMPED);
+        assertThat(far.getX()).isCloseTo(10, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("입장 기록이 없는 플레이어의 이동은 기록을 만들지 않고 스폰 지점으로 거부해야 한다")
+    void shouldRejectMoveWithoutTrack() {
+        // given: 퇴장 후 늦게 온 이동
+        movementValidator.remove(MAP_ID, PLAYER_ID);
+        PlayerPositionUpdateRequest request = move(20, 80, (short) 4);
+
+        // when
+        Verdict verdict = movementValidator.validate(MAP_ID, request, SECOND);
+        Verdict again = movementValidator.validate(MAP_ID, move(20, 80, (short) 4), 2 * SECOND);
+
+        // then
+        assertThat(verdict).isEqualTo(Verdict.REJECTED);
+        assertThat(again).isEqualTo(Verdict.REJECTED);
+        assertThat(request.getX()).isEqualTo(PlayerService.MAP_INIT_X);
+        assertThat(request.getY()).isEqualTo(PlayerService.MAP_INIT_Y);
+        // 맵 기록도 다시 만들지 않음 (집계할 맵 기록이 없음)
+        assertThat(countOf("rejected")).isZero();
+    }
+
+    @Test
+    @DisplayName("맵의 마지막 플레이어가 퇴장하면 mapId 측정값을 제거해야 한다")
+    void shouldRemoveMetersWhenLastPlayerLeaves() {
+        // given
+        movementValidator.reset(MAP_ID, 200L, 16, 80, (short) 2, 0);
+        movementValidator.validate(MAP_ID, move(20, 80, (short) 2), SECOND / 2);
+
+        // when & then
+        movementValidator.remove(MAP_ID, PLAYER_ID);
+        assertThat(meterRegistry.find("player.movement.validation").tag("mapId", "7").counters()).hasSize(3);
+
+        movementValidator.remove(MAP_ID, 200L);
+        assertThat(meterRegistry.find("player.movement.validation").tag("mapId", "7").counters()).isEmpty();
+    }
+}
@@ -0,0 +1,162 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.map.service.MapInstanceService;
+import com.rally.ai_land.domain.map.service.MapOwnershipService;
+import com.rally.ai_land.domain.player.dto.ActionType;
+import com.rally.ai_land.domain.player.service.StateManagerService.ReapResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlayerPresenceReaper 단위 테스트")
+class PlayerPresenceReaperTest {
+
+    private static final Long MAP_ID = 1L;
+    private static final long STALE_AFTER_MS = 30_000;
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private StateManagerService stateManagerService;
+
+    @Mock
+    private PlayerSessionRegistry playerSessionRegistry;
+
+    @Mock
+    private MapOwnershipService mapOwnershipService;
+
+    @Mock
+    private MapInstanceService mapInstanceService;
+
+    @Mock
+    private MapActorDispatcher mapActorDispatcher;
+
+    @Mock
+    private PlayerService playerService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlayerPresenceReaper playerPresenceReaper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        playerPresenceReaper = new PlayerPresenceReaper(stateManagerService, playerSessionRegistry, mapOwnershipService,
+                mapInstanceService, mapActorDispatcher, playerService, meterRegistry, true, STALE_AFTER_MS, BATCH_SIZE);
+    }
+
+    // 맵 액터에 적재된 작업을 바로 실행
+    private void runDispatchedTasks() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return null;
+        }).when(mapActorDispatcher).dispatch(anyLong(), anyString(), any(), any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("batch-size 만큼 정리되면 더 적게 정리될 때까지 반복하고 모은 플레이어를 한 번에 퇴장 처리해야 한다")
+    void shouldRepeatUntilBatchIsNotFull() {
+        // given
+        when(stateManagerService.getHeartbeatMapIds()).thenReturn(List.of(MAP_ID));
+        when(mapOwnershipService.isOwner(MAP_ID)).thenReturn(true);
+        when(stateManagerService.reapStalePlayers(MAP_ID, STALE_AFTER_MS, BATCH_SIZE)).thenReturn(
+                new ReapResult(10, 8, List.of(101L, 102L)),
+                new ReapResult(8, 6, List.of(103L, 104L)),
+                new ReapResult(6, 5, List.of(105L)));
+        runDispatchedTasks();
+
+        // when
+        playerPresenceReaper.sweep();
+
+        // then
+        verify(stateManagerService, times(3)).reapStalePlayers(MAP_ID, STALE_AFTER_MS, BATCH_SIZE);
+        verify(mapActorDispatcher).dispatch(eq(MAP_ID), eq(ActionType.P_LEAVE), eq(101L), any(Runnable.class));
+        verify(playerService).handleReapedPlayers(MAP_ID, List.of(101L, 102L, 103L, 104L, 105L));
+
+        assertThat(meterRegistry.counter("player.reaper.ghosts").count()).isEqualTo(5);
+        assertThat(meterRegistry.counter("player.reaper.sweeps").count()).isEqualTo(1);
+        assertThat(meterRegistry.find("player.reaper.roster.size").tag("phase", "before").summary().max()).isEqualTo(10);
+        assertThat(meterRegistry.find("player.reaper.roster.size").tag("phase", "after").summary().max()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("정리할 플레이어가 없으면 맵 액터에 작업을 넣지 않아야 한다")
+    void shouldNotDispatchWhenNothingReaped() {
+        // given
+        when(stateManagerService.getHeartbeatMapIds()).thenReturn(List.of(MAP_ID));
+        when(mapOwnershipService.isOwner(MAP_ID)).thenReturn(true);
+        when(stateManagerService.reapStalePlayers(MAP_ID, STALE_AFTER_MS, BATCH_SIZE)).thenReturn(new ReapResult(3, 3, List.of()));
+
+        // when
+        playerPresenceReaper.sweep();
+
+        // then
+        verify(stateManagerService, times(1)).reapStalePlayers(MAP_ID, STALE_AFTER_MS, BATCH_SIZE);
+        verifyNoInteractions(mapActorDispatcher);
+        assertThat(meterRegistry.counter("player.reaper.ghosts").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("소유 노드가 아닌 맵은 정리하지 않고, 한 맵이 실패해도 다음 맵은 정리해야 한다")
+    void shouldSweepOnlyOwnedMapsAndContinueOnFailure() {
+        // given
+        when(stateManagerService.getHeartbeatMapIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(mapOwnershipService.isOwner(1L)).thenReturn(true);
+        when(mapOwnershipService.isOwner(2L)).thenReturn(false);
+        when(mapOwnershipService.isOwner(3L)).thenReturn(true);
+        when(stateManagerService.reapStalePlayers(1L, STALE_AFTER_MS, BATCH_SIZE)).thenThrow(new QueryTimeoutException("timeout"));
+        when(stateManagerService.reapStalePlayers(3L, STALE_AFTER_MS, BATCH_SIZE)).thenReturn(new ReapResult(1, 1, List.of()));
+
+        // when
+        playerPresenceReaper.sweep();
+
+        // then
+        verify(stateManagerService, never()).reapStalePlayers(eq(2L), anyLong(), anyInt());
+        verify(stateManagerService).reapStalePlayers(3L, STALE_AFTER_MS, BATCH_SIZE);
+        assertThat(meterRegistry.counter("player.reaper.failures").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("heartbeat 에서 온라인 목록에 없는 플레이어가 확인되면 맵 액터에서 복구해야 한다")
+    void shouldRestoreMissingPlayersOnHeartbeat() {
+        // given
+        when(playerSessionRegistry.playerIdsByMap()).thenReturn(Map.of(MAP_ID, Set.of(101L, 102L)));
+        when(stateManagerService.touchHeartbeats(MAP_ID, Set.of(101L, 102L))).thenReturn(List.of(102L));
+        runDispatchedTasks();
+
+        // when
+        playerPresenceReaper.heartbeat();
+
+        // then
+        verify(mapActorDispatcher).dispatch(eq(MAP_ID), eq(ActionType.P_JOIN), eq(102L), any(Runnable.class));
+        verify(playerService).handleMissingPlayers(MAP_ID, List.of(102L));
+    }
+
+    @Test
+    @DisplayName("모든 플레이어가 온라인 목록에 있으면 heartbeat 와 맵 인스턴스 배정 TTL 만 갱신해야 한다")
+    void shouldOnlyTouchHeartbeatsWhenNothingMissing() {
+        // given
+        when(playerSessionRegistry.playerIdsByMap()).thenReturn(Map.of(MAP_ID, Set.of(101L)));
+        when(stateManagerService.touchHeartbeats(MAP_ID, Set.of(101L))).thenReturn(List.of());
+
+        // when
+        playerPresenceReaper.heartbeat();
+
+        // then
+        verify(stateManagerService).touchHeartbeats(MAP_ID, Set.of(101L));
+        verify(mapInstanceService).touch(Set.of(MAP_ID));
+        verifyNoInteractions(mapActorDispatcher);
+    }
+}
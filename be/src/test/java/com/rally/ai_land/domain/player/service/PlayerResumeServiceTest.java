@@ -0,0 +1,155 @@
+package com.rally.ai_land.domain.player.service;
+
+import com.rally.ai_land.domain.player.service.PlayerResumeService.Parked;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlayerResumeService 단위 테스트")
+class PlayerResumeServiceTest {
+
+    private static final Long MAP_ID = 1L;
+    private static final Long PLAYER_ID = 100L;
+    private static final String USERNAME = "user100";
+    private static final String SESSION_ID = "session-1";
+    private static final long GRACE_MS = 10_000;
+
+    // 예약된 만료는 돌지 않음: 테스트가 캡처한 만료 작업을 직접 실행
+    @Mock
+    private ScheduledExecutorService graceExecutor;
+
+    @Mock
+    private ScheduledFuture<?> expiryFuture;
+
+    private final List<Parked> expired = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private PlayerResumeService playerResumeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        playerResumeService = new PlayerResumeService(meterRegistry, true, GRACE_MS, graceExecutor);
+    }
+
+    private String issueAndPark() {
+        doReturn(expiryFuture).when(graceExecutor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        String token = playerResumeService.issue(SESSION_ID, MAP_ID, PLAYER_ID, USERNAME);
+        assertThat(playerResumeService.park(SESSION_ID, expired::add)).isTrue();
+        return token;
+    }
+
+    private Runnable scheduledExpiry() {
+        ArgumentCaptor<Runnable> expiryCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(graceExecutor).schedule(expiryCaptor.capture(), eq(GRACE_MS), eq(TimeUnit.MILLISECONDS));
+        return expiryCaptor.getValue();
+    }
+
+    private double countOf(String result) {
+        return meterRegistry.counter("player.resume.sessions", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("유예 안에 같은 토큰으로 이어받으면 보류된 세션을 돌려주고 만료를 취소해야 한다")
+    void shouldClaimWithinGrace() {
+        // given
+        String token = issueAndPark();
+
+        // when
+        Parked parked = playerResumeService.claim(token, MAP_ID, PLAYER_ID, USERNAME);
+
+        // then
+        assertThat(parked).isEqualTo(new Parked(SESSION_ID, MAP_ID, PLAYER_ID, USERNAME));
+        verify(expiryFuture).cancel(false);
+        assertThat(playerResumeService.claim(token, MAP_ID, PLAYER_ID, USERNAME)).isNull(); // 한 번만
+        assertThat(countOf("resumed")).isEqualTo(1);
+        assertThat(countOf("rejected")).isEqualTo(1);
+
+        // 취소 전에 이미 시작된 만료 작업도 퇴장 처리하지 않음
+        scheduledExpiry().run();
+        assertThat(expired).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유예가 지나면 onExpired 를 정확히 한 번 호출하고, 이후 이어받기는 거절해야 한다")
+    void shouldExpireOnceAfterGrace() {
+        // given
+        String token = issueAndPark();
+        Runnable expiry = scheduledExpiry();
+
+        // when
+        expiry.run();
+        expiry.run();
+
+        // then
+        assertThat(expired).containsExactly(new Parked(SESSION_ID, MAP_ID, PLAYER_ID, USERNAME));
+        assertThat(countOf("expired")).isEqualTo(1);
+        assertThat(playerResumeService.claim(token, MAP_ID, PLAYER_ID, USERNAME)).isNull();
+    }
+
+    @Test
+    @DisplayName("맵/플레이어/유저가 다르거나 모르는 토큰이면 거절하고 보류된 세션은 그대로 두어야 한다")
+    void shouldRejectMismatchedClaim() {
+        // given
+        String token = issueAndPark();
+
+        // when & then
+        assertThat(playerResumeService.claim(token, 2L, PLAYER_ID, USERNAME)).isNull();
+        assertThat(playerResumeService.claim(token, MAP_ID, 200L, USERNAME)).isNull();
+        assertThat(playerResumeService.claim(token, MAP_ID, PLAYER_ID, "user200")).isNull();
+        assertThat(playerResumeService.claim("unknown-token", MAP_ID, PLAYER_ID, USERNAME)).isNull();
+        assertThat(playerResumeService.claim(null, MAP_ID, PLAYER_ID, USERNAME)).isNull();
+        assertThat(countOf("rejected")).isEqualTo(5);
+        verify(expiryFuture, never()).cancel(anyBoolean());
+
+        assertThat(playerResumeService.claim(token, MAP_ID, PLAYER_ID, USERNAME)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("같은 플레이어가 다시 입장하면 보류된 세션을 꺼내고 만료를 취소해야 한다")
+    void shouldCancelExpiryOnDiscardParked() {
+        // given
+        String token = issueAndPark();
+
+        // when
+        Parked parked = playerResumeService.discardParked(PLAYER_ID);
+
+        // then
+        assertThat(parked.sessionId()).isEqualTo(SESSION_ID);
+        verify(expiryFuture).cancel(false);
+        assertThat(playerResumeService.discardParked(PLAYER_ID)).isNull();
+        assertThat(playerResumeService.claim(token, MAP_ID, PLAYER_ID, USERNAME)).isNull();
+
+        scheduledExpiry().run();
+        assertThat(expired).isEmpty();
+        assertThat(countOf("expired")).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰이 없거나 회수된 세션은 보류하지 않아야 한다")
+    void shouldNotParkWithoutToken() {
+        // given
+        playerResumeService.issue(SESSION_ID, MAP_ID, PLAYER_ID, USERNAME);
+        playerResumeService.revoke(SESSION_ID);
+
+        // when & then
+        assertThat(playerResumeService.park(SESSION_ID, expired::add)).isFalse();
+        assertThat(playerResumeService.park("session-2", expired::add)).isFalse();
+        verifyNoInteractions(graceExecutor);
+    }
+}
@@ -1,6 +1,16 @@
 package com.rally.ai_land.domain.player.service;
 
+import com.rally.ai_land.common.websocket.EncodedFrameSender;
+import com.rally.ai_land.common.websocket.InboundStageMetrics;
+import com.rally.ai_land.common.websocket.MapStreamBuffer;
+import com.rally.ai_land.domain.map.service.MapInstanceService;
+import com.rally.ai_land.domain.map.service.MapMetadata;
+import com.rally.ai_land.domain.map.service.MapMetadata.SpawnPoint;
+import com.rally.ai_land.domain.map.service.MapMetadataRegistry;
+import com.rally.ai_land.domain.map.service.MapOwnershipService;
 import com.rally.ai_land.domain.player.dto.*;
+import com.rally.ai_land.domain.user.dto.PlayerSession;
+import com.rally.ai_land.domain.user.service.PlayerNicknameCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,9 +19,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -25,7 +37,49 @@ class PlayerServiceTest {
     private StateManagerService stateManagerService;
 
     @Mock
-    private SimpMessagingTemplate simpMessagingTemplate;
+    private EncodedFrameSender encodedFrameSender;
+
+    @Mock
+    private MapTickBroadcaster mapTickBroadcaster;
+
+    @Mock
+    private AreaOfInterestService areaOfInterestService;
+
+    @Mock
+    private PlayerSessionRegistry playerSessionRegistry;
+
+    @Mock
+    private MapInitSnapshotService mapInitSnapshotService;
+
+    @Mock
+    private InboundStageMetrics inboundStageMetrics;
+
+    @Mock
+    private MapMetadataRegistry mapMetadataRegistry;
+
+    @Mock
+    private MovementValidator movementValidator;
+
+    @Mock
+    private MapInstanceService mapInstanceService;
+
+    @Mock
+    private MapActorDispatcher mapActorDispatcher;
+
+    @Mock
+    private PlayerPositionStore playerPositionStore;
+
+    @Mock
+    private MapOwnershipService mapOwnershipService;
+
+    @Mock
+    private PlayerResumeService playerResumeService;
+
+    @Mock
+    private MapStreamBuffer mapStreamBuffer;
+
+    @Mock
+    private PlayerNicknameCache playerNicknameCache;
 
     @InjectMocks
     private PlayerService playerService;
@@ -43,6 +97,14 @@ class PlayerServiceTest {
         return request;
     }
 
+    // Helper method to create empty PlayerJoinSnapshot
+    private PlayerJoinSnapshot emptyJoinSnapshot() {
+        return PlayerJoinSnapshot.builder()
+                .playerInfoList(List.of())
+                .playerPositionList(List.of())
+                .build();
+    }
+
     // Helper method to create PlayerLeaveRequest
     private PlayerLeaveRequest createPlayerLeaveRequest(String type, Long playerId) {
         PlayerLeaveRequest request = PlayerLeaveRequest.builder()
@@ -52,6 +114,16 @@ class PlayerServiceTest {
         return request;
     }
 
+    // Helper method to create PlayerResumeRequest
+    private PlayerResumeRequest createPlayerResumeRequest(String resumeToken, long lastSequence) {
+        return PlayerResumeRequest.builder()
+                .type(ActionType.P_RESUME)
+                .playerId(PLAYER_ID)
+                .resumeToken(resumeToken)
+                .lastSequence(lastSequence)
+                .build();
+    }
+
     // Helper method to create PlayerPositionUpdateRequest
     private PlayerPositionUpdateRequest createPlayerPositionUpdateRequest(
             String type, Long playerId, double x, double y, short dir) {
@@ -74,17 +146,13 @@ class PlayerServiceTest {
             // given
             PlayerJoinRequest request = createPlayerJoinRequest("P_JOIN", PLAYER_ID);
 
-            when(stateManagerService.getPlayersMapOnline(MAP_ID)).thenReturn(List.of());
-            when(stateManagerService.getAllPlayerPositions(MAP_ID)).thenReturn(List.of());
+            when(stateManagerService.joinMap(SESSION_ID, MAP_ID, PLAYER_ID, true, PlayerService.MAP_INIT_SPAWN)).thenReturn(emptyJoinSnapshot());
 
             // when
             playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
 
             // then
-            verify(stateManagerService).setSession(SESSION_ID, MAP_ID, PLAYER_ID);
-            verify(stateManagerService).registerPlayerMapOnline(MAP_ID, PLAYER_ID);
-            verify(stateManagerService).addPlayerInfo(MAP_ID, PLAYER_ID);
-            verify(stateManagerService).addOrInitializePlayerPosition(PLAYER_ID);
+            verify(stateManagerService).joinMap(SESSION_ID, MAP_ID, PLAYER_ID, true, PlayerService.MAP_INIT_SPAWN);
         }
 
         @Test
@@ -97,8 +165,7 @@ class PlayerServiceTest {
             playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
 
             // then
-            verify(stateManagerService).removeSession(SESSION_ID);
-            verify(stateManagerService).removePlayerMapOnline(MAP_ID, PLAYER_ID);
+            verify(stateManagerService).removePlayersFromMap(MAP_ID, Map.of(SESSION_ID, PLAYER_ID));
         }
 
         @Test
@@ -107,6 +174,8 @@ class PlayerServiceTest {
             // given
             PlayerPositionUpdateRequest request = createPlayerPositionUpdateRequest(
                     "P_MOVE", PLAYER_ID, 100.5, 200.5, (short) 1);
+            when(playerSessionRegistry.isJoined(SESSION_ID, MAP_ID, PLAYER_ID)).thenReturn(true);
+            when(movementValidator.validate(eq(MAP_ID), eq(request), anyLong())).thenReturn(MovementValidator.Verdict.ACCEPTED);
 
             // when
             playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
@@ -138,17 +207,14 @@ class PlayerServiceTest {
             // given
             PlayerJoinRequest request = createPlayerJoinRequest("P_JOIN", PLAYER_ID);
 
-            when(stateManagerService.getPlayersMapOnline(MAP_ID)).thenReturn(List.of());
-            when(stateManagerService.getAllPlayerPositions(MAP_ID)).thenReturn(List.of());
+            when(stateManagerService.joinMap(SESSION_ID, MAP_ID, PLAYER_ID, true, PlayerService.MAP_INIT_SPAWN)).thenReturn(emptyJoinSnapshot());
 
             // when
             playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
 
             // then
-            verify(stateManagerService).setSession(SESSION_ID, MAP_ID, PLAYER_ID);
-            verify(stateManagerService).registerPlayerMapOnline(MAP_ID, PLAYER_ID);
-            verify(stateManagerService).addPlayerInfo(MAP_ID, PLAYER_ID);
-            verify(stateManagerService).addOrInitializePlayerPosition(PLAYER_ID);
+            verify(stateManagerService).joinMap(SESSION_ID, MAP_ID, PLAYER_ID, true, PlayerService.MAP_INIT_SPAWN);
+            verify(playerSessionRegistry).register(SESSION_ID, MAP_ID, PLAYER_ID);
         }
 
         @Test
@@ -157,15 +223,14 @@ class PlayerServiceTest {
             // given
             PlayerJoinRequest request = createPlayerJoinRequest("P_JOIN", PLAYER_ID);
 
-            when(stateManagerService.getPlayersMapOnline(MAP_ID)).thenReturn(List.of());
-            when(stateManagerService.getAllPlayerPositions(MAP_ID)).thenReturn(List.of());
+            when(stateManagerService.joinMap(SESSION_ID, MAP_ID, PLAYER_ID, true, PlayerService.MAP_INIT_SPAWN)).thenReturn(emptyJoinSnapshot());
 
             // when
             playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
 
             // then
             ArgumentCaptor<PlayerJoinResponse> responseCaptor = ArgumentCaptor.forClass(PlayerJoinResponse.class);
-            verify(simpMessagingTemplate).convertAndSend(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
+            verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
 
             PlayerJoinResponse capturedResponse = responseCaptor.getValue();
             assertThat(capturedResponse.getType()).isEqualTo("P_JOIN");
@@ -176,39 +241,171 @@ class PlayerServiceTest {
         }
 
         @Test
-        @DisplayName("초기화 메시지를 /user/{username}/queue/map/{mapId}/init로 전송해야 한다")
-        void shouldSendInitMessageToUser() {
+        @DisplayName("맵 메타데이터에 스폰 지점이 있으면 그 위치로 입장해야 한다")
+        void shouldJoinAtMapSpawnPoint() {
+            // given
+            PlayerJoinRequest request = createPlayerJoinRequest("P_JOIN", PLAYER_ID);
+            SpawnPoint spawnPoint = new SpawnPoint(64, 96, (short) 1);
+
+            MapMetadata mapMetadata = mock(MapMetadata.class);
+            when(mapMetadata.spawnPointFor(PLAYER_ID)).thenReturn(spawnPoint);
+            when(mapMetadataRegistry.find(MAP_ID)).thenReturn(mapMetadata);
+            when(stateManagerService.joinMap(SESSION_ID, MAP_ID, PLAYER_ID, true, spawnPoint)).thenReturn(emptyJoinSnapshot());
+
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
+
+            // then
+            ArgumentCaptor<PlayerJoinResponse> responseCaptor = ArgumentCaptor.forClass(PlayerJoinResponse.class);
+            verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
+
+            PlayerPosition spawnPosition = responseCaptor.getValue().getPlayerPosition();
+            assertThat(spawnPosition.getX()).isEqualTo(64);
+            assertThat(spawnPosition.getY()).isEqualTo(96);
+            assertThat(spawnPosition.getD()).isEqualTo((short) 1);
+        }
+
+        @Test
+        @DisplayName("이전 소유 노드가 넘겨준 위치가 있으면 그 위치로 입장해야 한다")
+        void shouldJoinAtHandoffPosition() {
             // given
             PlayerJoinRequest request = createPlayerJoinRequest("P_JOIN", PLAYER_ID);
+            SpawnPoint handoffPoint = new SpawnPoint(512, 256, (short) 0);
+            when(mapOwnershipService.takeHandoffPosition(MAP_ID, PLAYER_ID)).thenReturn(handoffPoint);
+            when(stateManagerService.joinMap(SESSION_ID, MAP_ID, PLAYER_ID, true, handoffPoint)).thenReturn(emptyJoinSnapshot());
 
-            List<PlayerInfo> playerInfoList = List.of(
-                    PlayerInfo.builder().playerId(PLAYER_ID).name("TestPlayer").build());
-            List<PlayerPosition> playerPositionList = List.of(
-                    PlayerPosition.builder()
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
+
+            // then
+            ArgumentCaptor<PlayerJoinResponse> responseCaptor = ArgumentCaptor.forClass(PlayerJoinResponse.class);
+            verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
+            assertThat(responseCaptor.getValue().getPlayerPosition().getX()).isEqualTo(512);
+            assertThat(responseCaptor.getValue().getPlayerPosition().getY()).isEqualTo(256);
+            verify(mapMetadataRegistry, never()).find(anyLong());
+            verify(mapOwnershipService).recordJoin(MAP_ID);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스에 배정되면 입장하지 않고 본인 세션에 P_INST 를 보내야 한다")
+        void shouldRedirectToAssignedInstance() {
+            // given
+            PlayerJoinRequest request = createPlayerJoinRequest("P_JOIN", PLAYER_ID);
+            Long assignedChannelId = MapInstanceService.channelIdOf(MAP_ID, 2);
+            when(mapInstanceService.isEnabled()).thenReturn(true);
+            when(mapInstanceService.assign(MAP_ID, PLAYER_ID)).thenReturn(assignedChannelId);
+
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
+
+            // then
+            ArgumentCaptor<PlayerInstanceResponse> responseCaptor = ArgumentCaptor.forClass(PlayerInstanceResponse.class);
+            verify(encodedFrameSender).sendToSession(eq(USERNAME), eq(SESSION_ID), eq("/queue/map/" + MAP_ID), responseCaptor.capture());
+            assertThat(responseCaptor.getValue().getType()).isEqualTo(ActionType.P_INST);
+            assertThat(responseCaptor.getValue().getInstanceId()).isEqualTo(2);
+            assertThat(responseCaptor.getValue().getChannelId()).isEqualTo(assignedChannelId);
+
+            verify(stateManagerService, never()).joinMap(anyString(), anyLong(), anyLong(), anyBoolean(), any());
+            verify(playerSessionRegistry, never()).register(anyString(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("같은 맵의 다른 인스턴스에서 넘어오면 이전 채널 퇴장을 적재하고 마지막 위치에서 입장해야 한다")
+        void shouldSwitchInstanceAtLastPosition() {
+            // given
+            Long channelId = MapInstanceService.channelIdOf(MAP_ID, 1);
+            PlayerJoinRequest request = createPlayerJoinRequest("P_JOIN", PLAYER_ID);
+            SpawnPoint lastPoint = new SpawnPoint(320, 160, (short) 3);
+            when(mapInstanceService.isEnabled()).thenReturn(true);
+            when(mapInstanceService.assign(channelId, PLAYER_ID)).thenReturn(channelId);
+            when(playerSessionRegistry.get(SESSION_ID)).thenReturn(PlayerSession.builder().mapId(MAP_ID).playerId(PLAYER_ID).build());
+            when(playerPositionStore.get(PLAYER_ID)).thenReturn(PlayerPosition.builder()
+                    .playerId(PLAYER_ID).x(320).y(160).d((short) 3).build());
+            when(stateManagerService.joinMap(SESSION_ID, channelId, PLAYER_ID, true, lastPoint)).thenReturn(emptyJoinSnapshot());
+
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, channelId, request);
+
+            // then
+            verify(mapActorDispatcher).dispatch(eq(MAP_ID), eq(ActionType.P_LEAVE), eq(PLAYER_ID), any(Runnable.class));
+            verify(stateManagerService).joinMap(SESSION_ID, channelId, PLAYER_ID, true, lastPoint);
+            verify(playerSessionRegistry).register(SESSION_ID, channelId, PLAYER_ID);
+        }
+
+        @Test
+        @DisplayName("맵 스냅샷이 없으면 온라인 목록으로 채우고 P_Init 을 맵 틱에 등록해야 한다")
+        void shouldSeedSnapshotAndEnqueueInit() {
+            // given
+            PlayerJoinRequest request = createPlayerJoinRequest("P_JOIN", PLAYER_ID);
+
+            PlayerJoinSnapshot joinSnapshot = PlayerJoinSnapshot.builder()
+                    .playerInfoList(List.of(PlayerInfo.builder().playerId(PLAYER_ID).name("TestPlayer").build()))
+                    .playerPositionList(List.of(PlayerPosition.builder()
                             .playerId(PLAYER_ID)
                             .x(PlayerService.MAP_INIT_X)
                             .y(PlayerService.MAP_INIT_Y)
                             .d(PlayerService.MAP_INIT_D)
-                            .build());
+                            .build()))
+                    .build();
+            when(stateManagerService.joinMap(SESSION_ID, MAP_ID, PLAYER_ID, true, PlayerService.MAP_INIT_SPAWN)).thenReturn(joinSnapshot);
 
-            when(stateManagerService.getPlayersMapOnline(MAP_ID)).thenReturn(playerInfoList);
-            when(stateManagerService.getAllPlayerPositions(MAP_ID)).thenReturn(playerPositionList);
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
+
+            // then
+            verify(mapInitSnapshotService).seed(MAP_ID, joinSnapshot);
+            verify(mapInitSnapshotService).enqueueInit(MAP_ID, PLAYER_ID, USERNAME);
+            verify(mapTickBroadcaster).wake(MAP_ID);
+            verify(encodedFrameSender, never()).sendToUser(anyString(), anyString(), any(PlayerInitResponse.class));
+        }
+
+        @Test
+        @DisplayName("맵 스냅샷이 있으면 온라인 목록 조회 없이 클라이언트 이름 대신 닉네임으로 스냅샷에 추가해야 한다")
+        void shouldJoinSnapshotWithoutRoster() {
+            // given
+            PlayerJoinRequest request = createPlayerJoinRequest("P_JOIN", PLAYER_ID);
+            request.setName("Spoofed");
+
+            when(mapInitSnapshotService.isSeeded(MAP_ID)).thenReturn(true);
+            when(playerNicknameCache.getNickname(PLAYER_ID)).thenReturn("TestPlayer");
+            when(stateManagerService.joinMap(SESSION_ID, MAP_ID, PLAYER_ID, false, PlayerService.MAP_INIT_SPAWN)).thenReturn(emptyJoinSnapshot());
 
             // when
             playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
 
             // then
-            ArgumentCaptor<PlayerInitResponse> responseCaptor = ArgumentCaptor.forClass(PlayerInitResponse.class);
-            verify(simpMessagingTemplate).convertAndSendToUser(
-                    eq(USERNAME),
-                    eq("/queue/map/" + MAP_ID + "/init"),
-                    responseCaptor.capture());
-
-            PlayerInitResponse capturedResponse = responseCaptor.getValue();
-            assertThat(capturedResponse.getType()).isEqualTo(ActionType.P_Init);
-            assertThat(capturedResponse.getPlayerId()).isEqualTo(PLAYER_ID);
-            assertThat(capturedResponse.getPlayerInfoList()).hasSize(1);
-            assertThat(capturedResponse.getPlayerPositionList()).hasSize(1);
+            ArgumentCaptor<PlayerInfo> infoCaptor = ArgumentCaptor.forClass(PlayerInfo.class);
+            verify(mapInitSnapshotService).join(eq(MAP_ID), infoCaptor.capture(), any(PlayerPosition.class));
+            assertThat(infoCaptor.getValue().getPlayerId()).isEqualTo(PLAYER_ID);
+            assertThat(infoCaptor.getValue().getName()).isEqualTo("TestPlayer");
+            ArgumentCaptor<PlayerJoinResponse> joinCaptor = ArgumentCaptor.forClass(PlayerJoinResponse.class);
+            verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MAP_ID), joinCaptor.capture());
+            assertThat(joinCaptor.getValue().getName()).isEqualTo("TestPlayer");
+            verify(mapInitSnapshotService, never()).seed(anyLong(), any());
+            verify(mapInitSnapshotService).enqueueInit(MAP_ID, PLAYER_ID, USERNAME);
+        }
+
+        @Test
+        @DisplayName("AOI 사용 시 스폰 위치를 시야에 둔 유저에게만 보내고 다른 노드에는 중계만 해야 한다")
+        void shouldSendJoinOnlyToViewersWhenAoiEnabled() {
+            // given
+            PlayerJoinRequest request = createPlayerJoinRequest("P_JOIN", PLAYER_ID);
+            when(areaOfInterestService.isEnabled()).thenReturn(true);
+            when(areaOfInterestService.viewerUsernamesOf(MAP_ID, PLAYER_ID)).thenReturn(List.of("viewer"));
+            when(stateManagerService.joinMap(SESSION_ID, MAP_ID, PLAYER_ID, true, PlayerService.MAP_INIT_SPAWN)).thenReturn(emptyJoinSnapshot());
+
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
+
+            // then
+            verify(areaOfInterestService).join(MAP_ID, PLAYER_ID, USERNAME, null,
+                    PlayerService.MAP_INIT_X, PlayerService.MAP_INIT_Y, PlayerService.MAP_INIT_D);
+
+            ArgumentCaptor<PlayerJoinResponse> responseCaptor = ArgumentCaptor.forClass(PlayerJoinResponse.class);
+            verify(encodedFrameSender).sendToUsers(eq(List.of("viewer")), eq("/queue/map/" + MAP_ID), responseCaptor.capture());
+            assertThat(responseCaptor.getValue().getPlayerId()).isEqualTo(PLAYER_ID);
+            verify(encodedFrameSender).relayToTopic("/topic/map/" + MAP_ID, responseCaptor.getValue());
+            verify(encodedFrameSender, never()).sendToTopic(anyString(), any(PlayerStateResponse.class));
         }
     }
 
@@ -247,7 +444,7 @@ class PlayerServiceTest {
 
             // then
             ArgumentCaptor<PlayerLeaveResponse> responseCaptor = ArgumentCaptor.forClass(PlayerLeaveResponse.class);
-            verify(simpMessagingTemplate).convertAndSend(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
+            verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
 
             PlayerLeaveResponse capturedResponse = responseCaptor.getValue();
             assertThat(capturedResponse.getType()).isEqualTo("P_LEAVE");
@@ -255,6 +452,263 @@ class PlayerServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("handlePlayerLeaveBatch() 테스트")
+    class HandlePlayerLeaveBatchTest {
+
+        @Test
+        @DisplayName("1건이면 P_LEAVE 를 브로드캐스트해야 한다")
+        void shouldBroadcastSingleLeave() {
+            // given
+            Map<String, Long> sessionPlayerIds = Map.of(SESSION_ID, PLAYER_ID);
+
+            // when
+            playerService.handlePlayerLeaveBatch(MAP_ID, sessionPlayerIds);
+
+            // then
+            verify(playerSessionRegistry).remove(SESSION_ID);
+            verify(stateManagerService).removePlayersFromMap(MAP_ID, sessionPlayerIds);
+
+            ArgumentCaptor<PlayerLeaveResponse> responseCaptor = ArgumentCaptor.forClass(PlayerLeaveResponse.class);
+            verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
+            assertThat(responseCaptor.getValue().getPlayerId()).isEqualTo(PLAYER_ID);
+        }
+
+        @Test
+        @DisplayName("여러 건이면 이탈 목록을 담은 P_SNAP 하나로 브로드캐스트해야 한다")
+        void shouldBroadcastBatchedLeaveAsSnapshot() {
+            // given
+            Map<String, Long> sessionPlayerIds = new LinkedHashMap<>();
+            sessionPlayerIds.put("session-1", 101L);
+            sessionPlayerIds.put("session-2", 102L);
+
+            // when
+            playerService.handlePlayerLeaveBatch(MAP_ID, sessionPlayerIds);
+
+            // then
+            verify(stateManagerService).removePlayersFromMap(MAP_ID, sessionPlayerIds);
+            verify(mapTickBroadcaster).discardPlayer(MAP_ID, 101L);
+            verify(areaOfInterestService).leave(MAP_ID, 102L);
+
+            ArgumentCaptor<PlayerSnapshotResponse> responseCaptor = ArgumentCaptor.forClass(PlayerSnapshotResponse.class);
+            verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
+            assertThat(responseCaptor.getValue().getType()).isEqualTo(ActionType.P_SNAP);
+            assertThat(responseCaptor.getValue().getExitedPlayerIdList()).containsExactly(101L, 102L);
+        }
+
+        @Test
+        @DisplayName("새 소유 노드로 넘겨준 세션은 로컬 상태만 정리하고 P_LEAVE 를 보내지 않아야 한다")
+        void shouldReleaseHandedOffSessionQuietly() {
+            // given
+            Map<String, Long> sessionPlayerIds = new LinkedHashMap<>();
+            sessionPlayerIds.put("session-1", 101L);
+            sessionPlayerIds.put("session-2", 102L);
+            when(mapOwnershipService.consumeHandedOff("session-1")).thenReturn(true);
+
+            // when
+            playerService.handlePlayerLeaveBatch(MAP_ID, sessionPlayerIds);
+
+            // then
+            verify(stateManagerService).removeSession("session-1");
+            verify(playerPositionStore).remove(101L);
+            verify(mapTickBroadcaster).discardPlayer(MAP_ID, 101L);
+            verify(mapInitSnapshotService, never()).leave(MAP_ID, 101L);
+            verify(stateManagerService).removePlayersFromMap(MAP_ID, Map.of("session-2", 102L));
+
+            ArgumentCaptor<PlayerLeaveResponse> responseCaptor = ArgumentCaptor.forClass(PlayerLeaveResponse.class);
+            verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
+            assertThat(responseCaptor.getValue().getPlayerId()).isEqualTo(102L);
+        }
+    }
+
+    @Nested
+    @DisplayName("handleReapedPlayers() 테스트")
+    class HandleReapedPlayersTest {
+
+        @Test
+        @DisplayName("정리된 플레이어의 로컬 상태를 지우고 이탈 목록을 담은 P_SNAP 으로 브로드캐스트해야 한다")
+        void shouldReleaseAndBroadcastReapedPlayers() {
+            // given
+            when(playerSessionRegistry.playerIdsOf(MAP_ID)).thenReturn(Set.of());
+
+            // when
+            playerService.handleReapedPlayers(MAP_ID, List.of(101L, 102L));
+
+            // then
+            verify(mapTickBroadcaster).discardPlayer(MAP_ID, 101L);
+            verify(areaOfInterestService).leave(MAP_ID, 102L);
+            verify(stateManagerService, never()).removePlayersFromMap(anyLong(), anyMap());
+
+            ArgumentCaptor<PlayerSnapshotResponse> responseCaptor = ArgumentCaptor.forClass(PlayerSnapshotResponse.class);
+            verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
+            assertThat(responseCaptor.getValue().getExitedPlayerIdList()).containsExactly(101L, 102L);
+        }
+
+        @Test
+        @DisplayName("이 노드에 연결 중인 플레이어는 퇴장시키지 않고 Redis 에 다시 등록해야 한다")
+        void shouldRestoreLocallyConnectedPlayers() {
+            // given
+            PlayerPosition position = PlayerPosition.builder().playerId(101L).x(10).y(20).d((short) 1).build();
+            when(playerSessionRegistry.playerIdsOf(MAP_ID)).thenReturn(Set.of(101L));
+            when(playerPositionStore.get(101L)).thenReturn(position);
+            when(stateManagerService.restorePlayers(MAP_ID, List.of(position)))
+                    .thenReturn(List.of(PlayerInfo.builder().playerId(101L).name("Alive").build()));
+
+            // when
+            playerService.handleReapedPlayers(MAP_ID, List.of(101L, 102L));
+
+            // then
+            verify(stateManagerService).restorePlayers(MAP_ID, List.of(position));
+            verify(mapTickBroadcaster, never()).discardPlayer(MAP_ID, 101L);
+            verify(mapTickBroadcaster).discardPlayer(MAP_ID, 102L);
+
+            // 퇴장을 알리지 않았으므로 입장도 알리지 않음
+            ArgumentCaptor<PlayerStateResponse> responseCaptor = ArgumentCaptor.forClass(PlayerStateResponse.class);
+            verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
+            assertThat(responseCaptor.getValue()).isInstanceOf(PlayerLeaveResponse.class);
+            assertThat(((PlayerLeaveResponse) responseCaptor.getValue()).getPlayerId()).isEqualTo(102L);
+        }
+
+        @Test
+        @DisplayName("heartbeat 에서 빠진 것으로 확인된 연결 중인 플레이어는 다시 등록하고 P_JOIN 으로 알려야 한다")
+        void shouldRestoreAndAnnounceMissingPlayers() {
+            // given
+            PlayerPosition position = PlayerPosition.builder().playerId(101L).x(10).y(20).d((short) 1).build();
+            PlayerInfo playerInfo = PlayerInfo.builder().playerId(101L).name("Alive").build();
+            when(playerSessionRegistry.playerIdsOf(MAP_ID)).thenReturn(Set.of(101L));
+            when(playerPositionStore.get(101L)).thenReturn(position);
+            when(stateManagerService.restorePlayers(MAP_ID, List.of(position))).thenReturn(List.of(playerInfo));
+
+            // when
+            playerService.handleMissingPlayers(MAP_ID, List.of(101L, 102L));
+
+            // then
+            verify(mapInitSnapshotService).join(MAP_ID, playerInfo, position);
+            ArgumentCaptor<PlayerJoinResponse> responseCaptor = ArgumentCaptor.forClass(PlayerJoinResponse.class);
+            verify(encodedFrameSender).sendToTopic(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
+            assertThat(responseCaptor.getValue().getPlayerId()).isEqualTo(101L);
+            assertThat(responseCaptor.getValue().getName()).isEqualTo("Alive");
+            assertThat(responseCaptor.getValue().getPlayerPosition()).isEqualTo(position);
+        }
+
+        @Test
+        @DisplayName("그 사이 퇴장한 플레이어는 다시 등록하지 않아야 한다")
+        void shouldIgnoreMissingPlayersAlreadyLeft() {
+            // given
+            when(playerSessionRegistry.playerIdsOf(MAP_ID)).thenReturn(Set.of());
+
+            // when
+            playerService.handleMissingPlayers(MAP_ID, List.of(101L));
+
+            // then
+            verify(stateManagerService, never()).restorePlayers(anyLong(), anyList());
+            verifyNoInteractions(encodedFrameSender);
+        }
+    }
+
+    @Nested
+    @DisplayName("handlePlayerResume() (P_RESUME) 테스트")
+    class HandlePlayerResumeTest {
+
+        private static final String PARKED_SESSION_ID = "parked-session";
+
+        @Test
+        @DisplayName("유예 중인 세션을 이어받으면 세션만 교체하고 놓친 프레임을 재전송해야 한다")
+        void shouldResumeParkedSessionAndReplayMissedFrames() {
+            // given
+            List<MapStreamBuffer.Frame> missedFrames = List.of(new MapStreamBuffer.Frame(8, new byte[]{'{', '}'}));
+            when(playerResumeService.claim("token-1", MAP_ID, PLAYER_ID, USERNAME))
+                    .thenReturn(new PlayerResumeService.Parked(PARKED_SESSION_ID, MAP_ID, PLAYER_ID, USERNAME));
+            when(mapStreamBuffer.since(MAP_ID, 7)).thenReturn(missedFrames);
+            when(playerResumeService.issue(SESSION_ID, MAP_ID, PLAYER_ID, USERNAME)).thenReturn("token-2");
+
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, createPlayerResumeRequest("token-1", 7));
+
+            // then
+            verify(playerSessionRegistry).remove(PARKED_SESSION_ID);
+            verify(playerSessionRegistry).register(SESSION_ID, MAP_ID, PLAYER_ID);
+            verify(stateManagerService).removeSession(PARKED_SESSION_ID);
+            verify(stateManagerService).setSession(SESSION_ID, MAP_ID, PLAYER_ID);
+            verify(encodedFrameSender).replayToSession(USERNAME, SESSION_ID, "/queue/map/" + MAP_ID, missedFrames);
+            verify(stateManagerService, never()).joinMap(anyString(), anyLong(), anyLong(), anyBoolean(), any());
+            verify(mapInitSnapshotService, never()).enqueueInit(anyLong(), anyLong(), anyString());
+            verify(encodedFrameSender, never()).sendToTopic(anyString(), any(PlayerStateResponse.class));
+
+            ArgumentCaptor<PlayerResumeResponse> responseCaptor = ArgumentCaptor.forClass(PlayerResumeResponse.class);
+            verify(encodedFrameSender).sendToSession(eq(USERNAME), eq(SESSION_ID), eq("/queue/map/" + MAP_ID), responseCaptor.capture());
+            assertThat(responseCaptor.getValue().getResumeToken()).isEqualTo("token-2");
+            assertThat(responseCaptor.getValue().getResumed()).isTrue();
+        }
+
+        @Test
+        @DisplayName("놓친 프레임이 버퍼에서 밀려났으면 P_Init 을 다시 보내야 한다")
+        void shouldFallBackToInitWhenMissedFramesAreEvicted() {
+            // given
+            when(playerResumeService.claim("token-1", MAP_ID, PLAYER_ID, USERNAME))
+                    .thenReturn(new PlayerResumeService.Parked(PARKED_SESSION_ID, MAP_ID, PLAYER_ID, USERNAME));
+            when(mapStreamBuffer.since(MAP_ID, 7)).thenReturn(null);
+
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, createPlayerResumeRequest("token-1", 7));
+
+            // then
+            verify(mapInitSnapshotService).enqueueInit(MAP_ID, PLAYER_ID, USERNAME);
+            verify(mapTickBroadcaster).wake(MAP_ID);
+            verify(encodedFrameSender, never()).replayToSession(anyString(), anyString(), anyString(), anyList());
+        }
+
+        @Test
+        @DisplayName("AOI 사용 중이면 맵 전체 프레임을 재전송하지 않고 P_Init 을 다시 보내야 한다")
+        void shouldFallBackToInitWhenAoiEnabled() {
+            // given
+            when(playerResumeService.claim("token-1", MAP_ID, PLAYER_ID, USERNAME))
+                    .thenReturn(new PlayerResumeService.Parked(PARKED_SESSION_ID, MAP_ID, PLAYER_ID, USERNAME));
+            when(areaOfInterestService.isEnabled()).thenReturn(true);
+
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, createPlayerResumeRequest("token-1", 7));
+
+            // then
+            verify(mapInitSnapshotService).enqueueInit(MAP_ID, PLAYER_ID, USERNAME);
+            verify(mapTickBroadcaster).wake(MAP_ID);
+            verifyNoInteractions(mapStreamBuffer);
+            verify(encodedFrameSender, never()).replayToSession(anyString(), anyString(), anyString(), anyList());
+        }
+
+        @Test
+        @DisplayName("토큰이 유효하지 않으면 상태를 건드리지 않고 resumed=false 를 보내야 한다")
+        void shouldRejectUnknownToken() {
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, createPlayerResumeRequest("unknown", 7));
+
+            // then
+            verifyNoInteractions(playerSessionRegistry, stateManagerService, mapStreamBuffer);
+
+            ArgumentCaptor<PlayerResumeResponse> responseCaptor = ArgumentCaptor.forClass(PlayerResumeResponse.class);
+            verify(encodedFrameSender).sendToSession(eq(USERNAME), eq(SESSION_ID), eq("/queue/map/" + MAP_ID), responseCaptor.capture());
+            assertThat(responseCaptor.getValue().getResumed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("이어받기 대신 P_JOIN 으로 다시 입장하면 유예 중인 이전 세션을 정리해야 한다")
+        void shouldDropParkedSessionOnRejoin() {
+            // given
+            when(playerResumeService.discardParked(PLAYER_ID))
+                    .thenReturn(new PlayerResumeService.Parked(PARKED_SESSION_ID, MAP_ID, PLAYER_ID, USERNAME));
+            when(stateManagerService.joinMap(SESSION_ID, MAP_ID, PLAYER_ID, true, PlayerService.MAP_INIT_SPAWN)).thenReturn(emptyJoinSnapshot());
+
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, createPlayerJoinRequest(ActionType.P_JOIN, PLAYER_ID));
+
+            // then
+            verify(playerSessionRegistry).remove(PARKED_SESSION_ID);
+            verify(stateManagerService).removeSession(PARKED_SESSION_ID);
+            verify(mapActorDispatcher, never()).dispatch(anyLong(), anyString(), anyLong(), any(Runnable.class));
+            verify(playerResumeService).issue(SESSION_ID, MAP_ID, PLAYER_ID, USERNAME);
+        }
+    }
+
     @Nested
     @DisplayName("handlePositionUpdate() (P_MOVE) 테스트")
     class HandlePositionUpdateTest {
@@ -273,6 +727,8 @@ class PlayerServiceTest {
             request.setX(x);
             request.setY(y);
             request.setDir(dir);
+            when(playerSessionRegistry.isJoined(SESSION_ID, MAP_ID, PLAYER_ID)).thenReturn(true);
+            when(movementValidator.validate(eq(MAP_ID), eq(request), anyLong())).thenReturn(MovementValidator.Verdict.ACCEPTED);
 
             // when
             playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
@@ -282,8 +738,8 @@ class PlayerServiceTest {
         }
 
         @Test
-        @DisplayName("위치 업데이트 메시지를 /topic/map/{mapId}로 브로드캐스트해야 한다")
-        void shouldBroadcastPositionUpdateToTopic() {
+        @DisplayName("위치 업데이트는 즉시 브로드캐스트하지 않고 맵 틱에 등록해야 한다")
+        void shouldOfferPositionUpdateToMapTick() {
             // given
             double x = 150.75;
             double y = 250.50;
@@ -295,21 +751,68 @@ class PlayerServiceTest {
             request.setX(x);
             request.setY(y);
             request.setDir(dir);
+            when(playerSessionRegistry.isJoined(SESSION_ID, MAP_ID, PLAYER_ID)).thenReturn(true);
+            when(movementValidator.validate(eq(MAP_ID), eq(request), anyLong())).thenReturn(MovementValidator.Verdict.ACCEPTED);
 
             // when
             playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
 
             // then
-            ArgumentCaptor<PlayerPositionUpdateResponse> responseCaptor = ArgumentCaptor
-                    .forClass(PlayerPositionUpdateResponse.class);
-            verify(simpMessagingTemplate).convertAndSend(eq("/topic/map/" + MAP_ID), responseCaptor.capture());
+            verify(encodedFrameSender, never()).sendToTopic(anyString(), any(PlayerStateResponse.class));
 
-            PlayerPositionUpdateResponse capturedResponse = responseCaptor.getValue();
-            assertThat(capturedResponse.getType()).isEqualTo("P_MOVE");
-            assertThat(capturedResponse.getPlayerId()).isEqualTo(PLAYER_ID);
-            assertThat(capturedResponse.getX()).isEqualTo(x);
-            assertThat(capturedResponse.getY()).isEqualTo(y);
-            assertThat(capturedResponse.getDir()).isEqualTo(dir);
+            ArgumentCaptor<PlayerPosition> positionCaptor = ArgumentCaptor.forClass(PlayerPosition.class);
+            verify(mapTickBroadcaster).offerPosition(eq(MAP_ID), positionCaptor.capture());
+
+            PlayerPosition capturedPosition = positionCaptor.getValue();
+            assertThat(capturedPosition.getPlayerId()).isEqualTo(PLAYER_ID);
+            assertThat(capturedPosition.getX()).isEqualTo(x);
+            assertThat(capturedPosition.getY()).isEqualTo(y);
+            assertThat(capturedPosition.getD()).isEqualTo(dir);
+        }
+
+        @Test
+        @DisplayName("거부된 이동은 저장하지 않고 보낸 세션에만 P_CORR 을 전송해야 한다")
+        void shouldSendCorrectionToSessionWhenMoveIsRejected() {
+            // given: 검증기가 요청을 마지막 수락 위치로 되돌림
+            PlayerPositionUpdateRequest request = createPlayerPositionUpdateRequest(
+                    "P_MOVE", PLAYER_ID, 1500.0, 200.0, (short) 4);
+            when(playerSessionRegistry.isJoined(SESSION_ID, MAP_ID, PLAYER_ID)).thenReturn(true);
+            when(movementValidator.validate(eq(MAP_ID), eq(request), anyLong())).thenAnswer(invocation -> {
+                request.setX(100.0);
+                request.setY(200.0);
+                request.setDir((short) 4);
+                return MovementValidator.Verdict.REJECTED;
+            });
+
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
+
+            // then
+            ArgumentCaptor<PlayerPositionUpdateResponse> responseCaptor = ArgumentCaptor.forClass(PlayerPositionUpdateResponse.class);
+            verify(encodedFrameSender).sendToSession(eq(USERNAME), eq(SESSION_ID), eq("/queue/map/" + MAP_ID), responseCaptor.capture());
+            assertThat(responseCaptor.getValue().getType()).isEqualTo(ActionType.P_CORR);
+            assertThat(responseCaptor.getValue().getPlayerId()).isEqualTo(PLAYER_ID);
+            assertThat(responseCaptor.getValue().getX()).isEqualTo(100.0);
+            assertThat(responseCaptor.getValue().getY()).isEqualTo(200.0);
+
+            verify(stateManagerService, never()).updatePlayerPosition(anyLong(), anyDouble(), anyDouble(), anyShort());
+            verify(mapTickBroadcaster, never()).offerPosition(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("입장하지 않은 세션/맵/플레이어의 이동은 검증/저장/맵 틱 없이 버려야 한다")
+        void shouldDropMoveFromPlayerNotJoined() {
+            // given: 퇴장 후 늦게 온 P_MOVE 또는 임의의 mapId
+            PlayerPositionUpdateRequest request = createPlayerPositionUpdateRequest(
+                    "P_MOVE", PLAYER_ID, 100.5, 200.5, (short) 1);
+            when(playerSessionRegistry.isJoined(SESSION_ID, MAP_ID, PLAYER_ID)).thenReturn(false);
+
+            // when
+            playerService.handlePlayerState(SESSION_ID, USERNAME, MAP_ID, request);
+
+            // then
+            verifyNoInteractions(movementValidator, stateManagerService, mapTickBroadcaster, mapInitSnapshotService, encodedFrameSender);
+            verify(areaOfInterestService, never()).move(anyLong(), anyLong(), anyDouble(), anyDouble(), anyShort());
         }
     }
 
@@ -1,10 +1,10 @@
 package com.rally.ai_land.domain.player.service;
 
 import com.rally.ai_land.domain.player.dto.PlayerInfo;
+import com.rally.ai_land.domain.player.dto.PlayerJoinSnapshot;
 import com.rally.ai_land.domain.player.dto.PlayerPosition;
 import com.rally.ai_land.domain.user.dto.PlayerSession;
-import com.rally.ai_land.domain.user.entity.User;
-import com.rally.ai_land.domain.user.repository.UserRepository;
+import com.rally.ai_land.domain.user.service.PlayerNicknameCache;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,12 +13,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -32,7 +40,7 @@ class StateManagerServiceTest {
     private RedisTemplate<String, Object> redisTemplate;
 
     @Mock
-    private UserRepository userRepository;
+    private PlayerNicknameCache playerNicknameCache;
 
     @Mock
     private SetOperations<String, Object> setOperations;
@@ -40,6 +48,12 @@ class StateManagerServiceTest {
     @Mock
     private HashOperations<String, Object, Object> hashOperations;
 
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Spy
+    private PlayerPositionStore playerPositionStore = new PlayerPositionStore();
+
     @InjectMocks
     private StateManagerService stateManagerService;
 
@@ -178,7 +192,7 @@ class StateManagerServiceTest {
             stateManagerService.addPlayerInfo(MAP_ID, PLAYER_ID);
 
             // then
-            verify(userRepository, never()).findById(any());
+            verify(playerNicknameCache, never()).getNickname(any());
             verify(redisTemplate, never()).opsForHash();
         }
 
@@ -186,17 +200,8 @@ class StateManagerServiceTest {
         @DisplayName("키가 없으면 사용자 정보를 조회하여 저장해야 한다")
         void shouldSavePlayerInfoWhenKeyNotExists() {
             // given
-            User mockUser = User.builder()
-                    .id(PLAYER_ID)
-                    .username("testuser")
-                    .nickname("TestNickname")
-                    .password("password")
-                    .isLock(false)
-                    .isSocial(false)
-                    .build();
-
             when(redisTemplate.hasKey("player:100:info")).thenReturn(false);
-            when(userRepository.findById(PLAYER_ID)).thenReturn(Optional.of(mockUser));
+            when(playerNicknameCache.getNickname(PLAYER_ID)).thenReturn("TestNickname");
             when(redisTemplate.opsForHash()).thenReturn(hashOperations);
 
             // when
@@ -217,7 +222,7 @@ class StateManagerServiceTest {
         void shouldThrowExceptionWhenUserNotFound() {
             // given
             when(redisTemplate.hasKey("player:100:info")).thenReturn(false);
-            when(userRepository.findById(PLAYER_ID)).thenReturn(Optional.empty());
+            when(playerNicknameCache.getNickname(PLAYER_ID)).thenThrow(new EntityNotFoundException("User Not Found with ID: " + PLAYER_ID));
 
             // when & then
             assertThatThrownBy(() -> stateManagerService.addPlayerInfo(MAP_ID, PLAYER_ID))
@@ -237,7 +242,7 @@ class StateManagerServiceTest {
             when(redisTemplate.opsForHash()).thenReturn(hashOperations);
 
             // when
-            stateManagerService.addOrInitializePlayerPosition(PLAYER_ID);
+            stateManagerService.addOrInitializePlayerPosition(MAP_ID, PLAYER_ID);
 
             // then
             @SuppressWarnings("unchecked")
@@ -251,32 +256,213 @@ class StateManagerServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("joinMapByScript() 테스트")
+    class JoinMapByScriptTest {
+
+        @Test
+        @DisplayName("스크립트 응답으로 온라인 플레이어 정보와 위치를 만들어야 한다")
+        void shouldBuildSnapshotFromScriptReply() {
+            // given
+            doReturn(List.of(1L,
+                    "100", "Me", "800.0", "488.0", "2",
+                    "200", "Other", "10.0", "20.0", "3"))
+                    .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+            // when
+            PlayerJoinSnapshot snapshot = stateManagerService.joinMapByScript(SESSION_ID, MAP_ID, PLAYER_ID, true);
+
+            // then
+            assertThat(snapshot.getPlayerInfoList())
+                    .extracting(PlayerInfo::getName)
+                    .containsExactly("Me", "Other");
+            assertThat(snapshot.getPlayerPositionList())
+                    .extracting(PlayerPosition::getPlayerId, PlayerPosition::getX, PlayerPosition::getD)
+                    .containsExactly(
+                            tuple(PLAYER_ID, PlayerService.MAP_INIT_X, PlayerService.MAP_INIT_D),
+                            tuple(200L, 10.0, (short) 3));
+            verify(playerNicknameCache, never()).getNickname(any());
+        }
+
+        @Test
+        @DisplayName("플레이어 정보가 없으면 닉네임을 조회해 한 번 더 실행해야 한다")
+        void shouldRetryWithNicknameWhenInfoMissing() {
+            // given
+            doReturn(List.of(0L), List.of(1L, "100", "TestNickname", "800.0", "488.0", "2"))
+                    .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+            when(playerNicknameCache.getNickname(PLAYER_ID)).thenReturn("TestNickname");
+
+            // when
+            PlayerJoinSnapshot snapshot = stateManagerService.joinMapByScript(SESSION_ID, MAP_ID, PLAYER_ID, true);
+
+            // then
+            verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+            assertThat(snapshot.getPlayerInfoList())
+                    .extracting(PlayerInfo::getName)
+                    .containsExactly("TestNickname");
+        }
+    }
+
+    @Nested
+    @DisplayName("맵 단위 키 레이아웃 테스트")
+    class MapScopedKeysTest {
+
+        @Test
+        @DisplayName("맵 스냅샷은 포지션 필드 기준으로 정보와 위치를 만들어야 한다")
+        void shouldBuildSnapshotFromMapHashes() {
+            // given
+            ReflectionTestUtils.setField(stateManagerService, "mapScopedKeys", true);
+            when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(
+                    Map.of("100", "10.0,20.0,3", "200", "30.5,40.5,1"),
+                    Map.of("100", "Alice", "300", "Offline")));
+
+            // when
+            PlayerJoinSnapshot snapshot = stateManagerService.getMapSnapshotByMapKeys(MAP_ID);
+
+            // then
+            assertThat(snapshot.getPlayerInfoList())
+                    .extracting(PlayerInfo::getName)
+                    .containsExactly("Alice");
+            assertThat(snapshot.getPlayerPositionList())
+                    .extracting(PlayerPosition::getPlayerId, PlayerPosition::getX, PlayerPosition::getY, PlayerPosition::getD)
+                    .containsExactlyInAnyOrder(
+                            tuple(100L, 10.0, 20.0, (short) 3),
+                            tuple(200L, 30.5, 40.5, (short) 1));
+        }
+
+        @Test
+        @DisplayName("맵 단위에서는 온라인 Set 에 등록하지 않아야 한다")
+        void shouldNotUseOnlineSet() {
+            // given
+            ReflectionTestUtils.setField(stateManagerService, "mapScopedKeys", true);
+
+            // when
+            stateManagerService.registerPlayerMapOnline(MAP_ID, PLAYER_ID);
+
+            // then
+            verify(redisTemplate, never()).opsForSet();
+        }
+    }
+
     @Nested
     @DisplayName("updatePlayerPosition() 테스트")
     class UpdatePlayerPositionTest {
 
         @Test
-        @DisplayName("플레이어 위치를 업데이트해야 한다")
+        @DisplayName("플레이어 위치를 로컬 테이블에만 갱신하고 Redis 에는 쓰지 않아야 한다")
         void shouldUpdatePlayerPosition() {
             // given
             double x = 150.75;
             double y = 250.50;
             short dir = 3;
-
-            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+            playerPositionStore.initialize(MAP_ID, PLAYER_ID, 0, 0, (short) 0);
 
             // when
             stateManagerService.updatePlayerPosition(PLAYER_ID, x, y, dir);
 
             // then
-            @SuppressWarnings("unchecked")
-            ArgumentCaptor<Map<String, Object>> mapCaptor = ArgumentCaptor.forClass(Map.class);
-            verify(hashOperations).putAll(eq("player:100:position"), mapCaptor.capture());
+            verify(redisTemplate, never()).opsForHash();
 
-            Map<String, Object> capturedMap = mapCaptor.getValue();
-            assertThat(capturedMap).containsEntry("x", "150.75");
-            assertThat(capturedMap).containsEntry("y", "250.50");
-            assertThat(capturedMap).containsEntry("d", dir);
+            PlayerPosition localPosition = playerPositionStore.get(PLAYER_ID);
+            assertThat(localPosition.getX()).isEqualTo(x);
+            assertThat(localPosition.getY()).isEqualTo(y);
+            assertThat(localPosition.getD()).isEqualTo(dir);
+        }
+
+        @Test
+        @DisplayName("입장하지 않은 플레이어의 이동은 로컬 테이블에 엔트리를 만들지 않아야 한다")
+        void shouldIgnoreUpdateWithoutJoin() {
+            // when
+            stateManagerService.updatePlayerPosition(PLAYER_ID, 1, 1, (short) 1);
+
+            // then
+            assertThat(playerPositionStore.get(PLAYER_ID)).isNull();
+            assertThat(playerPositionStore.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("flushDirtyPlayerPositions() 테스트")
+    class FlushDirtyPlayerPositionsTest {
+
+        @Test
+        @DisplayName("dirty 포지션이 없으면 Redis 를 호출하지 않아야 한다")
+        void shouldNotCallRedisWhenNothingDirty() {
+            // when
+            int flushed = stateManagerService.flushDirtyPlayerPositions();
+
+            // then
+            assertThat(flushed).isZero();
+            verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+        }
+
+        @Test
+        @DisplayName("여러 번 이동해도 플레이어당 한 번만 flush 해야 한다")
+        void shouldFlushOncePerDirtyPlayer() {
+            // given
+            playerPositionStore.initialize(MAP_ID, PLAYER_ID, 0, 0, (short) 0);
+            playerPositionStore.initialize(MAP_ID, 200L, 0, 0, (short) 0);
+            stateManagerService.updatePlayerPosition(PLAYER_ID, 1, 1, (short) 1);
+            stateManagerService.updatePlayerPosition(PLAYER_ID, 2, 2, (short) 2);
+            stateManagerService.updatePlayerPosition(200L, 3, 3, (short) 3);
+            doReturn(2L).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+            // when
+            int flushed = stateManagerService.flushDirtyPlayerPositions();
+
+            // then
+            assertThat(flushed).isEqualTo(2);
+            assertThat(stateManagerService.flushDirtyPlayerPositions()).isZero();
+            verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        }
+
+        @Test
+        @DisplayName("꺼낸 뒤 저장 전에 퇴장하면 온라인 목록 확인 스크립트로만 쓰고, 퇴장한 플레이어는 다시 flush 되지 않아야 한다")
+        @SuppressWarnings("unchecked")
+        void shouldWriteThroughRosterCheckWhenLeaveInterleaves() {
+            // given
+            playerPositionStore.initialize(MAP_ID, PLAYER_ID, 0, 0, (short) 0);
+            stateManagerService.updatePlayerPosition(PLAYER_ID, 5, 6, (short) 1);
+            // 스크립트 실행 직전에 맵 액터의 퇴장이 끼어듦 -> 스크립트는 목록에서 빠진 플레이어를 건너뜀
+            doAnswer(invocation -> {
+                stateManagerService.removePlayersFromMap(MAP_ID, Map.of(SESSION_ID, PLAYER_ID));
+                return 0L;
+            }).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+            // when
+            int flushed = stateManagerService.flushDirtyPlayerPositions();
+
+            // then
+            assertThat(flushed).isZero();
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("map:1:players")),
+                    eq("1800"), eq("0"), eq("100"), eq("5.0"), eq("6.0"), eq("1"));
+            // 포지션 HSET 은 스크립트 안에서만 (파이프라인은 퇴장 한 번)
+            verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+            assertThat(playerPositionStore.get(PLAYER_ID)).isNull();
+            assertThat(stateManagerService.flushDirtyPlayerPositions()).isZero();
+        }
+
+        @Test
+        @DisplayName("맵 단위 레이아웃에서는 map:{id}:pos 에 남아 있는 플레이어만 쓰도록 같은 스크립트로 저장해야 한다")
+        @SuppressWarnings("unchecked")
+        void shouldWriteMapScopedPositionsThroughRosterCheck() {
+            // given
+            ReflectionTestUtils.setField(stateManagerService, "mapScopedKeys", true);
+            playerPositionStore.initialize(MAP_ID, PLAYER_ID, 0, 0, (short) 0);
+            stateManagerService.updatePlayerPosition(PLAYER_ID, 5, 6, (short) 1);
+            doAnswer(invocation -> {
+                stateManagerService.removePlayersFromMap(MAP_ID, Map.of(SESSION_ID, PLAYER_ID));
+                return 0L;
+            }).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+            // when
+            int flushed = stateManagerService.flushDirtyPlayerPositions();
+
+            // then
+            assertThat(flushed).isZero();
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("map:1:pos")),
+                    eq("1800"), eq("1"), eq("100"), eq("5.0,6.0,1"));
+            verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
         }
     }
 
@@ -289,6 +475,7 @@ class StateManagerServiceTest {
         void shouldSaveSessionInfo() {
             // given
             when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
             // when
             stateManagerService.setSession(SESSION_ID, MAP_ID, PLAYER_ID);
@@ -301,6 +488,37 @@ class StateManagerServiceTest {
             Map<String, Object> capturedMap = mapCaptor.getValue();
             assertThat(capturedMap).containsEntry("mapId", MAP_ID);
             assertThat(capturedMap).containsEntry("playerId", PLAYER_ID);
+            verify(valueOperations).set("player:100:session", SESSION_ID, 2L, TimeUnit.HOURS);
+        }
+    }
+
+    @Nested
+    @DisplayName("hasRejoinedWithOtherSession() 테스트")
+    class HasRejoinedWithOtherSessionTest {
+
+        @Test
+        @DisplayName("현재 세션이 그대로면 재입장이 아니어야 한다")
+        void shouldReturnFalseWhenSessionUnchanged() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get("player:100:session")).thenReturn(SESSION_ID);
+
+            // when & then
+            assertThat(stateManagerService.hasRejoinedWithOtherSession(MAP_ID, PLAYER_ID, SESSION_ID)).isFalse();
+        }
+
+        @Test
+        @DisplayName("다른 세션으로 같은 맵에 입장했으면 재입장이어야 한다")
+        void shouldReturnTrueWhenRejoinedSameMap() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get("player:100:session")).thenReturn("other-session");
+            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries("session:other-session")).thenReturn(Map.of("mapId", "1", "playerId", "100"));
+
+            // when & then
+            assertThat(stateManagerService.hasRejoinedWithOtherSession(MAP_ID, PLAYER_ID, SESSION_ID)).isTrue();
+            assertThat(stateManagerService.hasRejoinedWithOtherSession(2L, PLAYER_ID, SESSION_ID)).isFalse();
         }
     }
 
@@ -364,4 +582,92 @@ class StateManagerServiceTest {
             assertThat(result).isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("removePlayersFromMap() 테스트")
+    class RemovePlayersFromMapTest {
+
+        @Test
+        @DisplayName("세션/온라인/heartbeat 를 한 번의 Pipeline 으로 지우고 포지션 키만 UNLINK 해야 한다")
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        void shouldRemoveInOnePipelineAndUnlinkPositionOnly() {
+            // given
+            playerPositionStore.initialize(MAP_ID, PLAYER_ID, 1.0, 2.0, (short) 0);
+            stateManagerService.updatePlayerPosition(PLAYER_ID, 10.0, 20.0, (short) 1); // flush 되지 않은 위치
+
+            RedisOperations<String, String> operations = mock(RedisOperations.class);
+            SetOperations<String, String> pipelineSetOperations = mock(SetOperations.class);
+            ZSetOperations<String, String> pipelineZSetOperations = mock(ZSetOperations.class);
+            when(operations.opsForSet()).thenReturn(pipelineSetOperations);
+            when(operations.opsForZSet()).thenReturn(pipelineZSetOperations);
+
+            // when
+            stateManagerService.removePlayersFromMap(MAP_ID, Map.of(SESSION_ID, PLAYER_ID));
+
+            // then
+            ArgumentCaptor<SessionCallback> callbackCaptor = ArgumentCaptor.forClass(SessionCallback.class);
+            verify(redisTemplate, times(1)).executePipelined(callbackCaptor.capture());
+            callbackCaptor.getValue().execute(operations);
+
+            verify(operations).delete(List.of("session:" + SESSION_ID));
+            verify(pipelineZSetOperations).remove("map:1:heartbeat", "100");
+            verify(pipelineSetOperations).remove("map:1:players", "100");
+            verify(operations).unlink(List.of("player:100:position"));
+            // 마지막 위치는 쓰지 않고, 닉네임(info)은 재입장용으로 TTL 로 남김
+            verify(operations, never()).opsForHash();
+            assertThat(playerPositionStore.get(PLAYER_ID)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("유령 정리 스크립트 테스트")
+    class ReaperScriptTest {
+
+        @Test
+        @DisplayName("정리 스크립트 응답으로 정리 전/후 인원과 정리한 플레이어를 만들어야 한다")
+        void shouldParseReapReply() {
+            // given
+            doReturn(List.of(5L, 3L, "101", "102"))
+                    .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+            // when
+            StateManagerService.ReapResult result = stateManagerService.reapStalePlayers(MAP_ID, 30_000, 200);
+
+            // then
+            assertThat(result.rosterBefore()).isEqualTo(5);
+            assertThat(result.rosterAfter()).isEqualTo(3);
+            assertThat(result.reapedPlayerIds()).containsExactly(101L, 102L);
+            verify(redisTemplate).execute(any(RedisScript.class),
+                    eq(List.of("map:1:heartbeat", "maps:heartbeat", "map:1:players", "map:1:info")),
+                    any(Object[].class));
+        }
+
+        @Test
+        @DisplayName("heartbeat 스크립트 응답의 플레이어는 온라인 목록에서 빠진 플레이어로 반환해야 한다")
+        void shouldReturnMissingPlayersFromHeartbeat() {
+            // given
+            doReturn(List.of("102"))
+                    .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+            // when
+            List<Long> missingPlayerIds = stateManagerService.touchHeartbeats(MAP_ID, List.of(101L, 102L));
+
+            // then
+            assertThat(missingPlayerIds).containsExactly(102L);
+            verify(redisTemplate).execute(any(RedisScript.class),
+                    eq(List.of("map:1:heartbeat", "maps:heartbeat", "map:1:players")),
+                    any(Object[].class));
+        }
+
+        @Test
+        @DisplayName("플레이어가 없으면 heartbeat 스크립트를 실행하지 않아야 한다")
+        void shouldSkipHeartbeatWithoutPlayers() {
+            // when
+            List<Long> missingPlayerIds = stateManagerService.touchHeartbeats(MAP_ID, List.of());
+
+            // then
+            assertThat(missingPlayerIds).isEmpty();
+            verifyNoInteractions(redisTemplate);
+        }
+    }
 }
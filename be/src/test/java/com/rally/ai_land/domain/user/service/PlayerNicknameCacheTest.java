@@ -0,0 +1,83 @@
+package com.rally.ai_land.domain.user.service;
+
+import com.rally.ai_land.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlayerNicknameCache 단위 테스트")
+class PlayerNicknameCacheTest {
+
+    private static final Long PLAYER_ID = 100L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlayerNicknameCache playerNicknameCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        playerNicknameCache = new PlayerNicknameCache(userRepository, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB 를 조회하지 않아야 한다")
+    void shouldLoadOnce() {
+        // given
+        when(userRepository.findNicknameById(PLAYER_ID)).thenReturn(Optional.of("TestNickname"));
+
+        // when
+        String first = playerNicknameCache.getNickname(PLAYER_ID);
+        String second = playerNicknameCache.getNickname(PLAYER_ID);
+
+        // then
+        assertThat(first).isEqualTo("TestNickname");
+        assertThat(second).isEqualTo("TestNickname");
+        verify(userRepository, times(1)).findNicknameById(PLAYER_ID);
+        assertThat(meterRegistry.get("player.nickname.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 DB 에서 적재해야 한다")
+    void shouldReloadAfterInvalidate() {
+        // given
+        when(userRepository.findNicknameById(PLAYER_ID))
+                .thenReturn(Optional.of("OldNickname"), Optional.of("NewNickname"));
+        playerNicknameCache.getNickname(PLAYER_ID);
+
+        // when
+        playerNicknameCache.invalidate(PLAYER_ID);
+
+        // then
+        assertThat(playerNicknameCache.getNickname(PLAYER_ID)).isEqualTo("NewNickname");
+    }
+
+    @Test
+    @DisplayName("유저가 없으면 EntityNotFoundException 을 던지고 캐시하지 않아야 한다")
+    void shouldThrowWhenUserNotFound() {
+        // given
+        when(userRepository.findNicknameById(PLAYER_ID)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> playerNicknameCache.getNickname(PLAYER_ID))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("User Not Found with ID: 100");
+        assertThatThrownBy(() -> playerNicknameCache.getNickname(PLAYER_ID))
+                .isInstanceOf(EntityNotFoundException.class);
+        verify(userRepository, times(2)).findNicknameById(PLAYER_ID);
+    }
+}
@@ -0,0 +1,17 @@
+import { apiRequest } from '@/domains/user/api/userApi';
+
+// 백엔드 MapOwnerResponse 와 매칭
+export interface MapOwnerResponse {
+  mapId: number;
+  nodeId: string | null;
+  url: string | null;  // 연결할 노드 URL (모르면 null)
+}
+
+// 맵(채널)을 소유한 노드 조회 API
+export async function getMapOwner(mapId: number): Promise<MapOwnerResponse> {
+  const response = await apiRequest<MapOwnerResponse>(`/maps/${mapId}/owner`, {
+    method: 'GET',
+  });
+
+  return response.data;
+}
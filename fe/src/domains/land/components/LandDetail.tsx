@@ -23,7 +23,7 @@ export function LandDetail() {
     const [isLeftPanelOpen, setIsLeftPanelOpen] = useState(true)
 
     // WebSocket 연결 - user?.id가 없으면 내부에서 연결하지 않음
-    const { isConnected, onlinePlayers, sendPositionUpdate, disconnect } = useMapWebSocket({
+    const { isConnected, onlinePlayers, positionCorrection, sendPositionUpdate, disconnect } = useMapWebSocket({
         mapId: Number(id),
         playerId: user?.id ?? null,
         playerName: user?.nickname || user?.username,
@@ -87,6 +87,7 @@ export function LandDetail() {
                         tilesetName="first-tileset"
                         onPositionUpdate={sendPositionUpdate}  // 위치 업데이트 콜백 전달
                         onlinePlayers={onlinePlayers}  // 온라인 플레이어 목록 전달
+                        positionCorrection={positionCorrection}  // 서버 보정 위치 전달
                     />
                 </div>
 
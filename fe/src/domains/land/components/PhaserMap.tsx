@@ -3,7 +3,7 @@ import Phaser from 'phaser'
 import { Player } from '../phaser/Player'
 import { OtherPlayer } from '../phaser/OtherPlayer'
 import { useUserAuth } from '@/domains/user'
-import type { OnlinePlayer } from '../types/player.types'
+import type { OnlinePlayer, PlayerPosition } from '../types/player.types'
 import { INITIAL_SPAWN_POSITION } from '../constants/mapConfig'
 
 interface PhaserMapProps {
@@ -14,6 +14,7 @@ interface PhaserMapProps {
   tilesetName?: string
   onPositionUpdate?: (x: number, y: number, direction: 'U' | 'D' | 'L' | 'R') => void
   onlinePlayers?: OnlinePlayer[]
+  positionCorrection?: PlayerPosition | null  // 서버가 보정한 본인 위치 (P_CORR)
 }
 
 export function PhaserMap({
@@ -23,7 +24,8 @@ export function PhaserMap({
   tilesetImagePath = '/maps/Serene_Village_32x32.png',
   tilesetName = 'first-tileset',
   onPositionUpdate,
-  onlinePlayers = []
+  onlinePlayers = [],
+  positionCorrection
 }: PhaserMapProps) {
   const { user } = useUserAuth()
   const gameRef = useRef<HTMLDivElement>(null)
@@ -139,6 +141,10 @@ export function PhaserMap({
         this.scale.on('resize', this.resize, this)
       }
 
+      correctPlayerPosition(position: PlayerPosition) {
+        this.player.snapTo(position.x, position.y, position.direction)
+      }
+
       update() {
         this.player.update()
 
@@ -262,6 +268,14 @@ export function PhaserMap({
     })
   }, [onlinePlayers, user?.id])
 
+  // 서버 보정 위치 반영 (본인 캐릭터)
+  useEffect(() => {
+    if (!positionCorrection || !sceneRef.current) return
+
+    const scene = sceneRef.current as any
+    scene.correctPlayerPosition?.(positionCorrection)
+  }, [positionCorrection])
+
   return (
     <div className="relative w-full h-full">
       <div
@@ -1,7 +1,8 @@
 import { useEffect, useRef, useState, useCallback } from 'react';
-import { Client, IMessage } from '@stomp/stompjs';
+import { Client, IMessage, StompSubscription } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
 import {
+  PlayerPosition,
   PlayerStateRequest,
   PlayerStateResponse,
   OnlinePlayer,
@@ -11,8 +12,18 @@ import {
 import { getAccessToken, clearAllTokens } from '@/domains/user/utils/tokenManager';
 import { refreshAccessToken } from '@/domains/user/api/userApi';
 import { INITIAL_SPAWN_POSITION } from '../constants/mapConfig';
+import { getMapOwner } from '../api/landApi';
 
 const BASE_URL = import.meta.env.VITE_BACKEND_SPRING_BASE_URL || 'http://localhost:8080';
+const USE_RAW_WEBSOCKET = import.meta.env.VITE_WS_TRANSPORT === 'raw';
+
+// raw: http(s) -> ws(s) 로 바꿔 /ws-raw 에 직접 연결, 그 외: SockJS /ws (폴백 전송 지원)
+function createWebSocket(nodeUrl: string) {
+  if (USE_RAW_WEBSOCKET) {
+    return new WebSocket(`${nodeUrl.replace(/^http/, 'ws')}/ws-raw`);
+  }
+  return new SockJS(`${nodeUrl}/ws`);
+}
 
 interface UseMapWebSocketProps {
   mapId: number;
@@ -32,8 +43,17 @@ export function useMapWebSocket({
   onPlayerUpdate,
 }: UseMapWebSocketProps) {
   const clientRef = useRef<Client | null>(null);
+  // 맵 인스턴스 채널: 처음에는 mapId (인스턴스 0), 서버가 P_INST 로 다른 채널을 안내하면 바뀜
+  const channelIdRef = useRef<number>(mapId);
+  const subscriptionsRef = useRef<StompSubscription[]>([]);
+  // 맵을 소유한 노드: 연결 전 조회, 서버가 P_NODE 로 다른 노드를 안내하면 바뀜
+  const nodeUrlRef = useRef<string>(BASE_URL);
+  // 이어받기: 서버가 준 토큰과 마지막으로 받은 맵 프레임 순번 (재연결 시 P_JOIN 대신 P_RESUME)
+  const resumeTokenRef = useRef<string | null>(null);
+  const lastSequenceRef = useRef<number>(0);
   const [isConnected, setIsConnected] = useState(false);
   const [onlinePlayers, setOnlinePlayers] = useState<Map<number, OnlinePlayer>>(new Map());
+  const [positionCorrection, setPositionCorrection] = useState<PlayerPosition | null>(null);
 
   // WebSocket 연결
   useEffect(() => {
@@ -50,7 +70,7 @@ export function useMapWebSocket({
 
     // STOMP 클라이언트 생성
     const client = new Client({
-      webSocketFactory: () => new SockJS(`${BASE_URL}/ws`),
+      webSocketFactory: () => createWebSocket(nodeUrlRef.current),
       connectHeaders: {
         Authorization: `Bearer ${token}`,
       },
@@ -64,22 +84,86 @@ export function useMapWebSocket({
       console.log('[WS] 연결됨 - mapId:', mapId, 'playerId:', playerId);
       setIsConnected(true);
 
-      // 1. 맵의 플레이어 상태 구독 (브로드캐스트: P_JOIN, P_LEAVE, P_MOVE)
-      client.subscribe(`/topic/map/${mapId}`, (message: IMessage) => {
-        const response: PlayerStateResponse = JSON.parse(message.body);
-        handlePlayerStateResponse(response);
-      });
+      // 재연결이면 이전 연결의 구독은 이미 무효
+      subscriptionsRef.current = [];
 
-      // 2. 본인 전용 초기화 메시지 구독 (P_Init: 전체 플레이어 목록)
-      client.subscribe(`/user/queue/map/${mapId}`, (message: IMessage) => {
-        const response: PlayerStateResponse = JSON.parse(message.body);
-        handlePlayerStateResponse(response);
-      });
+      // 유예 시간 안의 재연결: 같은 채널에서 놓친 프레임만 받아 이어감 (거절되면 P_JOIN)
+      if (resumeTokenRef.current) {
+        subscribeChannel(client, channelIdRef.current);
+        sendPlayerResume(client);
+        return;
+      }
+
+      // 인스턴스는 서버가 다시 배정
+      subscribeChannel(client, mapId);
 
       // 연결 후 JOIN 메시지 전송
       sendPlayerJoin(client);
     };
 
+    // 이어받기 상태 초기화 (다른 노드/채널의 순번과 토큰은 쓸 수 없음)
+    function resetResume() {
+      resumeTokenRef.current = null;
+      lastSequenceRef.current = 0;
+    }
+
+    // 채널(맵 인스턴스) 구독: 이전 채널 구독은 해제
+    function subscribeChannel(client: Client, channelId: number) {
+      subscriptionsRef.current.forEach((subscription) => subscription.unsubscribe());
+      channelIdRef.current = channelId;
+
+      const onMessage = (message: IMessage) => {
+        const response: PlayerStateResponse = JSON.parse(message.body);
+        const sequence = Number(message.headers['seq']);
+        if (sequence > lastSequenceRef.current) lastSequenceRef.current = sequence;
+
+        // P_INST: 배정된 인스턴스 채널로 이동 (p 가 없으면 채널 전원: 재배치)
+        // 이전 채널 퇴장은 서버가 새 채널 입장 시 처리하므로 P_LEAVE 를 보내지 않음
+        // P_NODE: 맵 소유 노드가 바뀜 -> 새 노드로 다시 연결 (위치는 서버끼리 넘겨받아 이어감)
+        if (response.t === 'P_NODE') {
+          if (response.u && response.u !== nodeUrlRef.current) {
+            console.log('[WS] 소유 노드 이동:', nodeUrlRef.current, '->', response.u);
+            nodeUrlRef.current = response.u;
+            resetResume();
+            setOnlinePlayers(new Map());
+            client.deactivate().then(() => client.activate());
+          }
+          return;
+        }
+        if (response.t === 'P_INST') {
+          if (response.c !== undefined && (response.p == null || response.p === playerId)) {
+            console.log('[WS] 인스턴스 이동:', channelIdRef.current, '->', response.c, '(인스턴스', response.i, ')');
+            resetResume();
+            setOnlinePlayers(new Map());
+            subscribeChannel(client, response.c);
+            sendPlayerJoin(client);
+          }
+          return;
+        }
+        // P_RESUME: 토큰 저장, 이어받기가 거절되면 (유예 만료, 다른 노드) 처음부터 다시 입장
+        if (response.t === 'P_RESUME') {
+          if (response.r === false) {
+            console.log('[WS] 이어받기 거절 - 다시 입장');
+            resetResume();
+            setOnlinePlayers(new Map());
+            subscribeChannel(client, mapId);
+            sendPlayerJoin(client);
+            return;
+          }
+          if (response.rt) resumeTokenRef.current = response.rt;
+          return;
+        }
+        handlePlayerStateResponse(response);
+      };
+
+      subscriptionsRef.current = [
+        // 1. 맵의 플레이어 상태 구독 (브로드캐스트: P_JOIN, P_LEAVE, P_SNAP, 재배치 P_INST)
+        client.subscribe(`/topic/map/${channelId}`, onMessage),
+        // 2. 본인 전용 메시지 구독 (P_Init: 전체 플레이어 목록, P_CORR, 배정 P_INST)
+        client.subscribe(`/user/queue/map/${channelId}`, onMessage),
+      ];
+    }
+
     // 연결 실패 시 (JWT 인증 실패 포함)
     client.onStompError = async (frame) => {
       const errorMessage = frame.headers['message'] || '';
@@ -111,12 +195,23 @@ export function useMapWebSocket({
       setIsConnected(false);
     };
 
-    // 연결 활성화
-    client.activate();
+    // 소유 노드 조회 후 연결 활성화 (조회 실패 시 기본 노드: 다른 노드의 프레임은 서버 간 릴레이로 받음)
+    let cancelled = false;
+    getMapOwner(mapId)
+      .then((owner) => {
+        if (owner?.url) nodeUrlRef.current = owner.url;
+      })
+      .catch((error) => console.warn('[WS] 소유 노드 조회 실패 - 기본 노드 사용:', error))
+      .finally(() => {
+        if (!cancelled) client.activate();
+      });
     clientRef.current = client;
 
     // 컴포넌트 언마운트 시 정리
     return () => {
+      cancelled = true;
+      resumeTokenRef.current = null;
+      lastSequenceRef.current = 0;
       if (clientRef.current?.connected) {
         sendPlayerLeave(clientRef.current);
         clientRef.current.deactivate();
@@ -243,6 +338,67 @@ export function useMapWebSocket({
         break;
       }
 
+      // P_CORR: 서버 이동 검증에서 보정/거부된 본인 위치 (이 세션에만 전송)
+      case 'P_CORR': {
+        const { x, y, d } = response;
+
+        if (x !== undefined && y !== undefined && d !== undefined) {
+          setPositionCorrection({ x, y, direction: numberToDirection(d) });
+        }
+        break;
+      }
+
+      // P_SNAP: 맵 틱 단위로 묶인 이동 (+ AOI 시야 진입/이탈)
+      case 'P_SNAP': {
+        const { ps, en, ex } = response;
+
+        setOnlinePlayers((prev) => {
+          const updated = new Map(prev);
+
+          // 시야에서 나간 플레이어는 화면에서 제거
+          ex?.forEach((exitedId) => {
+            if (updated.delete(exitedId)) onPlayerLeave?.(exitedId);
+          });
+
+          // 시야로 들어온 플레이어는 위치와 함께 추가
+          en?.forEach((info) => {
+            const positionData = ps?.find(p => p.playerId === info.playerId);
+            const player: OnlinePlayer = {
+              id: info.playerId,
+              name: info.name || '(확인 불가)',
+              avatar: '/players/player1.png',
+              position: positionData ? {
+                x: positionData.x,
+                y: positionData.y,
+                direction: numberToDirection(positionData.d),
+              } : undefined,
+              isOnline: true,
+            };
+            updated.set(info.playerId, player);
+            onPlayerJoin?.(player);
+          });
+
+          ps?.forEach((positionData) => {
+            const existingPlayer = updated.get(positionData.playerId);
+            if (!existingPlayer) return;
+
+            const updatedPlayer: OnlinePlayer = {
+              ...existingPlayer,
+              position: {
+                x: positionData.x,
+                y: positionData.y,
+                direction: numberToDirection(positionData.d),
+              },
+            };
+            updated.set(positionData.playerId, updatedPlayer);
+            onPlayerUpdate?.(updatedPlayer);
+          });
+
+          return updated;
+        });
+        break;
+      }
+
       default:
         console.warn('[WS] 알 수 없는 타입:', type);
     }
@@ -259,11 +415,28 @@ export function useMapWebSocket({
     };
 
     client.publish({
-      destination: `/app/map/${mapId}`,
+      destination: `/app/map/${channelIdRef.current}`,
       body: JSON.stringify(message),
     });
   }, [mapId, playerId, playerName]);
 
+  // P_RESUME 메시지 전송 (재연결 시)
+  const sendPlayerResume = useCallback((client: Client) => {
+    if (!client.connected || !playerId || playerId <= 0 || !resumeTokenRef.current) return;
+
+    const message: PlayerStateRequest = {
+      t: 'P_RESUME',
+      p: playerId,
+      rt: resumeTokenRef.current,
+      sq: lastSequenceRef.current,
+    };
+
+    client.publish({
+      destination: `/app/map/${channelIdRef.current}`,
+      body: JSON.stringify(message),
+    });
+  }, [mapId, playerId]);
+
   // P_LEAVE 메시지 전송
   const sendPlayerLeave = useCallback((client: Client) => {
     if (!client.connected || !playerId || playerId <= 0) return;
@@ -274,7 +447,7 @@ export function useMapWebSocket({
     };
 
     client.publish({
-      destination: `/app/map/${mapId}`,
+      destination: `/app/map/${channelIdRef.current}`,
       body: JSON.stringify(message),
     });
   }, [mapId, playerId]);
@@ -292,7 +465,7 @@ export function useMapWebSocket({
     };
 
     clientRef.current.publish({
-      destination: `/app/map/${mapId}`,
+      destination: `/app/map/${channelIdRef.current}`,
       body: JSON.stringify(message),
     });
   }, [mapId, playerId]);
@@ -301,6 +474,8 @@ export function useMapWebSocket({
   const disconnect = useCallback(() => {
     if (clientRef.current?.connected) {
       sendPlayerLeave(clientRef.current);
+      resumeTokenRef.current = null;
+      lastSequenceRef.current = 0;
       clientRef.current.deactivate();
       setIsConnected(false);
       setOnlinePlayers(new Map());
@@ -310,6 +485,7 @@ export function useMapWebSocket({
   return {
     isConnected,
     onlinePlayers: Array.from(onlinePlayers.values()),
+    positionCorrection,
     sendPositionUpdate,
     disconnect,
   };
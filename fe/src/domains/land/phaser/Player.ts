@@ -334,6 +334,23 @@ export class Player {
     }
   }
 
+  /**
+   * 서버 보정 위치로 즉시 이동 (P_CORR: 속도 초과/맵 밖/막힌 타일)
+   */
+  snapTo(x: number, y: number, direction: 'U' | 'D' | 'L' | 'R') {
+    if (!this.sprite) return
+
+    const directionMap: { [key: string]: string } = { U: 'up', D: 'down', L: 'left', R: 'right' }
+    this.sprite.setPosition(x, y)
+    this.sprite.setVelocity(0, 0)
+    this.sprite.setAcceleration(0, 0)
+    this.lastDirection = directionMap[direction] || this.lastDirection
+    this.nameTag?.setPosition(x, y - 40)
+
+    // 보정 위치를 마지막 전송 위치로 간주 (같은 위치를 다시 보내지 않도록)
+    this.lastSentPosition = { x, y, direction: this.lastDirection }
+  }
+
   /**
    * 설정 변경
    */
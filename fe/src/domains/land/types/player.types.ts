@@ -8,17 +8,19 @@ export interface PlayerPosition {
 
 // 백엔드로 전송하는 요청 (축약된 필드명 사용)
 export interface PlayerStateRequest {
-  t: 'P_JOIN' | 'P_LEAVE' | 'P_MOVE';  // type -> t
+  t: 'P_JOIN' | 'P_LEAVE' | 'P_MOVE' | 'P_RESUME';  // type -> t
   p: number;  // playerId -> p (실제로는 userId 값이 들어감)
   n?: string;  // name -> n (P_JOIN 시 닉네임)
   x?: number;
   y?: number;
   d?: number;  // direction -> d (1:상, 2:하, 3:좌, 4:우)
+  rt?: string;  // P_RESUME: 이어받기 토큰
+  sq?: number;  // P_RESUME: 마지막으로 받은 맵 프레임 순번 (STOMP seq 헤더)
 }
 
 // 백엔드에서 받는 응답 (백엔드의 축약형 필드명에 맞춤)
 export interface PlayerStateResponse {
-  t: string;  // type -> t (축약형): P_Init, P_JOIN, P_LEAVE, P_MOVE
+  t: string;  // type -> t (축약형): P_Init, P_JOIN, P_LEAVE, P_MOVE, P_SNAP, P_CORR, P_INST, P_NODE, P_RESUME
   p: number;  // playerId -> p (축약형)
 
   // P_Init 응답 (본인에게만 전송됨 - /user/queue/map/{mapId}/init)
@@ -29,10 +31,27 @@ export interface PlayerStateResponse {
   n?: string;  // name -> n (닉네임)
   po?: PlayerPositionData;  // 새로 입장한 플레이어의 위치
 
-  // P_MOVE 응답
+  // P_MOVE 응답 (P_CORR: 서버가 보정한 본인 위치도 같은 필드)
   x?: number;
   y?: number;
   d?: number;  // direction (1:상, 2:하, 3:좌, 4:우)
+
+  // P_SNAP 응답 (맵 틱마다 한 번: 직전 틱 이후 움직인 플레이어들의 마지막 위치)
+  ps?: PlayerPositionData[];
+  en?: PlayerInfo[];  // AOI: 이번 틱에 시야로 들어온 플레이어 (위치는 ps 에 포함)
+  ex?: number[];  // AOI: 이번 틱에 시야에서 나간 플레이어 ID
+
+  // P_INST 응답 (맵 인스턴스 채널 이동 안내)
+  i?: number;  // instanceId
+  c?: number;  // channelId (/topic/map/{c}, /app/map/{c})
+
+  // P_NODE 응답 (맵 소유 노드 변경 안내)
+  nd?: string;  // nodeId
+  u?: string;  // 새 소유 노드 URL (이 노드로 다시 연결)
+
+  // P_RESUME 응답 (이어받기 토큰 발급/결과, 본인 세션에만 전송)
+  rt?: string;  // 재연결 시 보낼 토큰
+  r?: boolean;  // 이어받기 결과 (없으면 입장 시 토큰 발급)
 }
 
 // 백엔드 PlayerInfo 클래스와 매칭
@@ -64,7 +64,7 @@ interface ApiRequestOptions extends RequestInit {
 }
 
 // API 요청 헬퍼 함수 (자동 토큰 갱신 포함)
-async function apiRequest<T>(
+export async function apiRequest<T>(
   endpoint: string,
   options: ApiRequestOptions = {},
   retry = true
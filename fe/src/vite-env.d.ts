@@ -2,6 +2,8 @@
 
 interface ImportMetaEnv {
   readonly VITE_BACKEND_SPRING_BASE_URL: string
+  // 'raw' 면 SockJS 없이 /ws-raw 네이티브 WebSocket 으로 연결 (기본: SockJS /ws)
+  readonly VITE_WS_TRANSPORT?: string
   // 추가 환경 변수가 있으면 여기에 정의
 }
 